@@ -19,6 +19,7 @@ dependencies {
     jacocoAggregation(project(":gestalt-google-cloud"))
     jacocoAggregation(project(":gestalt-guice"))
     jacocoAggregation(project(":gestalt-hocon"))
+    jacocoAggregation(project(":gestalt-jackson"))
     jacocoAggregation(project(":gestalt-json"))
     jacocoAggregation(project(":gestalt-kodein-di"))
     jacocoAggregation(project(":gestalt-koin-di"))
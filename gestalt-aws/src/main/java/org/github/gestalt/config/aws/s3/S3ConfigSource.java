@@ -10,11 +10,14 @@ import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 
 import java.io.InputStream;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -96,6 +99,30 @@ public final class S3ConfigSource implements ConfigSource {
         }
     }
 
+    /**
+     * The version id and the ETag of the S3 object from a head request, so an unchanged object is not downloaded again.
+     *
+     * @return the version id and the ETag of the S3 object
+     * @throws GestaltException if unable to get the head of the S3 object
+     */
+    @Override
+    public Optional<String> changeToken() throws GestaltException {
+        try {
+            HeadObjectRequest headRequest = HeadObjectRequest
+                .builder()
+                .key(keyName)
+                .bucket(bucketName)
+                .build();
+
+            HeadObjectResponse head = s3.headObject(headRequest);
+            return Optional.of(head.versionId() + ":" + head.eTag());
+
+        } catch (S3Exception e) {
+            throw new GestaltException("Exception getting the head of S3 key: " + keyName + ", bucket: " + bucketName +
+                ", with error: " + e.getMessage(), e);
+        }
+    }
+
     @Override
     public boolean hasList() {
         return false;
@@ -8,6 +8,8 @@ import org.junit.jupiter.api.TestInstance;
 import org.mockito.Mockito;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 
 @Testcontainers
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -103,4 +105,13 @@ class S3ConfigSourceMockTest {
         S3ConfigSource source = new S3ConfigSource(s3Client, BUCKET_NAME, UPLOAD_FILE_NAME, Tags.of("toy", "ball"));
         Assertions.assertEquals(Tags.of("toy", "ball"), source.getTags());
     }
+
+    @Test
+    void changeToken() throws GestaltException {
+        Mockito.when(s3Client.headObject(Mockito.any(HeadObjectRequest.class)))
+            .thenReturn(HeadObjectResponse.builder().versionId("1").eTag("abc").build());
+
+        S3ConfigSource source = new S3ConfigSource(s3Client, BUCKET_NAME, UPLOAD_FILE_NAME);
+        Assertions.assertEquals("1:abc", source.changeToken().get());
+    }
 }
@@ -11,6 +11,7 @@ import org.github.gestalt.config.utils.Pair;
 import java.io.InputStream;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -48,6 +49,22 @@ public final class BlobConfigSource implements ConfigSource {
         }
     }
 
+    /**
+     * The ETag of the blob, so an unchanged blob is not downloaded again.
+     *
+     * @return the ETag of the blob
+     * @throws GestaltException if unable to get the properties of the blob
+     */
+    @Override
+    public Optional<String> changeToken() throws GestaltException {
+        try {
+            return Optional.ofNullable(blobClient.getProperties().getETag());
+        } catch (BlobStorageException e) {
+            throw new GestaltException("Exception getting the properties from blobClient, with container: " +
+                blobClient.getContainerName() + " file: " + blobClient.getBlobName() + ", with message: " + e.getMessage(), e);
+        }
+    }
+
     @Override
     public boolean hasList() {
         return false;
@@ -26,6 +26,20 @@ var jdkVersion: Int = if (project.hasProperty("jdkVersion")) {
 
 println("Running benchmarks with Gestalt Version: $gestaltVersion and JDK $jdkVersion")
 
+// the primitive getters are not in the published versions of Gestalt, so only benchmark them when enabled,
+// for example with a Gestalt version from mavenLocal.
+var primitiveGetters: Boolean = if (project.hasProperty("primitiveGetters")) {
+    (project.property("primitiveGetters") as String).toBoolean()
+} else {
+    System.getProperty("primitiveGetters").toBoolean()
+}
+
+if (!primitiveGetters) {
+    sourceSets.named("jmh") {
+        java.exclude("**/PrimitiveGetterBenchmarks.java")
+    }
+}
+
 dependencies {
     jmh(libs.jmh)
     jmh(libs.jmh.annotations)
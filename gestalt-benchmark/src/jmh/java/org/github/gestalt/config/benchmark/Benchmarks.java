@@ -49,6 +49,12 @@ public abstract class Benchmarks {
         return state.gestaltNoCache.getConfig("http.pool", HttpPool.class);
     }
 
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Integer GestaltConfig_Integer_Default(BenchmarkState state) {
+        return state.gestalt.getConfig("http.pool.maxTotal", 0, Integer.class);
+    }
+
     @Benchmark
     @OutputTimeUnit(TimeUnit.SECONDS)
     public Gestalt GestaltConfig_Setup(BenchmarkState state) throws GestaltException {
@@ -0,0 +1,101 @@
+package org.github.gestalt.config.benchmark;
+
+import org.github.gestalt.config.Gestalt;
+import org.github.gestalt.config.builder.GestaltBuilder;
+import org.github.gestalt.config.exceptions.GestaltException;
+import org.github.gestalt.config.source.ClassPathConfigSource;
+import org.github.gestalt.config.source.MapConfigSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static java.util.logging.Level.OFF;
+
+/*
+ * Benchmark of the Gestalt cache under contention from 1, 8 and 64 threads.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2025.
+ */
+public abstract class CacheBenchmarks {
+
+    private static final String[] PATHS = {"db.hosts[0].password", "db.hosts[1].password", "db.hosts[2].password",
+        "db.idleTimeout", "http.pool.maxTotal", "http.pool.maxPerRoute"};
+
+    @Benchmark
+    public String GestaltCache_String(CacheState state) throws GestaltException {
+        return state.gestalt.getConfig("http.pool.maxTotal", String.class);
+    }
+
+    @Benchmark
+    public Benchmarks.HttpPool GestaltCache_Object(CacheState state) throws GestaltException {
+        return state.gestalt.getConfig("http.pool", Benchmarks.HttpPool.class);
+    }
+
+    @Benchmark
+    public String GestaltCache_String_Many_Paths(CacheState state, PathState pathState) throws GestaltException {
+        return state.gestalt.getConfig(pathState.nextPath(), String.class);
+    }
+
+    @State(Scope.Benchmark)
+    public static class CacheState {
+        private Gestalt gestalt;
+
+        @Setup
+        public void setup() throws GestaltException {
+            // disable all logging.
+            LogManager.getLogManager().reset();
+            Logger rootLogger = LogManager.getLogManager().getLogger("");
+            rootLogger.setLevel(OFF);
+            for (Handler h : rootLogger.getHandlers()) {
+                h.setLevel(OFF);
+            }
+
+            Map<String, String> configs = new HashMap<>();
+            configs.put("db.hosts[0].password", "1234");
+            configs.put("db.hosts[1].password", "5678");
+            configs.put("db.hosts[2].password", "9012");
+            configs.put("db.idleTimeout", "123");
+
+            gestalt = new GestaltBuilder()
+                .addSource(new ClassPathConfigSource("/default.properties"))
+                .addSource(new ClassPathConfigSource("/dev.properties"))
+                .addSource(new MapConfigSource(configs))
+                .build();
+
+            gestalt.loadConfigs();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class PathState {
+        private int index;
+
+        public String nextPath() {
+            index = (index + 1) % PATHS.length;
+            return PATHS[index];
+        }
+    }
+
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Threads(1)
+    public static class Thrpt1Thread extends CacheBenchmarks {
+    }
+
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Threads(8)
+    public static class Thrpt8Threads extends CacheBenchmarks {
+    }
+
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Threads(64)
+    public static class Thrpt64Threads extends CacheBenchmarks {
+    }
+}
@@ -0,0 +1,106 @@
+package org.github.gestalt.config.benchmark;
+
+import org.github.gestalt.config.entity.ConfigNodeContainer;
+import org.github.gestalt.config.exceptions.GestaltException;
+import org.github.gestalt.config.node.ConfigNode;
+import org.github.gestalt.config.node.ConfigNodeManager;
+import org.github.gestalt.config.node.LeafNode;
+import org.github.gestalt.config.node.MapNode;
+import org.github.gestalt.config.source.ConfigSource;
+import org.github.gestalt.config.source.MapConfigSource;
+import org.github.gestalt.config.tag.Tags;
+import org.github.gestalt.config.token.ObjectToken;
+import org.github.gestalt.config.token.Token;
+import org.github.gestalt.config.utils.GResultOf;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Benchmark of navigating the config nodes from 1, 8 and 64 threads while a background thread reloads a source every 10 ms.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2025.
+ */
+public abstract class ConfigNodeManagerBenchmarks {
+
+    private static final List<Token> PATH = List.of(new ObjectToken("http"), new ObjectToken("pool"), new ObjectToken("maxTotal"));
+
+    @Benchmark
+    public GResultOf<ConfigNode> ConfigNodeManager_Navigate_While_Reloading(ReloadState state) {
+        return state.configNodeManager.navigateToNode("http.pool.maxTotal", PATH, Tags.of());
+    }
+
+    @State(Scope.Benchmark)
+    public static class ReloadState {
+        private ConfigNodeManager configNodeManager;
+        private ScheduledExecutorService reloadExecutor;
+        private int reloads;
+
+        @Setup
+        public void setup() throws GestaltException {
+            configNodeManager = new ConfigNodeManager();
+
+            ConfigSource defaults = new MapConfigSource(Map.of("db.idleTimeout", "123"));
+            configNodeManager.addNode(new ConfigNodeContainer(buildRoot(0), defaults, Tags.of()));
+
+            ConfigSource reloaded = new MapConfigSource(Map.of("http.pool.maxTotal", "100"));
+            configNodeManager.addNode(new ConfigNodeContainer(buildRoot(0), reloaded, Tags.of()));
+
+            reloadExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "config-reload");
+                thread.setDaemon(true);
+                return thread;
+            });
+            reloadExecutor.scheduleAtFixedRate(() -> {
+                try {
+                    reloads++;
+                    configNodeManager.reloadNode(new ConfigNodeContainer(buildRoot(reloads), reloaded, Tags.of()));
+                } catch (GestaltException e) {
+                    throw new IllegalStateException(e);
+                }
+            }, 10, 10, TimeUnit.MILLISECONDS);
+        }
+
+        @TearDown
+        public void tearDown() {
+            reloadExecutor.shutdownNow();
+        }
+
+        private static ConfigNode buildRoot(int reload) {
+            Map<String, ConfigNode> pool = new HashMap<>();
+            pool.put("maxTotal", new LeafNode(String.valueOf(100 + reload)));
+            pool.put("maxPerRoute", new LeafNode("10"));
+            pool.put("keepAliveTimeoutMs", new LeafNode("60000"));
+
+            Map<String, ConfigNode> db = new HashMap<>();
+            for (int i = 0; i < 100; i++) {
+                db.put("host" + i, new LeafNode("host" + i + ".example.com"));
+            }
+
+            return new MapNode(Map.of("http", new MapNode(Map.of("pool", new MapNode(pool))), "db", new MapNode(db)));
+        }
+    }
+
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Threads(1)
+    public static class Thrpt1Thread extends ConfigNodeManagerBenchmarks {
+    }
+
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Threads(8)
+    public static class Thrpt8Threads extends ConfigNodeManagerBenchmarks {
+    }
+
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Threads(64)
+    public static class Thrpt64Threads extends ConfigNodeManagerBenchmarks {
+    }
+}
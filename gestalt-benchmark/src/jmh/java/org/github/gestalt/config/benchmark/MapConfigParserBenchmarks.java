@@ -0,0 +1,63 @@
+package org.github.gestalt.config.benchmark;
+
+import org.github.gestalt.config.entity.ConfigValue;
+import org.github.gestalt.config.lexer.PathLexer;
+import org.github.gestalt.config.node.ConfigNode;
+import org.github.gestalt.config.parser.MapConfigParser;
+import org.github.gestalt.config.token.ArrayToken;
+import org.github.gestalt.config.token.ObjectToken;
+import org.github.gestalt.config.token.Token;
+import org.github.gestalt.config.utils.GResultOf;
+import org.github.gestalt.config.utils.Pair;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Benchmark of building the config tree from 1k, 10k and 100k tokenized keys.
+ * Compare versions of the parser by running with different gestaltVersion.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2025.
+ */
+public abstract class MapConfigParserBenchmarks {
+
+    @Benchmark
+    public GResultOf<ConfigNode> MapConfigParser_Parse(ParserState state) {
+        return state.parser.parse(state.lexer, state.configs, true);
+    }
+
+    @State(Scope.Benchmark)
+    public static class ParserState {
+        @Param({"1000", "10000", "100000"})
+        private int keys;
+
+        private final MapConfigParser parser = new MapConfigParser();
+        private final PathLexer lexer = new PathLexer();
+        private List<Pair<List<Token>, ConfigValue>> configs;
+
+        @Setup
+        public void setup() {
+            // a mix of keys spread over services and groups, with every 5th key an array of hosts.
+            configs = new ArrayList<>(keys);
+            for (int i = 0; i < keys; i++) {
+                List<Token> tokens = new ArrayList<>(4);
+                tokens.add(new ObjectToken("service" + i % 20));
+                tokens.add(new ObjectToken("group" + i / 20 % 50));
+                if (i % 5 == 0) {
+                    tokens.add(new ObjectToken("hosts"));
+                    tokens.add(new ArrayToken(i / 1000));
+                } else {
+                    tokens.add(new ObjectToken("key" + i));
+                }
+                configs.add(new Pair<>(tokens, new ConfigValue("value" + i)));
+            }
+        }
+    }
+
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public static class Avgt extends MapConfigParserBenchmarks {
+    }
+}
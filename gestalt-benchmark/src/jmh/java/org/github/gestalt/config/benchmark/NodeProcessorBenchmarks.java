@@ -0,0 +1,71 @@
+package org.github.gestalt.config.benchmark;
+
+import org.github.gestalt.config.lexer.PathLexer;
+import org.github.gestalt.config.metadata.IsRunTimeStringSubstitutionMetadata;
+import org.github.gestalt.config.node.ConfigNode;
+import org.github.gestalt.config.node.LeafNode;
+import org.github.gestalt.config.node.MapNode;
+import org.github.gestalt.config.processor.config.ConfigNodeProcessorManager;
+import org.github.gestalt.config.processor.config.transform.RunTimeStringSubstitutionConfigNodeProcessor;
+import org.github.gestalt.config.utils.GResultOf;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Benchmark of the run time config node processors on a tree with 10k leaves,
+ * with no run time nodes and with a single run time node.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2025.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class NodeProcessorBenchmarks {
+
+    private static final int SERVICES = 100;
+    private static final int KEYS_PER_SERVICE = 100;
+
+    private ConfigNodeProcessorManager manager;
+    private ConfigNode noRunTimeNodes;
+    private ConfigNode oneRunTimeNode;
+
+    @Setup
+    public void setup() {
+        manager = new ConfigNodeProcessorManager(List.of(), List.of(new RunTimeStringSubstitutionConfigNodeProcessor(List.of())),
+            new PathLexer());
+
+        noRunTimeNodes = buildTree(false);
+        oneRunTimeNode = buildTree(true);
+    }
+
+    private static ConfigNode buildTree(boolean withRunTimeNode) {
+        Map<String, ConfigNode> services = new HashMap<>();
+        for (int i = 0; i < SERVICES; i++) {
+            Map<String, ConfigNode> keys = new HashMap<>();
+            for (int j = 0; j < KEYS_PER_SERVICE; j++) {
+                keys.put("key" + j, new LeafNode("value" + j));
+            }
+
+            if (withRunTimeNode && i == 0) {
+                keys.put("key0", new LeafNode("#{envVar:USER}", Map.of(IsRunTimeStringSubstitutionMetadata.RUN_TIME_STRING_SUBSTITUTION,
+                    List.of(new IsRunTimeStringSubstitutionMetadata(true)))));
+            }
+            services.put("service" + i, new MapNode(keys));
+        }
+        return new MapNode(services);
+    }
+
+    @Benchmark
+    public GResultOf<ConfigNode> RunTimeProcess_10k_Leaves_No_RunTime_Nodes() {
+        return manager.runTimeProcessConfigNodes("", noRunTimeNodes);
+    }
+
+    @Benchmark
+    public GResultOf<ConfigNode> RunTimeProcess_10k_Leaves_One_RunTime_Node() {
+        return manager.runTimeProcessConfigNodes("", oneRunTimeNode);
+    }
+}
@@ -0,0 +1,60 @@
+package org.github.gestalt.config.benchmark;
+
+import org.github.gestalt.config.Gestalt;
+import org.github.gestalt.config.builder.GestaltBuilder;
+import org.github.gestalt.config.exceptions.GestaltException;
+import org.github.gestalt.config.source.MapConfigSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static java.util.logging.Level.OFF;
+
+/*
+ * Benchmark of decoding an object with the ObjectDecoder, with the cache disabled so every call decodes the object.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2025.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ObjectDecoderBenchmarks {
+
+    private Gestalt gestalt;
+
+    @Setup
+    public void setup() throws GestaltException {
+        // disable all logging.
+        LogManager.getLogManager().reset();
+        Logger rootLogger = LogManager.getLogManager().getLogger("");
+        rootLogger.setLevel(OFF);
+        for (Handler h : rootLogger.getHandlers()) {
+            h.setLevel(OFF);
+        }
+
+        Map<String, String> configs = new HashMap<>();
+        configs.put("http.pool.maxTotal", "100");
+        configs.put("http.pool.maxPerRoute", "10");
+        configs.put("http.pool.validateAfterInactivity", "6000");
+        configs.put("http.pool.keepAliveTimeoutMs", "60000");
+        configs.put("http.pool.idleTimeoutSec", "25");
+        configs.put("http.pool.defaultWait", "33.0");
+
+        gestalt = new GestaltBuilder()
+            .addSource(new MapConfigSource(configs))
+            .useCacheDecorator(false)
+            .build();
+
+        gestalt.loadConfigs();
+    }
+
+    @Benchmark
+    public Benchmarks.HttpPool ObjectDecoder_HttpPool() throws GestaltException {
+        return gestalt.getConfig("http.pool", Benchmarks.HttpPool.class);
+    }
+}
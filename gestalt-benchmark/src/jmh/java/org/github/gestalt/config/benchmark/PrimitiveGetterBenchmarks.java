@@ -0,0 +1,88 @@
+package org.github.gestalt.config.benchmark;
+
+import org.github.gestalt.config.Gestalt;
+import org.github.gestalt.config.builder.GestaltBuilder;
+import org.github.gestalt.config.exceptions.GestaltException;
+import org.github.gestalt.config.source.ClassPathConfigSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static java.util.logging.Level.OFF;
+
+/*
+ * Benchmark of the primitive getters, compared to getting the boxed value with a default.
+ * Only built with -PprimitiveGetters=true, as the published versions of Gestalt do not have the primitive getters.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2025.
+ */
+@SuppressWarnings("deprecation")
+public abstract class PrimitiveGetterBenchmarks {
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Integer GestaltConfig_Integer_Default(BenchmarkState state) {
+        return state.gestalt.getConfig("http.pool.maxTotal", 0, Integer.class);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int GestaltConfig_Int(BenchmarkState state) {
+        return state.gestalt.getInt("http.pool.maxTotal", 0);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Integer GestaltConfig_Integer_Default_No_Cache(BenchmarkState state) {
+        return state.gestaltNoCache.getConfig("http.pool.maxTotal", 0, Integer.class);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int GestaltConfig_Int_No_Cache(BenchmarkState state) {
+        return state.gestaltNoCache.getInt("http.pool.maxTotal", 0);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        private Gestalt gestalt;
+        private Gestalt gestaltNoCache;
+
+        @Setup
+        public void setup() throws GestaltException {
+            // disable all logging.
+            LogManager.getLogManager().reset();
+            Logger rootLogger = LogManager.getLogManager().getLogger("");
+            rootLogger.setLevel(OFF);
+            for (Handler h : rootLogger.getHandlers()) {
+                h.setLevel(OFF);
+            }
+
+            gestalt = new GestaltBuilder()
+                .addSource(new ClassPathConfigSource("/default.properties"))
+                .addSource(new ClassPathConfigSource("/dev.properties"))
+                .build();
+            gestalt.loadConfigs();
+
+            gestaltNoCache = new GestaltBuilder()
+                .addSource(new ClassPathConfigSource("/default.properties"))
+                .addSource(new ClassPathConfigSource("/dev.properties"))
+                .useCacheDecorator(false)
+                .build();
+            gestaltNoCache.loadConfigs();
+        }
+    }
+
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public static class Avgt extends PrimitiveGetterBenchmarks {
+    }
+
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public static class Thrpt extends PrimitiveGetterBenchmarks {
+    }
+}
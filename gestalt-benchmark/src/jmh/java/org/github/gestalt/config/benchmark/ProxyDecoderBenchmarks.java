@@ -0,0 +1,78 @@
+package org.github.gestalt.config.benchmark;
+
+import org.github.gestalt.config.Gestalt;
+import org.github.gestalt.config.builder.GestaltBuilder;
+import org.github.gestalt.config.decoder.ProxyDecoderMode;
+import org.github.gestalt.config.exceptions.GestaltException;
+import org.github.gestalt.config.source.MapConfigSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static java.util.logging.Level.OFF;
+
+/*
+ * Benchmark of calling methods on an interface decoded by the proxy decoder, in the cache and pass through modes.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2025.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ProxyDecoderBenchmarks {
+
+    private HttpPoolInterface cacheProxy;
+    private HttpPoolInterface passThroughProxy;
+
+    @Setup
+    public void setup() throws GestaltException {
+        // disable all logging.
+        LogManager.getLogManager().reset();
+        Logger rootLogger = LogManager.getLogManager().getLogger("");
+        rootLogger.setLevel(OFF);
+        for (Handler h : rootLogger.getHandlers()) {
+            h.setLevel(OFF);
+        }
+
+        cacheProxy = buildGestalt(ProxyDecoderMode.CACHE).getConfig("http.pool", HttpPoolInterface.class);
+        passThroughProxy = buildGestalt(ProxyDecoderMode.PASSTHROUGH).getConfig("http.pool", HttpPoolInterface.class);
+    }
+
+    private static Gestalt buildGestalt(ProxyDecoderMode proxyDecoderMode) throws GestaltException {
+        Map<String, String> configs = new HashMap<>();
+        configs.put("http.pool.maxTotal", "100");
+        configs.put("http.pool.maxPerRoute", "10");
+        configs.put("http.pool.keepAliveTimeoutMs", "60000");
+
+        Gestalt gestalt = new GestaltBuilder()
+            .addSource(new MapConfigSource(configs))
+            .setProxyDecoderMode(proxyDecoderMode)
+            .build();
+
+        gestalt.loadConfigs();
+        return gestalt;
+    }
+
+    @Benchmark
+    public long ProxyDecoder_Cache_Method_Call() {
+        return cacheProxy.getMaxPerRoute();
+    }
+
+    @Benchmark
+    public long ProxyDecoder_PassThrough_Method_Call() {
+        return passThroughProxy.getMaxPerRoute();
+    }
+
+    public interface HttpPoolInterface {
+        int getMaxTotal();
+
+        long getMaxPerRoute();
+
+        double getKeepAliveTimeoutMs();
+    }
+}
@@ -4,12 +4,15 @@ import org.github.gestalt.config.decoder.DecoderContext;
 import org.github.gestalt.config.decoder.DecoderService;
 import org.github.gestalt.config.exceptions.GestaltException;
 import org.github.gestalt.config.reflect.TypeCapture;
+import org.github.gestalt.config.reload.ChangedPaths;
 import org.github.gestalt.config.reload.CoreReloadListener;
 import org.github.gestalt.config.source.ConfigSourcePackage;
 import org.github.gestalt.config.tag.Tags;
 import org.github.gestalt.config.utils.GResultOf;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Central access point to Gestalt that has API's to build and get configurations.
@@ -38,6 +41,41 @@ public interface Gestalt {
      */
     void addConfigSourcePackage(ConfigSourcePackage sourcePackage) throws GestaltException;
 
+    /**
+     * Reload several registered ConfigSourcePackages as a single change.
+     * The sources are loaded in parallel, then merged and post processed once, and a single core reload notification is sent.
+     * If any of the sources fail to load or merge, none of them are reloaded.
+     *
+     * <p>The default implementation does not support reloading and always throws.
+     *
+     * @param sourcePackages the registered ConfigSourcePackages to reload
+     * @throws GestaltException any exceptions while reloading the ConfigSourcePackages
+     */
+    default void reloadAll(Collection<ConfigSourcePackage> sourcePackages) throws GestaltException {
+        throw new GestaltException("reloadAll is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Reload several registered ConfigSourcePackages on a background executor, the same as {@link #reloadAll(Collection)}.
+     * The new config is loaded, merged, post processed and validated off to the side, then published at once,
+     * so getting a config never waits for the reload or sees part of it.
+     *
+     * <p>The default implementation reloads on the calling thread with {@link #reloadAll(Collection)},
+     * and as it does not know which paths changed, completes with {@link ChangedPaths#all()}.
+     *
+     * @param sourcePackages the registered ConfigSourcePackages to reload
+     * @return a future completed with the paths that changed once the reload is published,
+     *     or completed exceptionally with a GestaltException if the reload failed and the config was left unchanged.
+     */
+    default CompletableFuture<ChangedPaths> reloadAsync(Collection<ConfigSourcePackage> sourcePackages) {
+        try {
+            reloadAll(sourcePackages);
+            return CompletableFuture.completedFuture(ChangedPaths.all());
+        } catch (GestaltException | RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /**
      * Get a config for a path and a given class.
      *
@@ -158,6 +196,106 @@ public interface Gestalt {
      */
     <T> GResultOf<T> getConfigResult(String path, T defaultVal, TypeCapture<T> klass, Tags tags);
 
+    /**
+     * Get an int config for a path.
+     * If the config is missing or invalid it will return the default value.
+     *
+     * @param path       path to get the config for. The path is not case sensitive.
+     * @param defaultVal the default value to return if the config is invalid.
+     * @return the configuration, or the default if the configuration is not found.
+     */
+    default int getInt(String path, int defaultVal) {
+        return getConfig(path, defaultVal, Integer.class);
+    }
+
+    /**
+     * Get an int config for a path.
+     * If the config is missing or invalid it will return the default value.
+     *
+     * @param path       path to get the config for. The path is not case sensitive.
+     * @param defaultVal the default value to return if the config is invalid.
+     * @param tags       the tags to match while searching for configs
+     * @return the configuration, or the default if the configuration is not found.
+     */
+    default int getInt(String path, int defaultVal, Tags tags) {
+        return getConfig(path, defaultVal, TypeCapture.of(Integer.class), tags);
+    }
+
+    /**
+     * Get a long config for a path.
+     * If the config is missing or invalid it will return the default value.
+     *
+     * @param path       path to get the config for. The path is not case sensitive.
+     * @param defaultVal the default value to return if the config is invalid.
+     * @return the configuration, or the default if the configuration is not found.
+     */
+    default long getLong(String path, long defaultVal) {
+        return getConfig(path, defaultVal, Long.class);
+    }
+
+    /**
+     * Get a long config for a path.
+     * If the config is missing or invalid it will return the default value.
+     *
+     * @param path       path to get the config for. The path is not case sensitive.
+     * @param defaultVal the default value to return if the config is invalid.
+     * @param tags       the tags to match while searching for configs
+     * @return the configuration, or the default if the configuration is not found.
+     */
+    default long getLong(String path, long defaultVal, Tags tags) {
+        return getConfig(path, defaultVal, TypeCapture.of(Long.class), tags);
+    }
+
+    /**
+     * Get a boolean config for a path.
+     * If the config is missing or invalid it will return the default value.
+     *
+     * @param path       path to get the config for. The path is not case sensitive.
+     * @param defaultVal the default value to return if the config is invalid.
+     * @return the configuration, or the default if the configuration is not found.
+     */
+    default boolean getBoolean(String path, boolean defaultVal) {
+        return getConfig(path, defaultVal, Boolean.class);
+    }
+
+    /**
+     * Get a boolean config for a path.
+     * If the config is missing or invalid it will return the default value.
+     *
+     * @param path       path to get the config for. The path is not case sensitive.
+     * @param defaultVal the default value to return if the config is invalid.
+     * @param tags       the tags to match while searching for configs
+     * @return the configuration, or the default if the configuration is not found.
+     */
+    default boolean getBoolean(String path, boolean defaultVal, Tags tags) {
+        return getConfig(path, defaultVal, TypeCapture.of(Boolean.class), tags);
+    }
+
+    /**
+     * Get a double config for a path.
+     * If the config is missing or invalid it will return the default value.
+     *
+     * @param path       path to get the config for. The path is not case sensitive.
+     * @param defaultVal the default value to return if the config is invalid.
+     * @return the configuration, or the default if the configuration is not found.
+     */
+    default double getDouble(String path, double defaultVal) {
+        return getConfig(path, defaultVal, Double.class);
+    }
+
+    /**
+     * Get a double config for a path.
+     * If the config is missing or invalid it will return the default value.
+     *
+     * @param path       path to get the config for. The path is not case sensitive.
+     * @param defaultVal the default value to return if the config is invalid.
+     * @param tags       the tags to match while searching for configs
+     * @return the configuration, or the default if the configuration is not found.
+     */
+    default double getDouble(String path, double defaultVal, Tags tags) {
+        return getConfig(path, defaultVal, TypeCapture.of(Double.class), tags);
+    }
+
     /**
      * Get a config Optional for a path and a given class. If there are any exceptions or errors it will return an Optional.empty()
      *
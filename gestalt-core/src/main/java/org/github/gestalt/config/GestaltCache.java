@@ -5,31 +5,52 @@ import org.github.gestalt.config.decoder.DecoderService;
 import org.github.gestalt.config.entity.GestaltConfig;
 import org.github.gestalt.config.exceptions.GestaltException;
 import org.github.gestalt.config.metadata.IsNoCacheMetadata;
+import org.github.gestalt.config.metadata.IsRunTimeStringSubstitutionMetadata;
 import org.github.gestalt.config.metadata.MetaDataValue;
 import org.github.gestalt.config.node.TagMergingStrategy;
 import org.github.gestalt.config.observations.ObservationService;
 import org.github.gestalt.config.reflect.TypeCapture;
+import org.github.gestalt.config.reload.ChangedPaths;
 import org.github.gestalt.config.reload.CoreReloadListener;
 import org.github.gestalt.config.secret.rules.SecretChecker;
 import org.github.gestalt.config.source.ConfigSourcePackage;
 import org.github.gestalt.config.tag.Tags;
 import org.github.gestalt.config.utils.GResultOf;
-import org.github.gestalt.config.utils.Triple;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * A cache layer that stores configurations by path and type.
  * Expects to be registered as a CoreReloadListener and will clear the configs
  *
+ * <p>Reads are lock free, and when multiple threads miss on the same key only one of them loads it from the delegate
+ * while the others wait for the result. If a maximum number of entries is configured,
+ * the least recently used entries are evicted as new entries are added to a full cache.
+ *
+ * <p>If enabled, lookups that did not find a value are also cached as absent, so probing for missing optional
+ * configurations is as cheap as a cache hit. An absent entry found by a lookup that does not fail on errors is only
+ * returned to lookups that also do not fail on errors, as the others may need to throw an exception.
+ *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2025.
  */
 @SuppressWarnings("OverloadMethodsDeclarationOrder")
 public class GestaltCache implements Gestalt, CoreReloadListener {
     private final Gestalt delegate;
-    private final Map<Triple<String, TypeCapture<?>, Tags>, Object> cache = Collections.synchronizedMap(new HashMap<>());
-    private final Map<Triple<String, TypeCapture<?>, Tags>, GResultOf<Object>> cacheResultsOf =
-        Collections.synchronizedMap(new HashMap<>());
+    private final Map<CacheKey, CacheEntry<Object>> cache = new ConcurrentHashMap<>();
+    private final Map<CacheKey, CacheEntry<GResultOf<Object>>> cacheResultsOf = new ConcurrentHashMap<>();
+    private final Map<CacheKey, InFlightLoad> loadingValues = new ConcurrentHashMap<>();
+    private final Map<CacheKey, InFlightLoad> loadingResults = new ConcurrentHashMap<>();
+    // the keys of each cache in the order they were used, only kept if there is a maximum number of entries.
+    private final AccessOrder cacheOrder = new AccessOrder();
+    private final AccessOrder resultsOrder = new AccessOrder();
+    private final AtomicLong reloadGeneration = new AtomicLong();
+    private final int maxEntries;
+    private final boolean cacheNegativeResults;
 
     private final Tags defaultTags;
     private final ObservationService observationService;
@@ -56,12 +77,14 @@ public class GestaltCache implements Gestalt, CoreReloadListener {
         this.gestaltConfig = gestaltConfig;
         this.tagMergingStrategy = tagMergingStrategy;
         this.nonCacheableSecrets = nonCacheableSecrets;
+        this.maxEntries = gestaltConfig != null ? gestaltConfig.getCacheMaxEntries() : 0;
+        this.cacheNegativeResults = gestaltConfig == null || gestaltConfig.isCacheNegativeResults();
     }
 
     @Override
     public void loadConfigs() throws GestaltException {
         delegate.loadConfigs();
-        cache.clear();
+        clearCache();
     }
 
     @Override
@@ -69,6 +92,16 @@ public class GestaltCache implements Gestalt, CoreReloadListener {
         delegate.addConfigSourcePackage(sourcePackage);
     }
 
+    @Override
+    public void reloadAll(Collection<ConfigSourcePackage> sourcePackages) throws GestaltException {
+        delegate.reloadAll(sourcePackages);
+    }
+
+    @Override
+    public CompletableFuture<ChangedPaths> reloadAsync(Collection<ConfigSourcePackage> sourcePackages) {
+        return delegate.reloadAsync(sourcePackages);
+    }
+
     @Override
     public <T> T getConfig(String path, Class<T> klass) throws GestaltException {
         Objects.requireNonNull(path);
@@ -118,47 +151,90 @@ public class GestaltCache implements Gestalt, CoreReloadListener {
     private <T> T getConfigInternal(String path, TypeCapture<T> klass, Tags tags) throws GestaltException {
 
         Tags resolvedTags = tagMergingStrategy.mergeTags(tags, defaultTags);
-        Triple<String, TypeCapture<?>, Tags> key = new Triple<>(path, klass, resolvedTags);
-        if (cache.get(key) != null) {
-            if (gestaltConfig.isObservationsEnabled() && observationService != null) {
-                observationService.recordObservation("cache.hit", 1, Tags.of());
+        CacheKey key = new CacheKey(path, klass, resolvedTags);
+        CacheEntry<Object> entry = cache.get(key);
+        if (!isStrictHit(entry)) {
+            InFlightLoad load = startLoad(loadingValues, key);
+            try {
+                // if another thread was loading the same key, check if it cached the value.
+                if (load == null) {
+                    entry = cache.get(key);
+                }
+
+                if (!isStrictHit(entry)) {
+                    long generation = reloadGeneration.get();
+                    GResultOf<T> result = delegate.getConfigResult(path, klass, resolvedTags);
+                    updateCache(path, key, result, true, generation);
+                    return result != null ? result.results() : null;
+                }
+            } finally {
+                finishLoad(loadingValues, key, load);
             }
-            return (T) cache.get(key);
-        } else {
-            GResultOf<T> result = delegate.getConfigResult(path, klass, resolvedTags);
-            updateCache(path, key, result);
-            return result != null ? result.results() : null;
         }
+
+        recordCacheHit(cacheOrder, key, entry);
+        return (T) entry.value;
     }
 
     @SuppressWarnings("unchecked")
     private <T> GResultOf<T> getConfigInternalResult(String path, TypeCapture<T> klass, Tags tags) throws GestaltException {
 
         Tags resolvedTags = tagMergingStrategy.mergeTags(tags, defaultTags);
-        Triple<String, TypeCapture<?>, Tags> key = new Triple<>(path, klass, resolvedTags);
-        if (cacheResultsOf.get(key) != null && cacheResultsOf.get(key).hasResults()) {
-            if (gestaltConfig.isObservationsEnabled() && observationService != null) {
-                observationService.recordObservation("cache.hit", 1, Tags.of());
+        CacheKey key = new CacheKey(path, klass, resolvedTags);
+        CacheEntry<GResultOf<Object>> entry = cacheResultsOf.get(key);
+        if (!isStrictHit(entry)) {
+            InFlightLoad load = startLoad(loadingResults, key);
+            try {
+                // if another thread was loading the same key, check if it cached the result.
+                if (load == null) {
+                    entry = cacheResultsOf.get(key);
+                }
+
+                if (!isStrictHit(entry)) {
+                    long generation = reloadGeneration.get();
+                    GResultOf<T> result = delegate.getConfigResult(path, klass, resolvedTags);
+                    updateCacheResults(path, key, result, true, generation);
+                    return result;
+                }
+            } finally {
+                finishLoad(loadingResults, key, load);
             }
-            return (GResultOf<T>) cacheResultsOf.get(key);
-        } else {
-            GResultOf<T> result = delegate.getConfigResult(path, klass, resolvedTags);
-            updateCacheResults(path, key, result);
-            return result;
         }
+
+        recordCacheHit(resultsOrder, key, entry);
+        return (GResultOf<T>) entry.value;
     }
 
-    @SuppressWarnings("unchecked")
-    private <T> void updateCache(String path, Triple<String, TypeCapture<?>, Tags> key, GResultOf<T> result) {
-        if (shouldCacheValue(path, result != null ? result.getMetadata() : Map.of())) {
-            cache.put(key, result != null ? result.results() : null);
+    /**
+     * If the entry can be returned to a lookup that fails on errors.
+     * Absent entries can only be returned if they were also found by a lookup that fails on errors.
+     */
+    private static boolean isStrictHit(CacheEntry<?> entry) {
+        return entry != null && (!entry.absent || entry.strict);
+    }
+
+    private <T> void updateCache(String path, CacheKey key, GResultOf<T> result, boolean strict, long generation) {
+        boolean absent = result == null || result.results() == null;
+        if (absent) {
+            recordNegativeCacheMiss();
+        }
+
+        if ((!absent || cacheNegativeResults) && shouldCacheValue(path, result != null ? result.getMetadata() : Map.of())) {
+            putEntry(cache, cacheOrder, key, new CacheEntry<>(absent ? null : result.results(), absent, strict,
+                dependsOnOtherPaths(result)), generation);
         }
     }
 
     @SuppressWarnings("unchecked")
-    private <T> void updateCacheResults(String path, Triple<String, TypeCapture<?>, Tags> key, GResultOf<T> result) {
-        if (shouldCacheValue(path, result != null ? result.getMetadata() : Map.of())) {
-            cacheResultsOf.put(key, (GResultOf<Object>) result);
+    private <T> void updateCacheResults(String path, CacheKey key, GResultOf<T> result, boolean strict, long generation) {
+        boolean absent = result == null || !result.hasResults();
+        if (absent) {
+            recordNegativeCacheMiss();
+        }
+
+        if ((!absent || cacheNegativeResults) && shouldCacheValue(path, result != null ? result.getMetadata() : Map.of())) {
+            putEntry(cacheResultsOf, resultsOrder, key, new CacheEntry<>((GResultOf<Object>) result, absent, strict,
+                dependsOnOtherPaths(result)), generation);
         }
     }
 
@@ -212,59 +288,66 @@ public class GestaltCache implements Gestalt, CoreReloadListener {
     @SuppressWarnings("unchecked")
     private <T> T getConfigInternal(String path, T defaultVal, TypeCapture<T> klass, Tags tags) {
         Tags resolvedTags = tagMergingStrategy.mergeTags(tags, defaultTags);
-        Triple<String, TypeCapture<?>, Tags> key = new Triple<>(path, klass, resolvedTags);
-        if (cache.containsKey(key)) {
-            T result = (T) cache.get(key);
-            if (result == null) {
-                result = defaultVal;
-            }
-
-            if (gestaltConfig.isObservationsEnabled() && observationService != null) {
-                observationService.recordObservation("cache.hit", 1, Tags.of());
-            }
-
-            return result;
-
-        } else {
-            Optional<GResultOf<T>> result = delegate.getConfigOptionalResult(path, klass, resolvedTags);
-
-            updateCache(path, key, result.orElse(null));
-
-            if (result.isPresent() && result.get().hasResults()) {
-                return result.get().results();
-            } else {
-                return defaultVal;
+        CacheKey key = new CacheKey(path, klass, resolvedTags);
+        CacheEntry<Object> entry = cache.get(key);
+        if (entry == null) {
+            InFlightLoad load = startLoad(loadingValues, key);
+            try {
+                entry = load == null ? cache.get(key) : null;
+                if (entry == null) {
+                    long generation = reloadGeneration.get();
+                    Optional<GResultOf<T>> result = delegate.getConfigOptionalResult(path, klass, resolvedTags);
+
+                    updateCache(path, key, result.orElse(null), false, generation);
+
+                    if (result.isPresent() && result.get().hasResults()) {
+                        return result.get().results();
+                    } else {
+                        return defaultVal;
+                    }
+                }
+            } finally {
+                finishLoad(loadingValues, key, load);
             }
         }
+
+        recordCacheHit(cacheOrder, key, entry);
+        T result = (T) entry.value;
+        return result != null ? result : defaultVal;
     }
 
     @SuppressWarnings("unchecked")
     private <T> GResultOf<T> getConfigInternalResult(String path, T defaultVal, TypeCapture<T> klass, Tags tags) {
         Tags resolvedTags = tagMergingStrategy.mergeTags(tags, defaultTags);
-        Triple<String, TypeCapture<?>, Tags> key = new Triple<>(path, klass, resolvedTags);
-        if (cacheResultsOf.containsKey(key)) {
-            GResultOf<T> result = (GResultOf<T>) cacheResultsOf.get(key);
-            if (result == null || !result.hasResults()) {
-                result = GResultOf.result(defaultVal, true);
+        CacheKey key = new CacheKey(path, klass, resolvedTags);
+        CacheEntry<GResultOf<Object>> entry = cacheResultsOf.get(key);
+        if (entry == null) {
+            InFlightLoad load = startLoad(loadingResults, key);
+            try {
+                entry = load == null ? cacheResultsOf.get(key) : null;
+                if (entry == null) {
+                    long generation = reloadGeneration.get();
+                    Optional<GResultOf<T>> result = delegate.getConfigOptionalResult(path, klass, resolvedTags);
+
+                    updateCacheResults(path, key, result.orElse(null), false, generation);
+
+                    if (result.isPresent() && result.get().hasResults()) {
+                        return result.get();
+                    } else {
+                        return GResultOf.result(defaultVal);
+                    }
+                }
+            } finally {
+                finishLoad(loadingResults, key, load);
             }
+        }
 
-            if (gestaltConfig.isObservationsEnabled() && observationService != null) {
-                observationService.recordObservation("cache.hit", 1, Tags.of());
-            }
-
-            return result;
-
-        } else {
-            Optional<GResultOf<T>> result = delegate.getConfigOptionalResult(path, klass, resolvedTags);
-
-            updateCacheResults(path, key, result.orElse(null));
-
-            if (result.isPresent() && result.get().hasResults()) {
-                return result.get();
-            } else {
-                return GResultOf.result(defaultVal);
-            }
+        recordCacheHit(resultsOrder, key, entry);
+        GResultOf<T> result = (GResultOf<T>) entry.value;
+        if (result == null || !result.hasResults()) {
+            result = GResultOf.result(defaultVal, true);
         }
+        return result;
     }
 
     @Override
@@ -316,39 +399,141 @@ public class GestaltCache implements Gestalt, CoreReloadListener {
     public <T> Optional<T> getConfigOptionalInternal(String path, TypeCapture<T> klass, Tags tags) {
 
         Tags resolvedTags = tagMergingStrategy.mergeTags(tags, defaultTags);
-        Triple<String, TypeCapture<?>, Tags> key = new Triple<>(path, klass, resolvedTags);
-        if (cache.containsKey(key)) {
-            if (gestaltConfig.isObservationsEnabled() && observationService != null) {
-                observationService.recordObservation("cache.hit", 1, Tags.of());
+        CacheKey key = new CacheKey(path, klass, resolvedTags);
+        CacheEntry<Object> entry = cache.get(key);
+        if (entry == null) {
+            InFlightLoad load = startLoad(loadingValues, key);
+            try {
+                entry = load == null ? cache.get(key) : null;
+                if (entry == null) {
+                    long generation = reloadGeneration.get();
+                    Optional<GResultOf<T>> resultOptional = delegate.getConfigOptionalResult(path, klass, resolvedTags);
+                    GResultOf<T> result = resultOptional.orElse(null);
+                    updateCache(path, key, result, false, generation);
+                    return Optional.ofNullable(result != null ? result.results() : null);
+                }
+            } finally {
+                finishLoad(loadingValues, key, load);
             }
-
-            T result = (T) cache.get(key);
-            return Optional.ofNullable(result);
-        } else {
-            Optional<GResultOf<T>> resultOptional = delegate.getConfigOptionalResult(path, klass, resolvedTags);
-            GResultOf<T> result = resultOptional.orElse(null);
-            updateCache(path, key, result);
-            return Optional.ofNullable(result != null ? result.results() : null);
         }
+
+        recordCacheHit(cacheOrder, key, entry);
+        return Optional.ofNullable((T) entry.value);
     }
 
+    @SuppressWarnings("unchecked")
     public <T> Optional<GResultOf<T>> getConfigOptionalInternalResult(String path, TypeCapture<T> klass, Tags tags) {
 
         Tags resolvedTags = tagMergingStrategy.mergeTags(tags, defaultTags);
-        Triple<String, TypeCapture<?>, Tags> key = new Triple<>(path, klass, resolvedTags);
-        if (cacheResultsOf.containsKey(key)) {
-            if (gestaltConfig.isObservationsEnabled() && observationService != null) {
-                observationService.recordObservation("cache.hit", 1, Tags.of());
+        CacheKey key = new CacheKey(path, klass, resolvedTags);
+        CacheEntry<GResultOf<Object>> entry = cacheResultsOf.get(key);
+        if (entry == null) {
+            InFlightLoad load = startLoad(loadingResults, key);
+            try {
+                entry = load == null ? cacheResultsOf.get(key) : null;
+                if (entry == null) {
+                    long generation = reloadGeneration.get();
+                    Optional<GResultOf<T>> resultOptional = delegate.getConfigOptionalResult(path, klass, resolvedTags);
+                    GResultOf<T> result = resultOptional.orElse(null);
+                    updateCacheResults(path, key, result, false, generation);
+                    return Optional.ofNullable(result);
+                }
+            } finally {
+                finishLoad(loadingResults, key, load);
             }
+        }
+
+        recordCacheHit(resultsOrder, key, entry);
+        return Optional.ofNullable((GResultOf<T>) entry.value);
+    }
+
+    private void recordCacheHit(AccessOrder order, CacheKey key, CacheEntry<?> entry) {
+        if (maxEntries > 0) {
+            order.touch(key);
+        }
+
+        if (gestaltConfig.isObservationsEnabled() && observationService != null) {
+            observationService.recordObservation(entry.absent ? "cache.negative.hit" : "cache.hit", 1, Tags.of());
+        }
+    }
+
+    private void recordNegativeCacheMiss() {
+        // a cache miss that found a value is already recorded by the config.get observation.
+        if (gestaltConfig.isObservationsEnabled() && observationService != null) {
+            observationService.recordObservation("cache.negative.miss", 1, Tags.of());
+        }
+    }
+
+    /**
+     * Try to become the thread that loads the key. If another thread is already loading it, wait for it to finish.
+     *
+     * @param loading the keys currently being loaded
+     * @param key the key to load
+     * @return the load to finish if this thread should load the key, or null if another thread has loaded it.
+     */
+    private static InFlightLoad startLoad(Map<CacheKey, InFlightLoad> loading, CacheKey key) {
+        InFlightLoad load = new InFlightLoad();
+        InFlightLoad existing = loading.putIfAbsent(key, load);
+        if (existing == null) {
+            return load;
+        }
+
+        existing.await();
+        return null;
+    }
+
+    private static void finishLoad(Map<CacheKey, InFlightLoad> loading, CacheKey key, InFlightLoad load) {
+        if (load != null) {
+            loading.remove(key, load);
+            load.complete();
+        }
+    }
+
+    private static boolean dependsOnOtherPaths(GResultOf<?> result) {
+        return result != null && result.hasMetadata(IsRunTimeStringSubstitutionMetadata.RUN_TIME_STRING_SUBSTITUTION);
+    }
+
+    private <V> void putEntry(Map<CacheKey, CacheEntry<V>> map, AccessOrder order, CacheKey key, CacheEntry<V> entry,
+                              long generation) {
+        map.put(key, entry);
 
-            GResultOf<T> result = (GResultOf<T>) cacheResultsOf.get(key);
-            return Optional.ofNullable(result);
-        } else {
-            Optional<GResultOf<T>> resultOptional = delegate.getConfigOptionalResult(path, klass, resolvedTags);
-            GResultOf<T> result = resultOptional.orElse(null);
-            updateCacheResults(path, key, result);
-            return Optional.ofNullable(result);
+        // if the configs were reloaded while loading this entry, it may be stale, so remove it.
+        if (generation != reloadGeneration.get()) {
+            map.remove(key, entry);
+            return;
         }
+
+        if (maxEntries > 0) {
+            order.add(key, map, maxEntries);
+        }
+    }
+
+    private void clearCache() {
+        reloadGeneration.incrementAndGet();
+        cache.clear();
+        cacheResultsOf.clear();
+        cacheOrder.clear();
+        resultsOrder.clear();
+    }
+
+    private <V> void evictChanged(Map<CacheKey, CacheEntry<V>> map, AccessOrder order, ChangedPaths changedPaths,
+                                  Map<String, Boolean> changedByPath) {
+        map.entrySet().removeIf(it -> {
+            boolean evict = it.getValue().dependsOnOtherPaths || changedByPath.computeIfAbsent(it.getKey().path, changedPaths::isChanged);
+            if (evict && maxEntries > 0) {
+                order.remove(it.getKey());
+            }
+            return evict;
+        });
+    }
+
+    /**
+     * Number of entries in the cache.
+     *
+     * @return number of entries in the cache
+     */
+    public int size() {
+        return cache.size() + cacheResultsOf.size();
     }
 
     private boolean shouldCacheValue(String path, Map<String, List<MetaDataValue<?>>> metadata) {
@@ -384,7 +569,24 @@ public class GestaltCache implements Gestalt, CoreReloadListener {
 
     @Override
     public void reload() {
-        cache.clear();
+        clearCache();
+    }
+
+    /**
+     * Only evict the entries with a path that changed, or entries that may depend on other paths such as run time string substitutions.
+     *
+     * @param changedPaths the paths that changed during the reload.
+     */
+    @Override
+    public void reload(ChangedPaths changedPaths) {
+        if (changedPaths.isAll()) {
+            clearCache();
+        } else if (!changedPaths.isEmpty()) {
+            reloadGeneration.incrementAndGet();
+            Map<String, Boolean> changedByPath = new HashMap<>();
+            evictChanged(cache, cacheOrder, changedPaths, changedByPath);
+            evictChanged(cacheResultsOf, resultsOrder, changedPaths, changedByPath);
+        }
     }
 
     /**
@@ -405,4 +607,134 @@ public class GestaltCache implements Gestalt, CoreReloadListener {
     public DecoderContext getDecoderContext() {
         return delegate.getDecoderContext();
     }
+
+    /**
+     * Key for the cache, the hash is computed once when it is created.
+     */
+    private static final class CacheKey {
+        private final String path;
+        private final TypeCapture<?> type;
+        private final Tags tags;
+        private final int hash;
+
+        CacheKey(String path, TypeCapture<?> type, Tags tags) {
+            this.path = path;
+            this.type = type;
+            this.tags = tags;
+            this.hash = 31 * (31 * path.hashCode() + type.hashCode()) + Objects.hashCode(tags);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey that = (CacheKey) o;
+            return hash == that.hash && path.equals(that.path) && type.equals(that.type) && Objects.equals(tags, that.tags);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * An entry in the cache. If the configuration was not found the entry is marked as absent.
+     * Strict entries were found by a lookup that fails on errors.
+     * Entries that depend on other paths are evicted on any reload.
+     */
+    private static final class CacheEntry<V> {
+        private final V value;
+        private final boolean absent;
+        private final boolean strict;
+        private final boolean dependsOnOtherPaths;
+
+        CacheEntry(V value, boolean absent, boolean strict, boolean dependsOnOtherPaths) {
+            this.value = value;
+            this.absent = absent;
+            this.strict = strict;
+            this.dependsOnOtherPaths = dependsOnOtherPaths;
+        }
+    }
+
+    /**
+     * The keys of a cache in the order they were last used, so the least recently used entries are evicted first.
+     * A hit only moves its key if no other thread holds the lock, so readers never wait for each other at the cost of a
+     * less exact order.
+     */
+    private static final class AccessOrder {
+        private final Map<CacheKey, Boolean> keys = new LinkedHashMap<>(16, 0.75f, true);
+        private final ReentrantLock lock = new ReentrantLock();
+
+        void touch(CacheKey key) {
+            if (lock.tryLock()) {
+                try {
+                    keys.get(key);
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        <V> void add(CacheKey key, Map<CacheKey, CacheEntry<V>> map, int maxEntries) {
+            lock.lock();
+            try {
+                keys.put(key, Boolean.TRUE);
+                Iterator<CacheKey> eldest = keys.keySet().iterator();
+                while (keys.size() > maxEntries && eldest.hasNext()) {
+                    map.remove(eldest.next());
+                    eldest.remove();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(CacheKey key) {
+            lock.lock();
+            try {
+                keys.remove(key);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void clear() {
+            lock.lock();
+            try {
+                keys.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * A load of a key in progress, so other threads can wait for it instead of loading the same key.
+     */
+    private static final class InFlightLoad {
+        private final Thread owner = Thread.currentThread();
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        void await() {
+            // if the same thread is loading the key recursively, waiting would deadlock.
+            if (owner == Thread.currentThread()) {
+                return;
+            }
+
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        void complete() {
+            done.countDown();
+        }
+    }
 }
@@ -1,14 +1,21 @@
 package org.github.gestalt.config;
 
 import org.github.gestalt.config.annotations.ConfigPrefix;
+import org.github.gestalt.config.decoder.BooleanDecoder;
+import org.github.gestalt.config.decoder.Decoder;
 import org.github.gestalt.config.decoder.DecoderContext;
 import org.github.gestalt.config.decoder.DecoderService;
+import org.github.gestalt.config.decoder.DoubleDecoder;
+import org.github.gestalt.config.decoder.IntegerDecoder;
+import org.github.gestalt.config.decoder.LongDecoder;
 import org.github.gestalt.config.entity.ConfigNodeContainer;
 import org.github.gestalt.config.entity.GestaltConfig;
 import org.github.gestalt.config.entity.ValidationError;
 import org.github.gestalt.config.entity.ValidationLevel;
 import org.github.gestalt.config.exceptions.GestaltConfigurationException;
 import org.github.gestalt.config.exceptions.GestaltException;
+import org.github.gestalt.config.lexer.CompiledPath;
+import org.github.gestalt.config.lexer.CompiledPathCache;
 import org.github.gestalt.config.lexer.SentenceLexer;
 import org.github.gestalt.config.loader.ConfigLoader;
 import org.github.gestalt.config.loader.ConfigLoaderService;
@@ -22,6 +29,7 @@ import org.github.gestalt.config.observations.ObservationService;
 import org.github.gestalt.config.processor.config.ConfigNodeProcessorService;
 import org.github.gestalt.config.processor.result.ResultsProcessorService;
 import org.github.gestalt.config.reflect.TypeCapture;
+import org.github.gestalt.config.reload.ChangedPaths;
 import org.github.gestalt.config.reload.ConfigReloadListener;
 import org.github.gestalt.config.reload.CoreReloadListener;
 import org.github.gestalt.config.reload.CoreReloadListenersContainer;
@@ -37,8 +45,10 @@ import org.github.gestalt.config.utils.GResultOf;
 import org.github.gestalt.config.utils.Pair;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import static java.lang.System.Logger.Level.DEBUG;
+import static java.lang.System.Logger.Level.TRACE;
 import static java.lang.System.Logger.Level.WARNING;
 import static org.github.gestalt.config.utils.ErrorsUtil.checkErrorsShouldFail;
 
@@ -50,6 +60,11 @@ import static org.github.gestalt.config.utils.ErrorsUtil.checkErrorsShouldFail;
 public class GestaltCore implements Gestalt, ConfigReloadListener {
     private static final System.Logger logger = System.getLogger(GestaltCore.class.getName());
 
+    private static final TypeCapture<Integer> INTEGER_TYPE = TypeCapture.of(Integer.class);
+    private static final TypeCapture<Long> LONG_TYPE = TypeCapture.of(Long.class);
+    private static final TypeCapture<Boolean> BOOLEAN_TYPE = TypeCapture.of(Boolean.class);
+    private static final TypeCapture<Double> DOUBLE_TYPE = TypeCapture.of(Double.class);
+
     private final ConfigLoaderService configLoaderService;
     private final List<ConfigSourcePackage> sourcePackages;
     private final DecoderService decoderService;
@@ -73,6 +88,16 @@ public class GestaltCore implements Gestalt, ConfigReloadListener {
 
     private final TagMergingStrategy tagMergingStrategy;
 
+    private final CompiledPathCache compiledPathCache;
+
+    // the combined ConfigPrefix for a class, an empty string if there is none.
+    private final ClassValue<String> configPrefixes = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            return buildConfigPrefix(type);
+        }
+    };
+
     /**
      * Constructor for Gestalt,you can call it manually but the best way to use this is though the GestaltBuilder.
      *
@@ -101,6 +126,41 @@ public class GestaltCore implements Gestalt, ConfigReloadListener {
                        ObservationService observationService,
                        ResultsProcessorService resultsProcessorService,
                        Tags defaultTags, TagMergingStrategy tagMergingStrategy) {
+        this(configLoaderService, configSourcePackages, decoderService, sentenceLexer, gestaltConfig, configNodeService,
+            configNodeProcessorService, reloadStrategy, secretConcealer, observationService, resultsProcessorService, defaultTags,
+            tagMergingStrategy, new CompiledPathCache(sentenceLexer, gestaltConfig.getCompiledPathCacheSize()));
+    }
+
+    /**
+     * Constructor for Gestalt,you can call it manually but the best way to use this is though the GestaltBuilder.
+     *
+     * @param configLoaderService     configLoaderService to hold all config loaders
+     * @param configSourcePackages    sources we wish to load the configs from. We load the sources in the order they are provided.
+     *                                Overriding older values with new one where needed
+     * @param decoderService          decoderService to hold all decoders
+     * @param sentenceLexer           sentenceLexer to parse the configuration paths when doing searches.
+     * @param gestaltConfig           configuration for the Gestalt
+     * @param configNodeService       configNodeService core functionality to manage nodes
+     * @param reloadStrategy          reloadStrategy holds all reload listeners
+     * @param secretConcealer         Utility for concealing secrets
+     * @param observationService      Manages reporting of observations
+     * @param resultsProcessorService Validation Manager, for validating configuration objects
+     * @param defaultTags             Default set of tags to apply to all calls to get a configuration where tags are not provided.
+     * @param tagMergingStrategy      Strategy for how to merge tags
+     * @param compiledPathCache       cache of the paths already compiled into tokens
+     */
+    public GestaltCore(ConfigLoaderService configLoaderService, List<ConfigSourcePackage> configSourcePackages,
+                       DecoderService decoderService,
+                       SentenceLexer sentenceLexer,
+                       GestaltConfig gestaltConfig,
+                       ConfigNodeService configNodeService,
+                       ConfigNodeProcessorService configNodeProcessorService,
+                       CoreReloadListenersContainer reloadStrategy,
+                       SecretConcealer secretConcealer,
+                       ObservationService observationService,
+                       ResultsProcessorService resultsProcessorService,
+                       Tags defaultTags, TagMergingStrategy tagMergingStrategy,
+                       CompiledPathCache compiledPathCache) {
         this.configLoaderService = configLoaderService;
         this.sourcePackages = configSourcePackages;
         this.decoderService = decoderService;
@@ -115,6 +175,7 @@ public class GestaltCore implements Gestalt, ConfigReloadListener {
         this.defaultTags = defaultTags;
         this.decoderContext = new DecoderContext(decoderService, this, secretConcealer, sentenceLexer, gestaltConfig);
         this.tagMergingStrategy = tagMergingStrategy;
+        this.compiledPathCache = compiledPathCache;
     }
 
     List<ValidationError> getLoadErrors() {
@@ -161,13 +222,111 @@ public class GestaltCore implements Gestalt, ConfigReloadListener {
             throw new GestaltException("No sources provided, unable to load any configs");
         }
 
-        for (ConfigSourcePackage sourcePackage : sourcePackages) {
-            addConfigSourcePackageInternal(sourcePackage);
+        if (gestaltConfig.isParallelSourceLoading() && sourcePackages.size() > 1) {
+            loadConfigSourcePackagesParallel();
+        } else {
+            for (ConfigSourcePackage sourcePackage : sourcePackages) {
+                addConfigSourcePackageInternal(sourcePackage);
+            }
         }
 
         postProcessConfigs();
     }
 
+    /**
+     * Fetch and parse all the ConfigSourcePackages concurrently, then merge them in the order they were declared.
+     * So the results are the same as loading them one after another.
+     *
+     * @throws GestaltException any exceptions while loading or merging the ConfigSourcePackages
+     */
+    private void loadConfigSourcePackagesParallel() throws GestaltException {
+        for (ConfigSourcePackage sourcePackage : sourcePackages) {
+            if (sourcePackage == null) {
+                throw new GestaltException("No ConfigSourcePackage provided, unable to load config");
+            }
+        }
+
+        // merge in the declared order, so later sources override earlier ones the same as a sequential load.
+        loadConfigSourcePackagesParallel(sourcePackages, this::mergeConfigSourcePackage);
+    }
+
+    /**
+     * Fetch and parse the ConfigSourcePackages concurrently, passing the results to the consumer in the order of the packages.
+     * Each result is passed on as soon as it and all the results before it are loaded.
+     *
+     * @param packages the ConfigSourcePackages to load
+     * @param consumer receives each ConfigSourcePackage with the config nodes loaded from it
+     * @throws GestaltException any exceptions while loading the ConfigSourcePackages or thrown by the consumer
+     */
+    private void loadConfigSourcePackagesParallel(List<ConfigSourcePackage> packages, LoadedSourceConsumer consumer)
+        throws GestaltException {
+        Executor executor = gestaltConfig.getSourceLoadingExecutor();
+        ExecutorService defaultExecutor = null;
+        if (executor == null) {
+            defaultExecutor = newSourceLoadingExecutor(packages.size());
+            executor = defaultExecutor;
+        }
+
+        try {
+            List<CompletableFuture<GResultOf<List<ConfigNodeContainer>>>> loadedSources = new ArrayList<>(packages.size());
+            for (ConfigSourcePackage sourcePackage : packages) {
+                loadedSources.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return loadConfigSourcePackage(sourcePackage);
+                    } catch (GestaltException e) {
+                        throw new CompletionException(e);
+                    }
+                }, executor));
+            }
+
+            for (int i = 0; i < packages.size(); i++) {
+                consumer.accept(packages.get(i), joinLoadedSource(loadedSources.get(i)));
+            }
+        } finally {
+            if (defaultExecutor != null) {
+                defaultExecutor.shutdown();
+            }
+        }
+    }
+
+    private static GResultOf<List<ConfigNodeContainer>> joinLoadedSource(CompletableFuture<GResultOf<List<ConfigNodeContainer>>> loaded)
+        throws GestaltException {
+        try {
+            return loaded.join();
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof GestaltException) {
+                throw (GestaltException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new GestaltException("Failed to load config source", (Exception) cause);
+        }
+    }
+
+    /**
+     * Create the executor used to load the sources in parallel when one is not provided.
+     * Uses virtual threads if running on Java 21 or newer, otherwise a daemon thread per source.
+     *
+     * @param sources number of sources to load
+     * @return the executor to load the sources with, the caller should shut it down once the sources are loaded
+     */
+    private static ExecutorService newSourceLoadingExecutor(int sources) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.log(TRACE, "Virtual threads not available, loading sources with platform threads");
+        }
+
+        return Executors.newFixedThreadPool(sources, runnable -> {
+            Thread thread = new Thread(runnable, "gestalt-source-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     /**
      * Adds a ConfigSourcePackage to Gestalt, will load and merge the ConfigSourcePackage into Gestalt.
      * This does not raise any reload events, use with caution.
@@ -180,10 +339,52 @@ public class GestaltCore implements Gestalt, ConfigReloadListener {
             throw new GestaltException("No ConfigSourcePackage provided, unable to load config");
         }
 
+        mergeConfigSourcePackage(sourcePackage, loadConfigSourcePackage(sourcePackage));
+    }
+
+    /**
+     * Fetch and parse a ConfigSourcePackage into config nodes, without merging them into Gestalt.
+     * If observations are enabled it records how long the source took to load.
+     *
+     * @param sourcePackage the ConfigSourcePackage to load
+     * @return the config nodes loaded from the source or any errors
+     * @throws GestaltException any exceptions while loading the ConfigSourcePackage
+     */
+    private GResultOf<List<ConfigNodeContainer>> loadConfigSourcePackage(ConfigSourcePackage sourcePackage) throws GestaltException {
         ConfigSource source = sourcePackage.getConfigSource();
-        ConfigLoader configLoader = configLoaderService.getLoader(source.format());
 
-        GResultOf<List<ConfigNodeContainer>> newNode = configLoader.loadSource(sourcePackage);
+        ObservationMarker loadMarker = null;
+        if (gestaltConfig.isObservationsEnabled() && observationService != null) {
+            loadMarker = observationService.startObservation("loadSource",
+                Tags.of(Tags.of("source", source.name()), sourcePackage.getTags()));
+        }
+
+        try {
+            ConfigLoader configLoader = configLoaderService.getLoader(source.format());
+            GResultOf<List<ConfigNodeContainer>> newNode = configLoader.loadSource(sourcePackage);
+
+            if (loadMarker != null) {
+                observationService.finalizeObservation(loadMarker, Tags.of());
+            }
+            return newNode;
+        } catch (Exception ex) {
+            if (loadMarker != null) {
+                observationService.finalizeObservation(loadMarker, Tags.of("exception", ex.getClass().getCanonicalName()));
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Merge the config nodes loaded from a ConfigSourcePackage into Gestalt.
+     *
+     * @param sourcePackage the ConfigSourcePackage the nodes were loaded from
+     * @param newNode the config nodes loaded from the source
+     * @throws GestaltException any exceptions while merging the config nodes
+     */
+    private void mergeConfigSourcePackage(ConfigSourcePackage sourcePackage, GResultOf<List<ConfigNodeContainer>> newNode)
+        throws GestaltException {
+        ConfigSource source = sourcePackage.getConfigSource();
 
         validateLoadResultsForErrors(newNode, source);
         if (newNode.hasResults()) {
@@ -217,9 +418,13 @@ public class GestaltCore implements Gestalt, ConfigReloadListener {
                     Tags.of(Tags.of("source", sourcePackage.getConfigSource().name()), sourcePackage.getTags()));
             }
 
-            addConfigSourcePackageInternal(sourcePackage);
-
-            postProcessConfigs();
+            // load the source before changing the config tree, then publish the merged and post processed roots at once.
+            GResultOf<List<ConfigNodeContainer>> newNode = loadConfigSourcePackage(sourcePackage);
+            configNodeService.transaction(() -> {
+                mergeConfigSourcePackage(sourcePackage, newNode);
+                postProcessConfigs();
+                return null;
+            });
             coreReloadListenersContainer.reload();
             if (gestaltConfig.isObservationsEnabled() && observationService != null) {
                 observationService.finalizeObservation(reloadMarker, Tags.of());
@@ -241,48 +446,121 @@ public class GestaltCore implements Gestalt, ConfigReloadListener {
      */
     @Override
     public void reload(ConfigSourcePackage reloadSourcePackage) throws GestaltException {
+        if (reloadSourcePackage == null) {
+            throw new GestaltException("No sources provided, unable to reload any configs");
+        }
 
+        reloadSourcePackages(List.of(reloadSourcePackage),
+            Tags.of(Tags.of("source", reloadSourcePackage.getConfigSource().name()), reloadSourcePackage.getTags()));
+    }
+
+    /**
+     * Reload several sources as a single change.
+     * The sources are loaded in parallel, then merged and post processed once, and the reload listeners are notified once.
+     * If any of the sources fail to load or merge, none of them are reloaded.
+     *
+     * @param reloadSourcePackages sources to reload
+     * @throws GestaltException any exception
+     */
+    @Override
+    public void reloadAll(Collection<ConfigSourcePackage> reloadSourcePackages) throws GestaltException {
+        if (reloadSourcePackages == null || reloadSourcePackages.isEmpty()) {
+            throw new GestaltException("No sources provided, unable to reload any configs");
+        }
+
+        reloadSourcePackages(new ArrayList<>(reloadSourcePackages), Tags.of("sources", String.valueOf(reloadSourcePackages.size())));
+    }
+
+    /**
+     * Reload several sources on the reload executor, the same as {@link #reloadAll(Collection)}.
+     * The new config nodes are staged until they are merged, post processed and validated, then published at once,
+     * so readers keep using the previous config nodes without waiting until the reload is complete.
+     *
+     * @param reloadSourcePackages sources to reload
+     * @return a future completed with the paths that changed, or completed exceptionally with the GestaltException
+     */
+    @Override
+    public CompletableFuture<ChangedPaths> reloadAsync(Collection<ConfigSourcePackage> reloadSourcePackages) {
+        if (reloadSourcePackages == null || reloadSourcePackages.isEmpty()) {
+            return CompletableFuture.failedFuture(new GestaltException("No sources provided, unable to reload any configs"));
+        }
+
+        List<ConfigSourcePackage> packages = new ArrayList<>(reloadSourcePackages);
+        Executor executor = gestaltConfig.getReloadExecutor() != null ? gestaltConfig.getReloadExecutor() : DefaultReloadExecutor.INSTANCE;
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return reloadSourcePackages(packages, Tags.of("sources", String.valueOf(packages.size())));
+            } catch (GestaltException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    private ChangedPaths reloadSourcePackages(List<ConfigSourcePackage> reloadSourcePackages, Tags observationTags)
+        throws GestaltException {
         ObservationMarker reloadMarker = null;
         try {
             if (gestaltConfig.isObservationsEnabled() && observationService != null) {
-                reloadMarker = observationService.startObservation("reload",
-                    Tags.of(Tags.of("source", reloadSourcePackage.getConfigSource().name()), reloadSourcePackage.getTags()));
-            }
-
-            if (reloadSourcePackage == null) {
-                throw new GestaltException("No sources provided, unable to reload any configs");
+                reloadMarker = observationService.startObservation("reload", observationTags);
             }
 
             if (sourcePackages == null || sourcePackages.isEmpty()) {
                 throw new GestaltException("No sources provided, unable to reload any configs");
             }
 
-            var sourcePackageOpt = sourcePackages.stream().filter(it -> it.equals(reloadSourcePackage)).findFirst();
-            if (sourcePackageOpt.isEmpty()) {
-                throw new GestaltException("Can not reload a source that was not registered.");
-            }
-
-            var reloadSource = sourcePackageOpt.get().getConfigSource();
-
-            ConfigLoader configLoader = configLoaderService.getLoader(reloadSourcePackage.getConfigSource().format());
-            var reloadNodes = configLoader.loadSource(sourcePackageOpt.get());
-            validateLoadResultsForErrors(reloadNodes, reloadSource);
+            List<ConfigSourcePackage> registeredPackages = new ArrayList<>(reloadSourcePackages.size());
+            for (ConfigSourcePackage reloadSourcePackage : reloadSourcePackages) {
+                if (reloadSourcePackage == null) {
+                    throw new GestaltException("No sources provided, unable to reload any configs");
+                }
 
-            reloadNodes.throwIfNoResults(() -> new GestaltException("no results found reloading source " + reloadSource.name()));
+                var sourcePackageOpt = sourcePackages.stream().filter(it -> it.equals(reloadSourcePackage)).findFirst();
+                if (sourcePackageOpt.isEmpty()) {
+                    throw new GestaltException("Can not reload a source that was not registered.");
+                }
+                registeredPackages.add(sourcePackageOpt.get());
+            }
 
-            for (ConfigNodeContainer reloadNode : reloadNodes.results()) {
-                GResultOf<ConfigNode> mergedNode = configNodeService.reloadNode(reloadNode);
-                validateLoadResultsForErrors(mergedNode, reloadSource);
+            // load all the sources before changing the config tree, so a source that fails to load does not reload any of them.
+            List<GResultOf<List<ConfigNodeContainer>>> reloadedSources = new ArrayList<>(registeredPackages.size());
+            LoadedSourceConsumer validateSource = (sourcePackage, reloadNodes) -> {
+                var reloadSource = sourcePackage.getConfigSource();
+                validateLoadResultsForErrors(reloadNodes, reloadSource);
+                reloadNodes.throwIfNoResults(() -> new GestaltException("no results found reloading source " + reloadSource.name()));
+                reloadedSources.add(reloadNodes);
+            };
+
+            if (registeredPackages.size() > 1) {
+                loadConfigSourcePackagesParallel(registeredPackages, validateSource);
+            } else {
+                validateSource.accept(registeredPackages.get(0), loadConfigSourcePackage(registeredPackages.get(0)));
+            }
 
-                mergedNode.throwIfNoResults(() -> new GestaltException("no results found merging source " + reloadSource.name()));
+            // merge and post process all the sources in a transaction, the readers only see the result once it is complete,
+            // and if any of them fail it is dropped.
+            ChangedPaths changedPaths = configNodeService.transaction(() -> {
+                ChangedPaths changed = ChangedPaths.none();
+                for (int i = 0; i < registeredPackages.size(); i++) {
+                    var reloadSource = registeredPackages.get(i).getConfigSource();
+                    for (ConfigNodeContainer reloadNode : reloadedSources.get(i).results()) {
+                        GResultOf<ChangedPaths> mergedNode = configNodeService.reloadNodeChanges(reloadNode);
+                        validateLoadResultsForErrors(mergedNode, reloadSource);
+
+                        mergedNode.throwIfNoResults(() -> new GestaltException("no results found merging source " + reloadSource.name()));
+                        changed = changed.merge(mergedNode.results());
+                    }
+                }
 
                 postProcessConfigs();
-            }
+                return changed;
+            });
 
-            coreReloadListenersContainer.reload();
+            // only notify the listeners of the paths that changed, so they can selectively refresh.
+            coreReloadListenersContainer.reload(changedPaths);
             if (gestaltConfig.isObservationsEnabled() && observationService != null) {
                 observationService.finalizeObservation(reloadMarker, Tags.of());
             }
+            return changedPaths;
         } catch (Exception ex) {
             if (gestaltConfig.isObservationsEnabled() && observationService != null) {
                 observationService.finalizeObservation(reloadMarker, Tags.of("exception", ex.getClass().getCanonicalName()));
@@ -324,19 +602,30 @@ public class GestaltCore implements Gestalt, ConfigReloadListener {
         results.throwIfNoResults(() -> new GestaltConfigurationException("No results found for node"));
     }
 
-    private <T> String buildPathWithConfigPrefix(TypeCapture<T> klass, String path) {
-        StringBuilder combinedPath = new StringBuilder(path);
+    private String buildConfigPrefix(Class<?> klass) {
+        StringBuilder combinedPrefix = new StringBuilder();
         // if the type is annotated with ConfigPrefix add the prefix after the path.
         // if there are multiple annotations, add each of the prefix in order
         ConfigPrefix[] prefix = klass.getAnnotationsByType(ConfigPrefix.class);
         for (ConfigPrefix configPrefix : prefix) {
-            if (combinedPath.length() > 0) {
-                combinedPath.append(sentenceLexer.getNormalizedDeliminator());
+            if (combinedPrefix.length() > 0) {
+                combinedPrefix.append(sentenceLexer.getNormalizedDeliminator());
             }
-            combinedPath.append(configPrefix.prefix());
+            combinedPrefix.append(configPrefix.prefix());
+        }
+
+        return combinedPrefix.toString();
+    }
+
+    private <T> CompiledPath compilePath(TypeCapture<T> klass, String path) {
+        String prefix = configPrefixes.get(klass.getRawType());
+
+        if (gestaltConfig.isObservationsEnabled() && observationService != null) {
+            return compiledPathCache.compile(path, prefix,
+                hit -> observationService.recordObservation(hit ? "path.cache.hit" : "path.cache.miss", 1, Tags.of()));
         }
 
-        return combinedPath.toString();
+        return compiledPathCache.compile(path, prefix);
     }
 
     @Override
@@ -437,6 +726,121 @@ public class GestaltCore implements Gestalt, ConfigReloadListener {
         return getConfigCommon(path, defaultVal, klass, tags);
     }
 
+    @Override
+    public int getInt(String path, int defaultVal) {
+        Objects.requireNonNull(path);
+
+        Object value = getLeafValue(path, INTEGER_TYPE, IntegerDecoder.class, null);
+        return value != null ? (Integer) value : getConfigCommon(path, defaultVal, INTEGER_TYPE, null).results();
+    }
+
+    @Override
+    public int getInt(String path, int defaultVal, Tags tags) {
+        Objects.requireNonNull(path);
+        Objects.requireNonNull(tags);
+
+        Object value = getLeafValue(path, INTEGER_TYPE, IntegerDecoder.class, tags);
+        return value != null ? (Integer) value : getConfigCommon(path, defaultVal, INTEGER_TYPE, tags).results();
+    }
+
+    @Override
+    public long getLong(String path, long defaultVal) {
+        Objects.requireNonNull(path);
+
+        Object value = getLeafValue(path, LONG_TYPE, LongDecoder.class, null);
+        return value != null ? (Long) value : getConfigCommon(path, defaultVal, LONG_TYPE, null).results();
+    }
+
+    @Override
+    public long getLong(String path, long defaultVal, Tags tags) {
+        Objects.requireNonNull(path);
+        Objects.requireNonNull(tags);
+
+        Object value = getLeafValue(path, LONG_TYPE, LongDecoder.class, tags);
+        return value != null ? (Long) value : getConfigCommon(path, defaultVal, LONG_TYPE, tags).results();
+    }
+
+    @Override
+    public boolean getBoolean(String path, boolean defaultVal) {
+        Objects.requireNonNull(path);
+
+        Object value = getLeafValue(path, BOOLEAN_TYPE, BooleanDecoder.class, null);
+        return value != null ? (Boolean) value : getConfigCommon(path, defaultVal, BOOLEAN_TYPE, null).results();
+    }
+
+    @Override
+    public boolean getBoolean(String path, boolean defaultVal, Tags tags) {
+        Objects.requireNonNull(path);
+        Objects.requireNonNull(tags);
+
+        Object value = getLeafValue(path, BOOLEAN_TYPE, BooleanDecoder.class, tags);
+        return value != null ? (Boolean) value : getConfigCommon(path, defaultVal, BOOLEAN_TYPE, tags).results();
+    }
+
+    @Override
+    public double getDouble(String path, double defaultVal) {
+        Objects.requireNonNull(path);
+
+        Object value = getLeafValue(path, DOUBLE_TYPE, DoubleDecoder.class, null);
+        return value != null ? (Double) value : getConfigCommon(path, defaultVal, DOUBLE_TYPE, null).results();
+    }
+
+    @Override
+    public double getDouble(String path, double defaultVal, Tags tags) {
+        Objects.requireNonNull(path);
+        Objects.requireNonNull(tags);
+
+        Object value = getLeafValue(path, DOUBLE_TYPE, DoubleDecoder.class, tags);
+        return value != null ? (Double) value : getConfigCommon(path, defaultVal, DOUBLE_TYPE, tags).results();
+    }
+
+    /**
+     * Get the decoded value of a leaf node for the primitive getters, without building a result.
+     * The value is decoded once for each type and kept with the leaf node, so it is dropped when a reload replaces the node.
+     * Returns null whenever getting the config could do more than decode the leaf, such as recording observations, run time
+     * processing the node, a custom decoder or result processor, or if the value is missing or has errors.
+     * In that case the caller gets the config the normal way, so the errors and defaults are the same.
+     *
+     * @param path         path to get the config for
+     * @param klass        the type to decode
+     * @param decoderClass the built-in decoder for the type, the value is only cached if it is used.
+     * @param tags         the tags to match while searching for configs, or null for the default tags
+     * @return the decoded value, or null if the config should be retrieved the normal way.
+     */
+    private Object getLeafValue(String path, TypeCapture<?> klass, Class<?> decoderClass, Tags tags) {
+        boolean observationsEnabled = gestaltConfig.isObservationsEnabled() && observationService != null;
+        if (observationsEnabled || !resultsProcessorService.isPassThroughForPrimitives()) {
+            return null;
+        }
+
+        Decoder<?> decoder = decoderService.getLeafDecoder(klass.getRawType());
+        if (decoder == null || decoder.getClass() != decoderClass) {
+            return null;
+        }
+
+        CompiledPath compiledPath = compiledPathCache.compile(path, configPrefixes.get(klass.getRawType()));
+        if (compiledPath.hasErrors()) {
+            return null;
+        }
+
+        Tags resolvedTags = tagMergingStrategy.mergeTags(tags, defaultTags);
+        ConfigNode node = configNodeService.findNode(compiledPath.getPath(), compiledPath.getTokens(), resolvedTags);
+        // subclasses such as the temporary leaf nodes change the value as it is read, so they can not be cached.
+        if (node == null || node.getClass() != LeafNode.class || configNodeProcessorService.shouldRunTimeProcess(node)) {
+            return null;
+        }
+
+        LeafNode leaf = (LeafNode) node;
+        Object value = leaf.getDecodedValue(klass.getRawType());
+        if (value == null) {
+            value = leaf.decodeValue(klass.getRawType(), it -> {
+                GResultOf<?> result = decoder.decode(compiledPath.getPath(), resolvedTags, it, klass, decoderContext);
+                return result.hasErrors() || !result.hasResults() ? null : result.results();
+            });
+        }
+        return value;
+    }
+
     private <T> GResultOf<T> getConfigCommon(String path, T defaultVal, TypeCapture<T> klass, Tags tags) {
         try {
             Tags resolvedTags = tagMergingStrategy.mergeTags(tags, defaultTags);
@@ -514,12 +918,12 @@ public class GestaltCore implements Gestalt, ConfigReloadListener {
                 getConfigMarker = observationService.startGetConfig(path, klass, tags, failOnErrors);
             }
 
-            String combinedPath = buildPathWithConfigPrefix(klass, path);
-            GResultOf<List<Token>> tokens = sentenceLexer.scan(combinedPath);
-            if (tokens.hasErrors()) {
-                throw new GestaltException("Unable to parse path: " + combinedPath, tokens.getErrors());
+            CompiledPath compiledPath = compilePath(klass, path);
+            String combinedPath = compiledPath.getPath();
+            if (compiledPath.hasErrors()) {
+                throw new GestaltException("Unable to parse path: " + combinedPath, compiledPath.getErrors());
             } else {
-                GResultOf<T> results = getAndDecodeConfig(combinedPath, tokens.results(), klass, tags);
+                GResultOf<T> results = getAndDecodeConfig(combinedPath, compiledPath.getTokens(), klass, tags);
 
                 getConfigObservations(results, combinedPath, klass, tags, failOnErrors);
 
@@ -555,10 +959,8 @@ public class GestaltCore implements Gestalt, ConfigReloadListener {
 
         if (!node.hasErrors() || node.hasErrors(ValidationLevel.MISSING_VALUE)) {
 
-            List<ValidationError> errors = new ArrayList<>();
             // apply any run time config node processors to the found node.
             GResultOf<ConfigNode> processedResult = configNodeProcessorService.runTimeProcessConfigNodes(path, node.results());
-            errors.addAll(processedResult.getErrors());
 
             ConfigNode processedNode = processedResult.results();
 
@@ -581,12 +983,13 @@ public class GestaltCore implements Gestalt, ConfigReloadListener {
             // return the errors from the call to navigate to node.
             // So we don't get too many "duplicate" errors
             // Otherwise if we have a result return both sets of errors.
+            List<ValidationError> errors;
             if (!decodedResults.hasResults() && node.hasErrors(ValidationLevel.MISSING_VALUE)) {
-                errors.addAll(node.getErrors());
+                errors = combineErrors(processedResult.getErrors(), node.getErrors(), List.of());
             } else {
                 // if we have a result, only add non missing value errors.
-                errors.addAll(node.getErrorsNotLevel(ValidationLevel.MISSING_VALUE));
-                errors.addAll(decodedResults.getErrors());
+                errors = combineErrors(processedResult.getErrors(), node.getErrorsNotLevel(ValidationLevel.MISSING_VALUE),
+                    decodedResults.getErrors());
             }
 
             return GResultOf.resultOf(decodedResults.results(), errors, metadata);
@@ -598,6 +1001,24 @@ public class GestaltCore implements Gestalt, ConfigReloadListener {
         }
     }
 
+    // combine the lists of errors, only building a new list if more than one of them has errors.
+    private static List<ValidationError> combineErrors(List<ValidationError> first, List<ValidationError> second,
+                                                       List<ValidationError> third) {
+        if (second.isEmpty() && third.isEmpty()) {
+            return first;
+        } else if (first.isEmpty() && third.isEmpty()) {
+            return second;
+        } else if (first.isEmpty() && second.isEmpty()) {
+            return third;
+        }
+
+        List<ValidationError> errors = new ArrayList<>(first.size() + second.size() + third.size());
+        errors.addAll(first);
+        errors.addAll(second);
+        errors.addAll(third);
+        return errors;
+    }
+
     private <T> void getConfigObservations(GResultOf<T> results, String path, TypeCapture<T> klass, Tags tags, boolean isOptional)
         throws GestaltException {
         if (gestaltConfig.isObservationsEnabled() && observationService != null) {
@@ -605,22 +1026,22 @@ public class GestaltCore implements Gestalt, ConfigReloadListener {
             // record all the details of the request.
             observationService.recordObservation(results, path, klass, tags, isOptional);
 
-            int missing = results.getErrors(ValidationLevel.MISSING_VALUE).size();
+            int missing = results.errorCount(ValidationLevel.MISSING_VALUE);
             if (missing != 0) {
                 observationService.recordObservation("get.config.missing", missing, Tags.of("optional", "false"));
             }
 
-            int missingOptional = results.getErrors(ValidationLevel.MISSING_OPTIONAL_VALUE).size();
+            int missingOptional = results.errorCount(ValidationLevel.MISSING_OPTIONAL_VALUE);
             if (missingOptional != 0) {
                 observationService.recordObservation("get.config.missing", missingOptional, Tags.of("optional", "true"));
             }
 
-            int errors = results.getErrors(ValidationLevel.ERROR).size();
+            int errors = results.errorCount(ValidationLevel.ERROR);
             if (errors != 0) {
                 observationService.recordObservation("get.config.error", errors, Tags.of());
             }
 
-            int warnings = results.getErrors(ValidationLevel.WARN).size();
+            int warnings = results.errorCount(ValidationLevel.WARN);
             if (warnings != 0) {
                 observationService.recordObservation("get.config.warning", warnings, Tags.of());
             }
@@ -647,4 +1068,22 @@ public class GestaltCore implements Gestalt, ConfigReloadListener {
     public String debugPrint() {
         return configNodeService.debugPrintRoot(secretConcealer);
     }
+
+    /**
+     * The executor shared by all GestaltCore to run the asynchronous reloads, if none is configured.
+     */
+    private static final class DefaultReloadExecutor {
+        private static final Executor INSTANCE = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "gestalt-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Receives a ConfigSourcePackage with the config nodes loaded from it.
+     */
+    private interface LoadedSourceConsumer {
+        void accept(ConfigSourcePackage sourcePackage, GResultOf<List<ConfigNodeContainer>> loadedSource) throws GestaltException;
+    }
 }
@@ -10,6 +10,7 @@ import org.github.gestalt.config.decoder.ProxyDecoderMode;
 import org.github.gestalt.config.entity.GestaltConfig;
 import org.github.gestalt.config.entity.GestaltModuleConfig;
 import org.github.gestalt.config.exceptions.GestaltConfigurationException;
+import org.github.gestalt.config.lexer.CompiledPathCache;
 import org.github.gestalt.config.lexer.PathLexer;
 import org.github.gestalt.config.lexer.SentenceLexer;
 import org.github.gestalt.config.loader.ConfigLoader;
@@ -43,6 +44,7 @@ import org.github.gestalt.config.utils.Pair;
 import java.lang.System.Logger.Level;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import static java.lang.System.Logger.Level.TRACE;
@@ -162,6 +164,29 @@ public class GestaltBuilder {
     // The keyword that is used to determine if a node is an include from a source
     private Integer nodeNestedIncludeLimit = null;
 
+    // The maximum number of paths to keep compiled into tokens.
+    private Integer compiledPathCacheSize = null;
+
+    // The maximum number of configurations to keep in the cache.
+    private Integer cacheMaxEntries = null;
+
+    // If the cache should also cache lookups that did not find a value.
+    private Boolean cacheNegativeResults = null;
+
+    // If the config sources should be loaded in parallel.
+    private Boolean parallelSourceLoading = null;
+
+    // The executor used to load the config sources in parallel.
+    private Executor sourceLoadingExecutor = null;
+
+    // If the config trees should be compacted once built.
+    private Boolean compactConfigNodes = null;
+
+    // The executor used to run the asynchronous reloads.
+    private Executor reloadExecutor = null;
+
+    private CompiledPathCache compiledPathCache;
+
     // Defines how the proxy decoder works. See the enum for details.
     private ProxyDecoderMode proxyDecoderMode = null;
 
@@ -1487,6 +1512,93 @@ public class GestaltBuilder {
         return this;
     }
 
+    /**
+     * Set the maximum number of paths to keep compiled into tokens, so they are not lexed on every request.
+     * If 0 or less, paths are not cached.
+     *
+     * @param compiledPathCacheSize the maximum number of paths to keep compiled into tokens
+     * @return GestaltBuilder builder
+     */
+    public GestaltBuilder setCompiledPathCacheSize(Integer compiledPathCacheSize) {
+        this.compiledPathCacheSize = compiledPathCacheSize;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of configurations to keep in the cache.
+     * Once the cache is full the least recently used configurations are evicted. If 0 or less the cache is unbounded.
+     *
+     * @param cacheMaxEntries the maximum number of configurations to keep in the cache
+     * @return GestaltBuilder builder
+     */
+    public GestaltBuilder setCacheMaxEntries(Integer cacheMaxEntries) {
+        this.cacheMaxEntries = cacheMaxEntries;
+        return this;
+    }
+
+    /**
+     * Set if the cache should also cache lookups that did not find a value, until the next reload.
+     *
+     * @param cacheNegativeResults if the cache should also cache lookups that did not find a value
+     * @return GestaltBuilder builder
+     */
+    public GestaltBuilder setCacheNegativeResults(Boolean cacheNegativeResults) {
+        this.cacheNegativeResults = cacheNegativeResults;
+        return this;
+    }
+
+    /**
+     * Set if the config sources should be loaded in parallel when calling loadConfigs.
+     * The sources are fetched and parsed concurrently, then merged in the order they were declared,
+     * so later sources still override earlier ones.
+     *
+     * @param parallelSourceLoading if the config sources should be loaded in parallel
+     * @return GestaltBuilder builder
+     */
+    public GestaltBuilder setParallelSourceLoading(Boolean parallelSourceLoading) {
+        this.parallelSourceLoading = parallelSourceLoading;
+        return this;
+    }
+
+    /**
+     * Set the executor used to load the config sources in parallel, only used if parallel source loading is enabled.
+     * If not set, each load uses virtual threads when running on Java 21 or newer, otherwise a daemon thread per source.
+     *
+     * @param sourceLoadingExecutor the executor used to load the config sources in parallel
+     * @return GestaltBuilder builder
+     */
+    public GestaltBuilder setSourceLoadingExecutor(Executor sourceLoadingExecutor) {
+        Objects.requireNonNull(sourceLoadingExecutor, "sourceLoadingExecutor should not be null");
+        this.sourceLoadingExecutor = sourceLoadingExecutor;
+        return this;
+    }
+
+    /**
+     * Set if the config trees should be compacted once built.
+     * The maps in the tree are stored in arrays rather than hash maps, and equal keys and values are only stored once.
+     * This reduces the memory used by large configs, at the cost of compacting the tree when the configs are loaded or reloaded.
+     *
+     * @param compactConfigNodes if the config trees should be compacted
+     * @return GestaltBuilder builder
+     */
+    public GestaltBuilder setCompactConfigNodes(Boolean compactConfigNodes) {
+        this.compactConfigNodes = compactConfigNodes;
+        return this;
+    }
+
+    /**
+     * Set the executor used to run the asynchronous reloads, see {@link org.github.gestalt.config.Gestalt#reloadAsync}.
+     * If not set, the reloads run one at a time on a daemon thread shared by all Gestalt instances.
+     *
+     * @param reloadExecutor the executor used to run the asynchronous reloads
+     * @return GestaltBuilder builder
+     */
+    public GestaltBuilder setReloadExecutor(Executor reloadExecutor) {
+        Objects.requireNonNull(reloadExecutor, "reloadExecutor should not be null");
+        this.reloadExecutor = reloadExecutor;
+        return this;
+    }
+
     /**
      * Get the mode the for proxy decoder.
      *
@@ -1595,6 +1707,9 @@ public class GestaltBuilder {
             sentenceLexer = new PathLexer();
         }
 
+        // shared between the core and the decoders so paths are only compiled once.
+        compiledPathCache = new CompiledPathCache(sentenceLexer, gestaltConfig.getCompiledPathCacheSize());
+
         if (configNodeTagResolutionStrategy == null) {
             configNodeTagResolutionStrategy = new EqualTagsWithDefaultTagResolutionStrategy();
         }
@@ -1605,7 +1720,8 @@ public class GestaltBuilder {
         }
 
         if (configNodeService == null) {
-            configNodeService = new ConfigNodeManager(configNodeTagResolutionStrategy, configNodeProcessorService, sentenceLexer);
+            configNodeService = new ConfigNodeManager(configNodeTagResolutionStrategy, configNodeProcessorService, sentenceLexer,
+                gestaltConfig.isCompactConfigNodes());
         }
 
         if (tagMergingStrategy == null) {
@@ -1630,7 +1746,7 @@ public class GestaltBuilder {
         CoreReloadListenersContainer coreReloadListenersContainer = new CoreReloadListenersContainer();
         final GestaltCore gestaltCore = new GestaltCore(configLoaderService, configSourcePackages, decoderService, sentenceLexer,
             gestaltConfig, configNodeService, configNodeProcessorService, coreReloadListenersContainer, secretConcealer, observationService,
-            resultsProcessorService, defaultTags, tagMergingStrategy);
+            resultsProcessorService, defaultTags, tagMergingStrategy, compiledPathCache);
 
         // register gestaltCore with all the source reload strategies.
         reloadStrategies.forEach(it -> it.registerListener(gestaltCore));
@@ -1831,7 +1947,7 @@ public class GestaltBuilder {
         // Otherwise get all the decoders from the decoderService, combine them with the ones in the builder,
         // and update the decoderService
         if (decoderService == null) {
-            decoderService = new DecoderRegistry(decoders, configNodeService, sentenceLexer, pathMappers);
+            decoderService = new DecoderRegistry(decoders, configNodeService, sentenceLexer, pathMappers, compiledPathCache);
         } else {
             decoders.addAll(decoderService.getDecoders());
             List<Decoder<?>> dedupedDecoders = dedupeDecoders();
@@ -1932,6 +2048,26 @@ public class GestaltBuilder {
         newConfig.setNodeNestedIncludeLimit(Objects.requireNonNullElseGet(nodeNestedIncludeLimit,
             () -> gestaltConfig.getNodeNestedIncludeLimit()));
 
+        newConfig.setCompiledPathCacheSize(Objects.requireNonNullElseGet(compiledPathCacheSize,
+            () -> gestaltConfig.getCompiledPathCacheSize()));
+
+        newConfig.setCacheMaxEntries(Objects.requireNonNullElseGet(cacheMaxEntries,
+            () -> gestaltConfig.getCacheMaxEntries()));
+
+        newConfig.setCacheNegativeResults(Objects.requireNonNullElseGet(cacheNegativeResults,
+            () -> gestaltConfig.isCacheNegativeResults()));
+
+        newConfig.setParallelSourceLoading(Objects.requireNonNullElseGet(parallelSourceLoading,
+            () -> gestaltConfig.isParallelSourceLoading()));
+
+        newConfig.setSourceLoadingExecutor(sourceLoadingExecutor != null ? sourceLoadingExecutor :
+            gestaltConfig.getSourceLoadingExecutor());
+
+        newConfig.setCompactConfigNodes(Objects.requireNonNullElseGet(compactConfigNodes,
+            () -> gestaltConfig.isCompactConfigNodes()));
+
+        newConfig.setReloadExecutor(reloadExecutor != null ? reloadExecutor : gestaltConfig.getReloadExecutor());
+
         return newConfig;
     }
 }
@@ -38,6 +38,11 @@ public final class ArrayDecoder<T> implements Decoder<T[]> {
         return type.isArray();
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @Override
     public GResultOf<T[]> decode(String path, Tags tags, ConfigNode node, TypeCapture<?> type, DecoderContext decoderContext) {
         GResultOf<T[]> results;
@@ -31,6 +31,11 @@ public final class BigDecimalDecoder extends LeafDecoder<BigDecimal> {
         return BigDecimal.class.isAssignableFrom(type.getRawType());
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @Override
     protected GResultOf<BigDecimal> leafDecode(String path, ConfigNode node, DecoderContext decoderContext) {
         GResultOf<BigDecimal> results;
@@ -31,6 +31,11 @@ public final class BigIntegerDecoder extends LeafDecoder<BigInteger> {
         return BigInteger.class.isAssignableFrom(type.getRawType());
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @Override
     protected GResultOf<BigInteger> leafDecode(String path, ConfigNode node, DecoderContext decoderContext) {
         GResultOf<BigInteger> results;
@@ -27,6 +27,11 @@ public final class BooleanDecoder extends LeafDecoder<Boolean> {
         return Boolean.class.isAssignableFrom(type.getRawType()) || boolean.class.isAssignableFrom(type.getRawType());
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @Override
     protected GResultOf<Boolean> leafDecode(String path, ConfigNode node, DecoderContext decoderContext) {
         String value = node.getValue().orElse("");
@@ -30,6 +30,11 @@ public final class ByteDecoder extends LeafDecoder<Byte> {
         return Byte.class.isAssignableFrom(type.getRawType()) || byte.class.isAssignableFrom(type.getRawType());
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @Override
     protected GResultOf<Byte> leafDecode(String path, ConfigNode node, DecoderContext decoderContext) {
         GResultOf<Byte> results;
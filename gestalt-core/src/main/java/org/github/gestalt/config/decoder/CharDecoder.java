@@ -31,6 +31,11 @@ public final class CharDecoder extends LeafDecoder<Character> {
         return Character.class.isAssignableFrom(type.getRawType()) || char.class.isAssignableFrom(type.getRawType());
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @Override
     protected GResultOf<Character> leafDecode(String path, ConfigNode node, DecoderContext decoderContext) {
         Character results = null;
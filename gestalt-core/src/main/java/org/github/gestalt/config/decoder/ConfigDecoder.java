@@ -28,6 +28,11 @@ public final class ConfigDecoder implements Decoder<ConfigContainer<?>> {
         return ConfigContainer.class.isAssignableFrom(type.getRawType());
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public GResultOf<ConfigContainer<?>> decode(String path, Tags tags, ConfigNode node, TypeCapture<?> type,
@@ -65,6 +65,11 @@ public final class DateDecoder extends LeafDecoder<Date> {
         return Date.class.isAssignableFrom(type.getRawType());
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @Override
     protected GResultOf<Date> leafDecode(String path, ConfigNode node, DecoderContext decoderContext) {
         GResultOf<Date> results;
@@ -48,6 +48,17 @@ public interface Decoder<T> {
      */
     boolean canDecode(String path, Tags tags, ConfigNode node, TypeCapture<?> type);
 
+    /**
+     * true if the result of {@link #canDecode(String, Tags, ConfigNode, TypeCapture)} only depends on the type and the node type.
+     * If so, the decoder registry caches the decoders for each type and node type, instead of calling canDecode on every decode.
+     * It is a default method returning false, so decoders that also check the path, tags or node values are always called.
+     *
+     * @return true if the result of canDecode only depends on the type and the node type
+     */
+    default boolean isCanDecodeCacheable() {
+        return false;
+    }
+
     /**
      * Decode the current node. If the current node is a class or list we may need to decode sub nodes.
      *
@@ -2,10 +2,12 @@ package org.github.gestalt.config.decoder;
 
 import org.github.gestalt.config.entity.ValidationError;
 import org.github.gestalt.config.exceptions.GestaltConfigurationException;
+import org.github.gestalt.config.lexer.CompiledPathCache;
 import org.github.gestalt.config.lexer.SentenceLexer;
 import org.github.gestalt.config.node.ConfigNode;
 import org.github.gestalt.config.node.ConfigNodeService;
 import org.github.gestalt.config.node.LeafNode;
+import org.github.gestalt.config.node.NodeType;
 import org.github.gestalt.config.path.mapper.PathMapper;
 import org.github.gestalt.config.reflect.TypeCapture;
 import org.github.gestalt.config.tag.Tags;
@@ -17,6 +19,9 @@ import org.github.gestalt.config.utils.GResultOf;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -29,8 +34,18 @@ public final class DecoderRegistry implements DecoderService {
 
     private final ConfigNodeService configNodeService;
     private final SentenceLexer lexer;
+    private final CompiledPathCache compiledPathCache;
     private List<Decoder<?>> decoders = new ArrayList<>();
+    // the cacheable decoders, sorted by priority, for each type and node type.
+    private volatile Map<DispatchKey, List<Decoder<?>>> dispatchCache = new ConcurrentHashMap<>();
+    // decoders that are not cacheable, so we check them on every decode.
+    private volatile List<Decoder<?>> uncacheableDecoders = List.of();
+    // the decoder for a leaf node of each class, only used if all the decoders are cacheable.
+    private volatile Map<Class<?>, Decoder<?>> leafDecoderCache = new ConcurrentHashMap<>();
     private List<PathMapper> pathMappers;
+    // the tokens of each path mapper for a name, without duplicates. Only used if all the path mappers are cacheable.
+    private volatile Map<String, List<List<Token>>> mappedPathCache = new ConcurrentHashMap<>();
+    private volatile boolean pathMappersCacheable;
 
     /**
      * Constructor to build Decoder Registry.
@@ -46,6 +61,25 @@ public final class DecoderRegistry implements DecoderService {
                            SentenceLexer lexer,
                            List<PathMapper> pathMappers)
         throws GestaltConfigurationException {
+        this(decoders, configNodeService, lexer, pathMappers, lexer != null ? new CompiledPathCache(lexer) : null);
+    }
+
+    /**
+     * Constructor to build Decoder Registry.
+     *
+     * @param decoders          list of all supported decoders
+     * @param configNodeService config node service that holds the config nodes.
+     * @param lexer             sentence lexer to decode
+     * @param pathMappers       path mappers to test
+     * @param compiledPathCache cache of compiled paths used by the path mappers
+     * @throws GestaltConfigurationException any configuration exceptions for empty parameters.
+     */
+    public DecoderRegistry(List<Decoder<?>> decoders,
+                           ConfigNodeService configNodeService,
+                           SentenceLexer lexer,
+                           List<PathMapper> pathMappers,
+                           CompiledPathCache compiledPathCache)
+        throws GestaltConfigurationException {
         if (configNodeService == null) {
             throw new GestaltConfigurationException("ConfigNodeService can not be null");
         }
@@ -56,23 +90,50 @@ public final class DecoderRegistry implements DecoderService {
         }
         this.lexer = lexer;
 
+        if (compiledPathCache == null) {
+            throw new GestaltConfigurationException("CompiledPathCache can not be null");
+        }
+        this.compiledPathCache = compiledPathCache;
 
         if (pathMappers == null || pathMappers.isEmpty()) {
             throw new GestaltConfigurationException("pathMappers can not be null or empty");
         } else {
             this.pathMappers = CollectionUtils.buildOrderedConfigPriorities(pathMappers, false);
+            invalidateMappedPathCache();
         }
 
         if (decoders == null || decoders.isEmpty()) {
             throw new GestaltConfigurationException("Decoder list was null or empty");
         } else {
             this.decoders.addAll(decoders);
+            invalidateDispatchCache();
         }
     }
 
     @Override
     public void addDecoders(List<Decoder<?>> addDecoders) {
         decoders.addAll(addDecoders);
+        invalidateDispatchCache();
+    }
+
+    @Override
+    public Decoder<?> getLeafDecoder(Class<?> klass) {
+        // decoders that are not cacheable may match a leaf depending on the path, tags or value.
+        if (!uncacheableDecoders.isEmpty()) {
+            return null;
+        }
+
+        Map<Class<?>, Decoder<?>> cache = leafDecoderCache;
+        Decoder<?> decoder = cache.get(klass);
+        if (decoder == null) {
+            List<Decoder<?>> classDecoders = getDecoderForClass("", Tags.of(), new LeafNode(""), TypeCapture.of(klass));
+            if (classDecoders.isEmpty()) {
+                return null;
+            }
+            decoder = classDecoders.get(0);
+            cache.put(klass, decoder);
+        }
+        return decoder;
     }
 
     @Override
@@ -83,6 +144,7 @@ public final class DecoderRegistry implements DecoderService {
     @Override
     public void setDecoders(List<Decoder<?>> decoders) {
         this.decoders = decoders;
+        invalidateDispatchCache();
     }
 
     @Override
@@ -93,21 +155,68 @@ public final class DecoderRegistry implements DecoderService {
     @Override
     public void setPathMappers(List<PathMapper> pathMappers) {
         this.pathMappers = pathMappers;
+        invalidateMappedPathCache();
+    }
+
+    private void invalidateMappedPathCache() {
+        pathMappersCacheable = pathMappers.stream().allMatch(PathMapper::isMappingCacheable);
+        mappedPathCache = new ConcurrentHashMap<>();
+    }
+
+    private void invalidateDispatchCache() {
+        uncacheableDecoders = decoders.stream()
+            .filter(decoder -> !decoder.isCanDecodeCacheable())
+            .collect(Collectors.toList());
+        dispatchCache = new ConcurrentHashMap<>();
+        leafDecoderCache = new ConcurrentHashMap<>();
     }
 
     /**
-     * get a decode for a specific class.
+     * get a decode for a specific class, sorted by priority.
+     * The cacheable decoders are found once per type and node type, only the decoders that are not cacheable are checked each time.
      *
      * @param klass TypeCapture class to search for a decoder
      * @param <T>   the generic type of the class
-     * @return a list of decoders that match the class
+     * @return a list of decoders that match the class, sorted by priority
      */
-    @SuppressWarnings("rawtypes")
-    <T> List<Decoder> getDecoderForClass(String path, Tags tags, ConfigNode configNode, TypeCapture<T> klass) {
+    <T> List<Decoder<?>> getDecoderForClass(String path, Tags tags, ConfigNode configNode, TypeCapture<T> klass) {
+        List<Decoder<?>> cacheableDecoders = getCacheableDecoders(path, tags, configNode, klass);
+
+        List<Decoder<?>> uncacheable = uncacheableDecoders;
+        if (uncacheable.isEmpty()) {
+            return cacheableDecoders;
+        }
+
+        List<Decoder<?>> uncacheableMatches = findDecoders(uncacheable, path, tags, configNode, klass, false);
+        if (uncacheableMatches.isEmpty()) {
+            return cacheableDecoders;
+        }
+
+        // keep the registration order for decoders with the same priority.
+        return decoders.stream()
+            .filter(decoder -> cacheableDecoders.contains(decoder) || uncacheableMatches.contains(decoder))
+            .sorted(Comparator.comparingInt(v -> v.priority().ordinal()))
+            .collect(Collectors.toList());
+    }
+
+    private <T> List<Decoder<?>> getCacheableDecoders(String path, Tags tags, ConfigNode configNode, TypeCapture<T> klass) {
+        DispatchKey dispatchKey = new DispatchKey(klass, configNode);
+        // only build the lambda for computeIfAbsent the first time a type is decoded.
+        List<Decoder<?>> cacheableDecoders = dispatchCache.get(dispatchKey);
+        if (cacheableDecoders == null) {
+            cacheableDecoders = dispatchCache.computeIfAbsent(dispatchKey,
+                key -> findDecoders(decoders, path, tags, configNode, klass, true));
+        }
+        return cacheableDecoders;
+    }
+
+    private static <T> List<Decoder<?>> findDecoders(List<Decoder<?>> decoders, String path, Tags tags, ConfigNode configNode,
+                                                     TypeCapture<T> klass, boolean cacheable) {
         return decoders
             .stream()
-            .filter(decoder -> decoder.canDecode(path, tags, configNode, klass))
-            .collect(Collectors.toList());
+            .filter(decoder -> decoder.isCanDecodeCacheable() == cacheable && decoder.canDecode(path, tags, configNode, klass))
+            .sorted(Comparator.comparingInt(v -> v.priority().ordinal()))
+            .collect(Collectors.toUnmodifiableList());
     }
 
 
@@ -117,27 +226,49 @@ public final class DecoderRegistry implements DecoderService {
     }
 
     @Override
-    @SuppressWarnings({"rawtypes", "unchecked"})
+    @SuppressWarnings("unchecked")
     public <T> GResultOf<T> decodeNode(String path, Tags tags, ConfigNode configNode, TypeCapture<T> klass,
                                        DecoderContext decoderContext) {
-        List<Decoder> classDecoder = getDecoderForClass(path, tags, configNode, klass);
-        classDecoder.sort(Comparator.comparingInt(v -> v.priority().ordinal()));
+        List<Decoder<?>> classDecoder = getDecoderForClass(path, tags, configNode, klass);
         if (classDecoder.isEmpty()) {
             return GResultOf.errors(new ValidationError.NoDecodersFound(klass.getName(), configNode));
-        } else if (classDecoder.size() > 1) {
+        } else if (classDecoder.size() > 1 && logger.isLoggable(System.Logger.Level.TRACE)) {
             logger.log(System.Logger.Level.TRACE, "Found multiple decoders for {0}, found: {1}, using {2}: ",
                 klass, classDecoder, classDecoder.get(0));
         }
 
-        return classDecoder.get(0).decode(path, tags, configNode, klass, decoderContext);
+        return (GResultOf<T>) classDecoder.get(0).decode(path, tags, configNode, klass, decoderContext);
     }
 
     @Override
     public GResultOf<ConfigNode> getNextNode(String path, String nextPath, ConfigNode configNode) {
+        List<List<Token>> mappedTokens = getMappedTokens(path, nextPath);
+        if (mappedTokens == null) {
+            return getNextNodeWithPathMappers(path, nextPath, configNode);
+        }
+
+        List<ValidationError> errors = new ArrayList<>();
+        for (List<Token> nextTokens : mappedTokens) {
+            GResultOf<ConfigNode> result = configNodeService.navigateToNextNode(path, nextTokens, configNode);
+
+            // Only add errors for the first path mapper, so we don't have "near" duplicate error messages for each path mapper.
+            if (result.hasErrors() && errors.isEmpty()) {
+                errors.addAll(result.getErrors());
+            }
+
+            if (result.hasResults()) {
+                return result;
+            }
+        }
+
+        return noNextNode(path, configNode, errors);
+    }
+
+    private GResultOf<ConfigNode> getNextNodeWithPathMappers(String path, String nextPath, ConfigNode configNode) {
         GResultOf<ConfigNode> result;
         List<ValidationError> errors = new ArrayList<>();
         for (PathMapper pathMapper : pathMappers) {
-            GResultOf<List<Token>> pathGResultOf = pathMapper.map(path, nextPath, lexer);
+            GResultOf<List<Token>> pathGResultOf = pathMapper.map(path, nextPath, compiledPathCache);
 
             // if there are errors, add them to the error list and do not add the merge results
             errors.addAll(pathGResultOf.getErrors());
@@ -160,13 +291,58 @@ public final class DecoderRegistry implements DecoderService {
             }
         }
 
+        return noNextNode(path, configNode, errors);
+    }
+
+    private static GResultOf<ConfigNode> noNextNode(String path, ConfigNode configNode, List<ValidationError> errors) {
         //Will only reach here if there is no result.
         if (!errors.isEmpty()) {
-            result = GResultOf.errors(errors);
+            return GResultOf.errors(errors);
         } else {
-            result = GResultOf.errors(new ValidationError.NoResultsFoundForNode(path, configNode.getNodeType().getType(), "decoding"));
+            return GResultOf.errors(new ValidationError.NoResultsFoundForNode(path, configNode.getNodeType().getType(), "decoding"));
         }
-        return result;
+    }
+
+    /**
+     * Get the tokens each path mapper maps the name to, in the order of the path mappers and without duplicates.
+     * The tokens are cached per name, as long as all the path mappers are cacheable.
+     *
+     * @param path the current path, only used for errors.
+     * @param nextPath the name to map.
+     * @return the tokens for each path mapper, or null if they can not be cached.
+     */
+    private List<List<Token>> getMappedTokens(String path, String nextPath) {
+        if (!pathMappersCacheable || nextPath == null) {
+            return null;
+        }
+
+        Map<String, List<List<Token>>> cache = mappedPathCache;
+        List<List<Token>> mappedTokens = cache.get(nextPath);
+        if (mappedTokens == null) {
+            mappedTokens = mapPath(path, nextPath);
+            if (mappedTokens != null) {
+                cache.put(nextPath, mappedTokens);
+            }
+        }
+        return mappedTokens;
+    }
+
+    private List<List<Token>> mapPath(String path, String nextPath) {
+        List<List<Token>> mappedTokens = new ArrayList<>(pathMappers.size());
+        for (PathMapper pathMapper : pathMappers) {
+            GResultOf<List<Token>> pathGResultOf = pathMapper.map(path, nextPath, compiledPathCache);
+
+            // the errors include the path, so if any path mapper fails, always map the name.
+            if (pathGResultOf.hasErrors() || !pathGResultOf.hasResults()) {
+                return null;
+            }
+
+            // most names map to the same tokens for several path mappers, so only navigate each tokens once.
+            if (!mappedTokens.contains(pathGResultOf.results())) {
+                mappedTokens.add(List.copyOf(pathGResultOf.results()));
+            }
+        }
+        return List.copyOf(mappedTokens);
     }
 
     @Override
@@ -175,4 +351,40 @@ public final class DecoderRegistry implements DecoderService {
 
         return configNodeService.navigateToNextNode(path, List.of(nextToken), configNode);
     }
+
+    /**
+     * Key for the decoder dispatch cache. The class of the type capture is part of the key,
+     * as some decoders only support a subclass of TypeCapture, such as for Kotlin types.
+     */
+    private static final class DispatchKey {
+        private final Class<?> typeCaptureClass;
+        private final TypeCapture<?> type;
+        private final NodeType nodeType;
+        private final int hash;
+
+        DispatchKey(TypeCapture<?> type, ConfigNode node) {
+            this.typeCaptureClass = type.getClass();
+            this.type = type;
+            this.nodeType = node != null ? node.getNodeType() : null;
+            this.hash = 31 * (31 * typeCaptureClass.hashCode() + type.hashCode()) + Objects.hashCode(nodeType);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof DispatchKey)) {
+                return false;
+            }
+            DispatchKey that = (DispatchKey) o;
+            return hash == that.hash && typeCaptureClass == that.typeCaptureClass && nodeType == that.nodeType &&
+                type.equals(that.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
@@ -61,6 +61,17 @@ public interface DecoderService {
      */
     void addDecoders(List<Decoder<?>> decoder);
 
+    /**
+     * Get the decoder used for a leaf node of a class, if it does not depend on the path, tags or value of the node.
+     * Used by the primitive getters to decode a leaf without looking up the decoder each time.
+     *
+     * @param klass the class to decode
+     * @return the decoder for a leaf of the class, or null if the decoder has to be found for each node.
+     */
+    default Decoder<?> getLeafDecoder(Class<?> klass) {
+        return null;
+    }
+
     /**
      * Get all path mappers the decoder service has registered.
      *
@@ -29,6 +29,11 @@ public final class DoubleDecoder extends LeafDecoder<Double> {
         return Double.class.isAssignableFrom(type.getRawType()) || double.class.isAssignableFrom(type.getRawType());
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @Override
     protected GResultOf<Double> leafDecode(String path, ConfigNode node, DecoderContext decoderContext) {
         GResultOf<Double> results;
@@ -31,6 +31,11 @@ public final class DurationDecoder extends LeafDecoder<Duration> {
         return Duration.class.isAssignableFrom(type.getRawType());
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @Override
     protected GResultOf<Duration> leafDecode(String path, ConfigNode node, DecoderContext decoderContext) {
         GResultOf<Duration> results;
@@ -32,6 +32,11 @@ public final class EnumDecoder<T extends Enum<T>> extends LeafDecoder<T> {
         return type.getRawType().isEnum();
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     protected GResultOf<T> leafDecode(String path, ConfigNode node, TypeCapture<?> type, DecoderContext decoderContext) {
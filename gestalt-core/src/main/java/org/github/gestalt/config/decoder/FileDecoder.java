@@ -31,6 +31,11 @@ public final class FileDecoder extends LeafDecoder<File> {
         return File.class.isAssignableFrom(type.getRawType());
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @Override
     protected GResultOf<File> leafDecode(String path, ConfigNode node, DecoderContext decoderContext) {
         Path file = Paths.get(node.getValue().orElse(""));
@@ -29,6 +29,11 @@ public final class FloatDecoder extends LeafDecoder<Float> {
         return Float.class.isAssignableFrom(type.getRawType()) || float.class.isAssignableFrom(type.getRawType());
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @Override
     protected GResultOf<Float> leafDecode(String path, ConfigNode node, DecoderContext decoderContext) {
         GResultOf<Float> results;
@@ -31,6 +31,11 @@ public final class InstantDecoder extends LeafDecoder<Instant> {
         return Instant.class.isAssignableFrom(type.getRawType());
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @Override
     protected GResultOf<Instant> leafDecode(String path, ConfigNode node, DecoderContext decoderContext) {
         GResultOf<Instant> results;
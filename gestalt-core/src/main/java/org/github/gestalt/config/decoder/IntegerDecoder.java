@@ -29,6 +29,11 @@ public final class IntegerDecoder extends LeafDecoder<Integer> {
         return Integer.class.isAssignableFrom(type.getRawType()) || int.class.isAssignableFrom(type.getRawType());
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @Override
     protected GResultOf<Integer> leafDecode(String path, ConfigNode node, DecoderContext decoderContext) {
         GResultOf<Integer> results;
@@ -54,6 +54,11 @@ public final class ListDecoder extends CollectionDecoder<List<?>> {
             (sequencedCollection != null && sequencedCollection.equals(type.getRawType())); // NOPMD
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Override
     protected GResultOf<List<?>> arrayDecode(String path, Tags tags, ConfigNode node, TypeCapture<?> klass,
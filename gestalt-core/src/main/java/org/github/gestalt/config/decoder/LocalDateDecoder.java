@@ -62,6 +62,11 @@ public final class LocalDateDecoder extends LeafDecoder<LocalDate> {
         return LocalDate.class.isAssignableFrom(type.getRawType());
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @Override
     protected GResultOf<LocalDate> leafDecode(String path, ConfigNode node, DecoderContext decoderContext) {
         GResultOf<LocalDate> results;
@@ -62,6 +62,11 @@ public final class LocalDateTimeDecoder extends LeafDecoder<LocalDateTime> {
         return LocalDateTime.class.isAssignableFrom(type.getRawType());
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @Override
     protected GResultOf<LocalDateTime> leafDecode(String path, ConfigNode node, DecoderContext decoderContext) {
         GResultOf<LocalDateTime> results;
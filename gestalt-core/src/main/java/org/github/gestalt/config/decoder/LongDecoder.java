@@ -29,6 +29,11 @@ public final class LongDecoder extends LeafDecoder<Long> {
         return Long.class.isAssignableFrom(type.getRawType()) || long.class.isAssignableFrom(type.getRawType());
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @Override
     protected GResultOf<Long> leafDecode(String path, ConfigNode node, DecoderContext decoderContext) {
         GResultOf<Long> results;
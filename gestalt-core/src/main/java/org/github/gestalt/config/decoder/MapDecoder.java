@@ -61,6 +61,11 @@ public final class MapDecoder implements Decoder<Map<?, ?>> {
             (node.getNodeType() == NodeType.MAP || node.getNodeType() == NodeType.LEAF);
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public GResultOf<Map<?, ?>> decode(String path, Tags tags, ConfigNode node, TypeCapture<?> type, DecoderContext decoderContext) {
@@ -0,0 +1,461 @@
+package org.github.gestalt.config.decoder;
+
+import org.github.gestalt.config.annotations.Config;
+import org.github.gestalt.config.annotations.ConfigParameter;
+import org.github.gestalt.config.reflect.TypeCapture;
+import org.github.gestalt.config.utils.ClassUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static java.lang.System.Logger.Level.TRACE;
+import static java.lang.System.Logger.Level.WARNING;
+
+/**
+ * The reflection needed to bind configuration to a class, resolved once per class and reused for every decode.
+ * Holds the constructors to try, the default constructor and for each field the config name, default value, type, nullability
+ * and how to set it, so decoding a class only costs the work per field and not the reflection to find them.
+ *
+ * <p>Plans are cached per class with a {@link ClassValue} and never evicted. A plan holds the class with its constructors, fields,
+ * methods and method handles, so once a class is decoded, it and its class loader stay reachable and can not be unloaded.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2025.
+ */
+final class ObjectBindingPlan {
+    private static final System.Logger logger = System.getLogger(ObjectBindingPlan.class.getName());
+
+    private static final Pattern argPattern = Pattern.compile("^arg\\d$");
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<ObjectBindingPlan> plans = new ClassValue<>() {
+        @Override
+        protected ObjectBindingPlan computeValue(Class<?> type) {
+            return new ObjectBindingPlan(type);
+        }
+    };
+
+    private final List<ConstructorPlan> constructors;
+    private final Constructor<?> defaultConstructor;
+    private final List<FieldPlan> fields;
+
+    private ObjectBindingPlan(Class<?> klass) {
+
+        Map<String, Method> methods = new HashMap<>();
+        for (Method method : klass.getMethods()) {
+            methods.putIfAbsent(method.getName().toLowerCase(Locale.ROOT), method);
+        }
+
+        this.constructors = Arrays.stream(klass.getDeclaredConstructors())
+            .sorted((p1, p2) -> p2.getParameterCount() - p1.getParameterCount())
+            .filter(it -> !Modifier.isPrivate(it.getModifiers()) && it.getParameterCount() > 0)
+            .map(ConstructorPlan::new)
+            .collect(Collectors.toUnmodifiableList());
+
+        this.defaultConstructor = Arrays.stream(klass.getDeclaredConstructors())
+            .filter(it -> it.getParameterCount() == 0)
+            .findFirst()
+            .orElse(null);
+
+        List<FieldPlan> fieldPlans = new ArrayList<>();
+        Class<?> currentClass = klass;
+        while (currentClass != null) {
+            for (Field field : currentClass.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    logger.log(TRACE, "Ignoring static field for class: " + klass.getName() + " field " + field.getName());
+                    continue;
+                }
+                fieldPlans.add(new FieldPlan(klass, field, methods));
+            }
+            currentClass = currentClass.getSuperclass();
+        }
+        this.fields = List.copyOf(fieldPlans);
+    }
+
+    /**
+     * Get the binding plan for a class, building it the first time the class is decoded.
+     *
+     * @param klass the class to get the binding plan for.
+     * @return the binding plan for the class.
+     */
+    static ObjectBindingPlan of(Class<?> klass) {
+        return plans.get(klass);
+    }
+
+    /**
+     * The non-private constructors with parameters, sorted by the most parameters first.
+     *
+     * @return the constructors to try
+     */
+    List<ConstructorPlan> getConstructors() {
+        return constructors;
+    }
+
+    /**
+     * The constructor with no parameters.
+     *
+     * @return the constructor with no parameters, or null if the class does not have one.
+     */
+    Constructor<?> getDefaultConstructor() {
+        return defaultConstructor;
+    }
+
+    /**
+     * The non-static fields of the class and its super classes.
+     *
+     * @return the fields to bind
+     */
+    List<FieldPlan> getFields() {
+        return fields;
+    }
+
+    private static boolean isNullableAnnotation(Annotation[] annotations) {
+        return Arrays.stream(annotations)
+            .anyMatch(it -> it.annotationType().getName().toLowerCase(Locale.ROOT).contains("nullable"));
+    }
+
+    private static Method getMethod(Map<String, Method> methods, String methodName) {
+        return methods.get(methodName.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * A constructor with its parameter names, default values and types.
+     */
+    static final class ConstructorPlan {
+        private final Constructor<?> constructor;
+        private final String[] names;
+        private final String[] defaultValues;
+        private final TypeCapture<?>[] types;
+        private volatile boolean accessible;
+
+        private ConstructorPlan(Constructor<?> constructor) {
+            this.constructor = constructor;
+
+            Parameter[] parameters = constructor.getParameters();
+            names = new String[parameters.length];
+            defaultValues = new String[parameters.length];
+            types = new TypeCapture<?>[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                names[i] = getParameterName(parameters[i]);
+                defaultValues[i] = getParameterDefault(parameters[i]);
+                types[i] = TypeCapture.of(parameters[i].getType());
+            }
+        }
+
+        int getParameterCount() {
+            return names.length;
+        }
+
+        String getName(int index) {
+            return names[index];
+        }
+
+        /**
+         * The default value from the @ConfigParameter annotation.
+         *
+         * @param index parameter index
+         * @return the default value, or an empty string if there is none.
+         */
+        String getDefaultValue(int index) {
+            return defaultValues[index];
+        }
+
+        TypeCapture<?> getType(int index) {
+            return types[index];
+        }
+
+        Object newInstance(Object[] parameters) throws InvocationTargetException, InstantiationException, IllegalAccessException {
+            if (!accessible) {
+                constructor.setAccessible(true);
+                accessible = true;
+            }
+            return constructor.newInstance(parameters);
+        }
+
+        /**
+         * Gets the name of the parameter as either the @Config path or if compiled with -parameters the parameters name.
+         *
+         * @param parameter parameter we are trying to find a name for.
+         * @return parameter name or "" if none
+         */
+        private static String getParameterName(Parameter parameter) {
+            // if we have an annotation, use that for the path instead of the name.
+            ConfigParameter configAnnotation = parameter.getAnnotation(ConfigParameter.class);
+            if (configAnnotation != null && configAnnotation.path() != null && !configAnnotation.path().isEmpty()) {
+                return configAnnotation.path();
+            }
+
+            if (!argPattern.matcher(parameter.getName()).find()) {
+                return parameter.getName();
+            }
+
+            return "";
+        }
+
+        private static String getParameterDefault(Parameter parameter) {
+            ConfigParameter configAnnotation = parameter.getAnnotation(ConfigParameter.class);
+            if (configAnnotation != null && configAnnotation.defaultVal() != null) {
+                return configAnnotation.defaultVal();
+            }
+
+            return "";
+        }
+    }
+
+    /**
+     * A field with its config name, default value, type, nullability and how to get and set it.
+     */
+    static final class FieldPlan {
+        private final Class<?> klass;
+        private final Field field;
+        private final String name;
+        private final String defaultValue;
+        private final TypeCapture<?> type;
+        private final boolean nullable;
+        // getter used to check if the field was initialized.
+        private final Method getter;
+        private final Method setter;
+        private final MethodHandle setterHandle;
+        // built the first time the field is set directly, so fields that are only set with a setter are not made accessible.
+        private MethodHandle fieldSetterHandle;
+        private volatile boolean fieldSetterResolved;
+        private volatile boolean fieldAccessible;
+
+        private FieldPlan(Class<?> klass, Field field, Map<String, Method> methods) {
+            this.klass = klass;
+            this.field = field;
+
+            String fieldName = field.getName();
+            Type fieldClass = field.getGenericType();
+            this.type = TypeCapture.of(fieldClass);
+
+            // check if the field has an annotation, which will override the field name.
+            String path = getFieldAnnotationValue(field, methods, fieldName, fieldClass, Config::path);
+            this.name = path.isEmpty() ? fieldName : path;
+            this.defaultValue = getFieldAnnotationValue(field, methods, fieldName, fieldClass, Config::defaultVal);
+
+            String getterName;
+            if (field.getType().equals(boolean.class) || field.getType().equals(Boolean.class)) {
+                getterName = "is" + fieldName;
+            } else {
+                getterName = "get" + fieldName;
+            }
+            this.getter = getMethod(methods, getterName);
+
+            // first check the field to see if it is annotated with nullable.
+            // if the field isnt annotated with nullable, check if the get method is annotated with nullable.
+            boolean isNullable = isNullableAnnotation(field.getAnnotations());
+            if (!isNullable) {
+                Method nullableMethod = getter != null ? getter : getMethod(methods, fieldName);
+                isNullable = nullableMethod != null && isNullableAnnotation(nullableMethod.getAnnotations());
+            }
+            this.nullable = isNullable;
+
+            Method setMethod = getMethod(methods, "set" + fieldName);
+            this.setter = setMethod != null && setMethod.getParameterCount() == 1 ? setMethod : null;
+            this.setterHandle = setter != null ? unreflectSetter(setter) : null;
+        }
+
+        private static MethodHandle unreflectSetter(Method method) {
+            try {
+                return MethodHandles.lookup().unreflect(method).asType(SETTER_TYPE);
+            } catch (IllegalAccessException | RuntimeException e) {
+                // fall back to calling the method through reflection.
+                return null;
+            }
+        }
+
+        private MethodHandle getFieldSetterHandle() {
+            if (!fieldSetterResolved) {
+                fieldSetterHandle = unreflectFieldSetter();
+                fieldSetterResolved = true;
+            }
+            return fieldSetterHandle;
+        }
+
+        private MethodHandle unreflectFieldSetter() {
+            try {
+                makeFieldAccessible();
+                return MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+            } catch (IllegalAccessException | RuntimeException e) {
+                // fall back to setting the field through reflection, that will report any errors when decoding.
+                return null;
+            }
+        }
+
+        /**
+         * The name of the field in the config, either the @Config path or the field name.
+         *
+         * @return name of the field in the config
+         */
+        String getName() {
+            return name;
+        }
+
+        /**
+         * The default value from the @Config annotation.
+         *
+         * @return the default value, or an empty string if there is none.
+         */
+        String getDefaultValue() {
+            return defaultValue;
+        }
+
+        TypeCapture<?> getType() {
+            return type;
+        }
+
+        boolean isNullable() {
+            return nullable;
+        }
+
+        /**
+         * Set the value of the field, using the set method if there is one that accepts the value, otherwise set the field directly.
+         *
+         * @param obj   the object to set the field on
+         * @param value the value to set
+         * @throws IllegalAccessException if the field is not accessible
+         */
+        void set(Object obj, Object value) throws IllegalAccessException {
+            if (setter == null || !ClassUtils.isAssignable(setter.getParameterTypes()[0], value.getClass())) {
+                setFieldDirectly(obj, value);
+            } else if (setterHandle != null) {
+                try {
+                    setterHandle.invokeExact(obj, value);
+                } catch (Error e) {
+                    throw e;
+                } catch (Throwable e) { // NOPMD
+                    // the setter itself threw, the same as an InvocationTargetException when called through reflection.
+                    setFieldAfterSetterFailed(obj, value);
+                }
+            } else {
+                try {
+                    setter.invoke(obj, value);
+                } catch (InvocationTargetException e) {
+                    setFieldAfterSetterFailed(obj, value);
+                }
+            }
+        }
+
+        private void setFieldAfterSetterFailed(Object obj, Object value) throws IllegalAccessException {
+            logger.log(WARNING, "unable to set field " + field.getName() + " using method " + setter.getName() +
+                ", on class " + klass.getSimpleName() + ", for val: " + value + ", setting field directly");
+            setFieldDirectly(obj, value);
+        }
+
+        private void setFieldDirectly(Object obj, Object value) throws IllegalAccessException {
+            MethodHandle handle = getFieldSetterHandle();
+            if (handle != null) {
+                try {
+                    handle.invokeExact(obj, value);
+                    return;
+                } catch (RuntimeException e) {
+                    throw new IllegalArgumentException("unable to set field " + field.getName() + " on class " + klass.getSimpleName(), e);
+                } catch (Throwable e) { // NOPMD
+                    throw new IllegalStateException(e);
+                }
+            }
+
+            makeFieldAccessible();
+            field.set(obj, value);
+        }
+
+        private void makeFieldAccessible() {
+            if (!fieldAccessible) {
+                field.setAccessible(true);
+                fieldAccessible = true;
+            }
+        }
+
+        /**
+         * Check if the field has been initialized, such as with a default value in the class.
+         * Primitives with the value 0 or false are treated as not initialized.
+         *
+         * @param obj the object to check
+         * @return true if the field has been initialized
+         * @throws IllegalAccessException if the field is not accessible
+         */
+        boolean hasInitializedValue(Object obj) throws IllegalAccessException {
+            Object fieldValue = null;
+            if (getter != null) {
+                try {
+                    fieldValue = getter.invoke(obj);
+                } catch (InvocationTargetException e) {
+                    logger.log(WARNING, "Failed to get value calling method " + getter.getName() + ", on class " +
+                        klass.getSimpleName() + ", for field " + field.getName());
+                }
+            }
+
+            if (fieldValue == null) {
+                makeFieldAccessible();
+                fieldValue = field.get(obj);
+            }
+
+            // Unfortunantly, there is no easy way to tell if primitives have been initialized.
+            // we check for 0, if it is 0 we assume that it has not been initialized.
+            // but what if the intended default was 0? We have no way of knowing. So we default to say it is not initialized.
+            if (field.getType().isPrimitive()) {
+                if (byte.class.isAssignableFrom(fieldValue.getClass()) || Byte.class.isAssignableFrom(fieldValue.getClass())) {
+                    return ((byte) fieldValue) != 0;
+                } else if (short.class.isAssignableFrom(fieldValue.getClass()) || Short.class.isAssignableFrom(fieldValue.getClass())) {
+                    return ((short) fieldValue) != 0;
+                } else if (int.class.isAssignableFrom(fieldValue.getClass()) || Integer.class.isAssignableFrom(fieldValue.getClass())) {
+                    return ((int) fieldValue) != 0;
+                } else if (long.class.isAssignableFrom(fieldValue.getClass()) || Long.class.isAssignableFrom(fieldValue.getClass())) {
+                    return ((long) fieldValue) != 0;
+                } else if (float.class.isAssignableFrom(fieldValue.getClass()) || Float.class.isAssignableFrom(fieldValue.getClass())) {
+                    return ((float) fieldValue) != 0;
+                } else if (double.class.isAssignableFrom(fieldValue.getClass()) || Double.class.isAssignableFrom(fieldValue.getClass())) {
+                    return ((double) fieldValue) != 0;
+                } else if (boolean.class.isAssignableFrom(fieldValue.getClass()) || Boolean.class.isAssignableFrom(fieldValue.getClass())) {
+                    return (boolean) fieldValue;
+                } else if (char.class.isAssignableFrom(fieldValue.getClass()) || Character.class.isAssignableFrom(fieldValue.getClass())) {
+                    return ((char) fieldValue) != 0;
+                }
+                return false;
+            } else {
+                return fieldValue != null;
+            }
+        }
+
+        private static String getFieldAnnotationValue(Field field, Map<String, Method> methods, String fieldName, Type fieldClass,
+                                                      Function<Config, String> get) {
+            // if we have an annotation, use that for the path instead of the name.
+            String value = getConfigValue(field.getAnnotation(Config.class), get);
+            if (value.isEmpty()) {
+                // If there is no field annotation, check if there is a method field.
+                // This would be either isfeildName or getFieldName. If we dont find that try just the field name
+                String methodName;
+                if (fieldClass.equals(boolean.class) || fieldClass.equals(Boolean.TYPE)) {
+                    methodName = "is" + fieldName;
+                } else {
+                    methodName = "get" + fieldName;
+                }
+                value = getMethodConfigValue(methods, methodName, get);
+                if (value.isEmpty()) {
+                    value = getMethodConfigValue(methods, fieldName, get);
+                }
+            }
+            return value;
+        }
+
+        private static String getMethodConfigValue(Map<String, Method> methods, String methodName, Function<Config, String> get) {
+            Method method = getMethod(methods, methodName);
+            return method != null ? getConfigValue(method.getAnnotation(Config.class), get) : "";
+        }
+
+        private static String getConfigValue(Config configAnnotation, Function<Config, String> get) {
+            if (configAnnotation != null && get.apply(configAnnotation) != null) {
+                return get.apply(configAnnotation);
+            }
+            return "";
+        }
+    }
+}
@@ -7,6 +7,8 @@ import org.github.gestalt.config.reflect.TypeCapture;
 import org.github.gestalt.config.tag.Tags;
 import org.github.gestalt.config.utils.GResultOf;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -31,6 +33,11 @@ public final class OptionalDecoder implements Decoder<Optional<?>> {
         return Optional.class.isAssignableFrom(type.getRawType());
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @Override
     public GResultOf<Optional<?>> decode(String path, Tags tags, ConfigNode node, TypeCapture<?> type, DecoderContext decoderContext) {
         if (node != null) {
@@ -41,7 +48,7 @@ public final class OptionalDecoder implements Decoder<Optional<?>> {
             if (optionalValue.hasResults()) {
                 return GResultOf.resultOf(Optional.of(optionalValue.results()), optionalValue.getErrors());
             } else {
-                var errors = optionalValue.getErrorsNotLevel(ValidationLevel.MISSING_VALUE);
+                List<ValidationError> errors = new ArrayList<>(optionalValue.getErrorsNotLevel(ValidationLevel.MISSING_VALUE));
                 errors.add(new ValidationError.OptionalMissingValueDecoding(path, node, name(), decoderContext));
                 return GResultOf.resultOf(Optional.ofNullable(optionalValue.results()), errors);
             }
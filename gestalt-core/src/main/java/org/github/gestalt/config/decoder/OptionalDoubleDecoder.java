@@ -31,6 +31,11 @@ public final class OptionalDoubleDecoder implements Decoder<OptionalDouble> {
         return OptionalDouble.class.isAssignableFrom(type.getRawType());
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @Override
     public GResultOf<OptionalDouble> decode(String path, Tags tags, ConfigNode node, TypeCapture<?> type, DecoderContext decoderContext) {
         if (node instanceof LeafNode && node.getValue().isPresent()) {
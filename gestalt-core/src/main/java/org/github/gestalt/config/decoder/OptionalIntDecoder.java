@@ -31,6 +31,11 @@ public final class OptionalIntDecoder implements Decoder<OptionalInt> {
         return OptionalInt.class.isAssignableFrom(type.getRawType());
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @Override
     public GResultOf<OptionalInt> decode(String path, Tags tags, ConfigNode node, TypeCapture<?> type, DecoderContext decoderContext) {
         if (node instanceof LeafNode && node.getValue().isPresent()) {
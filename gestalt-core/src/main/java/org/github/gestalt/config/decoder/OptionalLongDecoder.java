@@ -31,6 +31,11 @@ public final class OptionalLongDecoder implements Decoder<OptionalLong> {
         return OptionalLong.class.isAssignableFrom(type.getRawType());
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @Override
     public GResultOf<OptionalLong> decode(String path, Tags tags, ConfigNode node, TypeCapture<?> type, DecoderContext decoderContext) {
         if (node instanceof LeafNode && node.getValue().isPresent()) {
@@ -30,6 +30,11 @@ public final class PathDecoder extends LeafDecoder<Path> {
         return Path.class.isAssignableFrom(type.getRawType());
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @Override
     protected GResultOf<Path> leafDecode(String path, ConfigNode node, DecoderContext decoderContext) {
         Path file = Paths.get(node.getValue().orElse(""));
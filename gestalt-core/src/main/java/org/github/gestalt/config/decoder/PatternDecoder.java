@@ -29,6 +29,11 @@ public final class PatternDecoder extends LeafDecoder<Pattern> {
         return Pattern.class.isAssignableFrom(type.getRawType());
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @Override
     protected GResultOf<Pattern> leafDecode(String path, ConfigNode node, DecoderContext decoderContext) {
         Pattern pattern = Pattern.compile(node.getValue().orElse(""), Pattern.CASE_INSENSITIVE);
@@ -0,0 +1,270 @@
+package org.github.gestalt.config.decoder;
+
+import org.github.gestalt.config.annotations.Config;
+import org.github.gestalt.config.reflect.TypeCapture;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The methods of an interface decoded by the {@link ProxyDecoder}, resolved once per interface and reused by every proxy.
+ * Each method gets an index so the proxies can keep their values in an array, and holds its config name, default value and types,
+ * so calling a method on a proxy does not need to read the annotations or build the types again.
+ *
+ * <p>Plans are cached per interface with a {@link ClassValue} and are not evicted. As the plan references the interface and its
+ * methods, the class loader of an interface that has been decoded stays reachable.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2025.
+ */
+final class ProxyBindingPlan {
+
+    private static final ClassValue<ProxyBindingPlan> plans = new ClassValue<>() {
+        @Override
+        protected ProxyBindingPlan computeValue(Class<?> type) {
+            return new ProxyBindingPlan(type);
+        }
+    };
+
+    private final List<MethodPlan> methods;
+
+    // The proxy passes the same Method instances on every call, so look them up by identity.
+    // Copied on write, as it only changes the first time a method is called on a new proxy class.
+    private volatile MethodLookup methodLookup = new MethodLookup(new Method[0], new MethodPlan[0]);
+
+    private ProxyBindingPlan(Class<?> klass) {
+        Method[] classMethods = klass.getMethods();
+        MethodPlan[] methodPlans = new MethodPlan[classMethods.length];
+        for (int i = 0; i < classMethods.length; i++) {
+            methodPlans[i] = new MethodPlan(classMethods[i], i);
+        }
+        this.methods = List.of(methodPlans);
+    }
+
+    /**
+     * Get the binding plan for an interface, building it the first time the interface is decoded.
+     *
+     * @param klass the interface to get the binding plan for.
+     * @return the binding plan for the interface.
+     */
+    static ProxyBindingPlan of(Class<?> klass) {
+        return plans.get(klass);
+    }
+
+    /**
+     * The methods of the interface, the position in the list is the index of the method.
+     *
+     * @return the methods of the interface
+     */
+    List<MethodPlan> getMethods() {
+        return methods;
+    }
+
+    /**
+     * Get the plan for a method called on a proxy.
+     * Methods that are not part of the interface, such as the ones from Object, get a plan with an index of -1.
+     *
+     * @param method the method called on the proxy
+     * @return the plan for the method
+     */
+    MethodPlan getMethodPlan(Method method) {
+        MethodPlan methodPlan = methodLookup.get(method);
+        if (methodPlan == null) {
+            methodPlan = addMethodPlan(method);
+        }
+        return methodPlan;
+    }
+
+    private synchronized MethodPlan addMethodPlan(Method method) {
+        MethodPlan methodPlan = methodLookup.get(method);
+        if (methodPlan != null) {
+            return methodPlan;
+        }
+
+        methodPlan = methods.stream()
+            .filter(it -> it.getMethod().equals(method))
+            .findFirst()
+            .orElseGet(() -> new MethodPlan(method, -1));
+
+        methodLookup = methodLookup.with(method, methodPlan);
+        return methodPlan;
+    }
+
+    /**
+     * Immutable lookup from the Method instances passed to the proxy to their plan.
+     * Scanning a few references is faster than hashing, so only use a map for interfaces with many methods.
+     */
+    private static final class MethodLookup {
+        private static final int MAX_SCAN = 16;
+
+        private final Method[] keys;
+        private final MethodPlan[] values;
+        private final Map<Method, MethodPlan> map;
+
+        private MethodLookup(Method[] keys, MethodPlan[] values) {
+            this.keys = keys;
+            this.values = values;
+            if (keys.length > MAX_SCAN) {
+                map = new IdentityHashMap<>(keys.length);
+                for (int i = 0; i < keys.length; i++) {
+                    map.put(keys[i], values[i]);
+                }
+            } else {
+                map = null;
+            }
+        }
+
+        private MethodPlan get(Method method) {
+            if (map != null) {
+                return map.get(method);
+            }
+
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == method) {
+                    return values[i];
+                }
+            }
+            return null;
+        }
+
+        private MethodLookup with(Method method, MethodPlan methodPlan) {
+            Method[] newKeys = Arrays.copyOf(keys, keys.length + 1);
+            MethodPlan[] newValues = Arrays.copyOf(values, values.length + 1);
+            newKeys[keys.length] = method;
+            newValues[values.length] = methodPlan;
+            return new MethodLookup(newKeys, newValues);
+        }
+    }
+
+    /**
+     * A method of the interface with its index, config name, default value and types.
+     */
+    static final class MethodPlan {
+        private final Method method;
+        private final int index;
+        private final String name;
+        private final String defaultValue;
+        private final TypeCapture<Object> type;
+        private final TypeCapture<?> returnType;
+        private volatile MethodHandle defaultMethod;
+
+        private MethodPlan(Method method, int index) {
+            this.method = method;
+            this.index = index;
+
+            // if we have an annotation, use that for the path instead of the name.
+            Config configAnnotation = method.getAnnotation(Config.class);
+            if (configAnnotation != null && configAnnotation.path() != null && !configAnnotation.path().isEmpty()) {
+                name = configAnnotation.path();
+            } else {
+                name = getConfigNameFromMethod(method.getName(), method.getGenericReturnType());
+            }
+
+            if (configAnnotation != null && configAnnotation.defaultVal() != null) {
+                defaultValue = configAnnotation.defaultVal();
+            } else {
+                defaultValue = "";
+            }
+
+            type = TypeCapture.of(method.getGenericReturnType());
+            returnType = TypeCapture.of(method.getReturnType());
+        }
+
+        private static String getConfigNameFromMethod(String methodName, Type returnType) {
+            String name = methodName;
+            if (methodName.startsWith("get")) {
+                name = methodName.substring(3);
+            } else if (methodName.startsWith("is") &&
+                (returnType.equals(boolean.class) || returnType.equals(Boolean.TYPE))) {
+                name = methodName.substring(2);
+            }
+
+            // since the first characters are likely upper case, lowercase only the first character.
+            // The method is getCar and we remove get, we have Car.
+            return name.substring(0, 1).toLowerCase(Locale.ROOT) + name.substring(1);
+        }
+
+        Method getMethod() {
+            return method;
+        }
+
+        /**
+         * The index of the method in the interface, or -1 if the method is not part of the interface.
+         *
+         * @return the index of the method
+         */
+        int getIndex() {
+            return index;
+        }
+
+        /**
+         * The name of the method in the config, either the @Config path or the bean name of the method.
+         *
+         * @return name of the method in the config
+         */
+        String getName() {
+            return name;
+        }
+
+        /**
+         * The default value from the @Config annotation.
+         *
+         * @return the default value, or an empty string if there is none.
+         */
+        String getDefaultValue() {
+            return defaultValue;
+        }
+
+        /**
+         * The generic return type of the method.
+         *
+         * @return generic return type of the method
+         */
+        TypeCapture<Object> getType() {
+            return type;
+        }
+
+        /**
+         * The raw return type of the method.
+         *
+         * @return raw return type of the method
+         */
+        TypeCapture<?> getReturnType() {
+            return returnType;
+        }
+
+        boolean isDefault() {
+            return method.isDefault();
+        }
+
+        /**
+         * Call the default implementation of the method on the proxy.
+         *
+         * @param proxy the proxy to call the method on
+         * @param args  the arguments of the method
+         * @return the result of the default method
+         * @throws Throwable any exception thrown looking up or calling the default method
+         */
+        Object invokeDefault(Object proxy, Object[] args) throws Throwable {
+            MethodHandle handle = defaultMethod;
+            if (handle == null) {
+                handle = MethodHandles.lookup()
+                    .findSpecial(
+                        method.getDeclaringClass(),
+                        method.getName(),
+                        MethodType.methodType(method.getReturnType(), new Class[0]),
+                        method.getDeclaringClass());
+                defaultMethod = handle;
+            }
+
+            return handle.bindTo(proxy).invokeWithArguments(args);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package org.github.gestalt.config.decoder;
 
-import org.github.gestalt.config.annotations.Config;
 import org.github.gestalt.config.entity.GestaltConfig;
 import org.github.gestalt.config.entity.ValidationError;
 import org.github.gestalt.config.entity.ValidationError.OptionalMissingValueDecoding;
@@ -10,20 +9,21 @@ import org.github.gestalt.config.node.ConfigNode;
 import org.github.gestalt.config.node.LeafNode;
 import org.github.gestalt.config.node.MapNode;
 import org.github.gestalt.config.reflect.TypeCapture;
+import org.github.gestalt.config.reload.ChangedPaths;
 import org.github.gestalt.config.reload.CoreReloadListener;
 import org.github.gestalt.config.tag.Tags;
+import org.github.gestalt.config.token.ObjectToken;
+import org.github.gestalt.config.token.Token;
 import org.github.gestalt.config.utils.ClassUtils;
 import org.github.gestalt.config.utils.GResultOf;
 import org.github.gestalt.config.utils.Pair;
 import org.github.gestalt.config.utils.PathUtil;
 
-import java.lang.invoke.MethodHandles;
-import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
-import java.lang.reflect.Type;
 import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * Allows a user to create an object from an interface and retrieve configuration values.
@@ -40,20 +40,6 @@ public final class ProxyDecoder implements Decoder<Object> {
     private GestaltConfig config;
 
 
-    private static String getConfigNameFromMethod(String methodName, Type returnType) {
-        String name = methodName;
-        if (methodName.startsWith("get")) {
-            name = methodName.substring(3);
-        } else if (methodName.startsWith("is") &&
-            (returnType.equals(boolean.class) || returnType.equals(Boolean.TYPE))) {
-            name = methodName.substring(2);
-        }
-
-        // since the first characters are likely upper case, lowercase only the first character.
-        // The method is getCar and we remove get, we have Car.
-        return name.substring(0, 1).toLowerCase(Locale.ROOT) + name.substring(1);
-    }
-
     @Override
     public void applyConfig(GestaltConfig config) {
         proxyDecoderMode = config.getProxyDecoderMode();
@@ -82,6 +68,11 @@ public final class ProxyDecoder implements Decoder<Object> {
             !Map.class.isAssignableFrom(type.getRawType());
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @Override
     public GResultOf<Object> decode(String path, Tags tags, ConfigNode node, TypeCapture<?> type, DecoderContext decoderContext) {
         if (!(node instanceof MapNode)) {
@@ -92,29 +83,19 @@ public final class ProxyDecoder implements Decoder<Object> {
 
         List<ValidationError> errors = new ArrayList<>();
 
-        Method[] classMethods = klass.getMethods();
+        // the methods of the interface are resolved once and reused across decodes and reloads.
+        ProxyBindingPlan plan = ProxyBindingPlan.of(klass);
 
         DecoderService decoderService = decoderContext.getDecoderService();
 
-        Map<String, Object> methodResults = new HashMap<>();
+        Object[] methodResults = new Object[plan.getMethods().size()];
         // for each method, we want to get the corresponding bean value. ie if it is getCar, the bean value would be car.
         // Then get the configuration for the bean value and decode it.
         // Save it into a cache for use with the proxy.
-        for (Method method : classMethods) {
-            String methodName = method.getName();
-            Type returnType = method.getGenericReturnType();
+        for (ProxyBindingPlan.MethodPlan method : plan.getMethods()) {
             boolean foundValue = false;
 
-            String name;
-
-            // if we have an annotation, use that for the path instead of the name.
-            Config configAnnotation = method.getAnnotation(Config.class);
-            if (configAnnotation != null && configAnnotation.path() != null && !configAnnotation.path().isEmpty()) {
-                name = configAnnotation.path();
-            } else {
-                name = getConfigNameFromMethod(methodName, returnType);
-            }
-
+            String name = method.getName();
             String nextPath = PathUtil.pathForKey(decoderContext.getDefaultLexer(), path, name);
 
             GResultOf<ConfigNode> configNode = decoderService.getNextNode(nextPath, name, node);
@@ -124,23 +105,23 @@ public final class ProxyDecoder implements Decoder<Object> {
 
             if (configNode.hasResults()) {
                 GResultOf<?> fieldGResultOf = decoderService.decodeNode(nextPath, tags, configNode.results(),
-                    TypeCapture.of(returnType), decoderContext);
+                    method.getType(), decoderContext);
 
                 errors.addAll(fieldGResultOf.getErrors());
                 if (fieldGResultOf.hasResults()) {
-                    methodResults.put(methodName, fieldGResultOf.results());
+                    methodResults[method.getIndex()] = fieldGResultOf.results();
                     foundValue = true;
                 }
             } else {
 
                 // if we have no value, check the config annotation for a default.
-                if (configAnnotation != null && configAnnotation.defaultVal() != null && !configAnnotation.defaultVal().isEmpty()) {
-                    GResultOf<?> defaultGResultOf = decoderService.decodeNode(nextPath, tags, new LeafNode(configAnnotation.defaultVal()),
-                        TypeCapture.of(returnType), decoderContext);
+                if (!method.getDefaultValue().isEmpty()) {
+                    GResultOf<?> defaultGResultOf = decoderService.decodeNode(nextPath, tags, new LeafNode(method.getDefaultValue()),
+                        method.getType(), decoderContext);
 
                     errors.addAll(defaultGResultOf.getErrors());
                     if (defaultGResultOf.hasResults()) {
-                        methodResults.put(methodName, defaultGResultOf.results());
+                        methodResults[method.getIndex()] = defaultGResultOf.results();
                         foundValue = true;
                         errors.add(new OptionalMissingValueDecoding(nextPath, node, name(), klass.getSimpleName(), decoderContext));
                     }
@@ -148,7 +129,7 @@ public final class ProxyDecoder implements Decoder<Object> {
                     // even though we have default value in the annotation lets try to decode the field,
                     // as it may be an optional that can support null values.
                     GResultOf<?> decodedResults = decoderService
-                        .decodeNode(nextPath, tags, configNode.results(), TypeCapture.of(returnType), decoderContext);
+                        .decodeNode(nextPath, tags, configNode.results(), method.getType(), decoderContext);
 
                     // if the decoder supported nullable types (such as optional) set the field to the value.
                     if (decodedResults.hasResults()) {
@@ -156,7 +137,7 @@ public final class ProxyDecoder implements Decoder<Object> {
                         errors.addAll(decodedResults.getErrorsNotLevel(ValidationLevel.MISSING_OPTIONAL_VALUE));
                         errors.add(new OptionalMissingValueDecoding(nextPath, node, name(), klass.getSimpleName(), decoderContext));
                         foundValue = true;
-                        methodResults.put(methodName, decodedResults.results());
+                        methodResults[method.getIndex()] = decodedResults.results();
                     }
                 }
             }
@@ -172,13 +153,13 @@ public final class ProxyDecoder implements Decoder<Object> {
         switch (proxyDecoderMode) {
 
             case PASSTHROUGH: {
-                proxyHandler = new ProxyPassThroughInvocationHandler(path, tags, decoderContext, config);
+                proxyHandler = new ProxyPassThroughInvocationHandler(path, tags, decoderContext, config, plan);
                 break;
             }
 
             case CACHE:
             default: {
-                proxyHandler = new ProxyCacheInvocationHandler(path, tags, decoderContext, config, methodResults);
+                proxyHandler = new ProxyCacheInvocationHandler(path, tags, decoderContext, config, plan, methodResults);
                 if (decoderContext.getGestalt() != null) {
                     decoderContext.getGestalt().registerListener((ProxyCacheInvocationHandler) proxyHandler);
                 }
@@ -196,68 +177,75 @@ public final class ProxyDecoder implements Decoder<Object> {
         protected final Tags tags;
         protected final DecoderContext decoderContext;
         protected final GestaltConfig config;
+        protected final ProxyBindingPlan plan;
+        // the path for each method, built the first time the method is called.
+        private final String[] methodPaths;
 
 
-        private ProxyPassThroughInvocationHandler(String path, Tags tags, DecoderContext decoderContext, GestaltConfig config) {
+        private ProxyPassThroughInvocationHandler(String path, Tags tags, DecoderContext decoderContext, GestaltConfig config,
+                                                  ProxyBindingPlan plan) {
             this.path = path;
             this.tags = tags;
             this.decoderContext = decoderContext;
             this.config = config;
+            this.plan = plan;
+            this.methodPaths = new String[plan.getMethods().size()];
         }
 
         @Override
         public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-            String methodName = method.getName();
-            Class<?> returnType = method.getReturnType();
+            ProxyBindingPlan.MethodPlan methodPlan = plan.getMethodPlan(method);
 
-            Optional<Object> result = retrieveConfig(proxy, method, args);
+            Optional<Object> result = retrieveConfig(proxy, methodPlan, args);
 
             Object gestaltResult = null;
 
             if (result.isPresent()) {
                 gestaltResult = result.get();
             } else {
-                Pair<Boolean, ?> optionalInfo = ClassUtils.isOptionalAndDefault(returnType);
-                if (optionalInfo.getFirst() && !config.isTreatMissingDiscretionaryValuesAsErrors()) {
-                    gestaltResult = optionalInfo.getSecond();
-                } else if (!config.isTreatMissingValuesAsErrors()) {
-                    if (returnType.isPrimitive()) {
-                        gestaltResult = ClassUtils.getDefaultValue(returnType);
-                    } else {
-                        //noinspection DataFlowIssue assigning null for ease of reading here
-                        gestaltResult = null;
-                    }
-                } else {
-                    throw new GestaltException("Failed to get pass through object from proxy config while calling method: " + methodName +
-                        " with type: " + returnType + " in path: " + path);
-                }
+                gestaltResult = missingValue(methodPlan, "Failed to get pass through object from proxy config while calling method: ");
             }
 
             return gestaltResult;
         }
 
-        protected Optional<Object> retrieveConfig(Object proxy, Method method, Object[] args) throws Throwable {
-            String methodName = method.getName();
-            boolean isDefault = method.isDefault();
-
-            Type genericType = method.getGenericReturnType();
-            Class<?> returnType = method.getReturnType();
+        protected Object missingValue(ProxyBindingPlan.MethodPlan methodPlan, String errorMessage) throws GestaltException {
+            Class<?> returnType = methodPlan.getMethod().getReturnType();
+            Pair<Boolean, ?> optionalInfo = ClassUtils.isOptionalAndDefault(returnType);
+            if (optionalInfo.getFirst() && !config.isTreatMissingDiscretionaryValuesAsErrors()) {
+                return optionalInfo.getSecond();
+            } else if (!config.isTreatMissingValuesAsErrors()) {
+                if (returnType.isPrimitive()) {
+                    return ClassUtils.getDefaultValue(returnType);
+                } else {
+                    return null;
+                }
+            } else {
+                throw new GestaltException(errorMessage + methodPlan.getMethod().getName() +
+                    " with type: " + returnType + " in path: " + path);
+            }
+        }
 
-            String name;
+        private String getMethodPath(ProxyBindingPlan.MethodPlan methodPlan) {
+            int index = methodPlan.getIndex();
+            if (index < 0) {
+                return PathUtil.pathForKey(decoderContext.getDefaultLexer(), path, methodPlan.getName());
+            }
 
-            // if we have an annotation, use that for the path instead of the name.
-            Config configAnnotation = method.getAnnotation(Config.class);
-            if (configAnnotation != null && configAnnotation.path() != null && !configAnnotation.path().isEmpty()) {
-                name = configAnnotation.path();
-            } else {
-                name = getConfigNameFromMethod(methodName, returnType);
+            String nextPath = methodPaths[index];
+            if (nextPath == null) {
+                nextPath = PathUtil.pathForKey(decoderContext.getDefaultLexer(), path, methodPlan.getName());
+                methodPaths[index] = nextPath;
             }
+            return nextPath;
+        }
 
-            String nextPath = PathUtil.pathForKey(decoderContext.getDefaultLexer(), path, name);
+        protected Optional<Object> retrieveConfig(Object proxy, ProxyBindingPlan.MethodPlan methodPlan, Object[] args) throws Throwable {
+            String nextPath = getMethodPath(methodPlan);
 
             Optional<Object> result = Optional.empty();
             if (decoderContext.getGestalt() != null) {
-                result = decoderContext.getGestalt().getConfigOptional(nextPath, TypeCapture.of(genericType), tags);
+                result = decoderContext.getGestalt().getConfigOptional(nextPath, methodPlan.getType(), tags);
             }
 
             if (result.isPresent()) {
@@ -265,10 +253,9 @@ public final class ProxyDecoder implements Decoder<Object> {
             } else {
 
                 // if we have no value, check the config annotation for a default.
-                if (configAnnotation != null && configAnnotation.defaultVal() != null &&
-                    !configAnnotation.defaultVal().isEmpty()) {
+                if (!methodPlan.getDefaultValue().isEmpty()) {
                     GResultOf<?> defaultGResultOf = decoderContext.getDecoderService()
-                        .decodeNode(nextPath, tags, new LeafNode(configAnnotation.defaultVal()), TypeCapture.of(returnType),
+                        .decodeNode(nextPath, tags, new LeafNode(methodPlan.getDefaultValue()), methodPlan.getReturnType(),
                             decoderContext);
 
                     if (defaultGResultOf.hasResults()) {
@@ -276,17 +263,8 @@ public final class ProxyDecoder implements Decoder<Object> {
                     }
                 }
 
-                if (isDefault) {
-                    var defaultResult = MethodHandles.lookup()
-                        .findSpecial(
-                            method.getDeclaringClass(),
-                            methodName,
-                            MethodType.methodType(returnType, new Class[0]),
-                            method.getDeclaringClass())
-                        .bindTo(proxy)
-                        .invokeWithArguments(args);
-
-                    return Optional.of(defaultResult);
+                if (methodPlan.isDefault()) {
+                    return Optional.of(methodPlan.invokeDefault(proxy, args));
                 }
             }
             return Optional.empty();
@@ -298,47 +276,38 @@ public final class ProxyDecoder implements Decoder<Object> {
         implements InvocationHandler, CoreReloadListener {
 
         private static final System.Logger logger = System.getLogger(ProxyCacheInvocationHandler.class.getName());
-        private final Map<String, Object> methodResults;
+        // the results for each method, indexed by the method index in the plan.
+        // Reads and writes race with reloads, which is safe as a missing result is retrieved again.
+        private final Object[] methodResults;
 
 
         private ProxyCacheInvocationHandler(String path, Tags tags, DecoderContext decoderContext, GestaltConfig config,
-                                            Map<String, Object> methodResults) {
-            super(path, tags, decoderContext, config);
+                                            ProxyBindingPlan plan, Object[] methodResults) {
+            super(path, tags, decoderContext, config, plan);
             this.methodResults = methodResults;
         }
 
         @Override
         public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-            String methodName = method.getName();
-            Class<?> returnType = method.getReturnType();
+            ProxyBindingPlan.MethodPlan methodPlan = plan.getMethodPlan(method);
+            int index = methodPlan.getIndex();
 
-            Object result = methodResults.get(methodName);
+            Object result = index >= 0 ? methodResults[index] : null;
             if (result != null) {
                 return result;
             } else {
-                Optional<Object> resultOptional = retrieveConfig(proxy, method, args);
+                Optional<Object> resultOptional = retrieveConfig(proxy, methodPlan, args);
 
                 Object gestaltResult = null;
                 if (resultOptional.isPresent()) {
                     gestaltResult = resultOptional.get();
                 } else {
-                    Pair<Boolean, ?> optionalInfo = ClassUtils.isOptionalAndDefault(returnType);
-                    if (optionalInfo.getFirst() && !config.isTreatMissingDiscretionaryValuesAsErrors()) {
-                        gestaltResult = optionalInfo.getSecond();
-                    } else if (!config.isTreatMissingValuesAsErrors()) {
-                        if (returnType.isPrimitive()) {
-                            gestaltResult = ClassUtils.getDefaultValue(returnType);
-                        } else {
-                            //noinspection DataFlowIssue assigning null for ease of reading here
-                            gestaltResult = null;
-                        }
-                    } else {
-                        throw new GestaltException("Failed to get cached object from proxy config while calling method: " + methodName +
-                            " with type: " + returnType + " in path: " + path);
-                    }
+                    gestaltResult = missingValue(methodPlan, "Failed to get cached object from proxy config while calling method: ");
                 }
 
-                methodResults.put(methodName, gestaltResult);
+                if (index >= 0) {
+                    methodResults[index] = gestaltResult;
+                }
 
                 return gestaltResult;
             }
@@ -347,7 +316,51 @@ public final class ProxyDecoder implements Decoder<Object> {
         @Override
         public void reload() {
             logger.log(System.Logger.Level.DEBUG, "Reloading received on Proxy Cache Listener. Clearing Cache");
-            methodResults.clear();
+            Arrays.fill(methodResults, null);
+        }
+
+        @Override
+        public void reload(ChangedPaths changedPaths) {
+            if (changedPaths.isEmpty()) {
+                return;
+            }
+
+            Set<Token> changedChildren = null;
+            if (!changedPaths.isAll() && decoderContext.getDefaultLexer() != null) {
+                GResultOf<List<Token>> pathTokens = decoderContext.getDefaultLexer().scan(path);
+                if (!pathTokens.hasErrors() && pathTokens.hasResults()) {
+                    changedChildren = changedPaths.getChangedChildren(pathTokens.results());
+                }
+            }
+
+            if (changedChildren == null) {
+                reload();
+            } else if (!changedChildren.isEmpty()) {
+                logger.log(System.Logger.Level.DEBUG, "Reloading received on Proxy Cache Listener. Clearing changed methods");
+                Set<String> changedNames = changedChildren.stream()
+                    .map(it -> it instanceof ObjectToken ? normalizeName(((ObjectToken) it).getName()) : "")
+                    .collect(Collectors.toSet());
+
+                // the method names may be mapped to the config names by a path mapper, such as kebab case,
+                // so compare the names without case or separators and clear any method that may match.
+                for (ProxyBindingPlan.MethodPlan methodPlan : plan.getMethods()) {
+                    String normalized = normalizeName(methodPlan.getName());
+                    if (changedNames.stream().anyMatch(it -> it.isEmpty() || normalized.startsWith(it) || it.startsWith(normalized))) {
+                        methodResults[methodPlan.getIndex()] = null;
+                    }
+                }
+            }
+        }
+
+        private static String normalizeName(String name) {
+            StringBuilder normalized = new StringBuilder(name.length());
+            for (int i = 0; i < name.length(); i++) {
+                char c = name.charAt(i);
+                if (Character.isLetterOrDigit(c)) {
+                    normalized.append(Character.toLowerCase(c));
+                }
+            }
+            return normalized.toString();
         }
     }
 }
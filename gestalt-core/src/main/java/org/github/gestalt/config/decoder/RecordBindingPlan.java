@@ -0,0 +1,147 @@
+package org.github.gestalt.config.decoder;
+
+import org.github.gestalt.config.annotations.Config;
+import org.github.gestalt.config.reflect.TypeCapture;
+import org.github.gestalt.config.utils.RecComponent;
+import org.github.gestalt.config.utils.RecordUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * The record components and canonical constructor needed to bind configuration to a record, resolved once per record and reused for
+ * every decode.
+ *
+ * <p>Plans are cached per record with a {@link ClassValue} for as long as this class is loaded. Each plan holds the record class,
+ * its accessors and the constructor handle, so a decoded record keeps its class loader from being unloaded.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2025.
+ */
+final class RecordBindingPlan {
+
+    private static final ClassValue<RecordBindingPlan> plans = new ClassValue<>() {
+        @Override
+        protected RecordBindingPlan computeValue(Class<?> type) {
+            return new RecordBindingPlan(type);
+        }
+    };
+
+    private final Class<?> klass;
+    private final List<ComponentPlan> components;
+    private final MethodHandle canonicalConstructor;
+    private final RuntimeException canonicalConstructorError;
+
+    private RecordBindingPlan(Class<?> klass) {
+        this.klass = klass;
+
+        RecComponent[] recordComponents = RecordUtils.recordComponents(klass, Comparator.comparing(RecComponent::index));
+        this.components = Arrays.stream(recordComponents)
+            .map(ComponentPlan::new)
+            .collect(Collectors.toUnmodifiableList());
+
+        MethodHandle constructor = null;
+        RuntimeException constructorError = null;
+        try {
+            constructor = RecordUtils.canonicalConstructor(klass, recordComponents);
+        } catch (RuntimeException e) {
+            // report the error when we try and construct the record, after the components have been decoded.
+            constructorError = e;
+        }
+        this.canonicalConstructor = constructor;
+        this.canonicalConstructorError = constructorError;
+    }
+
+    /**
+     * Get the binding plan for a record, building it the first time the record is decoded.
+     *
+     * @param klass the record to get the binding plan for.
+     * @return the binding plan for the record.
+     */
+    static RecordBindingPlan of(Class<?> klass) {
+        return plans.get(klass);
+    }
+
+    /**
+     * The record components in the order of the canonical constructor.
+     *
+     * @return the record components
+     */
+    List<ComponentPlan> getComponents() {
+        return components;
+    }
+
+    /**
+     * Create the record using the canonical constructor.
+     *
+     * @param values the values of the record components, in the order of the components.
+     * @return the record
+     */
+    Object newInstance(Object[] values) {
+        if (canonicalConstructorError != null) {
+            throw canonicalConstructorError;
+        }
+        return RecordUtils.invokeCanonicalConstructor(klass, canonicalConstructor, values);
+    }
+
+    /**
+     * A record component with its config name, default value, type and nullability.
+     */
+    static final class ComponentPlan {
+        private final String name;
+        private final String defaultValue;
+        private final TypeCapture<?> type;
+        private final boolean nullable;
+
+        private ComponentPlan(RecComponent rc) {
+            // if we have an annotation, use that for the path instead of the name.
+            Config configAnnotation = rc.getAccessor().getAnnotation(Config.class);
+            if (configAnnotation != null && configAnnotation.path() != null && !configAnnotation.path().isEmpty()) {
+                name = configAnnotation.path();
+            } else {
+                name = rc.name();
+            }
+
+            if (configAnnotation != null && configAnnotation.defaultVal() != null) {
+                defaultValue = configAnnotation.defaultVal();
+            } else {
+                defaultValue = "";
+            }
+
+            type = TypeCapture.of(rc.typeGeneric());
+
+            // check the record Components to see if it is annotated with nullable.
+            nullable = Arrays.stream(rc.getDeclaredAnnotations())
+                .anyMatch(it -> it.annotationType().getName().toLowerCase(Locale.ROOT).contains("nullable"));
+        }
+
+        /**
+         * The name of the component in the config, either the @Config path or the component name.
+         *
+         * @return name of the component in the config
+         */
+        String getName() {
+            return name;
+        }
+
+        /**
+         * The default value from the @Config annotation.
+         *
+         * @return the default value, or an empty string if there is none.
+         */
+        String getDefaultValue() {
+            return defaultValue;
+        }
+
+        TypeCapture<?> getType() {
+            return type;
+        }
+
+        boolean isNullable() {
+            return nullable;
+        }
+    }
+}
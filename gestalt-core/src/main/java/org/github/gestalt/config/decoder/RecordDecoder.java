@@ -1,6 +1,5 @@
 package org.github.gestalt.config.decoder;
 
-import org.github.gestalt.config.annotations.Config;
 import org.github.gestalt.config.entity.ValidationError;
 import org.github.gestalt.config.entity.ValidationError.OptionalMissingValueDecoding;
 import org.github.gestalt.config.entity.ValidationLevel;
@@ -11,12 +10,10 @@ import org.github.gestalt.config.reflect.TypeCapture;
 import org.github.gestalt.config.tag.Tags;
 import org.github.gestalt.config.utils.GResultOf;
 import org.github.gestalt.config.utils.PathUtil;
-import org.github.gestalt.config.utils.RecComponent;
 import org.github.gestalt.config.utils.RecordUtils;
 
-import java.lang.annotation.Annotation;
-import java.lang.reflect.Type;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Decoder support for Java Records.
@@ -40,6 +37,11 @@ public final class RecordDecoder implements Decoder<Object> {
         return RecordUtils.isRecord(type.getRawType());
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @Override
     public GResultOf<Object> decode(String path, Tags tags, ConfigNode node, TypeCapture<?> type, DecoderContext decoderContext) {
         if (!(node instanceof MapNode)) {
@@ -50,26 +52,19 @@ public final class RecordDecoder implements Decoder<Object> {
         Class<?> klass = type.getRawType();
         DecoderService decoderService = decoderContext.getDecoderService();
 
-        final RecComponent[] recordComponents = RecordUtils.recordComponents(klass, Comparator.comparing(RecComponent::index));
-        final Object[] values = new Object[recordComponents.length];
-        for (int i = 0; i < recordComponents.length; i++) {
-            final RecComponent rc = recordComponents[i];
+        // the record components are resolved once and reused across decodes and reloads.
+        RecordBindingPlan plan = RecordBindingPlan.of(klass);
+        List<RecordBindingPlan.ComponentPlan> components = plan.getComponents();
+        final Object[] values = new Object[components.size()];
+        for (int i = 0; i < values.length; i++) {
+            final RecordBindingPlan.ComponentPlan component = components.get(i);
             boolean foundValue = false;
 
-            String name = rc.name();
-
-            Annotation[] annotations = rc.getDeclaredAnnotations();
-
-            // if we have an annotation, use that for the path instead of the name.
-            Config configAnnotation = rc.getAccessor().getAnnotation(Config.class);
-            if (configAnnotation != null && configAnnotation.path() != null && !configAnnotation.path().isEmpty()) {
-                name = configAnnotation.path();
-            }
-            Type fieldClass = rc.typeGeneric();
+            String name = component.getName();
             String nextPath = PathUtil.pathForKey(decoderContext.getDefaultLexer(), path, name);
 
             GResultOf<ConfigNode> configNode = decoderService.getNextNode(nextPath, name, node);
-            var typeCapture = TypeCapture.of(fieldClass);
+            var typeCapture = component.getType();
 
             // Add any errors that are not missing value ones.
             errors.addAll(configNode.getErrorsNotLevel(ValidationLevel.MISSING_VALUE));
@@ -83,9 +78,9 @@ public final class RecordDecoder implements Decoder<Object> {
                 }
             } else {
                 // if we have no value, check the config annotation for a default.
-                if (configAnnotation != null && configAnnotation.defaultVal() != null && !configAnnotation.defaultVal().isEmpty()) {
+                if (!component.getDefaultValue().isEmpty()) {
                     GResultOf<?> defaultGResultOf =
-                        decoderService.decodeNode(nextPath, tags, new LeafNode(configAnnotation.defaultVal()), typeCapture, decoderContext);
+                        decoderService.decodeNode(nextPath, tags, new LeafNode(component.getDefaultValue()), typeCapture, decoderContext);
 
                     errors.addAll(defaultGResultOf.getErrors());
                     if (defaultGResultOf.hasResults()) {
@@ -110,10 +105,8 @@ public final class RecordDecoder implements Decoder<Object> {
 
             if (!foundValue) {
                 // check the record Components to see if it is annotated with nullable.
-                boolean isNullable = isNullableAnnotation(annotations);
-
                 values[i] = null;
-                if (!isNullable) {
+                if (!component.isNullable()) {
                     errors.add(new ValidationError.NoResultsFoundForNode(nextPath, klass.getSimpleName(), "record decoding"));
                 } else {
                     errors.add(new OptionalMissingValueDecoding(nextPath, node, name(), klass.getSimpleName(), decoderContext));
@@ -121,11 +114,6 @@ public final class RecordDecoder implements Decoder<Object> {
             }
         }
 
-        return GResultOf.resultOf(RecordUtils.invokeCanonicalConstructor(klass, recordComponents, values), errors);
-    }
-
-    private static boolean isNullableAnnotation(Annotation[] fieldAnnotations) {
-        return Arrays.stream(fieldAnnotations)
-            .anyMatch(it -> it.annotationType().getName().toLowerCase(Locale.ROOT).contains("nullable"));
+        return GResultOf.resultOf(plan.newInstance(values), errors);
     }
 }
@@ -7,8 +7,6 @@ import org.github.gestalt.config.tag.Tags;
 import org.github.gestalt.config.utils.GResultOf;
 import org.github.gestalt.config.utils.SealedClassUtil;
 
-import java.lang.reflect.Field;
-
 import static java.lang.Math.abs;
 import static org.github.gestalt.config.utils.SealedClassUtil.getPermittedSubclasses;
 
@@ -19,6 +17,33 @@ import static org.github.gestalt.config.utils.SealedClassUtil.getPermittedSubcla
  */
 public final class SealedDecoder implements Decoder<Object> {
 
+    // the permitted subclasses of a sealed class do not change, so only look them up once per sealed class.
+    private static final ClassValue<TypeCapture<?>[]> candidateTypes = new ClassValue<>() {
+        @Override
+        protected TypeCapture<?>[] computeValue(Class<?> type) {
+            Class<?>[] permittedSubclasses = getPermittedSubclasses(type);
+            TypeCapture<?>[] candidates = new TypeCapture<?>[permittedSubclasses.length];
+            for (int i = 0; i < permittedSubclasses.length; i++) {
+                candidates[i] = TypeCapture.of(permittedSubclasses[i]);
+            }
+            return candidates;
+        }
+    };
+
+    // number of fields in a class including its super classes, used to score the candidates.
+    private static final ClassValue<Integer> fieldCounts = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            int fieldCount = 0;
+            Class<?> currentClass = type;
+            while (currentClass != null) {
+                fieldCount += currentClass.getDeclaredFields().length;
+                currentClass = currentClass.getSuperclass();
+            }
+            return fieldCount;
+        }
+    };
+
     @Override
     public Priority priority() {
         return Priority.MEDIUM;
@@ -34,11 +59,16 @@ public final class SealedDecoder implements Decoder<Object> {
         return SealedClassUtil.isSealed(type.getRawType());
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public GResultOf<Object> decode(String path, Tags tags, ConfigNode node, TypeCapture<?> type, DecoderContext decoderContext) {
 
-        Class<?>[] candidates = getPermittedSubclasses(type.getRawType());
+        TypeCapture<?>[] candidates = candidateTypes.get(type.getRawType());
         if (candidates.length == 0) {
             return GResultOf.errors(new ValidationError.NoPermittedClassesInSealedClass(type.getName(), path));
         }
@@ -46,8 +76,8 @@ public final class SealedDecoder implements Decoder<Object> {
         // Score each candidate by the number of errors while decoding and return the best one.
         GResultOf<Object> best = null;
         int bestScore = Integer.MAX_VALUE;
-        for (Class<?> cand : candidates) {
-            var candidateDecoded = decoderContext.getDecoderService().decodeNode(path, tags, node, TypeCapture.of(cand), decoderContext);
+        for (TypeCapture<?> cand : candidates) {
+            var candidateDecoded = decoderContext.getDecoderService().decodeNode(path, tags, node, cand, decoderContext);
 
             if (!candidateDecoded.hasResults() && bestScore < Integer.MAX_VALUE) {
                 best = (GResultOf<Object>) candidateDecoded;
@@ -83,13 +113,7 @@ public final class SealedDecoder implements Decoder<Object> {
             }).reduce(0, Integer::sum);
 
             // add to the score the difference in number of fields between the node and the candidate class
-            int fieldCount = 0;
-            Class<?> currentClass = candidateDecoded.results().getClass();
-            while (currentClass != null) {
-                final Field[] fields = currentClass.getDeclaredFields();
-                fieldCount += fields.length;
-                currentClass = currentClass.getSuperclass();
-            }
+            int fieldCount = fieldCounts.get(candidateDecoded.results().getClass());
             score = score + abs(node.size() - fieldCount) * 2;
 
             if (score < bestScore) {
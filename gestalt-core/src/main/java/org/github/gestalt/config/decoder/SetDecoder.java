@@ -47,6 +47,11 @@ public final class SetDecoder extends CollectionDecoder<Set<?>> {
         return Set.class.isAssignableFrom(type.getRawType()) && type.hasParameter();
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     protected GResultOf<Set<?>> arrayDecode(String path, Tags tags, ConfigNode node, TypeCapture<?> klass, DecoderContext decoderContext) {
@@ -29,6 +29,11 @@ public final class ShortDecoder extends LeafDecoder<Short> {
         return Short.class.isAssignableFrom(type.getRawType()) || short.class.isAssignableFrom(type.getRawType());
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @Override
     protected GResultOf<Short> leafDecode(String path, ConfigNode node, DecoderContext decoderContext) {
         GResultOf<Short> results;
@@ -41,6 +41,11 @@ public final class StringConstructorDecoder implements Decoder<Object> {
             .anyMatch(it -> it.getParameterCount() == 1 && it.getParameters()[0].getType().equals(String.class));
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     /**
      * Decode the current node. If the current node is a class or list we may need to decode sub nodes.
      *
@@ -27,6 +27,11 @@ public final class StringDecoder extends LeafDecoder<String> {
         return String.class.isAssignableFrom(type.getRawType());
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @Override
     protected GResultOf<String> leafDecode(String path, ConfigNode node, DecoderContext decoderContext) {
         return GResultOf.result(node.getValue().orElse(""));
@@ -31,6 +31,11 @@ public final class URIDecoder extends LeafDecoder<URI> {
         return URI.class.isAssignableFrom(type.getRawType());
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @Override
     protected GResultOf<URI> leafDecode(String path, ConfigNode node, DecoderContext decoderContext) {
         var value = node.getValue().orElse("");
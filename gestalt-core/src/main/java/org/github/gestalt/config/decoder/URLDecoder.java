@@ -31,6 +31,11 @@ public final class URLDecoder extends LeafDecoder<URL> {
         return URL.class.isAssignableFrom(type.getRawType());
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @Override
     protected GResultOf<URL> leafDecode(String path, ConfigNode node, DecoderContext decoderContext) {
         var value = node.getValue().orElse("");
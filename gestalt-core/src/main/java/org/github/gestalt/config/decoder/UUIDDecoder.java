@@ -30,6 +30,11 @@ public final class UUIDDecoder extends LeafDecoder<UUID> {
         return UUID.class.isAssignableFrom(type.getRawType());
     }
 
+    @Override
+    public boolean isCanDecodeCacheable() {
+        return true;
+    }
+
     @Override
     protected GResultOf<UUID> leafDecode(String path, ConfigNode node, DecoderContext decoderContext) {
         String value = node.getValue().orElse("");
@@ -3,6 +3,7 @@ package org.github.gestalt.config.entity;
 import org.github.gestalt.config.decoder.DecoderContext;
 import org.github.gestalt.config.exceptions.GestaltException;
 import org.github.gestalt.config.reflect.TypeCapture;
+import org.github.gestalt.config.reload.ChangedPaths;
 import org.github.gestalt.config.reload.CoreReloadListener;
 import org.github.gestalt.config.tag.Tags;
 
@@ -68,4 +69,11 @@ public class ConfigContainer<T> implements CoreReloadListener {
                 ", and class: " + klass.getName());
         }
     }
+
+    @Override
+    public void reload(ChangedPaths changedPaths) {
+        if (changedPaths.isChanged(path)) {
+            reload();
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package org.github.gestalt.config.entity;
 
 import org.github.gestalt.config.decoder.ProxyDecoderMode;
+import org.github.gestalt.config.lexer.CompiledPathCache;
 import org.github.gestalt.config.lexer.PathLexer;
 import org.github.gestalt.config.lexer.SentenceLexer;
 import org.github.gestalt.config.processor.config.annotation.AnnotationConfigNodeProcessor;
@@ -9,6 +10,7 @@ import org.github.gestalt.config.processor.config.transform.StringSubstitutionPr
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * Configuration for Gestalt.
@@ -73,6 +75,27 @@ public class GestaltConfig {
     // The sentence lexer used for gestalt.
     private SentenceLexer sentenceLexer = new PathLexer();
 
+    // The maximum number of paths to keep compiled into tokens, so they are not lexed on every request.
+    private int compiledPathCacheSize = CompiledPathCache.DEFAULT_MAX_ENTRIES;
+
+    // The maximum number of configurations to keep in the cache, if 0 or less the cache is unbounded.
+    private int cacheMaxEntries = 0;
+
+    // If the cache should also cache lookups that did not find a value, until the next reload.
+    private boolean cacheNegativeResults = true;
+
+    // If the config sources should be loaded in parallel, then merged in the order they were declared.
+    private boolean parallelSourceLoading = false;
+
+    // The executor used to load the config sources in parallel, if null a default executor is used for each load.
+    private Executor sourceLoadingExecutor = null;
+
+    // If the config trees should be compacted once built, to reduce the memory used by large configs.
+    private boolean compactConfigNodes = false;
+
+    // The executor used to run the asynchronous reloads, if null a shared default executor is used.
+    private Executor reloadExecutor = null;
+
     /**
      * Treat all warnings as errors.
      *
@@ -562,6 +585,141 @@ public class GestaltConfig {
         this.sentenceLexer = sentenceLexer;
     }
 
+    /**
+     * Get the maximum number of paths to keep compiled into tokens, so they are not lexed on every request.
+     *
+     * @return the maximum number of paths to keep compiled into tokens
+     */
+    public int getCompiledPathCacheSize() {
+        return compiledPathCacheSize;
+    }
+
+    /**
+     * Set the maximum number of paths to keep compiled into tokens, so they are not lexed on every request.
+     * If 0 or less, paths are not cached.
+     *
+     * @param compiledPathCacheSize the maximum number of paths to keep compiled into tokens
+     */
+    public void setCompiledPathCacheSize(int compiledPathCacheSize) {
+        this.compiledPathCacheSize = compiledPathCacheSize;
+    }
+
+    /**
+     * Get the maximum number of configurations to keep in the cache, if 0 or less the cache is unbounded.
+     *
+     * @return the maximum number of configurations to keep in the cache
+     */
+    public int getCacheMaxEntries() {
+        return cacheMaxEntries;
+    }
+
+    /**
+     * Set the maximum number of configurations to keep in the cache.
+     * Once the cache is full the least recently used configurations are evicted. If 0 or less the cache is unbounded.
+     *
+     * @param cacheMaxEntries the maximum number of configurations to keep in the cache
+     */
+    public void setCacheMaxEntries(int cacheMaxEntries) {
+        this.cacheMaxEntries = cacheMaxEntries;
+    }
+
+    /**
+     * If the cache should also cache lookups that did not find a value, until the next reload.
+     *
+     * @return if the cache should also cache lookups that did not find a value
+     */
+    public boolean isCacheNegativeResults() {
+        return cacheNegativeResults;
+    }
+
+    /**
+     * Set if the cache should also cache lookups that did not find a value, until the next reload.
+     * This makes repeated lookups of missing optional values or values with defaults as cheap as a cache hit.
+     *
+     * @param cacheNegativeResults if the cache should also cache lookups that did not find a value
+     */
+    public void setCacheNegativeResults(boolean cacheNegativeResults) {
+        this.cacheNegativeResults = cacheNegativeResults;
+    }
+
+    /**
+     * If the config sources should be loaded in parallel, then merged in the order they were declared.
+     *
+     * @return if the config sources should be loaded in parallel
+     */
+    public boolean isParallelSourceLoading() {
+        return parallelSourceLoading;
+    }
+
+    /**
+     * Set if the config sources should be loaded in parallel when calling loadConfigs.
+     * The sources are fetched and parsed concurrently, then merged in the order they were declared,
+     * so later sources still override earlier ones.
+     *
+     * @param parallelSourceLoading if the config sources should be loaded in parallel
+     */
+    public void setParallelSourceLoading(boolean parallelSourceLoading) {
+        this.parallelSourceLoading = parallelSourceLoading;
+    }
+
+    /**
+     * Get the executor used to load the config sources in parallel.
+     *
+     * @return the executor used to load the config sources in parallel, or null to use the default
+     */
+    public Executor getSourceLoadingExecutor() {
+        return sourceLoadingExecutor;
+    }
+
+    /**
+     * Set the executor used to load the config sources in parallel.
+     * If null, each load uses virtual threads when running on Java 21 or newer, otherwise a daemon thread per source.
+     *
+     * @param sourceLoadingExecutor the executor used to load the config sources in parallel
+     */
+    public void setSourceLoadingExecutor(Executor sourceLoadingExecutor) {
+        this.sourceLoadingExecutor = sourceLoadingExecutor;
+    }
+
+    /**
+     * If the config trees should be compacted once built, to reduce the memory used by large configs.
+     *
+     * @return if the config trees should be compacted
+     */
+    public boolean isCompactConfigNodes() {
+        return compactConfigNodes;
+    }
+
+    /**
+     * Set if the config trees should be compacted once built.
+     * The maps in the tree are stored in arrays rather than hash maps, and equal keys and values are only stored once.
+     * This reduces the memory used by large configs, at the cost of compacting the tree when the configs are loaded or reloaded.
+     *
+     * @param compactConfigNodes if the config trees should be compacted
+     */
+    public void setCompactConfigNodes(boolean compactConfigNodes) {
+        this.compactConfigNodes = compactConfigNodes;
+    }
+
+    /**
+     * Get the executor used to run the asynchronous reloads.
+     *
+     * @return the executor used to run the asynchronous reloads, or null to use the default
+     */
+    public Executor getReloadExecutor() {
+        return reloadExecutor;
+    }
+
+    /**
+     * Set the executor used to run the asynchronous reloads, see {@link org.github.gestalt.config.Gestalt#reloadAsync}.
+     * If null, the reloads run one at a time on a daemon thread shared by all Gestalt instances.
+     *
+     * @param reloadExecutor the executor used to run the asynchronous reloads
+     */
+    public void setReloadExecutor(Executor reloadExecutor) {
+        this.reloadExecutor = reloadExecutor;
+    }
+
     /**
      * Register an external module configuration.
      *
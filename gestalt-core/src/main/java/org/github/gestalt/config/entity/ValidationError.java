@@ -812,6 +812,8 @@ public abstract class ValidationError {
         private final String path;
         private final String area;
         private String klass;
+        // the class name is only looked up if the description is used.
+        private Class<?> klassType;
 
         public NoResultsFoundForNode(String path, String area) {
             super(ValidationLevel.MISSING_VALUE);
@@ -829,13 +831,15 @@ public abstract class ValidationError {
         public NoResultsFoundForNode(String path, Class<?> klass, String area) {
             super(ValidationLevel.MISSING_VALUE);
             this.path = path;
-            this.klass = klass.getSimpleName();
+            this.klassType = klass;
             this.area = area;
         }
 
         @Override
         public String description() {
-            if (klass != null) {
+            if (klassType != null) {
+                return "Unable to find node matching path: " + path + ", for class: " + klassType.getSimpleName() + ", during " + area;
+            } else if (klass != null) {
                 return "Unable to find node matching path: " + path + ", for class: " + klass + ", during " + area;
             } else {
                 return "Unable to find node matching path: " + path + ", during " + area;
@@ -0,0 +1,110 @@
+package org.github.gestalt.config.lexer;
+
+import org.github.gestalt.config.entity.ValidationError;
+import org.github.gestalt.config.token.Token;
+import org.github.gestalt.config.utils.GResultOf;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A path that has already been scanned by a SentenceLexer into its normalized tokens.
+ * It is immutable, so it can be shared by every lookup for the same path.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2025.
+ */
+public final class CompiledPath {
+    private final String path;
+    private final Token[] tokens;
+    private final List<Token> tokenList;
+    private final List<ValidationError> errors;
+    private final GResultOf<List<Token>> result;
+
+    /**
+     * Create a compiled path from the results of scanning a path.
+     *
+     * @param path    the path that was scanned
+     * @param scanned the results of scanning the path
+     */
+    public CompiledPath(String path, GResultOf<List<Token>> scanned) {
+        Objects.requireNonNull(scanned);
+        this.path = path;
+        this.tokens = scanned.hasResults() ? scanned.results().toArray(new Token[0]) : new Token[0];
+        this.tokenList = List.of(tokens);
+        this.errors = List.copyOf(scanned.getErrors());
+        this.result = scanned.hasResults() ? GResultOf.resultOf(tokenList, errors) : GResultOf.errors(errors);
+    }
+
+    /**
+     * Get the path that was compiled.
+     *
+     * @return the path that was compiled
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Get the immutable list of tokens for the path.
+     *
+     * @return the immutable list of tokens for the path
+     */
+    public List<Token> getTokens() {
+        return tokenList;
+    }
+
+    /**
+     * Get a token by index.
+     *
+     * @param index index of the token
+     * @return the token at the index
+     */
+    public Token getToken(int index) {
+        return tokens[index];
+    }
+
+    /**
+     * The number of tokens in the path.
+     *
+     * @return the number of tokens in the path
+     */
+    public int size() {
+        return tokens.length;
+    }
+
+    /**
+     * If there were any errors scanning the path.
+     *
+     * @return if there were any errors scanning the path
+     */
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+
+    /**
+     * Get any errors from scanning the path.
+     *
+     * @return any errors from scanning the path
+     */
+    public List<ValidationError> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Get the path as a GResultOf, the same as if it was returned from {@link SentenceLexer#scan(String)}.
+     * The same instance is returned for every call.
+     *
+     * @return the tokens and errors as a GResultOf
+     */
+    public GResultOf<List<Token>> toResult() {
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledPath{" +
+            "path='" + path + '\'' +
+            ", tokens=" + tokenList +
+            '}';
+    }
+}
@@ -0,0 +1,252 @@
+package org.github.gestalt.config.lexer;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A bounded concurrent cache of paths to their compiled tokens, so paths are only lexed once and not on every lookup.
+ * Paths can be combined with a prefix (such as a {@link org.github.gestalt.config.annotations.ConfigPrefix}),
+ * the prefix is appended to the path with the normalized delimiter before compiling.
+ *
+ * <p>The cache is bounded by the maximum number of entries, once it is full it is cleared and starts again.
+ * This keeps the memory bounded if paths are dynamically generated, while the hot paths are quickly re-cached.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2025.
+ */
+public final class CompiledPathCache {
+    /**
+     * Default maximum number of paths to cache.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    private final SentenceLexer lexer;
+    private final int maxEntries;
+    private final Map<String, CompiledPath> paths = new ConcurrentHashMap<>();
+    private final Map<String, PrefixedPaths> prefixedPaths = new ConcurrentHashMap<>();
+    private final Function<String, CompiledPath> compilePath = it -> compileMiss(it, "");
+    private final Function<String, PrefixedPaths> newPrefixedPaths = PrefixedPaths::new;
+    // the number of paths cached, kept as they are added so it is not counted on every lookup.
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Create a compiled path cache with the default maximum number of entries.
+     *
+     * @param lexer lexer used to compile the paths.
+     */
+    public CompiledPathCache(SentenceLexer lexer) {
+        this(lexer, DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Create a compiled path cache.
+     *
+     * @param lexer      lexer used to compile the paths.
+     * @param maxEntries maximum number of paths to cache, if 0 or less nothing is cached.
+     */
+    public CompiledPathCache(SentenceLexer lexer, int maxEntries) {
+        this.lexer = Objects.requireNonNull(lexer);
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Get the lexer used to compile the paths.
+     *
+     * @return the lexer used to compile the paths
+     */
+    public SentenceLexer getLexer() {
+        return lexer;
+    }
+
+    /**
+     * Get the compiled path if it is in the cache, does not record a hit or miss.
+     *
+     * @param path the path to look up
+     * @param prefix the prefix for the path, or an empty string if there is none
+     * @return the compiled path or null if it is not in the cache
+     */
+    public CompiledPath getIfPresent(String path, String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            return paths.get(path);
+        }
+
+        PrefixedPaths prefixed = prefixedPaths.get(prefix);
+        return prefixed != null ? prefixed.paths.get(path) : null;
+    }
+
+    /**
+     * Get the compiled path for a path, compiling and caching it if needed.
+     *
+     * @param path the path to compile
+     * @return the compiled path
+     */
+    public CompiledPath compile(String path) {
+        return compile(path, "");
+    }
+
+    /**
+     * Get the compiled path for a path with a prefix, compiling and caching it if needed.
+     *
+     * @param path   the path to compile
+     * @param prefix the prefix for the path, or an empty string if there is none
+     * @return the compiled path
+     */
+    public CompiledPath compile(String path, String prefix) {
+        Objects.requireNonNull(path);
+        if (maxEntries <= 0) {
+            lookups.increment();
+            misses.increment();
+            return newCompiledPath(path, prefix);
+        } else if (prefix == null || prefix.isEmpty()) {
+            return lookup(paths, path, prefix, compilePath);
+        }
+
+        PrefixedPaths prefixed = prefixedPaths.computeIfAbsent(prefix, newPrefixedPaths);
+        return lookup(prefixed.paths, path, prefix, prefixed.compilePath);
+    }
+
+    /**
+     * Get the compiled path for a path with a prefix, compiling and caching it if needed,
+     * and tell the listener if the path was found in the cache.
+     *
+     * @param path     the path to compile
+     * @param prefix   the prefix for the path, or an empty string if there is none
+     * @param listener notified if the path was found in the cache or had to be compiled.
+     * @return the compiled path
+     */
+    public CompiledPath compile(String path, String prefix, LookupListener listener) {
+        Objects.requireNonNull(path);
+        Objects.requireNonNull(listener);
+        if (maxEntries <= 0) {
+            listener.lookup(false);
+            return compile(path, prefix);
+        }
+
+        boolean[] compiled = new boolean[1];
+        Map<String, CompiledPath> cached;
+        Function<String, CompiledPath> compiler;
+        if (prefix == null || prefix.isEmpty()) {
+            cached = paths;
+            compiler = compilePath;
+        } else {
+            PrefixedPaths prefixed = prefixedPaths.computeIfAbsent(prefix, newPrefixedPaths);
+            cached = prefixed.paths;
+            compiler = prefixed.compilePath;
+        }
+
+        CompiledPath compiledPath = lookup(cached, path, prefix, it -> {
+            compiled[0] = true;
+            return compiler.apply(it);
+        });
+        listener.lookup(!compiled[0]);
+        return compiledPath;
+    }
+
+    /**
+     * Find the path in the cache with a single lookup, compiling it if it is missing.
+     * If the cache is full it is cleared, keeping only the path just compiled.
+     */
+    private CompiledPath lookup(Map<String, CompiledPath> cached, String path, String prefix,
+                                Function<String, CompiledPath> compiler) {
+        lookups.increment();
+        CompiledPath compiledPath = cached.computeIfAbsent(path, compiler);
+
+        if (size.get() > maxEntries) {
+            clear();
+            Map<String, CompiledPath> restarted = prefix == null || prefix.isEmpty() ? paths :
+                prefixedPaths.computeIfAbsent(prefix, newPrefixedPaths).paths;
+            if (restarted.putIfAbsent(path, compiledPath) == null) {
+                size.incrementAndGet();
+            }
+        }
+
+        return compiledPath;
+    }
+
+    private CompiledPath compileMiss(String path, String prefix) {
+        misses.increment();
+        size.incrementAndGet();
+        return newCompiledPath(path, prefix);
+    }
+
+    private CompiledPath newCompiledPath(String path, String prefix) {
+        String combinedPath = combinePath(path, prefix);
+        return new CompiledPath(combinedPath, lexer.scan(combinedPath));
+    }
+
+    private String combinePath(String path, String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            return path;
+        } else if (path.isEmpty()) {
+            return prefix;
+        } else {
+            return path + lexer.getNormalizedDeliminator() + prefix;
+        }
+    }
+
+    /**
+     * Number of paths currently cached.
+     *
+     * @return number of paths currently cached
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Remove all cached paths.
+     */
+    public void clear() {
+        paths.clear();
+        prefixedPaths.clear();
+        size.set(0);
+    }
+
+    /**
+     * Number of times a path was found in the cache.
+     *
+     * @return number of times a path was found in the cache
+     */
+    public long getHitCount() {
+        return Math.max(0, lookups.sum() - misses.sum());
+    }
+
+    /**
+     * Number of times a path was not found in the cache and had to be compiled.
+     *
+     * @return number of times a path was not found in the cache and had to be compiled
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Listener for if a path was found in the cache.
+     */
+    @FunctionalInterface
+    public interface LookupListener {
+        /**
+         * Called after looking up a path.
+         *
+         * @param hit true if the path was found in the cache, false if it had to be compiled.
+         */
+        void lookup(boolean hit);
+    }
+
+    /**
+     * The paths cached for a prefix, with the function to compile a missing path with the prefix.
+     */
+    private final class PrefixedPaths {
+        private final Map<String, CompiledPath> paths = new ConcurrentHashMap<>();
+        private final Function<String, CompiledPath> compilePath;
+
+        PrefixedPaths(String prefix) {
+            this.compilePath = it -> compileMiss(it, prefix);
+        }
+    }
+}
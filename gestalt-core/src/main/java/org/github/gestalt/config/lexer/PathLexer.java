@@ -7,8 +7,10 @@ import org.github.gestalt.config.token.Token;
 import org.github.gestalt.config.utils.GResultOf;
 import org.github.gestalt.config.utils.StringUtils;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -28,6 +30,23 @@ public final class PathLexer extends SentenceLexer {
      */
     public static final String DEFAULT_EVALUATOR = "^((?<name>[\\w .,+=\\-;:\"'`~!@#$%^&*()\\<>]+)(?<array>\\[(?<index>\\d*)])?)$";
     public static final String DELIMITER_DEFAULT = ".";
+
+    // ascii characters allowed in a name by the DEFAULT_EVALUATOR.
+    private static final boolean[] DEFAULT_NAME_CHARS = new boolean[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            DEFAULT_NAME_CHARS[c] = true;
+            DEFAULT_NAME_CHARS[Character.toUpperCase(c)] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            DEFAULT_NAME_CHARS[c] = true;
+        }
+        for (char c : "_ .,+=-;:\"'`~!@#$%^&*()<>".toCharArray()) {
+            DEFAULT_NAME_CHARS[c] = true;
+        }
+    }
+
     private final Pattern pathPattern;
     private final String normalizedDelimiter;
     private final String normalizedArrayOpenTag;
@@ -36,6 +55,8 @@ public final class PathLexer extends SentenceLexer {
     private final String delimiter;
     private final Pattern delimiterRegex;
     private final SentenceNormalizer sentenceNormalizer;
+    // the single character delimiter if we can scan the sentence without regex, otherwise 0.
+    private final char scannerDelimiter;
 
     /**
      * Build a path lexer to tokenize a path.
@@ -109,6 +130,27 @@ public final class PathLexer extends SentenceLexer {
         this.normalizedArrayOpenTag = normalizedArrayOpenTag;
         this.normalizedArrayCloseTag = normalizedArrayCloseTag;
         this.normalizedMapTag = normalizedMapTag;
+        this.scannerDelimiter = defaultScannerDelimiter(delimiter, pathPatternRegex, sentenceNormalizer);
+    }
+
+    /**
+     * If the lexer is using the default path pattern, the lower case normalizer and a single character delimiter
+     * we can scan sentences directly on the characters, rather than splitting and matching them with regex.
+     *
+     * @return the delimiter for the scanner, or 0 if the sentences need to be scanned with regex.
+     */
+    private static char defaultScannerDelimiter(String delimiter, String pathPatternRegex, SentenceNormalizer sentenceNormalizer) {
+        if (delimiter.length() != 1 || !DEFAULT_EVALUATOR.equals(pathPatternRegex) || sentenceNormalizer == null ||
+            !LowerCaseSentenceNormalizer.class.equals(sentenceNormalizer.getClass())) {
+            return 0;
+        }
+
+        char delimiterChar = delimiter.charAt(0);
+        if (delimiterChar == 0 || delimiterChar >= 128 || delimiterChar == '[' || delimiterChar == ']' ||
+            (delimiterChar >= '0' && delimiterChar <= '9')) {
+            return 0;
+        }
+        return delimiterChar;
     }
 
     @Override
@@ -186,6 +228,90 @@ public final class PathLexer extends SentenceLexer {
         return results;
     }
 
+    @Override
+    public GResultOf<List<Token>> scan(String sentence) {
+        if (scannerDelimiter != 0 && sentence != null) {
+            List<Token> tokens = scanDefault(sentence);
+            if (tokens != null) {
+                return GResultOf.result(tokens);
+            }
+        }
+
+        return super.scan(sentence);
+    }
+
+    /**
+     * Scan a sentence for the default path pattern in a single pass over the characters.
+     * Only handles valid ascii sentences such as abc.def[3], anything else returns null
+     * so it is scanned with regex to get the same results and errors.
+     *
+     * @param sentence sentence to scan
+     * @return list of tokens, or null if the sentence should be scanned with regex.
+     */
+    private List<Token> scanDefault(String sentence) {
+        int length = sentence.length();
+        if (length == 0) {
+            return null;
+        }
+
+        List<Token> tokens = new ArrayList<>(4);
+        int start = 0;
+        while (true) {
+            // scan the name, until the delimiter or the start of an array.
+            int end = start;
+            boolean hasUpperCase = false;
+            for (; end < length; end++) {
+                char c = sentence.charAt(end);
+                if (c == scannerDelimiter || c == '[') {
+                    break;
+                } else if (c >= 128 || !DEFAULT_NAME_CHARS[c]) {
+                    return null;
+                }
+                hasUpperCase = hasUpperCase || (c >= 'A' && c <= 'Z');
+            }
+
+            if (end == start) {
+                return null;
+            }
+
+            String name = sentence.substring(start, end);
+            tokens.add(new ObjectToken(hasUpperCase ? name.toLowerCase(Locale.ROOT) : name));
+
+            // scan the array index, if there is one.
+            if (end < length && sentence.charAt(end) == '[') {
+                int index = 0;
+                int digits = 0;
+                for (end++; end < length && sentence.charAt(end) >= '0' && sentence.charAt(end) <= '9'; end++) {
+                    // leave large indexes to the regex so they fail the same way.
+                    if (++digits > 9) {
+                        return null;
+                    }
+                    index = index * 10 + (sentence.charAt(end) - '0');
+                }
+
+                if (digits == 0 || end >= length || sentence.charAt(end) != ']') {
+                    return null;
+                }
+
+                end++;
+                if (end < length && sentence.charAt(end) != scannerDelimiter) {
+                    return null;
+                }
+                tokens.add(new ArrayToken(index));
+            }
+
+            if (end == length) {
+                return tokens;
+            }
+
+            // skip the delimiter, trailing delimiters are dropped when splitting so leave them to the regex.
+            start = end + 1;
+            if (start == length) {
+                return null;
+            }
+        }
+    }
+
     @Override
     public String normalizeSentence(String sentence) {
         return sentenceNormalizer.normalizeSentence(sentence);
@@ -11,10 +11,7 @@ import org.github.gestalt.config.utils.GResultOf;
 import org.github.gestalt.config.utils.Pair;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Static utility functions to analyze and build a config node.
@@ -26,8 +23,7 @@ public final class ConfigCompiler {
     }
 
     /**
-     * Uses the SentenceLexer to tokenize the configs.
-     * Then validates the tokens for any errors.
+     * Uses the SentenceLexer to tokenize the configs, collecting the valid tokens and any errors in a single pass.
      * If everything is ok it will send the tokens to the parser.
      *
      * @param failOnErrors if we want to fail on errors or try and recover. Results can be unpredictable if it continues
@@ -41,38 +37,23 @@ public final class ConfigCompiler {
                                                 ConfigParser parser,
                                                 List<Pair<String, String>> configs) {
         List<ValidationError> errorMessage = new ArrayList<>();
-
-        List<Pair<GResultOf<List<Token>>, String>> validatedTokens =
-            configs.stream()
-                .map(prop -> new Pair<>(lexer.scan(prop.getFirst()), prop.getSecond()))
-                .collect(Collectors.toList());
-
-        Map<ValidationLevel, List<ValidationError>> validationErrors = validatedTokens
-            .stream()
-            .filter(validatedToken -> validatedToken.getFirst().hasErrors())
-            .map(validatedToken -> validatedToken.getFirst().getErrors())
-            .flatMap(Collection::stream)
-            .collect(Collectors.groupingBy(ValidationError::level));
-
-        if (!validationErrors.isEmpty()) {
-            errorMessage = validationErrors.values()
-                .stream()
-                .flatMap(Collection::stream)
-                .collect(Collectors.toList());
-
-            if (failOnErrors && validationErrors.containsKey(ValidationLevel.ERROR)) {
-                return GResultOf.errors(errorMessage);
+        List<Pair<List<Token>, ConfigValue>> validTokens = new ArrayList<>(configs.size());
+        boolean hasErrorLevel = false;
+
+        // tokenize the configs in one pass, keeping the valid tokens and collecting the errors.
+        for (Pair<String, String> config : configs) {
+            GResultOf<List<Token>> tokens = lexer.scan(config.getFirst());
+            if (tokens.hasErrors()) {
+                errorMessage.addAll(tokens.getErrors());
+                hasErrorLevel = hasErrorLevel || tokens.hasErrors(ValidationLevel.ERROR);
+            } else if (tokens.hasResults() && !tokens.results().isEmpty()) {
+                validTokens.add(new Pair<>(tokens.results(), new ConfigValue(config.getSecond())));
             }
         }
 
-        List<Pair<List<Token>, ConfigValue>> validTokens = validatedTokens
-            .stream()
-            .filter(validatedToken -> !validatedToken.getFirst().hasErrors() &&
-                validatedToken.getFirst().hasResults() &&
-                !validatedToken.getFirst().results().isEmpty())
-            .map(validatedToken ->
-                new Pair<>(validatedToken.getFirst().results(), new ConfigValue(validatedToken.getSecond())))
-            .collect(Collectors.toList());
+        if (failOnErrors && hasErrorLevel) {
+            return GResultOf.errors(errorMessage);
+        }
 
         GResultOf<ConfigNode> parserResults = parser.parse(lexer, validTokens, failOnErrors);
         errorMessage.addAll(parserResults.getErrors());
@@ -0,0 +1,201 @@
+package org.github.gestalt.config.loader;
+
+import org.github.gestalt.config.entity.ValidationError;
+import org.github.gestalt.config.lexer.SentenceLexer;
+import org.github.gestalt.config.node.ArrayNode;
+import org.github.gestalt.config.node.ConfigNode;
+import org.github.gestalt.config.node.LeafNode;
+import org.github.gestalt.config.node.MapNode;
+import org.github.gestalt.config.utils.GResultOf;
+import org.github.gestalt.config.utils.PathUtil;
+
+import java.util.*;
+
+/**
+ * Builds a config node tree in a single pass from a stream of events, such as the tokens of a streaming parser.
+ * The maps, arrays and leaf nodes are built directly without an intermediate tree.
+ * The path of a node is only built if there is an error to report for it.
+ *
+ * <p>Keys are tokenized and normalized by the lexer, so a key "a.b" builds a map "a" holding a map "b".
+ * A null value is reported as an error for its path and is not added to the tree.
+ *
+ * <p>The events must be well-formed: a key before each value in a map and an end for each map and array.
+ * Not thread safe, use a new builder for each tree.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2025.
+ */
+public final class ConfigTreeBuilder {
+
+    private final SentenceLexer lexer;
+    private final Deque<Frame> stack = new ArrayDeque<>();
+    private final List<ValidationError> errors = new ArrayList<>();
+    private ConfigNode root;
+    private boolean started;
+
+    /**
+     * Constructor for the ConfigTreeBuilder.
+     *
+     * @param lexer the lexer used to tokenize and normalize the keys, and to build the paths for errors.
+     */
+    public ConfigTreeBuilder(SentenceLexer lexer) {
+        this.lexer = Objects.requireNonNull(lexer, "ConfigTreeBuilder SentenceLexer should not be null");
+    }
+
+    /**
+     * Start a map, it is complete once {@link #end()} is called.
+     */
+    public void startMap() {
+        beforeValue();
+        stack.push(new Frame(new HashMap<>(), null));
+    }
+
+    /**
+     * Start an array, it is complete once {@link #end()} is called.
+     */
+    public void startArray() {
+        beforeValue();
+        stack.push(new Frame(null, new ArrayList<>()));
+    }
+
+    /**
+     * Set the key for the next value of the current map.
+     *
+     * @param key the key of the next value
+     */
+    public void key(String key) {
+        Frame frame = stack.peek();
+        if (frame == null || frame.map == null) {
+            throw new IllegalStateException("ConfigTreeBuilder received a key " + key + " outside of a map");
+        }
+
+        List<String> tokens = lexer.tokenizer(key);
+        List<String> normalized = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            normalized.add(lexer.normalizeSentence(token));
+        }
+        frame.key = normalized;
+    }
+
+    /**
+     * Add a leaf value to the current map or array, or as the root.
+     *
+     * @param value the value of the leaf
+     */
+    public void value(String value) {
+        beforeValue();
+        add(new LeafNode(value));
+    }
+
+    /**
+     * Add a null value, this is reported as an error for the current path and is not added to the tree.
+     */
+    public void nullValue() {
+        beforeValue();
+        String path = currentPath();
+        // report the error for the value and for the entry holding it, the same as when loading from a tree.
+        errors.add(new ValidationError.NoResultsFoundForPath(path));
+        if (!stack.isEmpty()) {
+            errors.add(new ValidationError.NoResultsFoundForPath(path));
+            stack.peek().next();
+        }
+    }
+
+    /**
+     * End the current map or array, adding it to its parent.
+     */
+    public void end() {
+        Frame frame = stack.pop();
+        add(frame.map != null ? new MapNode(frame.map) : new ArrayNode(frame.array));
+    }
+
+    /**
+     * If the root of the tree has been completed, after which no more events are accepted.
+     *
+     * @return if the root of the tree has been completed
+     */
+    public boolean isComplete() {
+        return started && stack.isEmpty();
+    }
+
+    /**
+     * If no events have been received, for example from an empty document.
+     *
+     * @return if no events have been received
+     */
+    public boolean isEmpty() {
+        return !started;
+    }
+
+    /**
+     * Get the built tree and any errors found while building it.
+     *
+     * @return GResultOf the root of the tree, or no result if the root is null or no events were received.
+     */
+    public GResultOf<ConfigNode> build() {
+        if (!stack.isEmpty()) {
+            throw new IllegalStateException("ConfigTreeBuilder has " + stack.size() + " unfinished maps or arrays");
+        }
+        return GResultOf.resultOf(root, errors);
+    }
+
+    private void beforeValue() {
+        if (isComplete()) {
+            throw new IllegalStateException("ConfigTreeBuilder received a value after the root was completed");
+        }
+        Frame parent = stack.peek();
+        if (parent != null && parent.map != null && parent.key == null) {
+            throw new IllegalStateException("ConfigTreeBuilder received a value without a key in a map");
+        }
+        started = true;
+    }
+
+    private void add(ConfigNode node) {
+        Frame parent = stack.peek();
+        if (parent == null) {
+            root = node;
+        } else if (parent.map != null) {
+            List<String> key = parent.key;
+            ConfigNode currentNode = node;
+            for (int i = key.size() - 1; i > 0; i--) {
+                Map<String, ConfigNode> nextMapNode = new HashMap<>();
+                nextMapNode.put(key.get(i), currentNode);
+                currentNode = new MapNode(nextMapNode);
+            }
+            parent.map.put(key.get(0), currentNode);
+            parent.next();
+        } else {
+            parent.array.add(node);
+            parent.next();
+        }
+    }
+
+    // build the path of the next value by walking the stack from the root, only used when reporting errors.
+    private String currentPath() {
+        String path = "";
+        Iterator<Frame> frames = stack.descendingIterator();
+        while (frames.hasNext()) {
+            Frame frame = frames.next();
+            path = frame.map != null ? PathUtil.pathForKey(lexer, path, frame.key) : PathUtil.pathForIndex(lexer, path, frame.index);
+        }
+        return path;
+    }
+
+    private static final class Frame {
+        private final Map<String, ConfigNode> map;
+        private final List<ConfigNode> array;
+        // the normalized tokens of the key for the next value in a map.
+        private List<String> key;
+        // the index of the next value in an array, including any null values that were skipped.
+        private int index;
+
+        private Frame(Map<String, ConfigNode> map, List<ConfigNode> array) {
+            this.map = map;
+            this.array = array;
+        }
+
+        private void next() {
+            key = null;
+            index++;
+        }
+    }
+}
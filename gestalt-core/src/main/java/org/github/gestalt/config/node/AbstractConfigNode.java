@@ -8,6 +8,8 @@ import java.util.*;
 
 public abstract class AbstractConfigNode implements ConfigNode {
     protected final Map<String, List<MetaDataValue<?>>> metadata;
+    // the rolled up metadata of this node and its children, computed on first use as the nodes are immutable.
+    private volatile Map<String, List<MetaDataValue<?>>> rolledUpMetadata;
 
     public AbstractConfigNode(Map<String, List<MetaDataValue<?>>> metadata) {
         this.metadata = Map.copyOf(Objects.requireNonNullElse(metadata, Collections.emptyMap()));
@@ -56,6 +58,99 @@ public abstract class AbstractConfigNode implements ConfigNode {
         return metadata.containsKey(key);
     }
 
+    @Override
+    public boolean hasMetadataInSubtree(String key) {
+        Set<String> keys = getSubtreeMetadataKeys();
+        return keys == null || keys.contains(key);
+    }
+
+    /**
+     * Get the metadata keys of this node and every node below it.
+     *
+     * @return the metadata keys of this node and every node below it, or null if they are unknown.
+     */
+    protected Set<String> getSubtreeMetadataKeys() {
+        return metadata.keySet();
+    }
+
+    /**
+     * Collect the metadata keys of this node and its children, computed once when the node is built.
+     * Shares a child's set of keys when possible, so most nodes do not allocate a new set.
+     *
+     * @param children the children of this node.
+     * @return the metadata keys of this node and every node below it, or null if a child is not an AbstractConfigNode.
+     */
+    protected final Set<String> collectSubtreeMetadataKeys(Collection<ConfigNode> children) {
+        Set<String> keys = metadata.keySet();
+        boolean copied = false;
+        for (ConfigNode child : children) {
+            if (child == null) {
+                continue;
+            } else if (!(child instanceof AbstractConfigNode)) {
+                return null;
+            }
+
+            Set<String> childKeys = ((AbstractConfigNode) child).getSubtreeMetadataKeys();
+            if (childKeys == null) {
+                return null;
+            } else if (childKeys.isEmpty() || keys.containsAll(childKeys)) {
+                continue;
+            }
+
+            if (keys.isEmpty()) {
+                keys = childKeys;
+            } else {
+                if (!copied) {
+                    keys = new HashSet<>(keys);
+                    copied = true;
+                }
+                keys.addAll(childKeys);
+            }
+        }
+        return keys;
+    }
+
+
+    /**
+     * Rollup the metadata of the children and then this node, computing it once and sharing the result for later calls.
+     * If there is no metadata anywhere in the subtree, a shared empty map is returned without visiting the children.
+     *
+     * @param children the children of this node.
+     * @return the unmodifiable rolled up metadata of this node and every node below it.
+     */
+    protected final Map<String, List<MetaDataValue<?>>> rollupMetadata(Collection<ConfigNode> children) {
+        Map<String, List<MetaDataValue<?>>> result = rolledUpMetadata;
+        if (result == null) {
+            Set<String> keys = getSubtreeMetadataKeys();
+            if (keys != null && keys.isEmpty()) {
+                result = Map.of();
+            } else {
+                // for each child, try and roll it up. It will return the rolled up map.
+                // Then we continue for each child passing the previously rolled up map into the next metadata.
+                Map<String, List<MetaDataValue<?>>> rolledUp = new HashMap<>();
+                for (ConfigNode configNode : children) {
+                    if (configNode != null) {
+                        for (List<MetaDataValue<?>> values : configNode.getRolledUpMetadata().values()) {
+                            for (MetaDataValue<?> value : values) {
+                                rolledUp = value.rollup(rolledUp);
+                            }
+                        }
+                    }
+                }
+
+                // now rollup the metadata of this node
+                for (List<MetaDataValue<?>> values : metadata.values()) {
+                    for (MetaDataValue<?> value : values) {
+                        rolledUp = value.rollup(rolledUp);
+                    }
+                }
+                result = Map.copyOf(rolledUp);
+            }
+            // the result is immutable, so racing threads computing it at the same time is harmless.
+            rolledUpMetadata = result;
+        }
+        return result;
+    }
 
     @Override
     public abstract String printer(String path, SecretConcealer secretConcealer, SentenceLexer lexer);
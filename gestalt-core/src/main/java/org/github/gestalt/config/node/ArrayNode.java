@@ -18,6 +18,7 @@ import java.util.stream.IntStream;
 public final class ArrayNode extends AbstractConfigNode {
 
     private final List<ConfigNode> values;
+    private final Set<String> subtreeMetadataKeys;
 
     /**
      * Construct an Array node by providing a list of nodes.
@@ -31,6 +32,7 @@ public final class ArrayNode extends AbstractConfigNode {
     public ArrayNode(List<ConfigNode> values, Map<String, List<MetaDataValue<?>>> metadata) {
         super(metadata);
         this.values = Collections.unmodifiableList(Objects.requireNonNullElse(values, Collections.emptyList()));
+        this.subtreeMetadataKeys = collectSubtreeMetadataKeys(this.values);
     }
 
     @Override
@@ -47,6 +49,11 @@ public final class ArrayNode extends AbstractConfigNode {
         }
     }
 
+    @Override
+    protected Set<String> getSubtreeMetadataKeys() {
+        return subtreeMetadataKeys;
+    }
+
     /**
      * get the underlying array for the node.
      *
@@ -63,30 +70,7 @@ public final class ArrayNode extends AbstractConfigNode {
 
     @Override
     public Map<String, List<MetaDataValue<?>>> getRolledUpMetadata() {
-
-        // for each entry in the map, try and roll it up. It will return the rolled up map.
-        // Then we continue for each entry passing the previously rolled up map into the next metadata.
-        Map<String, List<MetaDataValue<?>>> rolledUpMetadata = new HashMap<>();
-        for (ConfigNode configNode : values) {
-            if (configNode != null) {
-                Map<String, List<MetaDataValue<?>>> nodeMetadata = configNode.getRolledUpMetadata();
-                for (Map.Entry<String, List<MetaDataValue<?>>> entry : nodeMetadata.entrySet()) {
-                    for (MetaDataValue<?> metadata : entry.getValue()) {
-                        rolledUpMetadata = metadata.rollup(rolledUpMetadata);
-                    }
-                }
-            }
-        }
-
-        //now rollup the array nodes metadata
-        for (Map.Entry<String, List<MetaDataValue<?>>> entry : metadata.entrySet()) {
-            for (MetaDataValue<?> metadata : entry.getValue()) {
-                rolledUpMetadata = metadata.rollup(rolledUpMetadata);
-
-            }
-        }
-
-        return rolledUpMetadata;
+        return rollupMetadata(values);
     }
 
     @Override
@@ -0,0 +1,137 @@
+package org.github.gestalt.config.node;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * Immutable map of config nodes that stores the keys and values in arrays, used by the nodes of a compacted config tree.
+ * Small maps are searched in order, larger maps use an open addressed table of indexes into the arrays.
+ * The entries keep the order of the map they were built from.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2025.
+ */
+final class CompactMap extends AbstractMap<String, ConfigNode> {
+    // maps up to this size are searched in order rather than by hash.
+    private static final int LINEAR_SEARCH_SIZE = 8;
+
+    private final String[] keys;
+    private final ConfigNode[] values;
+    // the index + 1 of the key in each slot, or 0 if the slot is empty. Null for small maps.
+    private final int[] table;
+
+    /**
+     * Build a map from the keys and values, neither may contain null or duplicate keys.
+     *
+     * @param keys   keys of the map
+     * @param values values for each key
+     */
+    CompactMap(String[] keys, ConfigNode[] values) {
+        this.keys = keys;
+        this.values = values;
+
+        if (keys.length <= LINEAR_SEARCH_SIZE) {
+            table = null;
+        } else {
+            // keep the table at most half full, so the probes are short.
+            table = new int[Integer.highestOneBit(keys.length * 2 - 1) << 1];
+            int mask = table.length - 1;
+            for (int i = 0; i < keys.length; i++) {
+                int slot = spread(keys[i].hashCode()) & mask;
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = i + 1;
+            }
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private int indexOf(Object key) {
+        if (!(key instanceof String)) {
+            return -1;
+        }
+
+        if (table == null) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i].equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        int mask = table.length - 1;
+        int slot = spread(key.hashCode()) & mask;
+        int index;
+        while ((index = table[slot]) != 0) {
+            if (keys[index - 1].equals(key)) {
+                return index - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    @Override
+    public ConfigNode get(Object key) {
+        int index = indexOf(key);
+        return index >= 0 ? values[index] : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super ConfigNode> action) {
+        for (int i = 0; i < keys.length; i++) {
+            action.accept(keys[i], values[i]);
+        }
+    }
+
+    @Override
+    public Set<Entry<String, ConfigNode>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, ConfigNode>> iterator() {
+                return new Iterator<>() {
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < keys.length;
+                    }
+
+                    @Override
+                    public Entry<String, ConfigNode> next() {
+                        if (index >= keys.length) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<String, ConfigNode> entry = new SimpleImmutableEntry<>(keys[index], values[index]);
+                        index++;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+        };
+    }
+}
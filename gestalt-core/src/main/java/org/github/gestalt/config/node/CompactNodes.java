@@ -0,0 +1,128 @@
+package org.github.gestalt.config.node;
+
+import org.github.gestalt.config.metadata.MetaDataValue;
+
+import java.util.*;
+
+/**
+ * Utility class for compacting a config tree once it is built, so it takes less memory.
+ *
+ * <p>The maps are stored in a {@link CompactMap} rather than a HashMap, and the keys and leaf values are deduplicated,
+ * so an equal string is only stored once across the tree. Nodes with metadata keep it, and empty metadata is already shared.
+ * Compacting a tree that is already compacted returns the same nodes, and when compacting a tree that replaces a compacted
+ * tree only the subtrees that changed are rebuilt.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2025.
+ */
+public final class CompactNodes {
+
+    /**
+     * Utility class has no constructor.
+     */
+    private CompactNodes() {
+
+    }
+
+    /**
+     * Compact a config tree, returning the same node if it is already compact.
+     *
+     * @param node the root of the tree to compact
+     * @return the compacted tree
+     */
+    public static ConfigNode compact(ConfigNode node) {
+        return compact(node, null, new HashMap<>());
+    }
+
+    /**
+     * Compact a config tree that replaces a previously compacted tree, such as the root after a reload.
+     * Subtrees that are already compact are not visited, and where the new tree holds the same config as the previous tree
+     * the previous compacted nodes are reused, so only the new or changed subtrees are rebuilt.
+     *
+     * @param node     the root of the tree to compact
+     * @param previous the compacted tree it replaces, may be null.
+     * @return the compacted tree
+     */
+    public static ConfigNode compact(ConfigNode node, ConfigNode previous) {
+        return compact(node, previous, new HashMap<>());
+    }
+
+    private static ConfigNode compact(ConfigNode node, ConfigNode previous, Map<String, String> strings) {
+        if (node == previous) {
+            return node;
+        } else if (node instanceof MapNode) {
+            return compactMapNode((MapNode) node, previous, strings);
+        } else if (node instanceof ArrayNode) {
+            return compactArrayNode((ArrayNode) node, previous, strings);
+        } else if (node != null && node.getClass() == LeafNode.class) {
+            // only plain leaf nodes are rebuilt, as the other leaf nodes may hold more than the value.
+            LeafNode leafNode = (LeafNode) node;
+            String value = leafNode.getValueInternal().orElse(null);
+            if (previous != null && previous.getClass() == LeafNode.class && sameMetadata(node, previous) &&
+                Objects.equals(value, ((LeafNode) previous).getValueInternal().orElse(null))) {
+                return previous;
+            }
+            String sharedValue = value != null ? share(value, strings) : null;
+            return sharedValue == value ? leafNode : new LeafNode(sharedValue, leafNode.getMetadata());
+        } else {
+            return node;
+        }
+    }
+
+    private static ConfigNode compactMapNode(MapNode node, ConfigNode previous, Map<String, String> strings) {
+        Map<String, ConfigNode> map = node.getMapNode();
+        // a compact map is only built by compacting, and its children are never replaced, so the subtree is already compact.
+        if (map instanceof CompactMap) {
+            return node;
+        }
+
+        Map<String, ConfigNode> previousMap = previous instanceof MapNode ? ((MapNode) previous).getMapNode() : Map.of();
+        String[] keys = new String[map.size()];
+        ConfigNode[] values = new ConfigNode[map.size()];
+        boolean samePrevious = previousMap instanceof CompactMap && previousMap.size() == map.size() && sameMetadata(node, previous);
+        int i = 0;
+        for (Map.Entry<String, ConfigNode> entry : map.entrySet()) {
+            // a map with null keys or values is left as is, so it reports the same errors when validated.
+            if (entry.getKey() == null || entry.getValue() == null) {
+                return node;
+            }
+            ConfigNode previousValue = previousMap.get(entry.getKey());
+            keys[i] = share(entry.getKey(), strings);
+            values[i] = compact(entry.getValue(), previousValue, strings);
+            samePrevious = samePrevious && values[i] == previousValue;
+            i++;
+        }
+
+        return samePrevious ? previous : new MapNode(new CompactMap(keys, values), node.getMetadata());
+    }
+
+    private static ConfigNode compactArrayNode(ArrayNode node, ConfigNode previous, Map<String, String> strings) {
+        List<ConfigNode> array = node.getArray();
+        List<ConfigNode> previousArray = previous instanceof ArrayNode ? ((ArrayNode) previous).getArray() : List.of();
+        ConfigNode[] values = new ConfigNode[array.size()];
+        boolean changed = false;
+        boolean samePrevious = previous != null && previousArray.size() == array.size() && sameMetadata(node, previous);
+        for (int i = 0; i < values.length; i++) {
+            ConfigNode previousValue = i < previousArray.size() ? previousArray.get(i) : null;
+            values[i] = compact(array.get(i), previousValue, strings);
+            changed = changed || values[i] != array.get(i);
+            samePrevious = samePrevious && values[i] == previousValue;
+        }
+
+        if (samePrevious) {
+            return previous;
+        }
+        return changed ? new ArrayNode(Arrays.asList(values), node.getMetadata()) : node;
+    }
+
+    // only compares the metadata cheaply, nodes with metadata that is equal but not shared are rebuilt.
+    private static boolean sameMetadata(ConfigNode node, ConfigNode previous) {
+        Map<String, List<MetaDataValue<?>>> metadata = node.getMetadata();
+        Map<String, List<MetaDataValue<?>>> previousMetadata = previous.getMetadata();
+        return metadata == previousMetadata || metadata.isEmpty() && previousMetadata.isEmpty();
+    }
+
+    private static String share(String value, Map<String, String> strings) {
+        String shared = strings.putIfAbsent(value, value);
+        return shared != null ? shared : value;
+    }
+}
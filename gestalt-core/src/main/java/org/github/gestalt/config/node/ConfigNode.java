@@ -91,6 +91,17 @@ public interface ConfigNode {
      */
     Map<String, List<MetaDataValue<?>>> getRolledUpMetadata();
 
+    /**
+     * Test if this node or any node below it has metadata with a specific key.
+     * Used to skip subtrees that have nothing to process. By default, assume the key could be anywhere in the subtree.
+     *
+     * @param key key to check if it exists.
+     * @return true if this node or any node below it has the key.
+     */
+    default boolean hasMetadataInSubtree(String key) {
+        return true;
+    }
+
     /**
      * Safely prints out the config tree at this path.
      *
@@ -5,8 +5,10 @@ import org.github.gestalt.config.entity.ValidationError;
 import org.github.gestalt.config.exceptions.GestaltException;
 import org.github.gestalt.config.lexer.PathLexer;
 import org.github.gestalt.config.lexer.SentenceLexer;
+import org.github.gestalt.config.metadata.MetaDataValue;
 import org.github.gestalt.config.processor.config.ConfigNodeProcessorManager;
 import org.github.gestalt.config.processor.config.ConfigNodeProcessorService;
+import org.github.gestalt.config.reload.ChangedPaths;
 import org.github.gestalt.config.secret.rules.SecretConcealer;
 import org.github.gestalt.config.tag.Tags;
 import org.github.gestalt.config.token.ArrayToken;
@@ -17,7 +19,8 @@ import org.github.gestalt.config.utils.GResultOf;
 import org.github.gestalt.config.utils.PathUtil;
 
 import java.util.*;
-import java.util.concurrent.locks.StampedLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 import static org.github.gestalt.config.utils.GResultOf.resultOf;
@@ -26,19 +29,35 @@ import static org.github.gestalt.config.utils.GResultOf.resultOf;
 /**
  * Holds and manages config nodes.
  *
+ * <p>The config nodes and roots are published together as an immutable snapshot. Readers use the current snapshot without locking,
+ * while changes build a new snapshot and publish it by swapping a single reference.
+ * The changes made in a {@link #transaction(Transaction)}, such as reloading a node then post processing the roots,
+ * are staged and published together, so readers never see a root that is merged but not yet post processed.
+ *
+ * <p>For each set of tags looked up, the roots to search are resolved and merged once, then cached with the snapshot,
+ * so a lookup only navigates a single tree. A cached view is kept when a change is published, unless one of its roots changed.
+ *
+ * <p>The snapshot also keeps the partial merge of the config nodes up to each node, so reloading a node only merges it and the nodes
+ * after it into the partial merge before it. As merging shares any unchanged subtrees, and validation skips the subtrees of the
+ * previously validated root, the cost of a reload scales with the size of the nodes merged rather than the whole config tree.
+ *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2025.
  */
 public final class ConfigNodeManager implements ConfigNodeService {
-    private final List<ConfigNodeContainer> configNodes = new ArrayList<>();
-    // We store the node roots by tags. The default will be an empty Tags.
-    private final LinkedHashMap<Tags, ConfigNode> roots = new LinkedHashMap<>();
-    // lock to ensure we are thread safe.
-    private final StampedLock lock = new StampedLock();
+    // the current config nodes and roots, replaced but never modified once published.
+    private volatile NodeSnapshot snapshot = new NodeSnapshot(List.of(), List.of(), new LinkedHashMap<>(), Map.of(), Map.of(), Map.of());
+    // lock so changes are applied one at a time and are not lost, readers never take it.
+    private final ReentrantLock writeLock = new ReentrantLock();
+    // the changes of the current transaction, only visible to the thread holding the write lock until they are published.
+    // only written while holding the write lock, other threads may read a stale value but then ignore it as they do not hold the lock.
+    private NodeSnapshot staged;
     private final ConfigNodeTagResolutionStrategy configNodeTagResolutionStrategy;
     // Sentence Lexer used to build a normalized path.
     private final SentenceLexer lexer;
 
     private final ConfigNodeProcessorService configNodeProcessorService;
+    // if the config nodes and roots should be compacted, see CompactNodes.
+    private final boolean compactNodes;
 
     public ConfigNodeManager() {
         this(new EqualTagsWithDefaultTagResolutionStrategy(),
@@ -55,24 +74,57 @@ public final class ConfigNodeManager implements ConfigNodeService {
     public ConfigNodeManager(ConfigNodeTagResolutionStrategy configNodeTagResolutionStrategy,
                              ConfigNodeProcessorService configNodeProcessorService,
                              SentenceLexer lexer) {
+        this(configNodeTagResolutionStrategy, configNodeProcessorService, lexer, false);
+    }
+
+    /**
+     * Constructor that takes a sentence Lexer to build a normalized path, and if the config trees should be compacted.
+     * When compacted, the config nodes are compacted when they are added or reloaded and the roots after they are post processed.
+     *
+     * @param configNodeTagResolutionStrategy how to resolve the config nodes to search.
+     * @param configNodeProcessorService processor applied to the nodes after building the tree.
+     * @param lexer                        sentence Lexer to build a normalized path.
+     * @param compactNodes                 if the config trees should be compacted to reduce the memory they use.
+     */
+    public ConfigNodeManager(ConfigNodeTagResolutionStrategy configNodeTagResolutionStrategy,
+                             ConfigNodeProcessorService configNodeProcessorService,
+                             SentenceLexer lexer,
+                             boolean compactNodes) {
         this.configNodeTagResolutionStrategy = configNodeTagResolutionStrategy;
         this.configNodeProcessorService = configNodeProcessorService;
         this.lexer = lexer;
+        this.compactNodes = compactNodes;
+    }
+
+    private ConfigNodeContainer compact(ConfigNodeContainer container) {
+        if (!compactNodes || container.getConfigNode() == null) {
+            return container;
+        }
+        ConfigNode compacted = CompactNodes.compact(container.getConfigNode());
+        return compacted == container.getConfigNode() ? container :
+            new ConfigNodeContainer(compacted, container.getSource(), container.getTags());
     }
 
     @Override
-    public GResultOf<ConfigNode> addNode(ConfigNodeContainer newNode) throws GestaltException {
-        if (newNode == null) {
+    public GResultOf<ConfigNode> addNode(ConfigNodeContainer node) throws GestaltException {
+        if (node == null) {
             throw new GestaltException("No node provided");
         }
+        ConfigNodeContainer newNode = compact(node);
         List<ValidationError> errors = new ArrayList<>();
-        long stamp = lock.writeLock();
+        writeLock.lock();
         try {
+            NodeSnapshot current = current();
+            List<ConfigNodeContainer> configNodes = new ArrayList<>(current.configNodes);
             configNodes.add(newNode);
+            LinkedHashMap<Tags, ConfigNode> roots = new LinkedHashMap<>(current.roots);
+            List<MergedRoot> mergedRoots = new ArrayList<>(current.mergedRoots);
+            MergedRoot previousMerge = lastMergedRoot(current, newNode.getTags());
 
             // If the root is empty or the root doesn't contain the tags, add it to the root without merging with existing node.
             if (roots.isEmpty() || !roots.containsKey(newNode.getTags())) {
                 roots.put(newNode.getTags(), newNode.getConfigNode());
+                mergedRoots.add(new MergedRoot(newNode.getConfigNode(), List.of()));
             } else {
                 // If there is already a config node in the root, merge the nodes together then save them.
                 ConfigNode rootForTokens = roots.get(newNode.getTags());
@@ -83,27 +135,82 @@ public final class ConfigNodeManager implements ConfigNodeService {
                 }
 
                 errors.addAll(mergedNode.getErrors());
+
+                // if the root has not been post processed since the last node was added, it is the partial merge up to this node.
+                if (previousMerge != null && previousMerge.root == rootForTokens) {
+                    mergedRoots.add(previousMerge.merge(mergedNode));
+                } else {
+                    mergedRoots.add(null);
+                }
             }
 
-            errors.addAll(validateNode(roots.get(newNode.getTags())));
+            errors.addAll(validateNode(roots.get(newNode.getTags()), current.validatedRoots.get(newNode.getTags())));
             errors = errors.stream().filter(CollectionUtils.distinctBy(ValidationError::description)).collect(Collectors.toList());
 
+            publish(newSnapshot(current, configNodes, mergedRoots, roots,
+                validatedRoots(current, newNode.getTags(), roots.get(newNode.getTags()), errors)));
 
             return resultOf(roots.get(newNode.getTags()), errors);
         } finally {
-            lock.unlockWrite(stamp);
+            writeLock.unlock();
         }
     }
 
+    /**
+     * Get the partial merge up to the last config node with the tags, or null if there are none or it is not known.
+     */
+    private static MergedRoot lastMergedRoot(NodeSnapshot current, Tags tags) {
+        for (int i = current.configNodes.size() - 1; i >= 0; i--) {
+            if (current.configNodes.get(i).matchesTags(tags)) {
+                return current.mergedRoots.get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Keep the root for the tags if it was validated without errors, so the next validation can skip any subtrees it shares.
+     */
+    private static Map<Tags, ConfigNode> validatedRoots(NodeSnapshot current, Tags tags, ConfigNode root, List<ValidationError> errors) {
+        Map<Tags, ConfigNode> validatedRoots = new HashMap<>(current.validatedRoots);
+        if (errors.isEmpty() && root != null) {
+            validatedRoots.put(tags, root);
+        } else {
+            validatedRoots.remove(tags);
+        }
+        return validatedRoots;
+    }
+
+    /**
+     * Build a new snapshot, keeping the cached tag views of the previous snapshot if none of the roots they search have changed.
+     */
+    private NodeSnapshot newSnapshot(NodeSnapshot previous, List<ConfigNodeContainer> configNodes, List<MergedRoot> mergedRoots,
+                                     LinkedHashMap<Tags, ConfigNode> roots, Map<Tags, ConfigNode> validatedRoots) {
+        return newSnapshot(previous, configNodes, mergedRoots, roots, validatedRoots, previous.compactedRoots);
+    }
+
+    private NodeSnapshot newSnapshot(NodeSnapshot previous, List<ConfigNodeContainer> configNodes, List<MergedRoot> mergedRoots,
+                                     LinkedHashMap<Tags, ConfigNode> roots, Map<Tags, ConfigNode> validatedRoots,
+                                     Map<Tags, ConfigNode> compactedRoots) {
+        Map<Tags, TagView> tagViews = new HashMap<>();
+        for (Map.Entry<Tags, TagView> entry : previous.tagViews.entrySet()) {
+            List<GResultOf<ConfigNode>> rootNodes = configNodeTagResolutionStrategy.rootsToSearch(roots, entry.getKey());
+            if (entry.getValue().hasSameRoots(rootNodes)) {
+                tagViews.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        return new NodeSnapshot(configNodes, mergedRoots, roots, validatedRoots, compactedRoots, tagViews);
+    }
+
     @Override
-    @SuppressWarnings("ModifyCollectionInEnhancedForLoop")
     public GResultOf<Boolean> processConfigNodes() throws GestaltException {
-        long stamp = lock.readLock();
-        try {
+        // publish all the processed roots at once, so readers never see a root that is not yet processed.
+        return transaction(() -> {
             boolean ppSuccessful = true;
             List<ValidationError> errors = new ArrayList<>();
 
-            for (Map.Entry<Tags, ConfigNode> entry : roots.entrySet()) {
+            for (Map.Entry<Tags, ConfigNode> entry : current().roots.entrySet()) {
                 Tags tags = entry.getKey();
                 ConfigNode root = entry.getValue();
                 GResultOf<ConfigNode> results = configNodeProcessorService.processConfigNodes("", root);
@@ -111,33 +218,20 @@ public final class ConfigNodeManager implements ConfigNodeService {
                 // If we have results we want to update the root to the new post processed config tree.
                 errors.addAll(results.getErrors());
                 if (results.hasResults()) {
-                    boolean tryUpgradeSuccess = false;
-                    long ws = 0;
-                    try {
-                        while (!tryUpgradeSuccess) {
-                            ws = lock.tryConvertToWriteLock(stamp);
-                            if (ws != 0L) {
-                                stamp = ws;
-                                tryUpgradeSuccess = true;
-                                roots.put(tags, results.results());
-                            } else {
-                                lock.unlockRead(stamp);
-                                stamp = lock.writeLock();
-                            }
-                        }
-                    } finally {
-                        if (ws != 0L) {
-                            // downgrade lock to a read lock
-                            long readStamp = lock.tryConvertToReadLock(stamp);
-                            if (readStamp != 0L) {
-                                stamp = readStamp; // Successfully downgraded
-                            } else {
-                                // If conversion failed, release write lock and acquire read lock
-                                lock.unlockWrite(stamp);
-                                stamp = lock.readLock();
-                            }
-                        }
+                    // stage each root as it is processed, so the processors of the following roots can navigate to it.
+                    NodeSnapshot current = current();
+                    LinkedHashMap<Tags, ConfigNode> roots = new LinkedHashMap<>(current.roots);
+                    Map<Tags, ConfigNode> compactedRoots = current.compactedRoots;
+                    if (compactNodes) {
+                        // only rebuild the subtrees that changed since the root was last compacted.
+                        ConfigNode compacted = CompactNodes.compact(results.results(), compactedRoots.get(tags));
+                        compactedRoots = new HashMap<>(compactedRoots);
+                        compactedRoots.put(tags, compacted);
+                        roots.put(tags, compacted);
+                    } else {
+                        roots.put(tags, results.results());
                     }
+                    publish(newSnapshot(current, current.configNodes, current.mergedRoots, roots, current.validatedRoots, compactedRoots));
                 } else {
                     ppSuccessful = false;
                     errors.add(new ValidationError.NodePostProcessingNoResults());
@@ -145,82 +239,240 @@ public final class ConfigNodeManager implements ConfigNodeService {
             }
 
             return resultOf(ppSuccessful, errors);
+        });
+    }
+
+    @Override
+    public <T> T transaction(Transaction<T> transaction) throws GestaltException {
+        // the write lock is reentrant, so the changes made by the transaction hold it as well.
+        writeLock.lock();
+        NodeSnapshot outer = staged;
+        staged = current();
+        boolean applied = false;
+        try {
+            T result = transaction.apply();
+            applied = true;
+            return result;
         } finally {
-            lock.unlock(stamp);
+            if (outer == null) {
+                // publish all the changes of the outermost transaction at once, or drop them if it failed.
+                if (applied) {
+                    snapshot = staged;
+                }
+                staged = null;
+            } else if (!applied) {
+                staged = outer;
+            }
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * The snapshot to apply a change to, including the changes of the current transaction. Must hold the write lock.
+     */
+    private NodeSnapshot current() {
+        return staged != null ? staged : snapshot;
+    }
+
+    /**
+     * Publish a changed snapshot to the readers, or if in a transaction stage it until the transaction completes.
+     * Must hold the write lock.
+     */
+    private void publish(NodeSnapshot newSnapshot) {
+        if (staged != null) {
+            staged = newSnapshot;
+        } else {
+            snapshot = newSnapshot;
+        }
+    }
+
+    /**
+     * The snapshot to read from, readers only see published snapshots,
+     * apart from the thread applying a transaction, such as a post processor navigating to a node, which sees its own changes.
+     */
+    private NodeSnapshot readSnapshot() {
+        NodeSnapshot current = staged;
+        if (current != null && writeLock.isHeldByCurrentThread()) {
+            return current;
         }
+        return snapshot;
     }
 
     @Override
     public GResultOf<ConfigNode> reloadNode(ConfigNodeContainer reloadNode) throws GestaltException {
-        ConfigNode newRoot = null;
-        List<ValidationError> errors = new ArrayList<>();
+        return reloadNodeInternal(reloadNode, null);
+    }
+
+    @Override
+    public GResultOf<ChangedPaths> reloadNodeChanges(ConfigNodeContainer reloadNode) throws GestaltException {
+        List<List<Token>> changedPaths = new ArrayList<>();
+        return reloadNodeInternal(reloadNode, changedPaths).mapWithError(it -> ChangedPaths.of(changedPaths, lexer));
+    }
 
-        if (reloadNode == null) {
+    private GResultOf<ConfigNode> reloadNodeInternal(ConfigNodeContainer node, List<List<Token>> changedPaths)
+        throws GestaltException {
+        if (node == null) {
             throw new GestaltException("Null value provided for Node to be reloaded");
         }
+        ConfigNodeContainer reloadNode = compact(node);
 
-        long stamp = lock.readLock();
+        writeLock.lock();
         try {
-            int index = 0;
-            for (ConfigNodeContainer nodePair : configNodes) {
-
-                ConfigNode currentNode = nodePair.getConfigNode();
+            NodeSnapshot current = current();
+            // the root before post processing, to compare with the new root that is not yet post processed.
+            ConfigNode oldRawRoot = changedPaths != null ?
+                mergeRoots(current.configNodes, new ArrayList<>(current.mergedRoots), reloadNode.getTags()).root : null;
+            List<ConfigNodeContainer> configNodes = new ArrayList<>(current.configNodes.size());
+            List<MergedRoot> mergedRoots = new ArrayList<>(current.mergedRoots);
+            // the partial merges of the nodes from the first reloaded node with the same tags need to be merged again.
+            boolean reloaded = false;
+            for (int i = 0; i < current.configNodes.size(); i++) {
+                ConfigNodeContainer nodePair = current.configNodes.get(i);
                 if (nodePair.getSource().equals(reloadNode.getSource())) {
-                    configNodes.set(index, reloadNode);
-                    currentNode = reloadNode.getConfigNode();
+                    configNodes.add(reloadNode);
+                    reloaded = true;
+                } else {
+                    configNodes.add(nodePair);
                 }
 
-                // only merge with other nodes of the same tags.
-                if (!nodePair.matchesTags(reloadNode.getTags())) {
-                    continue;
+                if (reloaded && nodePair.matchesTags(reloadNode.getTags())) {
+                    mergedRoots.set(i, null);
                 }
+            }
 
-                if (newRoot == null) {
-                    newRoot = currentNode;
-                } else {
-                    GResultOf<ConfigNode> mergedNode = MergeNodes.mergeNodes("", lexer, newRoot, currentNode);
+            MergedRoot mergedRoot = mergeRoots(configNodes, mergedRoots, reloadNode.getTags());
+            ConfigNode newRoot = mergedRoot.root;
+            List<ValidationError> errors = new ArrayList<>(mergedRoot.errors);
 
-                    errors.addAll(mergedNode.getErrors());
-                    if (mergedNode.hasResults()) {
-                        newRoot = mergedNode.results();
-                    } else {
-                        errors.add(new ValidationError.NoResultsFoundForNode("", "reload node"));
-                    }
-                }
-                index++;
+            errors.addAll(validateNode(newRoot, current.validatedRoots.get(reloadNode.getTags())));
+            errors = errors.stream().filter(CollectionUtils.distinctBy(ValidationError::description)).collect(Collectors.toList());
+
+            LinkedHashMap<Tags, ConfigNode> roots = new LinkedHashMap<>(current.roots);
+            ConfigNode oldRoot = roots.put(reloadNode.getTags(), newRoot);
+            publish(newSnapshot(current, configNodes, mergedRoots, roots, validatedRoots(current, reloadNode.getTags(), newRoot, errors)));
+
+            if (changedPaths != null) {
+                findChangedPaths(oldRawRoot, oldRoot, newRoot, changedPaths);
             }
 
-            errors.addAll(validateNode(newRoot));
-            errors = errors.stream().filter(CollectionUtils.distinctBy(ValidationError::description)).collect(Collectors.toList());
+            return resultOf(newRoot, errors);
+        } finally {
+            writeLock.unlock();
+        }
+    }
 
-            boolean tryUpgradeSuccess = false;
-            while (!tryUpgradeSuccess) {
-                long ws = lock.tryConvertToWriteLock(stamp);
-                if (ws != 0L) {
-                    stamp = ws;
-                    tryUpgradeSuccess = true;
-                    roots.put(reloadNode.getTags(), newRoot);
+    /**
+     * Merge the config nodes with the tags in order, starting from the last partial merge that is still known.
+     * Any partial merges that are built are saved in the merged roots, so the next reload can start from them.
+     */
+    private MergedRoot mergeRoots(List<ConfigNodeContainer> configNodes, List<MergedRoot> mergedRoots, Tags tags) {
+        MergedRoot mergedRoot = new MergedRoot(null, List.of());
+        for (int i = 0; i < configNodes.size(); i++) {
+            ConfigNodeContainer nodePair = configNodes.get(i);
+            // only merge with other nodes of the same tags.
+            if (!nodePair.matchesTags(tags)) {
+                continue;
+            }
+
+            if (mergedRoots.get(i) != null) {
+                mergedRoot = mergedRoots.get(i);
+            } else {
+                if (mergedRoot.root == null) {
+                    mergedRoot = new MergedRoot(nodePair.getConfigNode(), mergedRoot.errors);
                 } else {
-                    lock.unlockRead(stamp);
-                    stamp = lock.writeLock();
+                    mergedRoot = mergedRoot.merge(MergeNodes.mergeNodes("", lexer, mergedRoot.root, nodePair.getConfigNode()));
                 }
+                mergedRoots.set(i, mergedRoot);
             }
+        }
+        return mergedRoot;
+    }
 
-            return resultOf(newRoot, errors);
-        } finally {
-            lock.unlock(stamp);
+    /**
+     * Find the paths that changed between the old and the new root, both before they are post processed.
+     * The nodes changed by post processing, such as string substitutions, can depend on any other path,
+     * so if anything changed they are found by comparing the old root before and after it was post processed.
+     */
+    private void findChangedPaths(ConfigNode oldRawRoot, ConfigNode oldRoot, ConfigNode newRoot, List<List<Token>> changedPaths) {
+        int changes = changedPaths.size();
+        diffNodes(new ArrayList<>(), oldRawRoot, newRoot, changedPaths);
+
+        if (changedPaths.size() > changes) {
+            diffNodes(new ArrayList<>(), oldRawRoot, oldRoot, changedPaths);
         }
     }
 
-    private List<ValidationError> validateNode(ConfigNode node) {
-        return validateNode("", node);
+    private void diffNodes(List<Token> path, ConfigNode oldNode, ConfigNode newNode, List<List<Token>> changedPaths) {
+        if (oldNode == newNode) {
+            return;
+        }
+
+        if (oldNode == null || newNode == null || oldNode.getNodeType() != newNode.getNodeType() ||
+            !metadataEquals(oldNode.getMetadata(), newNode.getMetadata())) {
+            changedPaths.add(List.copyOf(path));
+            return;
+        }
+
+        if (oldNode instanceof MapNode) {
+            Map<String, ConfigNode> oldMap = ((MapNode) oldNode).getMapNode();
+            Map<String, ConfigNode> newMap = ((MapNode) newNode).getMapNode();
+            Set<String> keys = new HashSet<>(oldMap.keySet());
+            keys.addAll(newMap.keySet());
+            for (String key : keys) {
+                path.add(new ObjectToken(key));
+                diffNodes(path, oldMap.get(key), newMap.get(key), changedPaths);
+                path.remove(path.size() - 1);
+            }
+        } else if (oldNode instanceof ArrayNode) {
+            int size = Math.max(oldNode.size(), newNode.size());
+            for (int i = 0; i < size; i++) {
+                path.add(new ArrayToken(i));
+                diffNodes(path, oldNode.getIndex(i).orElse(null), newNode.getIndex(i).orElse(null), changedPaths);
+                path.remove(path.size() - 1);
+            }
+        } else if (!oldNode.getValue().equals(newNode.getValue())) {
+            changedPaths.add(List.copyOf(path));
+        }
     }
 
-    private List<ValidationError> validateNode(String path, ConfigNode node) {
-        if (node instanceof ArrayNode) {
-            return validateArrayNode(path, (ArrayNode) node);
+    private static boolean metadataEquals(Map<String, List<MetaDataValue<?>>> oldMetadata,
+                                          Map<String, List<MetaDataValue<?>>> newMetadata) {
+        if (!oldMetadata.keySet().equals(newMetadata.keySet())) {
+            return false;
+        }
+
+        for (Map.Entry<String, List<MetaDataValue<?>>> entry : oldMetadata.entrySet()) {
+            List<MetaDataValue<?>> oldValues = entry.getValue();
+            List<MetaDataValue<?>> newValues = newMetadata.get(entry.getKey());
+            if (oldValues.size() != newValues.size()) {
+                return false;
+            }
+
+            for (int i = 0; i < oldValues.size(); i++) {
+                MetaDataValue<?> oldValue = oldValues.get(i);
+                MetaDataValue<?> newValue = newValues.get(i);
+                if (oldValue.getClass() != newValue.getClass() || !Objects.equals(oldValue.getMetadata(), newValue.getMetadata())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Validate a node, skipping any subtrees shared with a node that was previously validated without errors.
+     */
+    private List<ValidationError> validateNode(ConfigNode node, ConfigNode validatedNode) {
+        return validateNode("", node, validatedNode);
+    }
+
+    private List<ValidationError> validateNode(String path, ConfigNode node, ConfigNode validatedNode) {
+        if (node != null && node == validatedNode) {
+            return List.of();
+        } else if (node instanceof ArrayNode) {
+            return validateArrayNode(path, (ArrayNode) node, validatedNode instanceof ArrayNode ? (ArrayNode) validatedNode : null);
         } else if (node instanceof MapNode) {
-            return validateMapNode(path, (MapNode) node);
+            return validateMapNode(path, (MapNode) node, validatedNode instanceof MapNode ? (MapNode) validatedNode : null);
         } else if (node instanceof LeafNode) {
             return validateLeafNode(path, (LeafNode) node);
         } else {
@@ -228,7 +480,7 @@ public final class ConfigNodeManager implements ConfigNodeService {
         }
     }
 
-    private List<ValidationError> validateArrayNode(String path, ArrayNode node) {
+    private List<ValidationError> validateArrayNode(String path, ArrayNode node, ArrayNode validatedNode) {
         int size = node.size();
         List<ValidationError> errors = new ArrayList<>();
 
@@ -238,13 +490,14 @@ public final class ConfigNodeManager implements ConfigNodeService {
                 errors.add(new ValidationError.ArrayMissingIndex(i, path));
             } else {
                 String nextPath = PathUtil.pathForIndex(lexer, path, i);
-                errors.addAll(validateNode(nextPath, valueOptional.get()));
+                ConfigNode validatedValue = validatedNode != null ? validatedNode.getIndex(i).orElse(null) : null;
+                errors.addAll(validateNode(nextPath, valueOptional.get(), validatedValue));
             }
         }
         return errors;
     }
 
-    private List<ValidationError> validateMapNode(String path, MapNode node) {
+    private List<ValidationError> validateMapNode(String path, MapNode node, MapNode validatedNode) {
         List<ValidationError> errors = new ArrayList<>();
 
         node.getMapNode().forEach((key, value) -> {
@@ -254,7 +507,8 @@ public final class ConfigNodeManager implements ConfigNodeService {
                 errors.add(new ValidationError.EmptyNodeValueProvided(path, key));
             } else {
                 String nextPath = PathUtil.pathForKey(lexer, path, key);
-                errors.addAll(validateNode(nextPath, value));
+                ConfigNode validatedValue = validatedNode != null ? validatedNode.getMapNode().get(key) : null;
+                errors.addAll(validateNode(nextPath, value, validatedValue));
             }
         });
 
@@ -274,23 +528,71 @@ public final class ConfigNodeManager implements ConfigNodeService {
 
     @Override
     public GResultOf<ConfigNode> navigateToNode(String path, List<Token> tokens, Tags tags) {
-        long stamp = lock.tryOptimisticRead();
-        GResultOf<ConfigNode> value = navigateToNodeInternal(path, tokens, tags);
-
-        if (!lock.validate(stamp)) {
-            stamp = lock.readLock();
-            try {
-                return navigateToNodeInternal(path, tokens, tags);
-            } finally {
-                lock.unlockRead(stamp);
+        TagView tagView = getTagView(readSnapshot(), tags);
+
+        // navigate the merged roots, if there are any errors navigate each root so the errors are the same as searching the roots.
+        if (tagView.mergedRoot != null) {
+            GResultOf<ConfigNode> result = navigateToPathForNode(path, tokens, tagView.mergedRoot);
+            if (!result.hasErrors() || tagView.rootNodes.size() == 1) {
+                return result;
             }
         }
-        return value;
+
+        return navigateToNodeInRoots(path, tokens, tagView.rootNodes);
+    }
+
+    @Override
+    public ConfigNode findNode(String path, List<Token> tokens, Tags tags) {
+        TagView tagView = getTagView(readSnapshot(), tags);
+        if (tagView.mergedRoot == null) {
+            return ConfigNodeService.super.findNode(path, tokens, tags);
+        }
+
+        // walk the merged root directly, as there is no need to build the errors if a node is missing.
+        ConfigNode node = tagView.mergedRoot;
+        for (int i = 0; i < tokens.size() && node != null; i++) {
+            Token token = tokens.get(i);
+            if (token instanceof ObjectToken && node instanceof MapNode) {
+                node = ((MapNode) node).getMapNode().get(((ObjectToken) token).getName());
+            } else if (token instanceof ArrayToken && node instanceof ArrayNode) {
+                List<ConfigNode> array = ((ArrayNode) node).getArray();
+                int index = ((ArrayToken) token).getIndex();
+                node = index >= 0 && index < array.size() ? array.get(index) : null;
+            } else {
+                node = null;
+            }
+        }
+        return node;
     }
 
-    private GResultOf<ConfigNode> navigateToNodeInternal(String path, List<Token> tokens, Tags tags) {
+    private TagView getTagView(NodeSnapshot current, Tags tags) {
+        TagView tagView = current.tagViews.get(tags);
+        if (tagView == null) {
+            tagView = current.tagViews.computeIfAbsent(tags, it -> buildTagView(current.roots, it));
+        }
+        return tagView;
+    }
+
+    private TagView buildTagView(LinkedHashMap<Tags, ConfigNode> roots, Tags tags) {
         List<GResultOf<ConfigNode>> rootNodes = configNodeTagResolutionStrategy.rootsToSearch(roots, tags);
+        if (rootNodes.isEmpty() || !rootNodes.stream().allMatch(GResultOf::hasResults)) {
+            return new TagView(rootNodes, null);
+        }
+
+        ConfigNode mergedRoot = rootNodes.get(0).results();
+        for (int i = 1; i < rootNodes.size(); i++) {
+            GResultOf<ConfigNode> mergedNode = MergeNodes.mergeNodes("", lexer, mergedRoot, rootNodes.get(i).results());
+            // if the roots can not be merged without errors, always search the roots one at a time.
+            if (mergedNode.hasErrors() || !mergedNode.hasResults()) {
+                return new TagView(rootNodes, null);
+            }
+            mergedRoot = mergedNode.results();
+        }
 
+        return new TagView(rootNodes, mergedRoot);
+    }
+
+    private GResultOf<ConfigNode> navigateToNodeInRoots(String path, List<Token> tokens, List<GResultOf<ConfigNode>> rootNodes) {
         // if there is only one root node.
         if (rootNodes.isEmpty()) {
             return GResultOf.errors(new ValidationError.NoResultsFoundForNode(path, MapNode.class, "navigating to node"));
@@ -324,11 +626,13 @@ public final class ConfigNodeManager implements ConfigNodeService {
 
 
     private GResultOf<ConfigNode> navigateToPathForNode(String path, List<Token> tokens, ConfigNode currentNode) {
-        List<ValidationError> errors = new ArrayList<>();
+        // only build the error list if there are errors.
+        List<ValidationError> errors = null;
 
         ConfigNode nextNode = currentNode;
 
-        for (Token token : tokens) {
+        for (int i = 0; i < tokens.size(); i++) {
+            Token token = tokens.get(i);
             GResultOf<ConfigNode> result = navigateToNextNode(path, token, nextNode);
 
             // if there are errors, add them to the error list and do not add the merge results
@@ -339,11 +643,14 @@ public final class ConfigNodeManager implements ConfigNodeService {
             if (result.hasResults()) {
                 nextNode = result.results();
             } else {
+                if (errors == null) {
+                    errors = new ArrayList<>();
+                }
                 errors.add(new ValidationError.NoResultsFoundForNode(path, MapNode.class, "navigating to node"));
             }
         }
 
-        return resultOf(nextNode, errors);
+        return errors == null ? GResultOf.result(nextNode) : resultOf(nextNode, errors);
     }
 
     @Override
@@ -415,24 +722,99 @@ public final class ConfigNodeManager implements ConfigNodeService {
 
     @Override
     public String debugPrintRoot(Tags tags, SecretConcealer secretConcealer) {
-        long stamp = lock.readLock();
-        try {
-            return roots.get(tags).printer("", secretConcealer, lexer);
-        } finally {
-            lock.unlockRead(stamp);
-        }
+        return readSnapshot().roots.get(tags).printer("", secretConcealer, lexer);
     }
 
     @Override
     public String debugPrintRoot(SecretConcealer secretConcealer) {
-        long stamp = lock.readLock();
-        try {
-            return roots.entrySet()
-                .stream()
-                .map((it) -> "tags: " + it.getKey() + " = " + it.getValue().printer("", secretConcealer, lexer))
-                .collect(Collectors.joining("\n"));
-        } finally {
-            lock.unlockRead(stamp);
+        return readSnapshot().roots.entrySet()
+            .stream()
+            .map((it) -> "tags: " + it.getKey() + " = " + it.getValue().printer("", secretConcealer, lexer))
+            .collect(Collectors.joining("\n"));
+    }
+
+    /**
+     * The config nodes and the roots built from them, neither is modified once the snapshot is published.
+     */
+    private static final class NodeSnapshot {
+        private final List<ConfigNodeContainer> configNodes;
+        // the partial merge of the config nodes with the same tags up to each config node, or null if it is not known.
+        private final List<MergedRoot> mergedRoots;
+        // We store the node roots by tags. The default will be an empty Tags.
+        private final LinkedHashMap<Tags, ConfigNode> roots;
+        // the last root for each tags that was validated without any errors.
+        private final Map<Tags, ConfigNode> validatedRoots;
+        // the last post processed root for each tags that was compacted, so compacting the next root can reuse its nodes.
+        private final Map<Tags, ConfigNode> compactedRoots;
+        // the views for the tags looked up, built the first time the tags are used.
+        private final Map<Tags, TagView> tagViews;
+
+        private NodeSnapshot(List<ConfigNodeContainer> configNodes, List<MergedRoot> mergedRoots, LinkedHashMap<Tags, ConfigNode> roots,
+                             Map<Tags, ConfigNode> validatedRoots, Map<Tags, ConfigNode> compactedRoots, Map<Tags, TagView> tagViews) {
+            this.configNodes = configNodes;
+            this.mergedRoots = mergedRoots;
+            this.roots = roots;
+            this.validatedRoots = validatedRoots;
+            this.compactedRoots = compactedRoots;
+            this.tagViews = new ConcurrentHashMap<>(tagViews);
+        }
+    }
+
+    /**
+     * The config nodes with the same tags merged in order up to a config node, and the errors from merging them.
+     */
+    private static final class MergedRoot {
+        private final ConfigNode root;
+        private final List<ValidationError> errors;
+
+        private MergedRoot(ConfigNode root, List<ValidationError> errors) {
+            this.root = root;
+            this.errors = errors;
+        }
+
+        /**
+         * The partial merge after merging the next config node, keeping this root if the nodes could not be merged.
+         */
+        private MergedRoot merge(GResultOf<ConfigNode> mergedNode) {
+            if (!mergedNode.hasErrors() && mergedNode.hasResults()) {
+                return new MergedRoot(mergedNode.results(), errors);
+            }
+
+            List<ValidationError> mergedErrors = new ArrayList<>(errors);
+            mergedErrors.addAll(mergedNode.getErrors());
+            if (mergedNode.hasResults()) {
+                return new MergedRoot(mergedNode.results(), List.copyOf(mergedErrors));
+            } else {
+                mergedErrors.add(new ValidationError.NoResultsFoundForNode("", "reload node"));
+                return new MergedRoot(root, List.copyOf(mergedErrors));
+            }
+        }
+    }
+
+    /**
+     * The roots to search for a set of tags, and the roots merged together.
+     */
+    private static final class TagView {
+        private final List<GResultOf<ConfigNode>> rootNodes;
+        // the roots merged in order, or null if they can not be merged without errors.
+        private final ConfigNode mergedRoot;
+
+        private TagView(List<GResultOf<ConfigNode>> rootNodes, ConfigNode mergedRoot) {
+            this.rootNodes = rootNodes;
+            this.mergedRoot = mergedRoot;
+        }
+
+        private boolean hasSameRoots(List<GResultOf<ConfigNode>> otherRootNodes) {
+            if (rootNodes.size() != otherRootNodes.size()) {
+                return false;
+            }
+
+            for (int i = 0; i < rootNodes.size(); i++) {
+                if (rootNodes.get(i).results() != otherRootNodes.get(i).results()) {
+                    return false;
+                }
+            }
+            return true;
         }
     }
 }
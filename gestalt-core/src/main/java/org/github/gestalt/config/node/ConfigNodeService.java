@@ -2,6 +2,7 @@ package org.github.gestalt.config.node;
 
 import org.github.gestalt.config.entity.ConfigNodeContainer;
 import org.github.gestalt.config.exceptions.GestaltException;
+import org.github.gestalt.config.reload.ChangedPaths;
 import org.github.gestalt.config.secret.rules.SecretConcealer;
 import org.github.gestalt.config.tag.Tags;
 import org.github.gestalt.config.token.Token;
@@ -47,6 +48,47 @@ public interface ConfigNodeService {
      */
     GResultOf<ConfigNode> reloadNode(ConfigNodeContainer reloadNode) throws GestaltException;
 
+    /**
+     * Reload a node the same as {@link #reloadNode(ConfigNodeContainer)}, returning the paths that changed in the config tree.
+     * By default, it treats every path as changed.
+     *
+     * @param reloadNode node to reload.
+     * @return the paths that changed in the config tree, or the errors if the node could not be reloaded.
+     * @throws GestaltException any exceptions
+     */
+    default GResultOf<ChangedPaths> reloadNodeChanges(ConfigNodeContainer reloadNode) throws GestaltException {
+        return reloadNode(reloadNode).mapWithError(it -> ChangedPaths.all());
+    }
+
+    /**
+     * Apply a change to the config nodes, such as reloading several nodes and post processing them, as a single transaction.
+     * No other change can be made while the transaction runs, and if it throws an exception the config nodes are restored to
+     * how they were before it started. By default, the change is applied without restoring the config nodes.
+     *
+     * @param transaction the change to apply
+     * @param <T>         type returned by the change
+     * @return the result of the change
+     * @throws GestaltException any exceptions thrown by the change
+     */
+    default <T> T transaction(Transaction<T> transaction) throws GestaltException {
+        return transaction.apply();
+    }
+
+    /**
+     * A change to the config nodes applied by {@link #transaction(Transaction)}.
+     *
+     * @param <T> type returned by the change
+     */
+    interface Transaction<T> {
+        /**
+         * Apply the change to the config nodes.
+         *
+         * @return the result of the change
+         * @throws GestaltException any exceptions
+         */
+        T apply() throws GestaltException;
+    }
+
     /**
      * navigate to a node for a path from the root.
      *
@@ -57,6 +99,23 @@ public interface ConfigNodeService {
      */
     GResultOf<ConfigNode> navigateToNode(String path, List<Token> tokens, Tags tags);
 
+    /**
+     * Find the node for a path from the root, without reporting why it could not be found.
+     * Used by the fast paths that fall back to {@link #navigateToNode(String, List, Tags)} to get the errors.
+     *
+     * @param path   to navigate to
+     * @param tokens list of tokens to navigate to.
+     * @param tags   list of tags to match
+     * @return the node, or null if it could not be found or there were any errors.
+     */
+    default ConfigNode findNode(String path, List<Token> tokens, Tags tags) {
+        GResultOf<ConfigNode> result = navigateToNode(path, tokens, tags);
+        if (result.hasErrors() || !result.hasResults()) {
+            return null;
+        }
+        return result.results();
+    }
+
     /**
      * From a given node navigate to the next node.
      * If an ArrayToken and the config node is an ArrayNode it will return the next node by index.
@@ -6,6 +6,7 @@ import org.github.gestalt.config.metadata.MetaDataValue;
 import org.github.gestalt.config.secret.rules.SecretConcealer;
 
 import java.util.*;
+import java.util.function.Function;
 
 /**
  * leaf node that holds a value.
@@ -14,6 +15,8 @@ import java.util.*;
  */
 public class LeafNode extends AbstractConfigNode {
     private final String value;
+    // the value decoded to each type, computed on first use as the node is immutable.
+    private volatile Map<Class<?>, Object> decodedValues = Map.of();
 
     /**
      * Construct a leaf node that holds a single value.
@@ -54,6 +57,38 @@ public class LeafNode extends AbstractConfigNode {
         return Optional.ofNullable(value);
     }
 
+    /**
+     * Get the value of this leaf already decoded to a type by {@link #decodeValue(Class, Function)}.
+     *
+     * @param type the type the value was decoded to.
+     * @return the decoded value, or null if it has not been decoded to the type.
+     */
+    public Object getDecodedValue(Class<?> type) {
+        return decodedValues.get(type);
+    }
+
+    /**
+     * Decode the value of this leaf to a type, keeping the result with the node so later calls share it.
+     * The decoder must only depend on the value of the leaf, not on the path or tags it was found with.
+     *
+     * @param type    the type to decode the value to.
+     * @param decoder decodes this leaf, returning null if it can not be decoded.
+     * @return the decoded value, or null if it can not be decoded.
+     */
+    public Object decodeValue(Class<?> type, Function<LeafNode, Object> decoder) {
+        Object decoded = decodedValues.get(type);
+        if (decoded == null) {
+            decoded = decoder.apply(this);
+            if (decoded != null) {
+                Map<Class<?>, Object> values = new HashMap<>(decodedValues);
+                values.put(type, decoded);
+                // a racing thread may drop an entry, it is only decoded again on the next call.
+                decodedValues = Map.copyOf(values);
+            }
+        }
+        return decoded;
+    }
+
     @Override
     public boolean hasValue() {
         return value != null;
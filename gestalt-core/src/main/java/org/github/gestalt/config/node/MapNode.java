@@ -17,6 +17,7 @@ import java.util.stream.Collectors;
 public final class MapNode extends AbstractConfigNode {
 
     private final Map<String, ConfigNode> nodes;
+    private final Set<String> subtreeMetadataKeys;
 
     /**
      * Construct the MapNode by providing a map for the current tree.
@@ -29,7 +30,10 @@ public final class MapNode extends AbstractConfigNode {
 
     public MapNode(Map<String, ConfigNode> mapNode, Map<String, List<MetaDataValue<?>>> metadata) {
         super(metadata);
-        this.nodes = Collections.unmodifiableMap(Objects.requireNonNullElse(mapNode, Collections.emptyMap()));
+        // a compact map is already unmodifiable.
+        this.nodes = mapNode instanceof CompactMap ? mapNode :
+            Collections.unmodifiableMap(Objects.requireNonNullElse(mapNode, Collections.emptyMap()));
+        this.subtreeMetadataKeys = collectSubtreeMetadataKeys(nodes.values());
     }
 
     @Override
@@ -39,11 +43,7 @@ public final class MapNode extends AbstractConfigNode {
 
     @Override
     public Optional<ConfigNode> getKey(String key) {
-        if (nodes.containsKey(key)) {
-            return Optional.ofNullable(nodes.get(key));
-        } else {
-            return Optional.empty();
-        }
+        return Optional.ofNullable(nodes.get(key));
     }
 
     @Override
@@ -53,29 +53,12 @@ public final class MapNode extends AbstractConfigNode {
 
     @Override
     public Map<String, List<MetaDataValue<?>>> getRolledUpMetadata() {
+        return rollupMetadata(nodes.values());
+    }
 
-        // for each entry in the map, try and roll it up. It will return the rolled up map.
-        // Then we continue for each entry passing the previously rolled up map into the next metadata.
-        Map<String, List<MetaDataValue<?>>> rolledUpMetadata = new HashMap<>();
-        for (ConfigNode configNode : nodes.values()) {
-            if (configNode != null) {
-                Map<String, List<MetaDataValue<?>>> nodeMetadata = configNode.getRolledUpMetadata();
-                for (Map.Entry<String, List<MetaDataValue<?>>> entry : nodeMetadata.entrySet()) {
-                    for (MetaDataValue<?> metadata : entry.getValue()) {
-                        rolledUpMetadata = metadata.rollup(rolledUpMetadata);
-                    }
-                }
-            }
-        }
-
-        //now rollup the array nodes metadata
-        for (Map.Entry<String, List<MetaDataValue<?>>> entry : metadata.entrySet()) {
-            for (MetaDataValue<?> metadata : entry.getValue()) {
-                rolledUpMetadata = metadata.rollup(rolledUpMetadata);
-            }
-        }
-
-        return rolledUpMetadata;
+    @Override
+    protected Set<String> getSubtreeMetadataKeys() {
+        return subtreeMetadataKeys;
     }
 
     /**
@@ -26,6 +26,10 @@ public final class MergeNodes {
     /**
      * Merge two nodes and return the results of the merge. The values in node1 will be overridden by the values in node2
      *
+     * <p>The merge shares structure with its inputs, subtrees that only exist in one of the nodes are reused as is,
+     * and if the merged node has the same children as one of the inputs that input is returned instead of a copy.
+     * So merging a node with itself returns the same node, and only the nodes along the paths that changed are copied.
+     *
      * @param path  the path of the nodes we are merging.
      * @param lexer lexer used to get the delimiter to build the path
      * @param node1 the base node, its properties will be overridden by the node2
@@ -54,6 +58,9 @@ public final class MergeNodes {
         int maxSize = Math.max(arrayNode1.size(), arrayNode2.size());
         ConfigNode[] values = new ConfigNode[maxSize];
         List<ValidationError> errors = new ArrayList<>();
+        // track if the merged values are the same as either of the arrays, so we can return it rather than a copy.
+        boolean sameAsArray1 = arrayNode1.size() == maxSize;
+        boolean sameAsArray2 = arrayNode2.size() == maxSize;
 
         // loop though the array to the max size.
         // for each index check if exists in both, then merge the nodes.
@@ -80,6 +87,15 @@ public final class MergeNodes {
             } else {
                 errors.add(new ValidationError.ArrayMissingIndex(i, path));
             }
+
+            sameAsArray1 = sameAsArray1 && values[i] != null && values[i] == array1AtIndex.orElse(null);
+            sameAsArray2 = sameAsArray2 && values[i] != null && values[i] == array2AtIndex.orElse(null);
+        }
+
+        if (sameAsArray1 && arrayNode1.getMetadata().isEmpty()) {
+            return resultOf(arrayNode1, errors);
+        } else if (sameAsArray2 && arrayNode2.getMetadata().isEmpty()) {
+            return resultOf(arrayNode2, errors);
         }
 
         ArrayNode results = new ArrayNode(Arrays.asList(values));
@@ -87,50 +103,113 @@ public final class MergeNodes {
     }
 
     private static GResultOf<ConfigNode> mergeMapNodes(String path, SentenceLexer lexer, MapNode mapNode1, MapNode mapNode2) {
-        Map<String, ConfigNode> mergedNode = new HashMap<>();
+        Map<String, ConfigNode> map1 = mapNode1.getMapNode();
+        Map<String, ConfigNode> map2 = mapNode2.getMapNode();
+        // the merged children of the keys in both nodes, only those that differ from the child in mapNode1.
+        Map<String, ConfigNode> changedNodes = null;
         List<ValidationError> errors = new ArrayList<>();
+        // track if the merged node has the same children as either of the nodes, so we can return it rather than a copy.
+        boolean sameAsMap1 = mapNode1.getMetadata().isEmpty();
+        boolean sameAsMap2 = mapNode2.getMetadata().isEmpty() && map2.size() >= map1.size();
+        boolean hasNullEntries = false;
 
         // First we check all the nodes in mapNode1.
         // If the node also exists in mapNode2, it exists in both. So we need to merge them.
-        // if it only exists in mapNode1 then we can add it to the merged Node, as it is not in mapNode2.
-        for (Map.Entry<String, ConfigNode> entry : mapNode1.getMapNode().entrySet()) {
+        // if it only exists in mapNode1 then it is kept from mapNode1, as it is not in mapNode2.
+        for (Map.Entry<String, ConfigNode> entry : map1.entrySet()) {
             String key = entry.getKey();
             if (key == null) {
                 errors.add(new ValidationError.EmptyNodeNameProvided(path));
+                hasNullEntries = true;
             } else if (entry.getValue() == null) {
                 errors.add(new ValidationError.EmptyNodeValueProvided(path, key));
-            } else if (mapNode2.getKey(key).isPresent()) {
-                String nextPath = PathUtil.pathForKey(lexer, path, key);
-                GResultOf<ConfigNode> result = mergeNodes(nextPath, lexer, entry.getValue(), mapNode2.getKey(key).get());
-
-                // if there are errors, add them to the error list abd do not add the merge results
-                errors.addAll(result.getErrors());
-                if (result.hasResults()) {
-                    mergedNode.putIfAbsent(key, result.results());
+                hasNullEntries = true;
+            } else {
+                ConfigNode node2 = map2.get(key);
+                if (node2 != null) {
+                    String nextPath = PathUtil.pathForKey(lexer, path, key);
+                    GResultOf<ConfigNode> result = mergeNodes(nextPath, lexer, entry.getValue(), node2);
+
+                    // if there are errors, add them to the error list abd do not add the merge results
+                    errors.addAll(result.getErrors());
+                    if (result.hasResults()) {
+                        ConfigNode merged = result.results();
+                        if (merged != entry.getValue()) {
+                            if (changedNodes == null) {
+                                changedNodes = new HashMap<>();
+                            }
+                            changedNodes.put(key, merged);
+                            sameAsMap1 = false;
+                        }
+                        sameAsMap2 = sameAsMap2 && merged == node2;
+                    } else {
+                        // if the nodes can not be merged, the node from mapNode2 is used.
+                        errors.add(new ValidationError.NoResultsFoundForNode(path, MapNode.class, "merging maps"));
+                        if (changedNodes == null) {
+                            changedNodes = new HashMap<>();
+                        }
+                        changedNodes.put(key, node2);
+                        sameAsMap1 = false;
+                    }
                 } else {
-                    errors.add(new ValidationError.NoResultsFoundForNode(path, MapNode.class, "merging maps"));
+                    sameAsMap2 = false;
                 }
-            } else {
-                mergedNode.putIfAbsent(key, entry.getValue());
             }
         }
 
-        // Do a pass on mapNode2 and add any nodes that were not a intersection with mapNode1.
-        // this is simply adding all nodes in mapNode2 using putIfAbsent, so they will only be added if they were missing.
-        for (Map.Entry<String, ConfigNode> entry : mapNode2.getMapNode().entrySet()) {
+        // Do a pass on mapNode2 and find any nodes that were not a intersection with mapNode1.
+        boolean hasNewNodes = false;
+        for (Map.Entry<String, ConfigNode> entry : map2.entrySet()) {
             String key = entry.getKey();
             if (key == null) {
                 errors.add(new ValidationError.EmptyNodeNameProvided(path));
+                hasNullEntries = true;
             } else if (entry.getValue() == null) {
                 errors.add(new ValidationError.EmptyNodeValueProvided(path, key));
-            } else {
-                mergedNode.putIfAbsent(entry.getKey(), entry.getValue());
+                hasNullEntries = true;
+            } else if (!hasNewNodes && map1.get(key) == null) {
+                hasNewNodes = true;
             }
         }
 
+        if (hasNullEntries) {
+            return resultOf(new MapNode(copyMergedNodes(map1, map2, changedNodes)), errors);
+        } else if (sameAsMap1 && !hasNewNodes) {
+            return resultOf(mapNode1, errors);
+        } else if (sameAsMap2) {
+            return resultOf(mapNode2, errors);
+        }
+
+        // copy mapNode1 and override the merged nodes, then add the nodes that only exist in mapNode2.
+        Map<String, ConfigNode> mergedNode = new HashMap<>(map1);
+        if (changedNodes != null) {
+            mergedNode.putAll(changedNodes);
+        }
+        if (hasNewNodes) {
+            for (Map.Entry<String, ConfigNode> entry : map2.entrySet()) {
+                mergedNode.putIfAbsent(entry.getKey(), entry.getValue());
+            }
+        }
         return resultOf(new MapNode(mergedNode), errors);
     }
 
+    /**
+     * Build the merged nodes one entry at a time, skipping any null keys or values.
+     */
+    private static Map<String, ConfigNode> copyMergedNodes(Map<String, ConfigNode> map1, Map<String, ConfigNode> map2,
+                                                           Map<String, ConfigNode> changedNodes) {
+        Map<String, ConfigNode> mergedNode = new HashMap<>();
+        for (Map<String, ConfigNode> map : List.of(map1, map2)) {
+            for (Map.Entry<String, ConfigNode> entry : map.entrySet()) {
+                if (entry.getKey() != null && entry.getValue() != null) {
+                    ConfigNode changed = changedNodes != null ? changedNodes.get(entry.getKey()) : null;
+                    mergedNode.putIfAbsent(entry.getKey(), changed != null ? changed : entry.getValue());
+                }
+            }
+        }
+        return mergedNode;
+    }
+
     private static GResultOf<ConfigNode> mergeLeafNodes(String path, LeafNode node1, LeafNode node2) {
         if (node2.getValue().isPresent()) {
             return GResultOf.result(node2);
@@ -11,18 +11,17 @@ import org.github.gestalt.config.node.MapNode;
 import org.github.gestalt.config.token.ArrayToken;
 import org.github.gestalt.config.token.ObjectToken;
 import org.github.gestalt.config.token.Token;
-import org.github.gestalt.config.utils.CollectionUtils;
 import org.github.gestalt.config.utils.GResultOf;
 import org.github.gestalt.config.utils.Pair;
 import org.github.gestalt.config.utils.PathUtil;
 
 import java.util.*;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /**
  * Takes in a tokenized config and returns a config node tree.
  *
+ * <p>The token paths are inserted in a single pass into a prefix tree, that is then validated and frozen into the config nodes.
+ *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2025.
  */
 public final class MapConfigParser implements ConfigParser {
@@ -34,9 +33,8 @@ public final class MapConfigParser implements ConfigParser {
     }
 
     /**
-     * Recursive call to group each section of config that have the same path to this paint until we hit the leaf.
-     * Then return the leaf
-     * Use the children leaf to build the config tree
+     * Insert each config path into a prefix tree, grouping all the configs with the same path to this point.
+     * Then validate and freeze the prefix tree into the config node tree.
      *
      * @param tokens       group of tokens that represent an object Array or Map config node
      * @param index        the depth of the currant group of config lists we are looking at.
@@ -50,219 +48,274 @@ public final class MapConfigParser implements ConfigParser {
             return GResultOf.errors(new ValidationError.EmptyToken());
         }
 
-        // build the current path, mostly for logging.
-        String currentPath = PathUtil.toPath(lexer, tokens.get(0).getFirst().subList(0, index));
-        List<ValidationError> errorList = new ArrayList<>();
+        List<Token> firstPath = tokens.get(0).getFirst();
+        PathTrie root = new PathTrie(null, null, index, firstPath.subList(0, Math.min(index, firstPath.size())));
+        for (int i = 0; i < tokens.size(); i++) {
+            Pair<List<Token>, ConfigValue> config = tokens.get(i);
+            root.insert(config.getFirst(), index, config.getSecond(), i);
+        }
+
+        return freeze(lexer, root, failOnErrors);
+    }
 
-        // if there is only 1 token and we are at the end of the path return a valid leaf.
-        if (tokens.size() == 1 && tokens.get(0).getFirst().size() <= index) {
-            ConfigValue configValue = tokens.get(0).getSecond();
-            return GResultOf.result(new LeafNode(configValue.getValue()));
+    /**
+     * Recursively validate a node of the prefix tree and build the config node for it from its children.
+     *
+     * @param lexer        lexer used to get the delimiter to build the path
+     * @param node         the node in the prefix tree to freeze
+     * @param failOnErrors Results can be unpredictable if it continues
+     * @return the ConfigNode for the node in the prefix tree
+     */
+    private GResultOf<ConfigNode> freeze(SentenceLexer lexer, PathTrie node, boolean failOnErrors) {
+
+        // if there is only 1 config and we are at the end of the path return a valid leaf.
+        if (node.count == 1 && node.leafCount == 1) {
+            return GResultOf.result(new LeafNode(node.leafValue.getValue()));
         }
 
         // result any mis-matched path's, this is most like when a path is both a duplicate, or leaf and an object and an array.
-        List<ValidationError> mismatchedPathLengthErrors = getPathLengthErrors(tokens, index, currentPath);
-        if (!mismatchedPathLengthErrors.isEmpty()) {
-            return GResultOf.errors(mismatchedPathLengthErrors);
+        if (node.leafCount > 0) {
+            return GResultOf.errors(new ValidationError.PathLengthErrors(node.path(lexer)));
         }
 
-        // group the tokens at the index, for example all object tokens with the same name will be grouped, or arrays with the same index.
-        // these grouped objects represent a child object
-        Map<Token, List<Pair<List<Token>, ConfigValue>>> tokensAtIndexGrouped =
-            tokens.stream().collect(Collectors.groupingBy(tokenPair -> tokenPair.getFirst().get(index)));
+        List<ValidationError> errorList = new ArrayList<>();
 
         // a distinct list of all token types in this level of the config tree branch
-        List<Token> tokenTypes = tokensAtIndexGrouped.keySet().stream()
-            .filter(CollectionUtils.distinctBy(Token::getClass))
-            .collect(Collectors.toList());
+        List<Token> tokenTypes = new ArrayList<>(1);
+        for (Token token : node.children.keySet()) {
+            boolean isNewType = true;
+            for (int i = 0; i < tokenTypes.size() && isNewType; i++) {
+                isNewType = !tokenTypes.get(i).getClass().equals(token.getClass());
+            }
+            if (isNewType) {
+                tokenTypes.add(token);
+            }
+        }
 
         // do some validation on the node.
-        if (tokenTypes.isEmpty()) {
-            errorList.add(new ValidationError.NoTokensInPath(currentPath));
-        } else if (tokenTypes.size() > 1) {
+        if (tokenTypes.size() > 1) {
             // if there is more than one token type we add the error
-            errorList.add(new ValidationError.MultipleTokenTypes(currentPath, tokenTypes));
-        } else {
+            errorList.add(new ValidationError.MultipleTokenTypes(node.path(lexer), tokenTypes));
+        } else if (tokenTypes.get(0) instanceof ArrayToken) {
             // if there is only 1 token type all tokens at this level of the config tree are the same.
-            if (tokenTypes.get(0) instanceof ArrayToken) {
-                // result possible array errors.
-                errorList.addAll(validateArrayInvalidIndex(tokens, index, currentPath));
-                errorList.addAll(validateArrayMissingIndex(tokens, index, currentPath));
-                errorList.addAll(validateArrayDuplicateLeafIndex(tokensAtIndexGrouped, index, currentPath));
-                errorList.addAll(validateArrayLeafAndNonLeaf(tokensAtIndexGrouped, index, currentPath));
-            } else if (!(tokenTypes.get(0) instanceof ObjectToken)) {
-                // if this is not a ArrayToken or a ObjectToken then it is an unknown token.
-                errorList.add(new ValidationError.UnknownTokenWithPath(tokenTypes.get(0), currentPath));
-            }
+            validateArray(lexer, node, errorList);
+        } else if (!(tokenTypes.get(0) instanceof ObjectToken)) {
+            // if this is not a ArrayToken or a ObjectToken then it is an unknown token.
+            errorList.add(new ValidationError.UnknownTokenWithPath(tokenTypes.get(0), node.path(lexer)));
         }
 
         //if there are any Error level validation issues don't continue validating of the sub tree.
-        if (errorList.stream().anyMatch(it -> it.level().equals(ValidationLevel.ERROR))) {
-            return GResultOf.errors(errorList);
+        for (ValidationError error : errorList) {
+            if (error.level() == ValidationLevel.ERROR) {
+                return GResultOf.errors(errorList);
+            }
         }
 
-        // group all similar tokens, then recursively call buildConfigTree with them.
-        List<Pair<Token, GResultOf<ConfigNode>>> configsValidateOf =
-            tokens.stream()
-                .collect(Collectors.groupingBy(tokenPair -> tokenPair.getFirst().get(index)))
-                .entrySet()
-                .stream()
-                .map(entry -> new Pair<>(entry.getKey(), buildConfigTree(lexer, entry.getValue(), index + 1, failOnErrors)))
-                .collect(Collectors.toList());
-
-        // Get any errors and split them by level.
-        Map<ValidationLevel, List<ValidationError>> recursiveErrors =
-            configsValidateOf.stream()
-                .map(it -> it.getSecond().getErrors())
-                .flatMap(Collection::stream)
-                .collect(Collectors.groupingBy(ValidationError::level));
-
-        // add all warning errors to the current error list.
-        if (recursiveErrors.containsKey(ValidationLevel.WARN)) {
-            errorList.addAll(recursiveErrors.get(ValidationLevel.WARN));
+        List<PathTrie> children = new ArrayList<>(node.children.values());
+        List<GResultOf<ConfigNode>> childResults = new ArrayList<>(children.size());
+        for (PathTrie child : children) {
+            childResults.add(freeze(lexer, child, failOnErrors));
         }
 
-        // add all missing values errors to the current error list.
-        if (recursiveErrors.containsKey(ValidationLevel.MISSING_VALUE)) {
-            errorList.addAll(recursiveErrors.get(ValidationLevel.MISSING_VALUE));
+        // add all warning, then missing values then error level errors to the current error list.
+        boolean hasErrors = false;
+        for (GResultOf<ConfigNode> childResult : childResults) {
+            errorList.addAll(childResult.getErrors(ValidationLevel.WARN));
+        }
+        for (GResultOf<ConfigNode> childResult : childResults) {
+            errorList.addAll(childResult.getErrors(ValidationLevel.MISSING_VALUE));
+        }
+        for (GResultOf<ConfigNode> childResult : childResults) {
+            List<ValidationError> childErrors = childResult.getErrors(ValidationLevel.ERROR);
+            hasErrors = hasErrors || !childErrors.isEmpty();
+            errorList.addAll(childErrors);
         }
 
         // if there are any error level return immediately unless we have treatErrorsAsWarnings enabled.
-        if (recursiveErrors.containsKey(ValidationLevel.ERROR)) {
-            errorList.addAll(recursiveErrors.get(ValidationLevel.ERROR));
-            if (failOnErrors) {
-                return GResultOf.errors(errorList);
-            }
+        if (hasErrors && failOnErrors) {
+            return GResultOf.errors(errorList);
         }
 
-        // pull out the valid config nodes.
-        List<Pair<Token, ConfigNode>> configs =
-            configsValidateOf.stream()
-                .filter(it -> (!failOnErrors || !it.getSecond().hasErrors(ValidationLevel.ERROR)) &&
-                    it.getSecond().hasResults())
-                .map(it -> new Pair<>(it.getFirst(), it.getSecond().results()))
-                .collect(Collectors.toList());
-
-
-        // There should only be one node type for this group of config as we have already validated it
-        if (configsValidateOf.isEmpty()) {
-            logger.log(System.Logger.Level.WARNING, "unable to parse tokens and create config node");
-        } else if (configs.isEmpty()) {
-            logger.log(System.Logger.Level.WARNING, "No configs found");
+        // pull out the valid config nodes, there should only be one node type for this group of config as we have already validated it
+        ConfigNode result;
+        if (tokenTypes.get(0) instanceof ObjectToken) {
+            Map<String, ConfigNode> mapNodes = new HashMap<>();
+            for (int i = 0; i < children.size(); i++) {
+                if (childResults.get(i).hasResults()) {
+                    mapNodes.put(((ObjectToken) children.get(i).token).getName(), childResults.get(i).results());
+                }
+            }
+            result = mapNodes.isEmpty() ? null : new MapNode(mapNodes);
         } else {
-            Token token = configs.get(0).getFirst();
-            ConfigNode result = null;
-            if (token instanceof ObjectToken) {
-                result = new MapNode(configs.stream()
-                    .collect(Collectors.toMap(it -> ((ObjectToken) it.getFirst()).getName(), Pair::getSecond)));
-            } else if (token instanceof ArrayToken) {
-                OptionalInt maxArrayInt = configs.stream()
-                    .map(it -> ((ArrayToken) it.getFirst()).getIndex()).mapToInt(Integer::intValue).max();
-
-                ConfigNode[] arrayNodes = new ConfigNode[maxArrayInt.orElse(0) + 1];
-
-                configs.forEach(config -> arrayNodes[((ArrayToken) config.getFirst()).getIndex()] = config.getSecond());
-                result = new ArrayNode(Arrays.asList(arrayNodes));
+            int maxIndex = -1;
+            for (int i = 0; i < children.size(); i++) {
+                if (childResults.get(i).hasResults()) {
+                    maxIndex = Math.max(maxIndex, ((ArrayToken) children.get(i).token).getIndex());
+                }
             }
 
-            if (result != null) {
-                return GResultOf.resultOf(result, errorList);
+            ConfigNode[] arrayNodes = new ConfigNode[maxIndex + 1];
+            for (int i = 0; i < children.size(); i++) {
+                if (childResults.get(i).hasResults()) {
+                    arrayNodes[((ArrayToken) children.get(i).token).getIndex()] = childResults.get(i).results();
+                }
             }
+            result = maxIndex < 0 ? null : new ArrayNode(Arrays.asList(arrayNodes));
         }
 
-        return GResultOf.errors(new ValidationError.NoResultsFoundForPath(currentPath));
+        if (result == null) {
+            logger.log(System.Logger.Level.WARNING, "No configs found");
+            return GResultOf.errors(new ValidationError.NoResultsFoundForPath(node.path(lexer)));
+        }
+
+        return GResultOf.resultOf(result, errorList);
     }
 
     /**
-     * Return a list of errors for any array tokens that have an index less than 0.
+     * Validate the children of a node are a valid array. Adds errors for any array index less than 0, missing array indexes,
+     * duplicate array indexes or if the array is both a leaf and a non leaf.
      *
-     * @param tokens      array tokens to result
-     * @param index       the index or depth in the tree we are analyzing.
-     * @param currentPath the current path.
-     * @return list of errors for any array tokens that have an index less than 0
+     * @param lexer     lexer used to get the delimiter to build the path
+     * @param node      node that has array tokens as children
+     * @param errorList list of errors to add to
      */
-    private List<ValidationError> validateArrayInvalidIndex(List<Pair<List<Token>, ConfigValue>> tokens, int index, String currentPath) {
-
-        return tokens.stream().map(token -> (ArrayToken) token.getFirst().get(index))
-            .filter(arrayToken -> arrayToken.getIndex() < 0)
-            .map(arrayToken -> new ValidationError.ArrayInvalidIndex(arrayToken.getIndex(), currentPath))
-            .collect(Collectors.toList());
-    }
+    private void validateArray(SentenceLexer lexer, PathTrie node, List<ValidationError> errorList) {
+        int[] indexes = new int[node.children.size()];
+        int validIndexes = 0;
+        boolean isLeaf = true;
+        boolean hasLeaf = false;
+        boolean hasNonLeaf = false;
+        for (PathTrie child : node.children.values()) {
+            int arrayIndex = ((ArrayToken) child.token).getIndex();
+            if (arrayIndex < 0) {
+                // each config with an invalid index is reported.
+                for (int i = 0; i < child.count; i++) {
+                    errorList.add(new ValidationError.ArrayInvalidIndex(arrayIndex, node.path(lexer)));
+                }
+            } else {
+                indexes[validIndexes++] = arrayIndex;
+            }
 
-    private List<ValidationError> validateArrayMissingIndex(List<Pair<List<Token>, ConfigValue>> tokens, int index, String currentPath) {
-        // Counts for each array index.
-        Map<Integer, Long> arrayIndexCounts = tokens.stream()
-            .map(token -> (ArrayToken) token.getFirst().get(index))
-            .filter(arrayToken -> arrayToken.getIndex() >= 0)
-            .collect(Collectors.groupingBy(ArrayToken::getIndex, Collectors.counting()));
+            isLeaf = isLeaf && child.children == null;
+            hasLeaf = hasLeaf || child.leafCount > 0;
+            hasNonLeaf = hasNonLeaf || child.children != null;
+        }
 
         // result that we are not missing any index's in the array
-        long maxIndex = arrayIndexCounts.keySet().stream().max(Comparator.comparing(Long::valueOf)).orElse(-1);
-
-        return IntStream.rangeClosed(0, Math.toIntExact(maxIndex)).filter(it -> !arrayIndexCounts.containsKey(it))
-            .mapToObj(it -> new ValidationError.ArrayMissingIndex(it, currentPath))
-            .collect(Collectors.toList());
-    }
+        Arrays.sort(indexes, 0, validIndexes);
+        int expected = 0;
+        for (int i = 0; i < validIndexes; i++) {
+            for (; expected < indexes[i]; expected++) {
+                errorList.add(new ValidationError.ArrayMissingIndex(expected, node.path(lexer)));
+            }
+            expected = indexes[i] + 1;
+        }
 
-    private List<ValidationError> validateArrayLeafAndNonLeaf(Map<Token, List<Pair<List<Token>, ConfigValue>>> tokensAtIndexGrouped,
-                                                              int index, String currentPath) {
-        // Build a list of all path sizes in the current set of tokens.
-        List<Integer> pathSizes = tokensAtIndexGrouped.values().stream()
-            .flatMap(Collection::stream)
-            .map(it -> it.getFirst().size())
-            .filter(it -> it >= index + 1)
-            .distinct()
-            .collect(Collectors.toList());
-
-        // if any paths are of current index length and we have more than 1, we are both at a leaf and sub-object
-        if (pathSizes.contains(index + 1) && pathSizes.size() > 1) {
-            return Collections.singletonList(new ValidationError.ArrayLeafAndNotLeaf(pathSizes, currentPath));
+        // if all the configs are a leaf, any index with more than one config is a duplicate.
+        if (isLeaf) {
+            for (PathTrie child : node.children.values()) {
+                if (child.count > 1) {
+                    errorList.add(new ValidationError.ArrayDuplicateIndex(((ArrayToken) child.token).getIndex(), node.path(lexer)));
+                }
+            }
         }
 
-        return Collections.emptyList();
+        // if any paths are a leaf and we have other path lengths, we are both at a leaf and sub-object
+        if (hasLeaf && hasNonLeaf) {
+            List<Integer> pathSizes = new ArrayList<>();
+            for (PathTrie child : node.children.values()) {
+                for (Integer size : child.pathSizes()) {
+                    if (!pathSizes.contains(size)) {
+                        pathSizes.add(size);
+                    }
+                }
+            }
+            errorList.add(new ValidationError.ArrayLeafAndNotLeaf(pathSizes, node.path(lexer)));
+        }
     }
 
-    private List<ValidationError> validateArrayDuplicateLeafIndex(Map<Token,
-        List<Pair<List<Token>, ConfigValue>>> tokensAtIndexGrouped, int index, String currentPath) {
-        // Is the current tokens all a leaf?
-        boolean isLeaf = tokensAtIndexGrouped.values().stream()
-            .flatMap(Collection::stream)
-            .map(it -> it.getFirst().size()).allMatch(size -> size == index + 1);
+    /**
+     * Mutable prefix tree of the config paths. Each node holds the configs that end at it and the children by token.
+     */
+    private static final class PathTrie {
+        private final PathTrie parent;
+        private final Token token;
+        private final int depth;
+        // the path to the root of the tree, only used to build the path for errors.
+        private final List<Token> rootPath;
+        private Map<Token, PathTrie> children;
+        // the number of configs at or below this node
+        private int count;
+        // the number of configs that end at this node, with the value and order of the first one.
+        private int leafCount;
+        private ConfigValue leafValue;
+        private int leafOrder;
+
+        private PathTrie(PathTrie parent, Token token, int depth, List<Token> rootPath) {
+            this.parent = parent;
+            this.token = token;
+            this.depth = depth;
+            this.rootPath = rootPath;
+        }
 
-        // If we are a leaf
-        if (isLeaf) {
+        private void insert(List<Token> path, int index, ConfigValue value, int order) {
+            PathTrie node = this;
+            node.count++;
+            for (int i = index; i < path.size(); i++) {
+                node = node.child(path.get(i));
+                node.count++;
+            }
 
-            // since the tokensAtIndexGrouped groups tokens that are the same, if there
-            // are duplicate they wil be grouped together.
-            // So we need to check if any tokens have more than one values.
-            List<ArrayToken> arrayIndexCounts = tokensAtIndexGrouped.entrySet()
-                .stream()
-                .filter(tokens -> tokens.getValue().size() > 1)
-                .map(tokens -> (ArrayToken) tokens.getKey())
-                .collect(Collectors.toList());
-
-            return arrayIndexCounts.stream()
-                .map(arrayToken -> new ValidationError.ArrayDuplicateIndex(arrayToken.getIndex(), currentPath))
-                .collect(Collectors.toList());
+            if (node.leafCount++ == 0) {
+                node.leafValue = value;
+                node.leafOrder = order;
+            }
         }
 
-        return Collections.emptyList();
-    }
+        private PathTrie child(Token childToken) {
+            if (children == null) {
+                children = new HashMap<>();
+            }
+
+            return children.computeIfAbsent(childToken, it -> new PathTrie(this, it, depth + 1, null));
+        }
 
-    // We can not have paths with a different lengths, as this means we are at
-    // both a leaf and object for the same group of tokens.
-    private List<ValidationError> getPathLengthErrors(List<Pair<List<Token>, ConfigValue>> tokens,
-                                                      int index, String currentPath) {
-        List<Pair<List<Token>, ConfigValue>> nodesWithSamePathLengths =
-            tokens.stream()
-                .filter(tokenPair -> tokenPair.getFirst().size() < index + 1)
-                .collect(Collectors.toList());
+        private String path(SentenceLexer lexer) {
+            Deque<Token> tokens = new ArrayDeque<>();
+            PathTrie node = this;
+            while (node.parent != null) {
+                tokens.addFirst(node.token);
+                node = node.parent;
+            }
 
-        List<ValidationError> errorList = new ArrayList<>();
-        if (!nodesWithSamePathLengths.isEmpty()) {
-            errorList.add(new ValidationError.PathLengthErrors(currentPath));
+            List<Token> path = new ArrayList<>(node.rootPath);
+            path.addAll(tokens);
+            return PathUtil.toPath(lexer, path);
         }
 
-        return errorList;
+        // the distinct lengths of the config paths at or below this node, in the order the configs were provided.
+        private List<Integer> pathSizes() {
+            List<PathTrie> leaves = new ArrayList<>();
+            Deque<PathTrie> toVisit = new ArrayDeque<>();
+            toVisit.push(this);
+            while (!toVisit.isEmpty()) {
+                PathTrie node = toVisit.pop();
+                if (node.leafCount > 0) {
+                    leaves.add(node);
+                }
+                if (node.children != null) {
+                    node.children.values().forEach(toVisit::push);
+                }
+            }
+
+            leaves.sort(Comparator.comparingInt(it -> it.leafOrder));
+            List<Integer> sizes = new ArrayList<>();
+            for (PathTrie leaf : leaves) {
+                if (!sizes.contains(leaf.depth)) {
+                    sizes.add(leaf.depth);
+                }
+            }
+            return sizes;
+        }
     }
 }
@@ -2,12 +2,14 @@ package org.github.gestalt.config.path.mapper;
 
 import org.github.gestalt.config.annotations.ConfigPriority;
 import org.github.gestalt.config.entity.ValidationError;
+import org.github.gestalt.config.lexer.CompiledPathCache;
 import org.github.gestalt.config.lexer.SentenceLexer;
 import org.github.gestalt.config.token.Token;
 import org.github.gestalt.config.utils.GResultOf;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 /**
@@ -19,9 +21,23 @@ import java.util.regex.Pattern;
 public final class DotNotationPathMapper implements PathMapper {
     private final Pattern regex = Pattern.compile("(?<!(^|[A-Z]))(?=[A-Z])|(?<!^)(?=[A-Z][a-z])");
 
-    @SuppressWarnings("StringSplitter")
+    @Override
+    public boolean isMappingCacheable() {
+        return true;
+    }
+
     @Override
     public GResultOf<List<Token>> map(String path, String sentence, SentenceLexer lexer) {
+        return mapWords(path, sentence, lexer::scan);
+    }
+
+    @Override
+    public GResultOf<List<Token>> map(String path, String sentence, CompiledPathCache compiledPathCache) {
+        return mapWords(path, sentence, it -> compiledPathCache.compile(it).toResult());
+    }
+
+    @SuppressWarnings("StringSplitter")
+    private GResultOf<List<Token>> mapWords(String path, String sentence, Function<String, GResultOf<List<Token>>> scanner) {
         if (sentence == null || sentence.isEmpty()) {
             return GResultOf.errors(new ValidationError.MappingPathEmpty(path, "DotNotationPathMapper"));
         }
@@ -29,7 +45,7 @@ public final class DotNotationPathMapper implements PathMapper {
         String[] camelCaseWords = regex.split(sentence);
         List<Token> tokens = new ArrayList<>();
         for (String word : camelCaseWords) {
-            GResultOf<List<Token>> lexedGResultOf = lexer.scan(word);
+            GResultOf<List<Token>> lexedGResultOf = scanner.apply(word);
 
             // if there are errors, add them to the error list and do not add the merge results
             if (lexedGResultOf.hasErrors()) {
@@ -2,6 +2,7 @@ package org.github.gestalt.config.path.mapper;
 
 import org.github.gestalt.config.annotations.ConfigPriority;
 import org.github.gestalt.config.entity.ValidationError;
+import org.github.gestalt.config.lexer.CompiledPathCache;
 import org.github.gestalt.config.lexer.SentenceLexer;
 import org.github.gestalt.config.token.Token;
 import org.github.gestalt.config.utils.GResultOf;
@@ -22,21 +23,42 @@ import java.util.stream.Collectors;
 public final class KebabCasePathMapper implements PathMapper {
     private final Pattern regex = Pattern.compile("(?<!(^|[A-Z]))(?=[A-Z])|(?<!^)(?=[A-Z][a-z])");
 
-    @SuppressWarnings("StringSplitter")
+    @Override
+    public boolean isMappingCacheable() {
+        return true;
+    }
+
     @Override
     public GResultOf<List<Token>> map(String path, String sentence, SentenceLexer lexer) {
         if (sentence == null || sentence.isEmpty()) {
             return GResultOf.errors(new ValidationError.MappingPathEmpty(path, "KebabCasePathMapper"));
         }
 
-        String[] camelCaseWords = regex.split(sentence);
-        String kebebCase = Arrays.stream(camelCaseWords)
-            .map(it -> it.toLowerCase(Locale.ROOT))
-            .collect(Collectors.joining("-"));
-
-        GResultOf<List<Token>> lexedGResultOf = lexer.scan(kebebCase);
+        GResultOf<List<Token>> lexedGResultOf = lexer.scan(convertSentence(sentence));
 
         return lexedGResultOf.mapWithError(ArrayList::new,
             new ValidationError.NoResultsMappingPath(path, sentence, "Kebab case path mapping"));
     }
+
+    @Override
+    public GResultOf<List<Token>> map(String path, String sentence, CompiledPathCache compiledPathCache) {
+        if (sentence == null || sentence.isEmpty()) {
+            return GResultOf.errors(new ValidationError.MappingPathEmpty(path, "KebabCasePathMapper"));
+        }
+
+        GResultOf<List<Token>> lexedGResultOf = compiledPathCache.compile(convertSentence(sentence)).toResult();
+        if (lexedGResultOf.hasResults() || lexedGResultOf.hasErrors()) {
+            return lexedGResultOf;
+        }
+
+        return GResultOf.errors(new ValidationError.NoResultsMappingPath(path, sentence, "Kebab case path mapping"));
+    }
+
+    @SuppressWarnings("StringSplitter")
+    private String convertSentence(String sentence) {
+        String[] camelCaseWords = regex.split(sentence);
+        return Arrays.stream(camelCaseWords)
+            .map(it -> it.toLowerCase(Locale.ROOT))
+            .collect(Collectors.joining("-"));
+    }
 }
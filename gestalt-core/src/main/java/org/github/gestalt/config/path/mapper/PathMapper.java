@@ -1,6 +1,7 @@
 package org.github.gestalt.config.path.mapper;
 
 import org.github.gestalt.config.entity.GestaltConfig;
+import org.github.gestalt.config.lexer.CompiledPathCache;
 import org.github.gestalt.config.lexer.SentenceLexer;
 import org.github.gestalt.config.token.Token;
 import org.github.gestalt.config.utils.GResultOf;
@@ -22,6 +23,18 @@ public interface PathMapper {
     default void applyConfig(GestaltConfig config) {
     }
 
+    /**
+     * true if the tokens returned by {@link #map(String, String, CompiledPathCache)} only depend on the sentence.
+     * If so, and all the path mappers are cacheable, the decoder registry caches the tokens of each sentence,
+     * instead of mapping the sentence on every decode.
+     * It is a default method returning false, so path mappers that also check the path are always called.
+     *
+     * @return true if the tokens only depend on the sentence
+     */
+    default boolean isMappingCacheable() {
+        return false;
+    }
+
     /**
      * Takes a sentence and converts it into a set of tokens to navigate.
      *
@@ -31,4 +44,17 @@ public interface PathMapper {
      * @return the list of tokens to check in the path
      */
     GResultOf<List<Token>> map(String path, String sentence, SentenceLexer lexer);
+
+    /**
+     * Takes a sentence and converts it into a set of tokens to navigate, using a cache of compiled paths to avoid lexing the same
+     * sentence on every call. By default, it will call {@link #map(String, String, SentenceLexer)} with the lexer of the cache.
+     *
+     * @param path              the current path we are looking in
+     * @param sentence          the next segment of the path to check
+     * @param compiledPathCache cache of compiled paths, used to tokenize the sentence.
+     * @return the list of tokens to check in the path
+     */
+    default GResultOf<List<Token>> map(String path, String sentence, CompiledPathCache compiledPathCache) {
+        return map(path, sentence, compiledPathCache.getLexer());
+    }
 }
@@ -1,6 +1,7 @@
 package org.github.gestalt.config.path.mapper;
 
 import org.github.gestalt.config.annotations.ConfigPriority;
+import org.github.gestalt.config.lexer.CompiledPathCache;
 import org.github.gestalt.config.lexer.SentenceLexer;
 import org.github.gestalt.config.token.Token;
 import org.github.gestalt.config.utils.GResultOf;
@@ -14,8 +15,18 @@ import java.util.List;
  */
 @ConfigPriority(1000)
 public final class StandardPathMapper implements PathMapper {
+    @Override
+    public boolean isMappingCacheable() {
+        return true;
+    }
+
     @Override
     public GResultOf<List<Token>> map(String path, String sentence, SentenceLexer lexer) {
         return lexer.scan(sentence);
     }
+
+    @Override
+    public GResultOf<List<Token>> map(String path, String sentence, CompiledPathCache compiledPathCache) {
+        return compiledPathCache.compile(sentence).toResult();
+    }
 }
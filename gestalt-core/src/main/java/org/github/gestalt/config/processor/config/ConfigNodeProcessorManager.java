@@ -81,9 +81,25 @@ public final class ConfigNodeProcessorManager implements ConfigNodeProcessorServ
             return GResultOf.result(node);
         }
 
+        // if none of the run time processors would change this subtree, return the node as is without walking or copying it.
+        if (!shouldRunTimeProcess(node)) {
+            return GResultOf.result(node);
+        }
+
         return commonProcessConfigNodes(path, node, runTimeConfigNodeProcessors, this::runTimeProcessConfigNodes);
     }
 
+    @Override
+    public boolean shouldRunTimeProcess(ConfigNode node) {
+        // indexed so checking every get config does not allocate an iterator.
+        for (int i = 0; i < runTimeConfigNodeProcessors.size(); i++) {
+            if (runTimeConfigNodeProcessors.get(i).shouldProcessSubtree(node)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public <T extends BaseConfigNodeProcessor> GResultOf<ConfigNode> commonProcessConfigNodes(
         String path, ConfigNode node,
         List<T> processor,
@@ -126,29 +142,41 @@ public final class ConfigNodeProcessorManager implements ConfigNodeProcessorServ
                                                    BiFunction<String, ConfigNode, GResultOf<ConfigNode>> processConfigNodes) {
         int size = node.size();
         List<ValidationError> errors = new ArrayList<>();
-        ConfigNode[] processedNode = new ConfigNode[size];
+        // only copy the array if one of the nodes changed, otherwise return the original node.
+        ConfigNode[] processedNode = null;
 
         for (int i = 0; i < size; i++) {
             Optional<ConfigNode> currentNodeOption = node.getIndex(i);
             if (currentNodeOption.isPresent()) {
+                ConfigNode currentNode = currentNodeOption.get();
                 String nextPath = PathUtil.pathForIndex(lexer, path, i);
-                GResultOf<ConfigNode> newNode = processConfigNodes.apply(nextPath, currentNodeOption.get());
+                GResultOf<ConfigNode> newNode = processConfigNodes.apply(nextPath, currentNode);
 
                 errors.addAll(newNode.getErrors());
-                if (newNode.hasResults()) {
-                    processedNode[i] = newNode.results();
-                } else {
+                ConfigNode newNodeResult = newNode.hasResults() ? newNode.results() : null;
+                if (newNodeResult == null) {
                     errors.add(new ValidationError.NoResultsFoundForNode(path, ArrayNode.class, "post processing"));
                 }
+
+                if (processedNode == null && newNodeResult != currentNode) {
+                    processedNode = node.getArray().toArray(new ConfigNode[size]);
+                }
+                if (processedNode != null) {
+                    processedNode[i] = newNodeResult;
+                }
             }
         }
 
-        return resultOf(new ArrayNode(Arrays.asList(processedNode)), errors);
+        if (processedNode == null) {
+            return resultOf(node, errors);
+        }
+        return resultOf(new ArrayNode(Arrays.asList(processedNode), node.getMetadata()), errors);
     }
 
     private GResultOf<ConfigNode> postProcessMap(String path, MapNode node,
                                                  BiFunction<String, ConfigNode, GResultOf<ConfigNode>> processConfigNodes) {
-        Map<String, ConfigNode> processedNode = new HashMap<>();
+        // only copy the map if one of the nodes changed, otherwise return the original node.
+        Map<String, ConfigNode> processedNode = null;
         List<ValidationError> errors = new ArrayList<>();
 
         for (Map.Entry<String, ConfigNode> entry : node.getMapNode().entrySet()) {
@@ -158,12 +186,24 @@ public final class ConfigNodeProcessorManager implements ConfigNodeProcessorServ
 
             errors.addAll(newNode.getErrors());
             if (newNode.hasResults()) {
-                processedNode.put(key, newNode.results());
+                if (processedNode == null && newNode.results() != entry.getValue()) {
+                    processedNode = new HashMap<>(node.getMapNode());
+                }
+                if (processedNode != null) {
+                    processedNode.put(key, newNode.results());
+                }
             } else {
+                if (processedNode == null) {
+                    processedNode = new HashMap<>(node.getMapNode());
+                }
+                processedNode.remove(key);
                 errors.add(new ValidationError.NoResultsFoundForNode(path, MapNode.class, "post processing"));
             }
         }
 
-        return resultOf(new MapNode(processedNode), errors);
+        if (processedNode == null) {
+            return resultOf(node, errors);
+        }
+        return resultOf(new MapNode(processedNode, node.getMetadata()), errors);
     }
 }
@@ -42,4 +42,15 @@ public interface ConfigNodeProcessorService {
      * @return the result node that is either the same or modified.
      */
     GResultOf<ConfigNode> runTimeProcessConfigNodes(String path, ConfigNode node);
+
+    /**
+     * Check if any of the runTimeConfigNodeProcessor may modify the node or its subtree while getting the configuration.
+     * If not, {@link #runTimeProcessConfigNodes(String, ConfigNode)} returns the node unchanged.
+     *
+     * @param node the node we want to process
+     * @return true if the node may be modified by the runTimeConfigNodeProcessor.
+     */
+    default boolean shouldRunTimeProcess(ConfigNode node) {
+        return true;
+    }
 }
@@ -1,9 +1,23 @@
 package org.github.gestalt.config.processor.config;
 
+import org.github.gestalt.config.node.ConfigNode;
+
 /**
  * Interface for the Config Node Processing. This will be run against the found nodes while getting a configuration at runtime.
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2025.
  */
 public interface RunTimeConfigNodeProcessor extends BaseConfigNodeProcessor {
+
+    /**
+     * If this processor could change the node or any node below it.
+     * When no run time processor would change a subtree, it is returned as is without walking or copying it.
+     * By default, every subtree is processed.
+     *
+     * @param node the root of the subtree.
+     * @return true if this processor could change the node or any node below it.
+     */
+    default boolean shouldProcessSubtree(ConfigNode node) {
+        return true;
+    }
 }
@@ -52,6 +52,11 @@ public final class RunTimeStringSubstitutionConfigNodeProcessor implements RunTi
             config.getConfig().getRunTimeSubstitutionClosingToken());
     }
 
+    @Override
+    public boolean shouldProcessSubtree(ConfigNode node) {
+        return node.hasMetadataInSubtree(IsRunTimeStringSubstitutionMetadata.RUN_TIME_STRING_SUBSTITUTION);
+    }
+
     @Override
     public GResultOf<ConfigNode> process(String path, ConfigNode currentNode) {
         if (!(currentNode instanceof LeafNode) ||
@@ -21,4 +21,9 @@ public class DefaultResultProcessor implements ResultProcessor {
         // otherwise return the original result.
         return results;
     }
+
+    @Override
+    public boolean isPassThroughForPrimitives() {
+        return true;
+    }
 }
@@ -47,8 +47,14 @@ public class ErrorResultProcessor implements ResultProcessor {
             logger.log(DEBUG, errorMsg);
         }
 
-        // We have either logged or thrown exceptions for the errors, so strip them from the results.
-        return GResultOf.resultOf(results.results(), results.getErrors(), results.isDefault(), results.getMetadata());
+        // We have either logged or thrown exceptions for the errors, the results are returned unchanged.
+        return results;
+    }
+
+    @Override
+    public boolean isPassThroughForPrimitives() {
+        // a result without errors is returned unchanged.
+        return true;
     }
 
 }
@@ -38,4 +38,15 @@ public interface ResultProcessor {
      */
     <T> GResultOf<T> processResults(GResultOf<T> results, String path, boolean isOptional, T defaultVal, TypeCapture<T> klass, Tags tags)
         throws GestaltException;
+
+    /**
+     * If the processor returns a successful result without errors unchanged when the type is a primitive or its wrapper, such as an Integer.
+     * If all the result processors do, the primitive getters such as {@link org.github.gestalt.config.Gestalt#getInt(String, int)}
+     * can return the value without processing the results.
+     *
+     * @return true if the processor does not change successful results for primitives.
+     */
+    default boolean isPassThroughForPrimitives() {
+        return false;
+    }
 }
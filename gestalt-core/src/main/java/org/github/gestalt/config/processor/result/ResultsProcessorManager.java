@@ -71,10 +71,20 @@ public final class ResultsProcessorManager implements ResultsProcessorService {
                                            TypeCapture<T> klass, Tags tags) throws GestaltException {
 
         GResultOf<T> processedResults = results;
-        for (var resultProcessor : resultProcessors) {
-            processedResults = resultProcessor.processResults(processedResults, path, isOptional, defaultVal, klass, tags);
+        for (int i = 0; i < resultProcessors.size(); i++) {
+            processedResults = resultProcessors.get(i).processResults(processedResults, path, isOptional, defaultVal, klass, tags);
         }
 
         return processedResults;
     }
+
+    @Override
+    public boolean isPassThroughForPrimitives() {
+        for (int i = 0; i < resultProcessors.size(); i++) {
+            if (!resultProcessors.get(i).isPassThroughForPrimitives()) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -38,4 +38,13 @@ public interface ResultsProcessorService {
      */
     <T> GResultOf<T> processResults(GResultOf<T> results, String path, boolean isOptional, T defaultVal,
                                     TypeCapture<T> klass, Tags tags) throws GestaltException;
+
+    /**
+     * If all the registered result processors return successful results for primitives and their wrappers unchanged.
+     *
+     * @return true if processing a successful result for a primitive does not change it.
+     */
+    default boolean isPassThroughForPrimitives() {
+        return false;
+    }
 }
@@ -73,6 +73,12 @@ public class ValidationResultProcessor implements ResultProcessor {
     }
 
 
+    @Override
+    public boolean isPassThroughForPrimitives() {
+        // primitives are not validated.
+        return true;
+    }
+
     private <T> boolean shouldValidate(TypeCapture<T> klass) {
         return !klass.isAssignableFrom(String.class) && !ClassUtils.isPrimitiveOrWrapper(klass.getRawType());
     }
@@ -16,6 +16,14 @@ import java.util.stream.Collectors;
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2025.
  */
 public class TypeCapture<T> {
+    // TypeCaptures are immutable, so share the one for each class rather than building it on every call to get a config.
+    private static final ClassValue<TypeCapture<?>> classTypes = new ClassValue<>() {
+        @Override
+        protected TypeCapture<?> computeValue(Class<?> type) {
+            return new TypeCapture<>(type);
+        }
+    };
+
     /**
      * Raw type for this TypeCapture.
      */
@@ -73,8 +81,10 @@ public class TypeCapture<T> {
      * @param <T>   type of capture
      * @return the TypeCapture
      */
+    @SuppressWarnings("unchecked")
     public static <T> TypeCapture<T> of(Class<T> klass) {   // NOPMD
-        return new TypeCapture<>(klass);
+        Objects.requireNonNull(klass);
+        return (TypeCapture<T>) classTypes.get(klass);
     }
 
     /**
@@ -298,7 +308,8 @@ public class TypeCapture<T> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(rawType, type, hashCode);
+        // the hash of the type is computed once in the constructor, so avoid hashing the type again on every call.
+        return 31 * rawType.hashCode() + hashCode;
     }
 
     @Override
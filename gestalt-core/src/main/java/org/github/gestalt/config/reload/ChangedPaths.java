@@ -0,0 +1,208 @@
+package org.github.gestalt.config.reload;
+
+import org.github.gestalt.config.lexer.SentenceLexer;
+import org.github.gestalt.config.token.Token;
+import org.github.gestalt.config.utils.GResultOf;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The paths in the config tree that changed during a reload, as lists of tokens from the root.
+ * A path is changed if it or any of its children changed, or if one of its parents was replaced.
+ *
+ * <p>If it is not known what changed, such as when all the configs are loaded, every path is treated as changed.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2025.
+ */
+public final class ChangedPaths {
+    private static final ChangedPaths ALL = new ChangedPaths(true, List.of(), null);
+    private static final ChangedPaths NONE = new ChangedPaths(false, List.of(), null);
+
+    private final boolean all;
+    private final List<List<Token>> paths;
+    private final SentenceLexer lexer;
+
+    private ChangedPaths(boolean all, List<List<Token>> paths, SentenceLexer lexer) {
+        this.all = all;
+        this.paths = paths;
+        this.lexer = lexer;
+    }
+
+    /**
+     * Every path has changed.
+     *
+     * @return ChangedPaths where every path has changed
+     */
+    public static ChangedPaths all() {
+        return ALL;
+    }
+
+    /**
+     * No paths have changed.
+     *
+     * @return ChangedPaths where no paths have changed
+     */
+    public static ChangedPaths none() {
+        return NONE;
+    }
+
+    /**
+     * Create the changed paths from a list of paths as tokens.
+     *
+     * @param paths the paths that changed, as a list of tokens from the root
+     * @param lexer lexer used to convert a path into tokens when checking if it has changed
+     * @return the changed paths
+     */
+    public static ChangedPaths of(List<List<Token>> paths, SentenceLexer lexer) {
+        Objects.requireNonNull(paths);
+        Objects.requireNonNull(lexer);
+        if (paths.isEmpty()) {
+            return NONE;
+        }
+
+        // a change to the root means everything changed.
+        if (paths.stream().anyMatch(List::isEmpty)) {
+            return ALL;
+        }
+
+        return new ChangedPaths(false, List.copyOf(paths), lexer);
+    }
+
+    /**
+     * If every path has changed.
+     *
+     * @return if every path has changed
+     */
+    public boolean isAll() {
+        return all;
+    }
+
+    /**
+     * If no paths have changed.
+     *
+     * @return if no paths have changed
+     */
+    public boolean isEmpty() {
+        return !all && paths.isEmpty();
+    }
+
+    /**
+     * Get the paths that changed, as a list of tokens from the root. Empty if every path has changed.
+     *
+     * @return the paths that changed
+     */
+    public List<List<Token>> getPaths() {
+        return paths;
+    }
+
+    /**
+     * Combine these changed paths with another.
+     *
+     * @param other the other changed paths
+     * @return the combined changed paths
+     */
+    public ChangedPaths merge(ChangedPaths other) {
+        if (other == null || other.isEmpty()) {
+            return this;
+        } else if (isEmpty()) {
+            return other;
+        } else if (all || other.all) {
+            return ALL;
+        }
+
+        List<List<Token>> merged = new ArrayList<>(paths.size() + other.paths.size());
+        merged.addAll(paths);
+        merged.addAll(other.paths);
+        return new ChangedPaths(false, merged, lexer);
+    }
+
+    /**
+     * If the configuration for a path may have changed.
+     * If the path can not be parsed it is treated as changed.
+     *
+     * @param path the path to check
+     * @return if the configuration for a path may have changed
+     */
+    public boolean isChanged(String path) {
+        if (all) {
+            return true;
+        } else if (paths.isEmpty()) {
+            return false;
+        }
+
+        GResultOf<List<Token>> tokens = lexer.scan(path);
+        if (tokens.hasErrors() || !tokens.hasResults()) {
+            return true;
+        }
+
+        return isChanged(tokens.results());
+    }
+
+    /**
+     * If the configuration for a path may have changed.
+     * It has changed if the path is a parent of a changed path, or if the path is under a changed path.
+     *
+     * @param tokens the path as a list of tokens from the root
+     * @return if the configuration for a path may have changed
+     */
+    public boolean isChanged(List<Token> tokens) {
+        if (all) {
+            return true;
+        }
+
+        for (List<Token> changedPath : paths) {
+            if (isPrefix(changedPath, tokens) || isPrefix(tokens, changedPath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the tokens of the direct children of a parent path that have changed.
+     * Returns null if the parent path itself or one of its own parents changed, so every child should be treated as changed.
+     *
+     * @param parent the parent path as a list of tokens from the root
+     * @return the tokens of the changed direct children, or null if every child changed
+     */
+    public Set<Token> getChangedChildren(List<Token> parent) {
+        if (all) {
+            return null;
+        }
+
+        Set<Token> changedChildren = new HashSet<>();
+        for (List<Token> changedPath : paths) {
+            if (isPrefix(changedPath, parent)) {
+                return null;
+            } else if (isPrefix(parent, changedPath)) {
+                changedChildren.add(changedPath.get(parent.size()));
+            }
+        }
+        return changedChildren;
+    }
+
+    private static boolean isPrefix(List<Token> prefix, List<Token> path) {
+        if (prefix.size() > path.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < prefix.size(); i++) {
+            if (!prefix.get(i).equals(path.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "ChangedPaths{" +
+            "all=" + all +
+            ", paths=" + paths +
+            '}';
+    }
+}
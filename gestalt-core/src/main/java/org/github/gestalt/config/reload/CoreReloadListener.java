@@ -10,4 +10,14 @@ public interface CoreReloadListener {
      * Called when the core configs have been reloaded.
      */
     void reload();
+
+    /**
+     * Called when the core configs have been reloaded, with the paths that changed.
+     * By default, treats every path as changed and calls {@link #reload()}.
+     *
+     * @param changedPaths the paths that changed during the reload.
+     */
+    default void reload(ChangedPaths changedPaths) {
+        reload();
+    }
 }
@@ -64,4 +64,19 @@ public class CoreReloadListenersContainer {
             }
         });
     }
+
+    /**
+     * called when the core has reloaded, with the paths that changed.
+     *
+     * @param changedPaths the paths that changed during the reload.
+     */
+    public void reload(ChangedPaths changedPaths) {
+        cleanup();
+        listeners.forEach((it) -> {
+            var weakRef = it.get();
+            if (weakRef != null) {
+                weakRef.reload(changedPaths);
+            }
+        });
+    }
 }
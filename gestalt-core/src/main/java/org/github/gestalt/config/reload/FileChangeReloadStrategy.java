@@ -6,26 +6,27 @@ import org.github.gestalt.config.source.ConfigSourcePackage;
 import org.github.gestalt.config.source.FileConfigSource;
 
 import java.io.IOException;
-import java.nio.file.*;
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  * File change reload strategy for listening for local file changes.
  *
  * <p>Listens for local file changes including symlink changes.
  *
- * <p>Creates a thread in the background to watch for file changes.
+ * <p>The files are watched by a {@link FileWatchService}, by default one shared by all the FileChangeReloadStrategy,
+ * so they share a single background thread and reload one at a time. A burst of changes within the debounce window is
+ * coalesced into a single reload, and changes that leave the contents of the file the same do not reload.
+ * If a reload fails, it is retried on the next change to the file.
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2025.
  */
 public final class FileChangeReloadStrategy extends ConfigReloadStrategy {
-    private static final System.Logger logger = System.getLogger(FileChangeReloadStrategy.class.getName());
-    private final ExecutorService executor;
-    private Path path;
-    private WatchService watcher;
+    private final FileWatchService watchService;
+    private final Duration debounce;
+    private FileWatchService.Watch watch;
     private volatile boolean isWatching = false;
 
     /**
@@ -34,7 +35,7 @@ public final class FileChangeReloadStrategy extends ConfigReloadStrategy {
      * @throws GestaltConfigurationException if this is not a file source or other errors.
      */
     public FileChangeReloadStrategy() throws GestaltConfigurationException {
-        this(null, Executors.newSingleThreadExecutor());
+        this(FileWatchService.getDefault(), Duration.ZERO);
     }
 
     /**
@@ -44,7 +45,30 @@ public final class FileChangeReloadStrategy extends ConfigReloadStrategy {
      * @throws GestaltConfigurationException if this is not a file source or other errors.
      */
     public FileChangeReloadStrategy(ExecutorService executor) throws GestaltConfigurationException {
-        this(null, executor);
+        this(new FileWatchService(executor), Duration.ZERO);
+    }
+
+    /**
+     * constructor.
+     *
+     * @param debounce how long to wait for more changes to the file before reloading, so a burst of changes only reloads once.
+     * @throws GestaltConfigurationException if this is not a file source or other errors.
+     */
+    public FileChangeReloadStrategy(Duration debounce) throws GestaltConfigurationException {
+        this(FileWatchService.getDefault(), debounce);
+    }
+
+    /**
+     * constructor.
+     *
+     * @param watchService the service to watch the file with.
+     * @param debounce     how long to wait for more changes to the file before reloading, so a burst of changes only reloads once.
+     * @throws GestaltConfigurationException if this is not a file source or other errors.
+     */
+    public FileChangeReloadStrategy(FileWatchService watchService, Duration debounce) throws GestaltConfigurationException {
+        super();
+        this.watchService = Objects.requireNonNull(watchService, "FileChangeReloadStrategy watchService should not be null");
+        this.debounce = Objects.requireNonNull(debounce, "FileChangeReloadStrategy debounce should not be null");
     }
 
     /**
@@ -57,7 +81,7 @@ public final class FileChangeReloadStrategy extends ConfigReloadStrategy {
      */
     @Deprecated(since = "0.26.0", forRemoval = true)
     public FileChangeReloadStrategy(ConfigSourcePackage source) throws GestaltConfigurationException {
-        this(source, Executors.newSingleThreadExecutor());
+        this(source, FileWatchService.getDefault());
     }
 
 
@@ -72,8 +96,13 @@ public final class FileChangeReloadStrategy extends ConfigReloadStrategy {
      */
     @Deprecated(since = "0.26.0", forRemoval = true)
     public FileChangeReloadStrategy(ConfigSourcePackage source, ExecutorService executor) throws GestaltConfigurationException {
+        this(source, new FileWatchService(executor));
+    }
+
+    private FileChangeReloadStrategy(ConfigSourcePackage source, FileWatchService watchService) throws GestaltConfigurationException {
         super(source);
-        this.executor = executor;
+        this.watchService = watchService;
+        this.debounce = Duration.ZERO;
         if (source != null && !(source.getConfigSource() instanceof FileConfigSource)) {
             throw new GestaltConfigurationException("Unable to add a File Change reload strategy to a non file source " + source);
         }
@@ -91,15 +120,13 @@ public final class FileChangeReloadStrategy extends ConfigReloadStrategy {
 
     private void setupWatcherTask() throws GestaltConfigurationException {
         if (source != null) {
-            path = ((FileConfigSource) source.getConfigSource()).getPath();
+            Path path = ((FileConfigSource) source.getConfigSource()).getPath();
             try {
-                if (watcher != null) {
-                    watcher.close();
+                if (watch != null) {
+                    watch.close();
                 }
 
-                watcher = FileSystems.getDefault().newWatchService();
-                path.toAbsolutePath().getParent()
-                    .register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+                watch = watchService.watch(path, debounce, this::fileChanged);
             } catch (IOException e) {
                 throw new GestaltConfigurationException("unable to create a watch service on file " + path);
             }
@@ -109,10 +136,7 @@ public final class FileChangeReloadStrategy extends ConfigReloadStrategy {
     @Override
     public void registerListener(ConfigReloadListener listener) {
         super.registerListener(listener);
-        if (!isWatching) {
-            isWatching = true;
-            executor.execute(this::fileWatchTask);
-        }
+        isWatching = true;
     }
 
     @Override
@@ -123,57 +147,10 @@ public final class FileChangeReloadStrategy extends ConfigReloadStrategy {
         }
     }
 
-    // inspiration taken from:
-    // https://github.com/jdiazcano/cfg4k/blob/master/cfg4k-core/src/main/kotlin/com/jdiazcano/cfg4k/reloadstrategies/FileChangeReloadStrategy.kt
-    // if its a symlink, then we should also watch symlinks for changes, this supports Kubernetes-style ConfigMap resources e.g.
-    //   configfile -> ..data/configfile
-    //   ..data -> ..2019_09_20_05_25_13.543205648
-    //   ..2019_09_20_05_25_13.543205648/configfile
-    // Here, Kubernetes creates a new timestamped directory when the configmap changes, and just modifies the ..data symlink to point to it
-    // FileWatcher raises symlink changes (e.g. overwrite an existing link target on Linux via `ln -sfn`) as ENTRY_CREATE
-    // we don't use toRealPath() here, because we *want* the parent the file appears to be in, not the file's real parent
-    private void fileWatchTask() {
-        try {
-            WatchKey key;
-            while (isWatching) {
-                key = watcher.take();
-                try {
-                    for (WatchEvent<?> event : key.pollEvents()) {
-                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
-                            break;
-                        }
-
-                        Path fileName = (Path) event.context();
-
-                        // if any entry in the chain of symbolic links leading to the actual file, including the actual
-                        // file itself, has been created/modified, reload
-                        List<Path> linkChain = new ArrayList<>();
-                        Path currentPath = path;
-                        linkChain.add(currentPath);
-                        while (Files.isSymbolicLink(currentPath)) {
-                            Path nextSymLink = Files.readSymbolicLink(currentPath).iterator().next();
-                            currentPath = currentPath.getParent().resolve(nextSymLink);
-                            linkChain.add(currentPath);
-                        }
-
-                        Path parentFile = path.getParent().resolve(fileName);
-                        if (linkChain.contains(parentFile)) {
-                            reload();
-                        }
-                    }
-
-                    boolean valid = key.reset();
-                    if (!valid) {
-                        break;
-                    }
-                } catch (IOException | GestaltException e) {
-                    logger.log(System.Logger.Level.ERROR,
-                        "Ignoring exception while watching for file " + path + ", message: " + e.getMessage(), e);
-                }
-            }
-        } catch (InterruptedException e) {
-            logger.log(System.Logger.Level.ERROR,
-                "Received a InterruptedException while watching file " + path.toString() + ", message: " + e.getMessage(), e);
+    // a failed reload is logged by the watch service, which retries it on the next change.
+    private void fileChanged() throws GestaltException {
+        if (isWatching) {
+            reload();
         }
     }
 }
@@ -0,0 +1,340 @@
+package org.github.gestalt.config.reload;
+
+import org.github.gestalt.config.exceptions.GestaltException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches files for changes, sharing one {@link WatchService} and one thread per file system between all the watched files.
+ *
+ * <p>Each directory is only registered once, no matter how many files are watched in it, and the events are passed to the
+ * watches of the files they are for. A burst of events for a file within the debounce window of its watch is coalesced into
+ * a single call, and the call is skipped if the contents of the file have not changed since the last successful call.
+ * If the call fails, the contents are not recorded, so the change is handled again on the next event for the file.
+ *
+ * <p>The calls for all the files of a file system are made one at a time on its watch thread, so a slow call delays the
+ * events of every other file watched. A call that may take long should hand the work off to its own executor.
+ *
+ * <p>Listens for changes to the file and to any symlink in the chain leading to it,
+ * this supports Kubernetes-style ConfigMap resources.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2025.
+ */
+public final class FileWatchService {
+    private static final System.Logger logger = System.getLogger(FileWatchService.class.getName());
+
+    private final Executor executor;
+    private final Map<FileSystem, Watcher> watchers = new HashMap<>();
+
+    /**
+     * Constructor for a FileWatchService that runs the watch of each file system on its own daemon thread.
+     */
+    public FileWatchService() {
+        this(runnable -> {
+            Thread thread = new Thread(runnable, "gestalt-file-watch");
+            thread.setDaemon(true);
+            thread.start();
+        });
+    }
+
+    /**
+     * Constructor for a FileWatchService.
+     *
+     * @param executor executor to run the watch of each file system on, each watch blocks a thread while there are files watched.
+     */
+    public FileWatchService(Executor executor) {
+        this.executor = Objects.requireNonNull(executor, "FileWatchService executor should not be null");
+    }
+
+    /**
+     * Get the FileWatchService shared by default between all the {@link FileChangeReloadStrategy}.
+     *
+     * @return the shared FileWatchService
+     */
+    public static FileWatchService getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Watch a file for changes.
+     *
+     * @param path     the file to watch, if it is a symlink the links leading to the file are also watched.
+     * @param debounce how long to wait for more events after a change before calling onChange, may be zero.
+     * @param onChange called on the shared watch thread when the contents of the file have changed, throw if unable to
+     *                 handle the change so it is retried on the next event.
+     * @return the watch, close it to stop watching the file.
+     * @throws IOException if unable to watch the directory of the file.
+     */
+    public Watch watch(Path path, Duration debounce, ChangeListener onChange) throws IOException {
+        Objects.requireNonNull(debounce, "FileWatchService debounce should not be null");
+        Objects.requireNonNull(onChange, "FileWatchService onChange should not be null");
+        // we don't use toRealPath() here, because we *want* the parent the file appears to be in, not the file's real parent
+        Path file = path.toAbsolutePath();
+
+        Watch watch = new Watch(file, debounce.toNanos(), onChange);
+        synchronized (watchers) {
+            Watcher watcher = watchers.get(file.getFileSystem());
+            boolean newWatcher = watcher == null;
+            if (newWatcher) {
+                watcher = new Watcher(file.getFileSystem().newWatchService());
+            }
+
+            try {
+                watcher.add(watch);
+            } catch (IOException | RuntimeException e) {
+                if (newWatcher) {
+                    watcher.close();
+                }
+                throw e;
+            }
+
+            if (newWatcher) {
+                watchers.put(file.getFileSystem(), watcher);
+                executor.execute(watcher::run);
+            }
+            watch.watcher = watcher;
+        }
+        return watch;
+    }
+
+    private void remove(Watch watch) {
+        synchronized (watchers) {
+            Watcher watcher = watch.watcher;
+            if (watcher != null && watcher.remove(watch)) {
+                // the last watch on the file system was removed, stop the watch thread.
+                watchers.remove(watch.path.getFileSystem());
+                watcher.close();
+            }
+        }
+    }
+
+    // the hash of the contents of the file, or null if it can not be read.
+    private static byte[] contentHash(Path path) {
+        try (InputStream is = Files.newInputStream(path)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = is.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return digest.digest();
+        } catch (IOException | NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Listener for changes to the contents of a watched file.
+     */
+    @FunctionalInterface
+    public interface ChangeListener {
+
+        /**
+         * Called when the contents of the watched file have changed.
+         *
+         * @throws GestaltException if unable to handle the change, the change is then handled again on the next event.
+         */
+        void onChange() throws GestaltException;
+    }
+
+    /**
+     * A watch on a file, close it to stop watching the file.
+     */
+    public final class Watch implements AutoCloseable {
+        private final Path path;
+        private final long debounceNanos;
+        private final ChangeListener onChange;
+        private Watcher watcher;
+        // only accessed by the watch thread, apart from the initial hash.
+        private byte[] lastHash;
+        private long deadline;
+        private volatile boolean closed;
+
+        private Watch(Path path, long debounceNanos, ChangeListener onChange) {
+            this.path = path;
+            this.debounceNanos = debounceNanos;
+            this.onChange = onChange;
+            this.lastHash = contentHash(path);
+        }
+
+        /**
+         * Get the file watched.
+         *
+         * @return the file watched
+         */
+        public Path getPath() {
+            return path;
+        }
+
+        // if any entry in the chain of symbolic links leading to the actual file, including the actual file itself, is the changed file.
+        private boolean matches(Path changed) throws IOException {
+            Path currentPath = path;
+            if (currentPath.equals(changed)) {
+                return true;
+            }
+            while (Files.isSymbolicLink(currentPath)) {
+                Path nextSymLink = Files.readSymbolicLink(currentPath).iterator().next();
+                currentPath = currentPath.getParent().resolve(nextSymLink);
+                if (currentPath.equals(changed)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void schedule(long now) {
+            deadline = now + debounceNanos;
+        }
+
+        private void fire() {
+            if (closed) {
+                return;
+            }
+
+            byte[] hash = contentHash(path);
+            if (hash != null && Arrays.equals(hash, lastHash)) {
+                return;
+            }
+
+            try {
+                onChange.onChange();
+                // only record the contents once the change is handled, so a failed change is retried on the next event.
+                lastHash = hash;
+            } catch (GestaltException | RuntimeException e) {
+                logger.log(System.Logger.Level.ERROR,
+                    "Exception while handling a change to file " + path + ", it will be retried on the next change, message: "
+                        + e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            remove(this);
+        }
+    }
+
+    // watches all the directories of a file system with a single WatchService.
+    private static final class Watcher {
+        private final WatchService watchService;
+        private final Map<Path, WatchKey> keys = new HashMap<>();
+        private final Map<WatchKey, List<Watch>> watches = new HashMap<>();
+
+        private Watcher(WatchService watchService) {
+            this.watchService = watchService;
+        }
+
+        private synchronized void add(Watch watch) throws IOException {
+            Path directory = watch.path.getParent();
+            WatchKey key = keys.get(directory);
+            if (key == null) {
+                key = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+                keys.put(directory, key);
+            }
+            watches.computeIfAbsent(key, it -> new ArrayList<>()).add(watch);
+        }
+
+        // returns true if there are no more watches.
+        private synchronized boolean remove(Watch watch) {
+            Path directory = watch.path.getParent();
+            WatchKey key = keys.get(directory);
+            List<Watch> directoryWatches = key != null ? watches.get(key) : null;
+            if (directoryWatches != null && directoryWatches.remove(watch) && directoryWatches.isEmpty()) {
+                watches.remove(key);
+                keys.remove(directory);
+                key.cancel();
+            }
+            return watches.isEmpty();
+        }
+
+        private synchronized List<Watch> watchesFor(WatchKey key) {
+            return new ArrayList<>(watches.getOrDefault(key, List.of()));
+        }
+
+        private void close() {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                logger.log(System.Logger.Level.WARNING, "Unable to close the file watch service, message: " + e.getMessage(), e);
+            }
+        }
+
+        private void run() {
+            // the watches with a change waiting for the debounce window to pass, only accessed by the watch thread.
+            Set<Watch> pending = new LinkedHashSet<>();
+            try {
+                while (true) {
+                    WatchKey key;
+                    if (pending.isEmpty()) {
+                        key = watchService.take();
+                    } else {
+                        long wait = pending.stream().mapToLong(it -> it.deadline).min().getAsLong() - System.nanoTime();
+                        key = wait > 0 ? watchService.poll(wait, TimeUnit.NANOSECONDS) : watchService.poll();
+                    }
+
+                    if (key != null) {
+                        handleEvents(key, pending);
+                    }
+
+                    long now = System.nanoTime();
+                    for (Iterator<Watch> it = pending.iterator(); it.hasNext(); ) {
+                        Watch watch = it.next();
+                        if (watch.deadline - now <= 0) {
+                            it.remove();
+                            try {
+                                watch.fire();
+                            } catch (RuntimeException e) {
+                                logger.log(System.Logger.Level.ERROR,
+                                    "Ignoring exception while handling a change to file " + watch.path + ", message: " + e.getMessage(), e);
+                            }
+                        }
+                    }
+                }
+            } catch (ClosedWatchServiceException e) {
+                // all the files are no longer watched.
+            } catch (InterruptedException e) {
+                logger.log(System.Logger.Level.ERROR,
+                    "Received a InterruptedException while watching files, message: " + e.getMessage(), e);
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void handleEvents(WatchKey key, Set<Watch> pending) {
+            List<Watch> directoryWatches = watchesFor(key);
+            Path directory = (Path) key.watchable();
+            long now = System.nanoTime();
+            try {
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    for (Watch watch : directoryWatches) {
+                        try {
+                            // if events were lost, check all the files in the directory, unchanged files are skipped by their hash.
+                            if (event.kind() == StandardWatchEventKinds.OVERFLOW ||
+                                watch.matches(directory.resolve((Path) event.context()))) {
+                                watch.schedule(now);
+                                pending.add(watch);
+                            }
+                        } catch (IOException | RuntimeException e) {
+                            logger.log(System.Logger.Level.ERROR,
+                                "Ignoring exception while watching for file " + watch.path + ", message: " + e.getMessage(), e);
+                        }
+                    }
+                }
+            } finally {
+                // always reset the key, or the directory is no longer watched.
+                key.reset();
+            }
+        }
+    }
+
+    private static final class DefaultHolder {
+        private static final FileWatchService INSTANCE = new FileWatchService();
+    }
+}
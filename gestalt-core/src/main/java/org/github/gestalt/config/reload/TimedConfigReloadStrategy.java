@@ -1,23 +1,42 @@
 package org.github.gestalt.config.reload;
 
+import org.github.gestalt.config.exceptions.GestaltConfigurationException;
 import org.github.gestalt.config.exceptions.GestaltException;
 import org.github.gestalt.config.source.ConfigSourcePackage;
 
 import java.time.Duration;
 import java.util.Objects;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Reloads a sources every specified duration.
  *
+ * <p>The reloads of all the TimedConfigReloadStrategy are scheduled on a shared executor, by default one daemon thread.
+ * When using the default executor, checking the change token and reloading run on a shared pool of daemon worker threads,
+ * so a slow source does not delay the reloads of the other sources.
+ * A random jitter, by default up to a tenth of the reload delay, is added to each delay so instances started together
+ * do not all reload at the same time.
+ *
+ * <p>If the source provides a {@link org.github.gestalt.config.source.ConfigSource#changeToken()}, the reload is skipped
+ * while the token is the same as when the source was last loaded.
+ *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2025.
  */
 public final class TimedConfigReloadStrategy extends ConfigReloadStrategy {
     private static final System.Logger logger = System.getLogger(TimedConfigReloadStrategy.class.getName());
 
-    private final Timer timer = new Timer(true);
+    private final ScheduledExecutorService executor;
+    private final Executor reloadExecutor;
     private final Duration reloadDelay;
+    private final Duration jitter;
+    // the change token of the source when it was last loaded, or null if unknown.
+    private String lastChangeToken;
 
     /**
      * Constructor for TimedConfigReloadStrategy.
@@ -25,9 +44,29 @@ public final class TimedConfigReloadStrategy extends ConfigReloadStrategy {
      * @param reloadDelay how often to reload the config source
      */
     public TimedConfigReloadStrategy(Duration reloadDelay) {
-        Objects.requireNonNull(reloadDelay, "Reload Delay must be set for a TimedConfigReloadStrategy");
-        this.reloadDelay = reloadDelay;
-        startTimer();
+        this(null, DefaultHolder.EXECUTOR, DefaultHolder.WORKERS, reloadDelay, null);
+    }
+
+    /**
+     * Constructor for TimedConfigReloadStrategy.
+     *
+     * @param reloadDelay how often to reload the config source
+     * @param jitter      the maximum random time added to each reload delay, may be zero.
+     */
+    public TimedConfigReloadStrategy(Duration reloadDelay, Duration jitter) {
+        this(null, DefaultHolder.EXECUTOR, DefaultHolder.WORKERS, reloadDelay,
+            Objects.requireNonNull(jitter, "Jitter must be set for a TimedConfigReloadStrategy"));
+    }
+
+    /**
+     * Constructor for TimedConfigReloadStrategy.
+     *
+     * @param executor    executor to schedule and run the reloads on, it can be shared between strategies.
+     * @param reloadDelay how often to reload the config source
+     * @param jitter      the maximum random time added to each reload delay, may be zero.
+     */
+    public TimedConfigReloadStrategy(ScheduledExecutorService executor, Duration reloadDelay, Duration jitter) {
+        this(null, executor, executor, reloadDelay, Objects.requireNonNull(jitter, "Jitter must be set for a TimedConfigReloadStrategy"));
     }
 
     /**
@@ -40,23 +79,110 @@ public final class TimedConfigReloadStrategy extends ConfigReloadStrategy {
      */
     @Deprecated(since = "0.26.0", forRemoval = true)
     public TimedConfigReloadStrategy(ConfigSourcePackage source, Duration reloadDelay) {
+        this(source, DefaultHolder.EXECUTOR, DefaultHolder.WORKERS, reloadDelay, null);
+    }
+
+    private TimedConfigReloadStrategy(ConfigSourcePackage source, ScheduledExecutorService executor, Executor reloadExecutor,
+                                      Duration reloadDelay, Duration jitter) {
         super(source);
         Objects.requireNonNull(reloadDelay, "Reload Delay must be set for a TimedConfigReloadStrategy");
+        this.executor = Objects.requireNonNull(executor, "Executor must be set for a TimedConfigReloadStrategy");
+        this.reloadExecutor = reloadExecutor;
         this.reloadDelay = reloadDelay;
-        startTimer();
-    }
-
-    private void startTimer() {
-        timer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                try {
-                    reload();
-                } catch (GestaltException e) {
-                    logger.log(System.Logger.Level.ERROR,
-                        "Exception reloading source " + source.getConfigSource().name() + ", exception " + e, e);
-                }
-            }
-        }, reloadDelay.toMillis(), reloadDelay.toMillis());
+        this.jitter = jitter != null ? jitter : reloadDelay.dividedBy(10);
+        this.lastChangeToken = currentChangeToken().orElse(null);
+        scheduleReload();
+    }
+
+    @Override
+    public synchronized void setSource(ConfigSourcePackage source) throws GestaltConfigurationException {
+        super.setSource(source);
+        // the source is loaded with its current contents, so there is no need to reload it until they change.
+        lastChangeToken = currentChangeToken().orElse(null);
+    }
+
+    private void scheduleReload() {
+        long delay = reloadDelay.toNanos();
+        long jitterNanos = jitter.toNanos();
+        if (jitterNanos > 0) {
+            delay += ThreadLocalRandom.current().nextLong(jitterNanos + 1);
+        }
+
+        try {
+            executor.schedule(this::startReload, delay, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            logger.log(System.Logger.Level.WARNING, "Unable to schedule a timed reload, the executor has been shutdown");
+        }
+    }
+
+    // hand the reload off so the scheduler thread is free to start the reloads of the other strategies.
+    private void startReload() {
+        if (reloadExecutor == executor) {
+            reloadTask();
+            return;
+        }
+
+        try {
+            reloadExecutor.execute(this::reloadTask);
+        } catch (RejectedExecutionException e) {
+            logger.log(System.Logger.Level.WARNING, "Unable to run a timed reload, the executor has been shutdown");
+        }
+    }
+
+    private void reloadTask() {
+        try {
+            reloadIfChanged();
+        } catch (GestaltException e) {
+            logger.log(System.Logger.Level.ERROR,
+                "Exception reloading source " + source.getConfigSource().name() + ", exception " + e, e);
+        } catch (RuntimeException e) {
+            logger.log(System.Logger.Level.ERROR, "Exception reloading a source, exception " + e, e);
+        } finally {
+            scheduleReload();
+        }
+    }
+
+    // synchronized with setting the source, so a reload running at the same time does not miss the new change token.
+    private synchronized void reloadIfChanged() throws GestaltException {
+        Optional<String> changeToken = currentChangeToken();
+        if (changeToken.isPresent() && changeToken.get().equals(lastChangeToken)) {
+            logger.log(System.Logger.Level.TRACE, "Skipping the reload of unchanged source {0}", source.getConfigSource().name());
+            return;
+        }
+
+        // forget the token until the reload succeeds, so a failed reload is retried.
+        lastChangeToken = null;
+        reload();
+        lastChangeToken = changeToken.orElse(null);
+    }
+
+    // if unable to get the change token the source is reloaded.
+    private Optional<String> currentChangeToken() {
+        if (source == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return source.getConfigSource().changeToken();
+        } catch (GestaltException | RuntimeException e) {
+            logger.log(System.Logger.Level.DEBUG,
+                "Unable to get the change token for source " + source.getConfigSource().name() + ", exception " + e);
+            return Optional.empty();
+        }
+    }
+
+    private static final class DefaultHolder {
+        private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "gestalt-timed-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // each strategy only runs one reload at a time, so there are at most as many workers as strategies reloading at once.
+        private static final Executor WORKERS = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "gestalt-timed-reload-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 }
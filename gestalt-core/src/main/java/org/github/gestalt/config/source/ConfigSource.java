@@ -6,6 +6,7 @@ import org.github.gestalt.config.utils.Pair;
 
 import java.io.InputStream;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -90,4 +91,16 @@ public interface ConfigSource {
     default boolean failOnErrors() {
         return true;
     }
+
+    /**
+     * A token that changes whenever the contents of the source change, such as an ETag, a version id or a file modified time,
+     * that is cheaper to get than loading the source.
+     * Used by the {@link org.github.gestalt.config.reload.TimedConfigReloadStrategy} to skip reloading a source that has not changed.
+     *
+     * @return a token for the current contents of the source, or empty if not supported, in which case the source is always reloaded.
+     * @throws GestaltException if there are any errors getting the token
+     */
+    default Optional<String> changeToken() throws GestaltException {
+        return Optional.empty();
+    }
 }
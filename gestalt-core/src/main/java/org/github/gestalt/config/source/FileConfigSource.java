@@ -9,8 +9,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -107,6 +109,22 @@ public final class FileConfigSource implements ConfigSource {
         }
     }
 
+    /**
+     * The modified time and the size of the file, so an unchanged file is not reloaded.
+     *
+     * @return the modified time and the size of the file
+     * @throws GestaltException if unable to read the attributes of the file
+     */
+    @Override
+    public Optional<String> changeToken() throws GestaltException {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return Optional.of(attributes.lastModifiedTime().toInstant() + ":" + attributes.size());
+        } catch (IOException e) {
+            throw new GestaltException("Unable to read the attributes of file from path " + path, e);
+        }
+    }
+
     @Override
     public boolean hasList() {
         return false;
@@ -6,11 +6,18 @@ import org.github.gestalt.config.utils.Pair;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -19,6 +26,9 @@ import java.util.UUID;
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2025.
  */
 public final class URLConfigSource implements ConfigSource {
+    // the change token is checked on the reload threads, so a slow server should not block them for long.
+    private static final int CHANGE_TOKEN_TIMEOUT_MS = 10_000;
+
     private final String sourceURL;
     private final URL source;
     private final UUID id = UUID.randomUUID();
@@ -72,6 +82,51 @@ public final class URLConfigSource implements ConfigSource {
         }
     }
 
+    /**
+     * For a file URL the modified time and the size of the file,
+     * for an HTTP URL the ETag or Last-Modified header from a HEAD request.
+     *
+     * @return a token for the current contents of the URL, or empty if the URL does not provide one.
+     * @throws GestaltException if unable to get the token from the URL
+     */
+    @Override
+    public Optional<String> changeToken() throws GestaltException {
+        try {
+            if ("file".equals(source.getProtocol())) {
+                BasicFileAttributes attributes = Files.readAttributes(Path.of(source.toURI()), BasicFileAttributes.class);
+                return Optional.of(attributes.lastModifiedTime().toInstant() + ":" + attributes.size());
+            }
+
+            URLConnection connection = source.openConnection();
+            if (!(connection instanceof HttpURLConnection)) {
+                return Optional.empty();
+            }
+
+            HttpURLConnection httpConnection = (HttpURLConnection) connection;
+            try {
+                httpConnection.setRequestMethod("HEAD");
+                httpConnection.setConnectTimeout(CHANGE_TOKEN_TIMEOUT_MS);
+                httpConnection.setReadTimeout(CHANGE_TOKEN_TIMEOUT_MS);
+                if (httpConnection.getResponseCode() != HttpURLConnection.HTTP_OK) {
+                    // let the reload report the error.
+                    return Optional.empty();
+                }
+
+                String etag = httpConnection.getHeaderField("ETag");
+                if (etag != null) {
+                    return Optional.of(etag);
+                }
+
+                long lastModified = httpConnection.getLastModified();
+                return lastModified != 0 ? Optional.of(String.valueOf(lastModified)) : Optional.empty();
+            } finally {
+                httpConnection.disconnect();
+            }
+        } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+            throw new GestaltException("Exception getting the change token for " + sourceURL, e);
+        }
+    }
+
     @Override
     public boolean hasList() {
         return false;
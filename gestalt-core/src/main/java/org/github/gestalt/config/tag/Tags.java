@@ -14,9 +14,11 @@ import java.util.stream.Collectors;
 public final class Tags {
     private static final Tags DEFAULT_TAGS = new Tags(Set.of());
     private final Set<Tag> internalTags;
+    private final int hashCode;
 
     private Tags(Set<Tag> tags) {
         this.internalTags = new HashSet<>(tags);
+        this.hashCode = Objects.hash(internalTags);
     }
 
     /**
@@ -190,12 +192,12 @@ public final class Tags {
             return false;
         }
         Tags tags1 = (Tags) o;
-        return internalTags.equals(tags1.internalTags);
+        return hashCode == tags1.hashCode && internalTags.equals(tags1.internalTags);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(internalTags);
+        return hashCode;
     }
 
     @Override
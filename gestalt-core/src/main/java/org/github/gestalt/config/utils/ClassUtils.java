@@ -48,6 +48,13 @@ public final class ClassUtils {
      */
     private static final Map<Class<?>, Class<?>> wrapperPrimitiveMap = new HashMap<>();
 
+    // the results of isOptionalAndDefault, the pairs are immutable so they are shared.
+    private static final Pair<Boolean, Optional<?>> OPTIONAL_DEFAULT = new Pair<>(true, Optional.empty());
+    private static final Pair<Boolean, OptionalInt> OPTIONAL_INT_DEFAULT = new Pair<>(true, OptionalInt.empty());
+    private static final Pair<Boolean, OptionalLong> OPTIONAL_LONG_DEFAULT = new Pair<>(true, OptionalLong.empty());
+    private static final Pair<Boolean, OptionalDouble> OPTIONAL_DOUBLE_DEFAULT = new Pair<>(true, OptionalDouble.empty());
+    private static final Pair<Boolean, Object> NOT_OPTIONAL = new Pair<>(false, null);
+
 
     static {
         primitiveWrapperMap.put(Boolean.TYPE, Boolean.class);
@@ -277,15 +284,15 @@ public final class ClassUtils {
     @SuppressWarnings("unchecked")
     public static <T> Pair<Boolean, T> isOptionalAndDefault(final Class<?> type) {
         if (Optional.class.isAssignableFrom(type)) {
-            return new Pair<>(true, (T) Optional.empty());
+            return (Pair<Boolean, T>) OPTIONAL_DEFAULT;
         } else if (OptionalInt.class.isAssignableFrom(type)) {
-            return new Pair<>(true, (T) OptionalInt.empty());
+            return (Pair<Boolean, T>) OPTIONAL_INT_DEFAULT;
         } else if (OptionalLong.class.isAssignableFrom(type)) {
-            return new Pair<>(true, (T) OptionalLong.empty());
+            return (Pair<Boolean, T>) OPTIONAL_LONG_DEFAULT;
         } else if (OptionalDouble.class.isAssignableFrom(type)) {
-            return new Pair<>(true, (T) OptionalDouble.empty());
+            return (Pair<Boolean, T>) OPTIONAL_DOUBLE_DEFAULT;
         } else {
-            return new Pair<>(false, null);
+            return (Pair<Boolean, T>) NOT_OPTIONAL;
         }
     }
 
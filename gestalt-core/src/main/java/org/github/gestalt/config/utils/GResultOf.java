@@ -4,13 +4,13 @@ import org.github.gestalt.config.entity.ValidationError;
 import org.github.gestalt.config.entity.ValidationLevel;
 import org.github.gestalt.config.metadata.MetaDataValue;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 /**
  * Class that holds the results, errors or both.
@@ -19,6 +19,9 @@ import java.util.stream.Collectors;
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2025.
  */
 public final class GResultOf<T> {
+    // shared by all results without errors, so a successful result does not allocate an error list.
+    private static final List<ValidationError> NO_ERRORS = List.of();
+
     private final T results;
     private final List<ValidationError> errors;
     private final boolean isDefault;
@@ -26,7 +29,7 @@ public final class GResultOf<T> {
 
     private GResultOf(T results, List<ValidationError> errors, boolean isDefault, Map<String, List<MetaDataValue<?>>> metadata) {
         this.results = results;
-        this.errors = Objects.requireNonNullElse(errors, Collections.emptyList());
+        this.errors = Objects.requireNonNullElse(errors, NO_ERRORS);
         this.isDefault = isDefault;
         this.metadata = metadata;
     }
@@ -39,7 +42,7 @@ public final class GResultOf<T> {
      * @return GResultOf
      */
     public static <T> GResultOf<T> result(T answer) {
-        return new GResultOf<>(answer, Collections.emptyList(), false, Map.of());
+        return new GResultOf<>(answer, NO_ERRORS, false, Map.of());
     }
 
     /**
@@ -51,7 +54,7 @@ public final class GResultOf<T> {
      * @return GResultOf
      */
     public static <T> GResultOf<T> result(T answer, boolean isDefault) {
-        return new GResultOf<>(answer, Collections.emptyList(), isDefault, Map.of());
+        return new GResultOf<>(answer, NO_ERRORS, isDefault, Map.of());
     }
 
     /**
@@ -153,7 +156,23 @@ public final class GResultOf<T> {
      * @return true if the GResultOf has errors of level
      */
     public boolean hasErrors(ValidationLevel level) {
-        return errors.stream().anyMatch(it -> it.level().equals(level));
+        return errorCount(level) != 0;
+    }
+
+    /**
+     * returns the number of errors of a level.
+     *
+     * @param level level of the errors to count.
+     * @return the number of errors of level
+     */
+    public int errorCount(ValidationLevel level) {
+        int count = 0;
+        for (int i = 0; i < errors.size(); i++) {
+            if (errors.get(i).level() == level) {
+                count++;
+            }
+        }
+        return count;
     }
 
     /**
@@ -169,20 +188,42 @@ public final class GResultOf<T> {
      * return a list of ValidationError for a level.
      *
      * @param level of errors we are looking for.
-     * @return errors that match the level.
+     * @return errors that match the level, an immutable empty list if there are none.
      */
     public List<ValidationError> getErrors(ValidationLevel level) {
-        return errors.stream().filter(it -> it.level().equals(level)).collect(Collectors.toList());
+        int count = errorCount(level);
+        if (count == 0) {
+            return NO_ERRORS;
+        }
+
+        List<ValidationError> levelErrors = new ArrayList<>(count);
+        for (ValidationError error : errors) {
+            if (error.level() == level) {
+                levelErrors.add(error);
+            }
+        }
+        return levelErrors;
     }
 
     /**
      * return a list of ValidationError not of a level.
      *
      * @param level of errors, we are not looking for.
-     * @return errors that do not match the level.
+     * @return errors that do not match the level, an immutable empty list if there are none.
      */
     public List<ValidationError> getErrorsNotLevel(ValidationLevel level) {
-        return errors.stream().filter(it -> !it.level().equals(level)).collect(Collectors.toList());
+        int count = errors.size() - errorCount(level);
+        if (count == 0) {
+            return NO_ERRORS;
+        }
+
+        List<ValidationError> otherErrors = new ArrayList<>(count);
+        for (ValidationError error : errors) {
+            if (error.level() != level) {
+                otherErrors.add(error);
+            }
+        }
+        return otherErrors;
     }
 
     /**
@@ -169,18 +169,43 @@ public final class RecordUtils {
     public static <T> T invokeCanonicalConstructor(Class<T> recordType,
                                                    RecComponent[] recordComponents,
                                                    Object[] args) {
+        return (T) invokeCanonicalConstructor(recordType, canonicalConstructor(recordType, recordComponents), args);
+    }
+
+    /**
+     * Looks up the canonical constructor of a record class, so it can be invoked many times without looking it up again.
+     * The returned MethodHandle takes the arguments as an Object[] and returns the record as an Object.
+     *
+     * @param recordType       type of record
+     * @param recordComponents record components
+     * @return MethodHandle for the canonical constructor
+     */
+    public static MethodHandle canonicalConstructor(Class<?> recordType, RecComponent[] recordComponents) {
         try {
             Class<?>[] paramTypes = Arrays.stream(recordComponents)
                 .map(RecComponent::type)
                 .toArray(Class<?>[]::new);
-            MethodHandle MH_canonicalConstructor =
-                LOOKUP.findConstructor(recordType, methodType(void.class, paramTypes))
-                    .asType(methodType(Object.class, paramTypes));
-            return (T) MH_canonicalConstructor.invokeWithArguments(args);
+            return LOOKUP.findConstructor(recordType, methodType(void.class, paramTypes))
+                .asType(methodType(Object.class, paramTypes))
+                .asSpreader(Object[].class, paramTypes.length);
         } catch (Throwable t) {
             throw new RuntimeException("Could not construct type (" + recordType.getName() + ")", t);
         }
     }
 
-
+    /**
+     * Invokes a canonical constructor from {@link #canonicalConstructor(Class, RecComponent[])} with the given argument values.
+     *
+     * @param recordType           type of record
+     * @param canonicalConstructor the canonical constructor for the record
+     * @param args                 objects used to create the  record
+     * @return the record created
+     */
+    public static Object invokeCanonicalConstructor(Class<?> recordType, MethodHandle canonicalConstructor, Object[] args) {
+        try {
+            return (Object) canonicalConstructor.invokeExact(args);
+        } catch (Throwable t) {
+            throw new RuntimeException("Could not construct type (" + recordType.getName() + ")", t);
+        }
+    }
 }
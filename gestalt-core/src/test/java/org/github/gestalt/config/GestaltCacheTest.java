@@ -5,11 +5,15 @@ import org.github.gestalt.config.decoder.DecoderService;
 import org.github.gestalt.config.entity.GestaltConfig;
 import org.github.gestalt.config.entity.ValidationError;
 import org.github.gestalt.config.exceptions.GestaltException;
+import org.github.gestalt.config.lexer.PathLexer;
+import org.github.gestalt.config.metadata.IsRunTimeStringSubstitutionMetadata;
 import org.github.gestalt.config.node.TagMergingStrategyFallback;
 import org.github.gestalt.config.reflect.TypeCapture;
+import org.github.gestalt.config.reload.ChangedPaths;
 import org.github.gestalt.config.reload.CoreReloadListener;
 import org.github.gestalt.config.secret.rules.RegexSecretChecker;
 import org.github.gestalt.config.tag.Tags;
+import org.github.gestalt.config.token.ObjectToken;
 import org.github.gestalt.config.utils.GResultOf;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -19,8 +23,15 @@ import org.mockito.Mockito;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.LogManager;
 
 class GestaltCacheTest {
@@ -568,8 +579,187 @@ class GestaltCacheTest {
         Assertions.assertEquals("test", cache.debugPrint());
         Assertions.assertEquals("dev", cache.debugPrint(Tags.environment("dev")));
     }
-}
 
+    @Test
+    void getConfigReloadClearsCache() throws GestaltException {
+        GestaltCache cache = new GestaltCache(mockGestalt, Tags.of(), null,
+            new GestaltConfig(), new TagMergingStrategyFallback(), List.of());
+
+        Mockito.when(mockGestalt.getConfigResult("db.port", TypeCapture.of(Integer.class), Tags.of()))
+            .thenReturn(GResultOf.result(100));
+
+        Assertions.assertEquals(100, cache.getConfig("db.port", Integer.class));
+        Assertions.assertEquals(100, cache.getConfigResult("db.port", TypeCapture.of(Integer.class), Tags.of()).results());
+        Assertions.assertEquals(2, cache.size());
+
+        cache.reload();
+        Assertions.assertEquals(0, cache.size());
+
+        Assertions.assertEquals(100, cache.getConfig("db.port", Integer.class));
+        Assertions.assertEquals(100, cache.getConfigResult("db.port", TypeCapture.of(Integer.class), Tags.of()).results());
+
+        Mockito.verify(mockGestalt, Mockito.times(4)).getConfigResult("db.port", TypeCapture.of(Integer.class), Tags.of());
+    }
+
+    @Test
+    void getConfigReloadChangedPaths() throws GestaltException {
+        GestaltCache cache = new GestaltCache(mockGestalt, Tags.of(), null,
+            new GestaltConfig(), new TagMergingStrategyFallback(), List.of());
+
+        Mockito.when(mockGestalt.getConfigResult("db.port", TypeCapture.of(Integer.class), Tags.of()))
+            .thenReturn(GResultOf.result(100));
+        Mockito.when(mockGestalt.getConfigResult("http.pool", TypeCapture.of(Integer.class), Tags.of()))
+            .thenReturn(GResultOf.result(10));
+        Mockito.when(mockGestalt.getConfigResult("http.timeout", TypeCapture.of(Integer.class), Tags.of()))
+            .thenReturn(GResultOf.resultOf(20, List.of(), Map.of(IsRunTimeStringSubstitutionMetadata.RUN_TIME_STRING_SUBSTITUTION,
+                List.of(new IsRunTimeStringSubstitutionMetadata(true)))));
+
+        Assertions.assertEquals(100, cache.getConfig("db.port", Integer.class));
+        Assertions.assertEquals(10, cache.getConfig("http.pool", Integer.class));
+        Assertions.assertEquals(20, cache.getConfig("http.timeout", Integer.class));
+        Assertions.assertEquals(3, cache.size());
+
+        // nothing changed so nothing is evicted.
+        cache.reload(ChangedPaths.none());
+        Assertions.assertEquals(3, cache.size());
+
+        // only the changed path and the run time substitution are evicted.
+        cache.reload(ChangedPaths.of(List.of(List.of(new ObjectToken("db"))), new PathLexer()));
+        Assertions.assertEquals(1, cache.size());
+
+        Assertions.assertEquals(100, cache.getConfig("db.port", Integer.class));
+        Assertions.assertEquals(10, cache.getConfig("http.pool", Integer.class));
+        Assertions.assertEquals(20, cache.getConfig("http.timeout", Integer.class));
+
+        Mockito.verify(mockGestalt, Mockito.times(2)).getConfigResult("db.port", TypeCapture.of(Integer.class), Tags.of());
+        Mockito.verify(mockGestalt, Mockito.times(1)).getConfigResult("http.pool", TypeCapture.of(Integer.class), Tags.of());
+        Mockito.verify(mockGestalt, Mockito.times(2)).getConfigResult("http.timeout", TypeCapture.of(Integer.class), Tags.of());
+
+        cache.reload(ChangedPaths.all());
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    void getConfigMaxEntries() throws GestaltException {
+        GestaltConfig gestaltConfig = new GestaltConfig();
+        gestaltConfig.setCacheMaxEntries(10);
+        GestaltCache cache = new GestaltCache(mockGestalt, Tags.of(), null,
+            gestaltConfig, new TagMergingStrategyFallback(), List.of());
+
+        for (int i = 0; i < 20; i++) {
+            Mockito.when(mockGestalt.getConfigResult("db.port" + i, TypeCapture.of(Integer.class), Tags.of()))
+                .thenReturn(GResultOf.result(i));
+        }
+
+        for (int i = 0; i < 20; i++) {
+            Assertions.assertEquals(i, cache.getConfig("db.port" + i, Integer.class));
+            Assertions.assertTrue(cache.size() <= 10);
+        }
+
+        // the most recent entry is still cached.
+        Assertions.assertEquals(19, cache.getConfig("db.port19", Integer.class));
+        Mockito.verify(mockGestalt, Mockito.times(1)).getConfigResult("db.port19", TypeCapture.of(Integer.class), Tags.of());
+
+        // the oldest entry was evicted.
+        Assertions.assertEquals(0, cache.getConfig("db.port0", Integer.class));
+        Mockito.verify(mockGestalt, Mockito.times(2)).getConfigResult("db.port0", TypeCapture.of(Integer.class), Tags.of());
+    }
+
+    @Test
+    void getConfigMaxEntriesEvictsLeastRecentlyUsed() throws GestaltException {
+        GestaltConfig gestaltConfig = new GestaltConfig();
+        gestaltConfig.setCacheMaxEntries(2);
+        GestaltCache cache = new GestaltCache(mockGestalt, Tags.of(), null,
+            gestaltConfig, new TagMergingStrategyFallback(), List.of());
+
+        for (int i = 0; i < 3; i++) {
+            Mockito.when(mockGestalt.getConfigResult("db.port" + i, TypeCapture.of(Integer.class), Tags.of()))
+                .thenReturn(GResultOf.result(i));
+        }
+
+        Assertions.assertEquals(0, cache.getConfig("db.port0", Integer.class));
+        Assertions.assertEquals(1, cache.getConfig("db.port1", Integer.class));
+        // using the first entry again makes the second entry the least recently used.
+        Assertions.assertEquals(0, cache.getConfig("db.port0", Integer.class));
+        Assertions.assertEquals(2, cache.getConfig("db.port2", Integer.class));
+        Assertions.assertEquals(2, cache.size());
+
+        Assertions.assertEquals(0, cache.getConfig("db.port0", Integer.class));
+        Mockito.verify(mockGestalt, Mockito.times(1)).getConfigResult("db.port0", TypeCapture.of(Integer.class), Tags.of());
+        Assertions.assertEquals(1, cache.getConfig("db.port1", Integer.class));
+        Mockito.verify(mockGestalt, Mockito.times(2)).getConfigResult("db.port1", TypeCapture.of(Integer.class), Tags.of());
+    }
 
+    @Test
+    void getConfigConcurrentMissLoadsOnce() throws Exception {
+        GestaltCache cache = new GestaltCache(mockGestalt, Tags.of(), null,
+            new GestaltConfig(), new TagMergingStrategyFallback(), List.of());
 
+        CountDownLatch loading = new CountDownLatch(1);
+        Mockito.when(mockGestalt.getConfigResult("db.port", TypeCapture.of(Integer.class), Tags.of()))
+            .thenAnswer(invocation -> {
+                loading.await(1, TimeUnit.SECONDS);
+                return GResultOf.result(100);
+            });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> cache.getConfig("db.port", Integer.class)));
+            }
+            loading.countDown();
+
+            for (Future<Integer> future : futures) {
+                Assertions.assertEquals(100, future.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Mockito.verify(mockGestalt, Mockito.times(1)).getConfigResult("db.port", TypeCapture.of(Integer.class), Tags.of());
+    }
+
+    @Test
+    void getConfigNegativeResultCached() throws GestaltException {
+        GestaltCache cache = new GestaltCache(mockGestalt, Tags.of(), null,
+            new GestaltConfig(), new TagMergingStrategyFallback(), List.of());
 
+        Mockito.when(mockGestalt.getConfigResult("db.port", TypeCapture.of(Integer.class), Tags.of()))
+            .thenReturn(GResultOf.resultOf(null, List.of()));
+
+        Assertions.assertNull(cache.getConfig("db.port", Integer.class));
+        Assertions.assertNull(cache.getConfig("db.port", Integer.class));
+        Assertions.assertEquals(200, cache.getConfig("db.port", 200, Integer.class));
+        Assertions.assertTrue(cache.getConfigOptional("db.port", Integer.class).isEmpty());
+
+        Assertions.assertFalse(cache.getConfigResult("db.port", TypeCapture.of(Integer.class), Tags.of()).hasResults());
+        Assertions.assertFalse(cache.getConfigResult("db.port", TypeCapture.of(Integer.class), Tags.of()).hasResults());
+
+        Mockito.verify(mockGestalt, Mockito.times(2)).getConfigResult("db.port", TypeCapture.of(Integer.class), Tags.of());
+        Mockito.verify(mockGestalt, Mockito.times(0)).getConfigOptionalResult("db.port", TypeCapture.of(Integer.class), Tags.of());
+
+        // reloading clears the negative results.
+        cache.reload();
+        Assertions.assertNull(cache.getConfig("db.port", Integer.class));
+        Mockito.verify(mockGestalt, Mockito.times(3)).getConfigResult("db.port", TypeCapture.of(Integer.class), Tags.of());
+    }
+
+    @Test
+    void getConfigNegativeResultDisabled() throws GestaltException {
+        GestaltConfig gestaltConfig = new GestaltConfig();
+        gestaltConfig.setCacheNegativeResults(false);
+        GestaltCache cache = new GestaltCache(mockGestalt, Tags.of(), null,
+            gestaltConfig, new TagMergingStrategyFallback(), List.of());
+
+        Mockito.when(mockGestalt.getConfigOptionalResult("db.port", TypeCapture.of(Integer.class), Tags.of()))
+            .thenReturn(Optional.empty());
+
+        Assertions.assertTrue(cache.getConfigOptional("db.port", Integer.class).isEmpty());
+        Assertions.assertTrue(cache.getConfigOptional("db.port", Integer.class).isEmpty());
+        Assertions.assertEquals(200, cache.getConfig("db.port", 200, Integer.class));
+        Assertions.assertEquals(0, cache.size());
+
+        Mockito.verify(mockGestalt, Mockito.times(3)).getConfigOptionalResult("db.port", TypeCapture.of(Integer.class), Tags.of());
+    }
+}
@@ -654,4 +654,35 @@ public class GestaltObservationsTest {
 
         Assertions.assertFalse(metricsRecorder.metrics.containsKey("cache.hit"));
     }
+
+    @Test
+    public void testMetricsLoadSourceParallel() throws GestaltException {
+
+        Map<String, String> configs = new HashMap<>();
+        configs.put("db.password", "test");
+        configs.put("db.port", "123");
+
+        Map<String, String> configs2 = new HashMap<>();
+        configs2.put("db.password", "test2");
+
+        var metricsRecorder = new TestObservationRecorder(0);
+
+        Gestalt gestalt = new GestaltBuilder()
+            .addSource(MapConfigSourceBuilder.builder().setCustomConfig(configs).build())
+            .addSource(MapConfigSourceBuilder.builder().setCustomConfig(configs2).setTags(Tags.environment("dev")).build())
+            .setObservationsRecorders(List.of(metricsRecorder))
+            .setObservationsEnabled(true)
+            .setParallelSourceLoading(true)
+            .build();
+
+        gestalt.loadConfigs();
+
+        Assertions.assertEquals("test", gestalt.getConfig("db.password", String.class));
+        Assertions.assertEquals("test2", gestalt.getConfig("db.password", String.class, Tags.environment("dev")));
+
+        Assertions.assertEquals("loadSource", metricsRecorder.metrics.get("loadSource").path);
+        Assertions.assertEquals(10.0D, metricsRecorder.metrics.get("loadSource").data);
+        Assertions.assertTrue(metricsRecorder.metrics.get("loadSource").tags.getTags().stream()
+            .anyMatch(it -> "source".equals(it.getKey()) && "mapConfig".equals(it.getValue())));
+    }
 }
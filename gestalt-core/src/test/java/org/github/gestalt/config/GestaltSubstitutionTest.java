@@ -77,6 +77,27 @@ public class GestaltSubstitutionTest {
         Assertions.assertNotEquals(random1, random3);
     }
 
+    @Test
+    public void testRunTimeSubstitutionMultiRunPrimitive() throws GestaltException {
+        Map<String, String> customMap = new HashMap<>();
+        customMap.put("message", "#{random:int}");
+
+        GestaltBuilder builder = new GestaltBuilder();
+        Gestalt gestalt = builder
+                .addSource(MapConfigSourceBuilder.builder().setCustomConfig(customMap).build())
+                .build();
+
+        gestalt.loadConfigs();
+
+        // run time substitutions are not cached by the primitive getters.
+        int random1 = gestalt.getInt("message", 0);
+        int random2 = gestalt.getInt("message", 0);
+        int random3 = gestalt.getInt("message", 0);
+
+        Assertions.assertNotEquals(random1, random2);
+        Assertions.assertNotEquals(random1, random3);
+    }
+
     @Test
     public void testPartialSubstitution() throws GestaltException {
         Map<String, String> customMap = new HashMap<>();
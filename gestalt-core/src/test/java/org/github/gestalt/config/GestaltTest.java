@@ -22,6 +22,7 @@ import org.github.gestalt.config.processor.result.DefaultResultProcessor;
 import org.github.gestalt.config.processor.result.ErrorResultProcessor;
 import org.github.gestalt.config.processor.result.ResultsProcessorManager;
 import org.github.gestalt.config.reflect.TypeCapture;
+import org.github.gestalt.config.reload.ChangedPaths;
 import org.github.gestalt.config.reload.CoreReloadListener;
 import org.github.gestalt.config.reload.CoreReloadListenersContainer;
 import org.github.gestalt.config.reload.ManualConfigReloadStrategy;
@@ -50,6 +51,9 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.LogManager;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -1433,6 +1437,161 @@ class GestaltTest {
         Assertions.assertEquals("test1", gestalt.getConfig("db.name", TypeCapture.of(String.class)));
     }
 
+    @Test
+    public void testPrimitiveGetters() throws GestaltException {
+
+        Map<String, String> configs = new HashMap<>();
+        configs.put("db.port", "3306");
+        configs.put("db.timeout", "3000000000");
+        configs.put("db.enabled", "true");
+        configs.put("db.ratio", "0.75");
+        configs.put("db.name", "test");
+        configs.put("admin[0]", "1");
+
+        Gestalt gestalt = new GestaltBuilder()
+            .addSource(MapConfigSourceBuilder.builder().setCustomConfig(configs).build())
+            .addSource(MapConfigSourceBuilder.builder().setCustomConfig(Map.of("db.port", "3307")).setTags(Tags.of("env", "dev")).build())
+            .build();
+
+        gestalt.loadConfigs();
+
+        Assertions.assertEquals(3306, gestalt.getInt("db.port", 1));
+        Assertions.assertEquals(3306, gestalt.getInt("db.port", 1));
+        Assertions.assertEquals(3306L, gestalt.getLong("db.port", 1L));
+        Assertions.assertEquals(3306, gestalt.getInt("db.port", 1));
+        Assertions.assertEquals(3306d, gestalt.getDouble("db.port", 1d));
+        Assertions.assertEquals(3000000000L, gestalt.getLong("db.timeout", 1L));
+        Assertions.assertTrue(gestalt.getBoolean("db.enabled", false));
+        Assertions.assertEquals(0.75, gestalt.getDouble("db.ratio", 1d));
+        Assertions.assertEquals(1, gestalt.getInt("admin[0]", 2));
+
+        Assertions.assertEquals(3307, gestalt.getInt("db.port", 1, Tags.of("env", "dev")));
+        Assertions.assertEquals(3307L, gestalt.getLong("db.port", 1L, Tags.of("env", "dev")));
+        Assertions.assertTrue(gestalt.getBoolean("db.enabled", false, Tags.of("env", "dev")));
+        Assertions.assertEquals(0.75, gestalt.getDouble("db.ratio", 1d, Tags.of("env", "dev")));
+
+        // missing and invalid values return the default.
+        Assertions.assertEquals(1, gestalt.getInt("db.none", 1));
+        Assertions.assertEquals(1, gestalt.getInt("db.timeout", 1));
+        Assertions.assertEquals(1, gestalt.getInt("db.name", 1));
+        Assertions.assertEquals(1L, gestalt.getLong("db.name", 1L));
+        Assertions.assertEquals(1d, gestalt.getDouble("db.name", 1d));
+        Assertions.assertEquals(1, gestalt.getInt("db", 1));
+        Assertions.assertEquals(1, gestalt.getInt("admin[1]", 1));
+        Assertions.assertEquals(1, gestalt.getInt("db..port", 1));
+        Assertions.assertTrue(gestalt.getBoolean("db.none", true));
+    }
+
+    @Test
+    public void testPrimitiveGettersReload() throws GestaltException {
+
+        Map<String, String> configs = new HashMap<>();
+        configs.put("db.port", "3306");
+        configs.put("db.enabled", "true");
+
+        ManualConfigReloadStrategy reload = new ManualConfigReloadStrategy();
+        GestaltCore gestalt = (GestaltCore) new GestaltBuilder()
+            .addSource(MapConfigSourceBuilder.builder().setCustomConfig(configs).addConfigReloadStrategy(reload).build())
+            .useCacheDecorator(false)
+            .build();
+
+        gestalt.loadConfigs();
+
+        Assertions.assertEquals(3306, gestalt.getInt("db.port", 1));
+        Assertions.assertTrue(gestalt.getBoolean("db.enabled", false));
+
+        configs.put("db.port", "3307");
+        configs.put("db.enabled", "abc");
+        reload.reload();
+
+        Assertions.assertEquals(3307, gestalt.getInt("db.port", 1));
+        Assertions.assertFalse(gestalt.getBoolean("db.enabled", true));
+        Assertions.assertEquals(3307, gestalt.getConfig("db.port", 1, Integer.class));
+    }
+
+    @Test
+    public void testParallelSourceLoading() throws GestaltException {
+
+        Map<String, String> configs = new HashMap<>();
+        configs.put("db.name", "test");
+        configs.put("db.port", "3306");
+        configs.put("db.uri", "my.sql.com");
+
+        Map<String, String> configs2 = new HashMap<>();
+        configs2.put("db.port", "3307");
+        configs2.put("db.uri", "my.postgresql.com");
+
+        Map<String, String> configs3 = new HashMap<>();
+        configs3.put("db.uri", "my.oracle.com");
+
+        Gestalt gestalt = new GestaltBuilder()
+            .addSource(MapConfigSourceBuilder.builder().setCustomConfig(configs).build())
+            .addSource(MapConfigSourceBuilder.builder().setCustomConfig(configs2).build())
+            .addSource(MapConfigSourceBuilder.builder().setCustomConfig(configs3).build())
+            .setParallelSourceLoading(true)
+            .build();
+
+        gestalt.loadConfigs();
+
+        Assertions.assertEquals("test", gestalt.getConfig("db.name", String.class));
+        Assertions.assertEquals(3307, gestalt.getConfig("db.port", Integer.class));
+        Assertions.assertEquals("my.oracle.com", gestalt.getConfig("db.uri", String.class));
+    }
+
+    @Test
+    public void testParallelSourceLoadingMergesInDeclaredOrder() throws GestaltException {
+
+        Map<String, String> configs = new HashMap<>();
+        configs.put("db.port", "3306");
+
+        Map<String, String> configs2 = new HashMap<>();
+        configs2.put("db.port", "3307");
+
+        // delay loading the first source, so it completes after the second.
+        var tasks = new AtomicInteger();
+        Executor executor = runnable -> {
+            int task = tasks.getAndIncrement();
+            new Thread(() -> {
+                if (task == 0) {
+                    try {
+                        Thread.sleep(50);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                runnable.run();
+            }).start();
+        };
+
+        Gestalt gestalt = new GestaltBuilder()
+            .addSource(MapConfigSourceBuilder.builder().setCustomConfig(configs).build())
+            .addSource(MapConfigSourceBuilder.builder().setCustomConfig(configs2).build())
+            .setParallelSourceLoading(true)
+            .setSourceLoadingExecutor(executor)
+            .build();
+
+        gestalt.loadConfigs();
+
+        Assertions.assertEquals(2, tasks.get());
+        Assertions.assertEquals(3307, gestalt.getConfig("db.port", Integer.class));
+    }
+
+    @Test
+    public void testParallelSourceLoadingError() throws GestaltException {
+
+        Map<String, String> configs = new HashMap<>();
+        configs.put("db.port", "3306");
+
+        Gestalt gestalt = new GestaltBuilder()
+            .addSource(MapConfigSourceBuilder.builder().setCustomConfig(configs).build())
+            .addSource(ClassPathConfigSourceBuilder.builder().setResource("/missing.properties").build())
+            .setParallelSourceLoading(true)
+            .build();
+
+        var ex = Assertions.assertThrows(GestaltException.class, gestalt::loadConfigs);
+        Assertions.assertEquals("Unable to load classpath resource from /missing.properties", ex.getMessage());
+    }
+
     @Test
     @SuppressWarnings("VariableDeclarationUsageDistance")
     public void testReloadTags() throws GestaltException {
@@ -1724,6 +1883,197 @@ class GestaltTest {
         Assertions.assertEquals("test", gestalt.getConfig("db.name", TypeCapture.of(String.class)));
     }
 
+    @Test
+    public void testReloadMultipleSources() throws GestaltException {
+
+        Map<String, String> configs = new HashMap<>();
+        configs.put("db.name", "test");
+        configs.put("db.port", "3306");
+
+        Map<String, String> configs2 = new HashMap<>();
+        configs2.put("admin[0]", "John");
+        configs2.put("admin[1]", "Steve");
+
+        var sourcePackage = new ConfigSourcePackage(new MapConfigSource(configs), List.of(), Tags.of());
+        var sourcePackage2 = new ConfigSourcePackage(new MapConfigSource(configs2), List.of(), Tags.of());
+
+        ConfigLoaderRegistry configLoaderRegistry = new ConfigLoaderRegistry();
+        configLoaderRegistry.addLoader(new MapConfigLoader());
+
+        ConfigNodeManager configNodeManager = new ConfigNodeManager();
+
+        SentenceLexer lexer = new PathLexer(".");
+        SecretConcealer secretConcealer = new SecretConcealerManager(Set.of("secret"), it -> "*****");
+
+        CoreReloadListenersContainer coreReloadListenersContainer = new CoreReloadListenersContainer();
+        CoreListener coreListener = new CoreListener();
+        coreReloadListenersContainer.registerListener(coreListener);
+
+        GestaltCore gestalt = new GestaltCore(configLoaderRegistry,
+            List.of(sourcePackage, sourcePackage2),
+            new DecoderRegistry(List.of(new DoubleDecoder(), new LongDecoder(), new IntegerDecoder(), new StringDecoder()),
+                configNodeManager, lexer, List.of(new StandardPathMapper())), lexer, new GestaltConfig(), configNodeManager,
+            new ConfigNodeProcessorManager(List.of(), List.of(), new PathLexer()),
+            coreReloadListenersContainer, secretConcealer, null,
+            new ResultsProcessorManager(List.of(new ErrorResultProcessor(), new DefaultResultProcessor())),
+            Tags.of(), new TagMergingStrategyFallback());
+
+        gestalt.loadConfigs();
+        Assertions.assertEquals(0, gestalt.getLoadErrors().size());
+
+        Assertions.assertEquals("test", gestalt.getConfig("db.name", String.class));
+        Assertions.assertEquals("John", gestalt.getConfig("admin[0]", String.class));
+
+        configs.put("db.name", "test1");
+        configs2.put("admin[0]", "Bob");
+
+        gestalt.reloadAll(List.of(sourcePackage, sourcePackage2));
+
+        // both sources are reloaded with a single notification.
+        Assertions.assertEquals(1, coreListener.count);
+        Assertions.assertEquals("test1", gestalt.getConfig("db.name", String.class));
+        Assertions.assertEquals("Bob", gestalt.getConfig("admin[0]", String.class));
+        Assertions.assertEquals("Steve", gestalt.getConfig("admin[1]", String.class));
+    }
+
+    @Test
+    public void testReloadMultipleSourcesOneFails() throws GestaltException {
+
+        Map<String, String> configs = new HashMap<>();
+        configs.put("db.name", "test");
+        configs.put("db.port", "3306");
+
+        Map<String, String> configs2 = new HashMap<>();
+        configs2.put("admin[0]", "John");
+        configs2.put("admin[1]", "Steve");
+
+        var sourcePackage = new ConfigSourcePackage(new MapConfigSource(configs), List.of(), Tags.of());
+        var sourcePackage2 = new ConfigSourcePackage(new MapConfigSource(configs2), List.of(), Tags.of());
+
+        ConfigLoaderRegistry configLoaderRegistry = new ConfigLoaderRegistry();
+        configLoaderRegistry.addLoader(new MapConfigLoader());
+
+        ConfigNodeManager configNodeManager = new ConfigNodeManager();
+
+        SentenceLexer lexer = new PathLexer(".");
+        SecretConcealer secretConcealer = new SecretConcealerManager(Set.of("secret"), it -> "*****");
+
+        CoreReloadListenersContainer coreReloadListenersContainer = new CoreReloadListenersContainer();
+        CoreListener coreListener = new CoreListener();
+        coreReloadListenersContainer.registerListener(coreListener);
+
+        GestaltCore gestalt = new GestaltCore(configLoaderRegistry,
+            List.of(sourcePackage, sourcePackage2),
+            new DecoderRegistry(List.of(new DoubleDecoder(), new LongDecoder(), new IntegerDecoder(), new StringDecoder()),
+                configNodeManager, lexer, List.of(new StandardPathMapper())), lexer, new GestaltConfig(), configNodeManager,
+            new ConfigNodeProcessorManager(List.of(), List.of(), new PathLexer()),
+            coreReloadListenersContainer, secretConcealer, null,
+            new ResultsProcessorManager(List.of(new ErrorResultProcessor(), new DefaultResultProcessor())),
+            Tags.of(), new TagMergingStrategyFallback());
+
+        gestalt.loadConfigs();
+        Assertions.assertEquals(0, gestalt.getLoadErrors().size());
+
+        configs.put("db.name", "test1");
+        configs2.put("admin[3a]", "Bob");
+
+        var ex = Assertions.assertThrows(GestaltException.class, () -> gestalt.reloadAll(List.of(sourcePackage, sourcePackage2)));
+        assertThat(ex).hasMessageStartingWith("Failed to load configs from source: mapConfig");
+
+        // the source that loaded is not reloaded either.
+        Assertions.assertEquals(0, coreListener.count);
+        Assertions.assertEquals("test", gestalt.getConfig("db.name", String.class));
+        Assertions.assertEquals("John", gestalt.getConfig("admin[0]", String.class));
+
+        Assertions.assertThrows(GestaltException.class, () -> gestalt.reloadAll(List.of()));
+        Assertions.assertThrows(GestaltException.class, () -> gestalt.reloadAll(null));
+        Assertions.assertEquals(0, coreListener.count);
+    }
+
+    @Test
+    public void testReloadAsync() throws GestaltException {
+
+        Map<String, String> configs = new HashMap<>();
+        configs.put("db.name", "test");
+        configs.put("db.port", "3306");
+
+        Map<String, String> configs2 = new HashMap<>();
+        configs2.put("admin[0]", "John");
+        configs2.put("admin[1]", "Steve");
+
+        var sourcePackage = MapConfigSourceBuilder.builder().setCustomConfig(configs).build();
+        var sourcePackage2 = MapConfigSourceBuilder.builder().setCustomConfig(configs2).build();
+
+        AtomicInteger tasks = new AtomicInteger();
+        Executor executor = runnable -> {
+            tasks.incrementAndGet();
+            new Thread(runnable).start();
+        };
+
+        CoreListener coreListener = new CoreListener();
+        Gestalt gestalt = new GestaltBuilder()
+            .addSource(sourcePackage)
+            .addSource(sourcePackage2)
+            .addCoreReloadListener(coreListener)
+            .setReloadExecutor(executor)
+            .build();
+
+        gestalt.loadConfigs();
+        Assertions.assertEquals("test", gestalt.getConfig("db.name", String.class));
+
+        configs.put("db.name", "test1");
+        configs2.put("admin[0]", "Bob");
+
+        ChangedPaths changedPaths = gestalt.reloadAsync(List.of(sourcePackage, sourcePackage2)).join();
+
+        Assertions.assertEquals(1, tasks.get());
+        Assertions.assertEquals(1, coreListener.count);
+        Assertions.assertTrue(changedPaths.isChanged("db.name"));
+        Assertions.assertTrue(changedPaths.isChanged("admin[0]"));
+        Assertions.assertFalse(changedPaths.isChanged("db.port"));
+        Assertions.assertEquals("test1", gestalt.getConfig("db.name", String.class));
+        Assertions.assertEquals("Bob", gestalt.getConfig("admin[0]", String.class));
+    }
+
+    @Test
+    public void testReloadAsyncFails() throws GestaltException {
+
+        Map<String, String> configs = new HashMap<>();
+        configs.put("db.name", "test");
+        configs.put("db.port", "3306");
+
+        Map<String, String> configs2 = new HashMap<>();
+        configs2.put("admin[0]", "John");
+        configs2.put("admin[1]", "Steve");
+
+        var sourcePackage = MapConfigSourceBuilder.builder().setCustomConfig(configs).build();
+        var sourcePackage2 = MapConfigSourceBuilder.builder().setCustomConfig(configs2).build();
+
+        CoreListener coreListener = new CoreListener();
+        Gestalt gestalt = new GestaltBuilder()
+            .addSource(sourcePackage)
+            .addSource(sourcePackage2)
+            .addCoreReloadListener(coreListener)
+            .build();
+
+        gestalt.loadConfigs();
+
+        configs.put("db.name", "test1");
+        configs2.put("admin[3a]", "Bob");
+
+        var future = gestalt.reloadAsync(List.of(sourcePackage, sourcePackage2));
+        var ex = Assertions.assertThrows(CompletionException.class, future::join);
+        Assertions.assertTrue(ex.getCause() instanceof GestaltException);
+
+        // the config is left unchanged.
+        Assertions.assertEquals(0, coreListener.count);
+        Assertions.assertEquals("test", gestalt.getConfig("db.name", String.class));
+        Assertions.assertEquals("John", gestalt.getConfig("admin[0]", String.class));
+
+        Assertions.assertTrue(gestalt.reloadAsync(List.of()).isCompletedExceptionally());
+        Assertions.assertTrue(gestalt.reloadAsync(null).isCompletedExceptionally());
+    }
+
     @Test
     public void testReloadRemoveListener() throws GestaltException {
 
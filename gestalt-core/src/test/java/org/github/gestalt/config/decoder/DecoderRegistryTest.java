@@ -7,10 +7,13 @@ import org.github.gestalt.config.exceptions.GestaltException;
 import org.github.gestalt.config.lexer.PathLexer;
 import org.github.gestalt.config.lexer.SentenceLexer;
 import org.github.gestalt.config.node.ConfigNode;
+import org.github.gestalt.config.node.ConfigNodeManager;
 import org.github.gestalt.config.node.ConfigNodeService;
 import org.github.gestalt.config.node.LeafNode;
+import org.github.gestalt.config.node.MapNode;
 import org.github.gestalt.config.node.NodeType;
 import org.github.gestalt.config.path.mapper.PathMapper;
+import org.github.gestalt.config.path.mapper.SnakeCasePathMapper;
 import org.github.gestalt.config.path.mapper.StandardPathMapper;
 import org.github.gestalt.config.reflect.TypeCapture;
 import org.github.gestalt.config.tag.Tags;
@@ -28,6 +31,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.LogManager;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -84,7 +88,7 @@ class DecoderRegistryTest {
         DecoderRegistry decoderRegistry = new DecoderRegistry(List.of(new DoubleDecoder(), new LongDecoder(), new IntegerDecoder(),
             new StringDecoder()), configNodeService, lexer, List.of(new StandardPathMapper()));
 
-        List<Decoder> decoders = decoderRegistry.getDecoderForClass("", Tags.of(), new LeafNode(""), TypeCapture.of(String.class));
+        List<Decoder<?>> decoders = decoderRegistry.getDecoderForClass("", Tags.of(), new LeafNode(""), TypeCapture.of(String.class));
 
         Assertions.assertEquals(1, decoders.size());
         Assertions.assertTrue(decoders.get(0).canDecode("", Tags.of(), new LeafNode(""), TypeCapture.of(String.class)));
@@ -95,7 +99,7 @@ class DecoderRegistryTest {
         DecoderRegistry decoderRegistry = new DecoderRegistry(Collections.singletonList(new StringDecoder()), configNodeService, lexer,
             List.of(new StandardPathMapper()));
 
-        List<Decoder> decoders = decoderRegistry.getDecoderForClass("", Tags.of(), new LeafNode(""), TypeCapture.of(Double.class));
+        List<Decoder<?>> decoders = decoderRegistry.getDecoderForClass("", Tags.of(), new LeafNode(""), TypeCapture.of(Double.class));
 
         Assertions.assertEquals(0, decoders.size());
 
@@ -408,6 +412,106 @@ class DecoderRegistryTest {
         Mockito.verify(configNodeService, Mockito.times(1)).navigateToNextNode(any(), any(List.class), any());
     }
 
+    @Test
+    void getDecoderForClassCachesDispatch() throws GestaltException {
+        CountingDecoder cacheable = new CountingDecoder(true, Priority.MEDIUM);
+        DecoderRegistry decoderRegistry = new DecoderRegistry(List.of(new StringDecoder(), cacheable), configNodeService, lexer,
+            List.of(new StandardPathMapper()));
+
+        for (int i = 0; i < 5; i++) {
+            List<Decoder<?>> decoders = decoderRegistry.getDecoderForClass("db.port" + i, Tags.of(), new LeafNode("1"),
+                TypeCapture.of(Long.class));
+            Assertions.assertEquals(1, decoders.size());
+            Assertions.assertSame(cacheable, decoders.get(0));
+        }
+        Assertions.assertEquals(1, cacheable.canDecodeCount);
+
+        // a different node type is a different dispatch.
+        decoderRegistry.getDecoderForClass("db.port", Tags.of(), null, TypeCapture.of(Long.class));
+        Assertions.assertEquals(2, cacheable.canDecodeCount);
+
+        // adding decoders clears the dispatch cache.
+        LongDecoderCustomVH highPriority = new LongDecoderCustomVH();
+        decoderRegistry.addDecoders(List.of(highPriority));
+        List<Decoder<?>> decoders = decoderRegistry.getDecoderForClass("db.port", Tags.of(), new LeafNode("1"),
+            TypeCapture.of(Long.class));
+        Assertions.assertEquals(2, decoders.size());
+        Assertions.assertSame(highPriority, decoders.get(0));
+        Assertions.assertSame(cacheable, decoders.get(1));
+        Assertions.assertEquals(3, cacheable.canDecodeCount);
+
+        // setting decoders clears the dispatch cache.
+        decoderRegistry.setDecoders(List.of(new StringDecoder()));
+        decoders = decoderRegistry.getDecoderForClass("db.port", Tags.of(), new LeafNode("1"), TypeCapture.of(Long.class));
+        Assertions.assertEquals(0, decoders.size());
+    }
+
+    @Test
+    void getDecoderForClassUncacheableAlwaysChecked() throws GestaltException {
+        CountingDecoder cacheable = new CountingDecoder(true, Priority.LOW);
+        CountingDecoder uncacheable = new CountingDecoder(false, Priority.HIGH);
+        DecoderRegistry decoderRegistry = new DecoderRegistry(List.of(cacheable, uncacheable), configNodeService, lexer,
+            List.of(new StandardPathMapper()));
+
+        for (int i = 0; i < 3; i++) {
+            List<Decoder<?>> decoders = decoderRegistry.getDecoderForClass("db.port", Tags.of(), new LeafNode("1"),
+                TypeCapture.of(Long.class));
+            Assertions.assertEquals(2, decoders.size());
+            Assertions.assertSame(uncacheable, decoders.get(0));
+            Assertions.assertSame(cacheable, decoders.get(1));
+        }
+
+        Assertions.assertEquals(1, cacheable.canDecodeCount);
+        Assertions.assertEquals(3, uncacheable.canDecodeCount);
+    }
+
+    @Test
+    void getNextNodeCachesMappedPaths() throws GestaltException {
+        CountingPathMapper pathMapper = new CountingPathMapper(true);
+        DecoderRegistry decoderRegistry = new DecoderRegistry(List.of(new StringDecoder()), new ConfigNodeManager(), new PathLexer(),
+            List.of(pathMapper, new SnakeCasePathMapper()));
+
+        ConfigNode node = new MapNode(Map.of("run", new LeafNode("test"), "max_total", new LeafNode("100")));
+        for (int i = 0; i < 3; i++) {
+            GResultOf<ConfigNode> run = decoderRegistry.getNextNode("test", "run", node);
+            Assertions.assertFalse(run.hasErrors());
+            Assertions.assertEquals("test", run.results().getValue().get());
+
+            GResultOf<ConfigNode> maxTotal = decoderRegistry.getNextNode("test", "maxTotal", node);
+            Assertions.assertFalse(maxTotal.hasErrors());
+            Assertions.assertEquals("100", maxTotal.results().getValue().get());
+        }
+        Assertions.assertEquals(2, pathMapper.mapCount);
+
+        // missing nodes return the same errors once the path is cached.
+        GResultOf<ConfigNode> missing = decoderRegistry.getNextNode("test", "walk", node);
+        GResultOf<ConfigNode> missingCached = decoderRegistry.getNextNode("test", "walk", node);
+        Assertions.assertEquals(1, missing.getErrors().size());
+        Assertions.assertEquals("Unable to find node matching path: test, for class: ObjectToken, during navigating to next node",
+            missing.getErrors().get(0).description());
+        Assertions.assertEquals(missing.getErrors().get(0).description(), missingCached.getErrors().get(0).description());
+        Assertions.assertEquals(3, pathMapper.mapCount);
+
+        // setting the path mappers clears the cache.
+        decoderRegistry.setPathMappers(List.of(pathMapper));
+        Assertions.assertTrue(decoderRegistry.getNextNode("test", "run", node).hasResults());
+        Assertions.assertEquals(4, pathMapper.mapCount);
+    }
+
+    @Test
+    void getNextNodeUncacheablePathMapperAlwaysMaps() throws GestaltException {
+        CountingPathMapper pathMapper = new CountingPathMapper(false);
+        DecoderRegistry decoderRegistry = new DecoderRegistry(List.of(new StringDecoder()), new ConfigNodeManager(), new PathLexer(),
+            List.of(new StandardPathMapper(), pathMapper));
+
+        ConfigNode node = new MapNode(Map.of("run", new LeafNode("test")));
+        for (int i = 0; i < 3; i++) {
+            GResultOf<ConfigNode> run = decoderRegistry.getNextNode("test", "walk", node);
+            Assertions.assertTrue(run.hasErrors());
+        }
+        Assertions.assertEquals(3, pathMapper.mapCount);
+    }
+
     @ConfigPriority(500)
     public static class TestPathMapper implements PathMapper {
         @Override
@@ -463,4 +567,63 @@ class DecoderRegistryTest {
             return GResultOf.result(1000L);
         }
     }
+
+    @ConfigPriority(2000)
+    public static final class CountingPathMapper implements PathMapper {
+        private final boolean cacheable;
+        private final StandardPathMapper standardPathMapper = new StandardPathMapper();
+        private int mapCount;
+
+        private CountingPathMapper(boolean cacheable) {
+            this.cacheable = cacheable;
+        }
+
+        @Override
+        public boolean isMappingCacheable() {
+            return cacheable;
+        }
+
+        @Override
+        public GResultOf<List<Token>> map(String path, String sentence, SentenceLexer lexer) {
+            mapCount++;
+            return standardPathMapper.map(path, sentence, lexer);
+        }
+    }
+
+    private static final class CountingDecoder extends LeafDecoder<Long> {
+        private final boolean cacheable;
+        private final Priority priority;
+        private int canDecodeCount;
+
+        private CountingDecoder(boolean cacheable, Priority priority) {
+            this.cacheable = cacheable;
+            this.priority = priority;
+        }
+
+        @Override
+        public Priority priority() {
+            return priority;
+        }
+
+        @Override
+        public String name() {
+            return "CountingDecoder";
+        }
+
+        @Override
+        public boolean canDecode(String path, Tags tags, ConfigNode configNode, TypeCapture<?> klass) {
+            canDecodeCount++;
+            return Long.class.isAssignableFrom(klass.getRawType());
+        }
+
+        @Override
+        public boolean isCanDecodeCacheable() {
+            return cacheable;
+        }
+
+        @Override
+        protected GResultOf<Long> leafDecode(String path, ConfigNode node, DecoderContext decoderContext) {
+            return GResultOf.result(1L);
+        }
+    }
 }
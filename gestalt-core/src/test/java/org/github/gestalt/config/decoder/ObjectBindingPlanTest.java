@@ -0,0 +1,116 @@
+package org.github.gestalt.config.decoder;
+
+import org.github.gestalt.config.reflect.TypeCapture;
+import org.github.gestalt.config.test.classes.DBInfo;
+import org.github.gestalt.config.test.classes.DBInfoAnnotations;
+import org.github.gestalt.config.test.classes.DBInfoConstructorAnnotationDefault;
+import org.github.gestalt.config.test.classes.DBInfoSetterChangeValue;
+import org.github.gestalt.config.test.classes.DBInfoStatic;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+class ObjectBindingPlanTest {
+
+    @Test
+    void planIsCachedPerClass() {
+        ObjectBindingPlan plan = ObjectBindingPlan.of(DBInfo.class);
+
+        Assertions.assertSame(plan, ObjectBindingPlan.of(DBInfo.class));
+        Assertions.assertNotSame(plan, ObjectBindingPlan.of(DBInfoAnnotations.class));
+    }
+
+    @Test
+    void fields() {
+        ObjectBindingPlan plan = ObjectBindingPlan.of(DBInfo.class);
+
+        Assertions.assertTrue(plan.getConstructors().isEmpty());
+        Assertions.assertNotNull(plan.getDefaultConstructor());
+
+        List<String> names = plan.getFields().stream().map(ObjectBindingPlan.FieldPlan::getName).collect(Collectors.toList());
+        Assertions.assertEquals(List.of("port", "uri", "password"), names);
+        Assertions.assertEquals(TypeCapture.of(int.class), plan.getFields().get(0).getType());
+        Assertions.assertEquals("", plan.getFields().get(0).getDefaultValue());
+        Assertions.assertFalse(plan.getFields().get(0).isNullable());
+    }
+
+    @Test
+    void fieldAnnotations() {
+        ObjectBindingPlan plan = ObjectBindingPlan.of(DBInfoAnnotations.class);
+
+        ObjectBindingPlan.FieldPlan port = plan.getFields().get(0);
+        Assertions.assertEquals("channel", port.getName());
+        Assertions.assertEquals("1234", port.getDefaultValue());
+    }
+
+    @Test
+    void staticFieldsIgnored() {
+        ObjectBindingPlan plan = ObjectBindingPlan.of(DBInfoStatic.class);
+
+        List<String> names = plan.getFields().stream().map(ObjectBindingPlan.FieldPlan::getName).collect(Collectors.toList());
+        Assertions.assertEquals(List.of("uri", "password"), names);
+    }
+
+    @Test
+    void constructors() {
+        ObjectBindingPlan plan = ObjectBindingPlan.of(DBInfoConstructorAnnotationDefault.class);
+
+        Assertions.assertEquals(2, plan.getConstructors().size());
+
+        ObjectBindingPlan.ConstructorPlan constructor = plan.getConstructors().get(0);
+        Assertions.assertEquals(3, constructor.getParameterCount());
+        Assertions.assertEquals("address", constructor.getName(0));
+        Assertions.assertEquals("hostname", constructor.getName(1));
+        Assertions.assertEquals("secret", constructor.getName(2));
+        Assertions.assertEquals("", constructor.getDefaultValue(1));
+        Assertions.assertEquals("default", constructor.getDefaultValue(2));
+        Assertions.assertEquals(TypeCapture.of(int.class), constructor.getType(0));
+
+        Assertions.assertEquals(2, plan.getConstructors().get(1).getParameterCount());
+    }
+
+    @Test
+    void setUsesSetter() throws IllegalAccessException {
+        ObjectBindingPlan plan = ObjectBindingPlan.of(DBInfoSetterChangeValue.class);
+        DBInfoSetterChangeValue dbInfo = new DBInfoSetterChangeValue();
+
+        ObjectBindingPlan.FieldPlan uri = plan.getFields().stream().filter(it -> it.getName().equals("uri")).findFirst().get();
+        Assertions.assertFalse(uri.hasInitializedValue(dbInfo));
+
+        uri.set(dbInfo, "mysql.com");
+        Assertions.assertEquals("mysql.comabc", dbInfo.getUri());
+        Assertions.assertTrue(uri.hasInitializedValue(dbInfo));
+    }
+
+    @Test
+    void setPrimitive() throws IllegalAccessException {
+        ObjectBindingPlan plan = ObjectBindingPlan.of(DBInfo.class);
+        DBInfo dbInfo = new DBInfo();
+
+        ObjectBindingPlan.FieldPlan port = plan.getFields().get(0);
+        Assertions.assertFalse(port.hasInitializedValue(dbInfo));
+
+        port.set(dbInfo, 100);
+        Assertions.assertEquals(100, dbInfo.getPort());
+        Assertions.assertTrue(port.hasInitializedValue(dbInfo));
+    }
+
+    @Test
+    void setFallsBackToFieldWhenSetterThrows() throws IllegalAccessException {
+        ObjectBindingPlan plan = ObjectBindingPlan.of(SetterThrows.class);
+        SetterThrows setterThrows = new SetterThrows();
+
+        plan.getFields().get(0).set(setterThrows, "mysql.com");
+        Assertions.assertEquals("mysql.com", setterThrows.uri);
+    }
+
+    public static class SetterThrows {
+        private String uri;
+
+        public void setUri(String uri) {
+            throw new IllegalStateException("setter failed");
+        }
+    }
+}
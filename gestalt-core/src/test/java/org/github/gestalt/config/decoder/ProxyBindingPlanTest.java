@@ -0,0 +1,67 @@
+package org.github.gestalt.config.decoder;
+
+import org.github.gestalt.config.reflect.TypeCapture;
+import org.github.gestalt.config.test.classes.DBInfoInterface;
+import org.github.gestalt.config.test.classes.DBInfoInterfaceDefault;
+import org.github.gestalt.config.test.classes.IDBInfoAnnotations;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+class ProxyBindingPlanTest {
+
+    @Test
+    void planIsCachedPerInterface() {
+        ProxyBindingPlan plan = ProxyBindingPlan.of(DBInfoInterface.class);
+
+        Assertions.assertSame(plan, ProxyBindingPlan.of(DBInfoInterface.class));
+        Assertions.assertNotSame(plan, ProxyBindingPlan.of(IDBInfoAnnotations.class));
+    }
+
+    @Test
+    void methods() {
+        ProxyBindingPlan plan = ProxyBindingPlan.of(DBInfoInterface.class);
+
+        Set<String> names = plan.getMethods().stream().map(ProxyBindingPlan.MethodPlan::getName).collect(Collectors.toSet());
+        Assertions.assertEquals(Set.of("port", "uri", "password"), names);
+
+        for (int i = 0; i < plan.getMethods().size(); i++) {
+            Assertions.assertEquals(i, plan.getMethods().get(i).getIndex());
+        }
+    }
+
+    @Test
+    void methodAnnotations() throws NoSuchMethodException {
+        ProxyBindingPlan plan = ProxyBindingPlan.of(IDBInfoAnnotations.class);
+
+        ProxyBindingPlan.MethodPlan port = plan.getMethodPlan(IDBInfoAnnotations.class.getMethod("getPort"));
+        Assertions.assertEquals("channel", port.getName());
+        Assertions.assertEquals("1234", port.getDefaultValue());
+        Assertions.assertEquals(TypeCapture.of(int.class), port.getType());
+        Assertions.assertFalse(port.isDefault());
+
+        ProxyBindingPlan.MethodPlan uri = plan.getMethodPlan(IDBInfoAnnotations.class.getMethod("getUri"));
+        Assertions.assertEquals("uri", uri.getName());
+        Assertions.assertEquals("", uri.getDefaultValue());
+    }
+
+    @Test
+    void getMethodPlan() throws NoSuchMethodException {
+        ProxyBindingPlan plan = ProxyBindingPlan.of(DBInfoInterfaceDefault.class);
+
+        Method getPort = DBInfoInterfaceDefault.class.getMethod("getPort");
+        ProxyBindingPlan.MethodPlan port = plan.getMethodPlan(getPort);
+        Assertions.assertSame(port, plan.getMethodPlan(getPort));
+        // a different instance of the same method resolves to the same plan
+        Assertions.assertSame(port, plan.getMethodPlan(DBInfoInterfaceDefault.class.getMethod("getPort")));
+        Assertions.assertSame(plan.getMethods().get(port.getIndex()), port);
+        Assertions.assertTrue(port.isDefault());
+
+        // methods that are not on the interface have no index
+        ProxyBindingPlan.MethodPlan hashCode = plan.getMethodPlan(Object.class.getMethod("hashCode"));
+        Assertions.assertEquals(-1, hashCode.getIndex());
+    }
+}
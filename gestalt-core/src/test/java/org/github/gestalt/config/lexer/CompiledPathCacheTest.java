@@ -0,0 +1,115 @@
+package org.github.gestalt.config.lexer;
+
+import org.github.gestalt.config.token.ArrayToken;
+import org.github.gestalt.config.token.ObjectToken;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class CompiledPathCacheTest {
+
+    @Test
+    public void compileCachesPath() {
+        CompiledPathCache cache = new CompiledPathCache(new PathLexer());
+
+        CompiledPath path = cache.compile("db.hosts[1].port");
+        Assertions.assertFalse(path.hasErrors());
+        Assertions.assertEquals("db.hosts[1].port", path.getPath());
+        Assertions.assertEquals(4, path.size());
+        Assertions.assertEquals(new ObjectToken("db"), path.getToken(0));
+        Assertions.assertEquals(new ObjectToken("hosts"), path.getToken(1));
+        Assertions.assertEquals(new ArrayToken(1), path.getToken(2));
+        Assertions.assertEquals(new ObjectToken("port"), path.getToken(3));
+        Assertions.assertEquals(0, cache.getHitCount());
+        Assertions.assertEquals(1, cache.getMissCount());
+
+        CompiledPath path2 = cache.compile("db.hosts[1].port");
+        Assertions.assertSame(path, path2);
+        Assertions.assertSame(path.toResult(), path2.toResult());
+        Assertions.assertEquals(1, cache.getHitCount());
+        Assertions.assertEquals(1, cache.getMissCount());
+        Assertions.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void compileWithPrefix() {
+        CompiledPathCache cache = new CompiledPathCache(new PathLexer());
+
+        CompiledPath path = cache.compile("db", "hosts");
+        Assertions.assertEquals("db.hosts", path.getPath());
+        Assertions.assertEquals(2, path.size());
+        Assertions.assertEquals(new ObjectToken("hosts"), path.getToken(1));
+
+        CompiledPath noPrefix = cache.compile("db");
+        Assertions.assertNotSame(path, noPrefix);
+        Assertions.assertEquals(1, noPrefix.size());
+
+        CompiledPath emptyPath = cache.compile("", "hosts");
+        Assertions.assertEquals("hosts", emptyPath.getPath());
+
+        Assertions.assertSame(path, cache.getIfPresent("db", "hosts"));
+        Assertions.assertNull(cache.getIfPresent("db", "other"));
+        Assertions.assertEquals(3, cache.size());
+        Assertions.assertEquals(0, cache.getHitCount());
+        Assertions.assertEquals(3, cache.getMissCount());
+    }
+
+    @Test
+    public void compileListener() {
+        CompiledPathCache cache = new CompiledPathCache(new PathLexer());
+        List<Boolean> hits = new ArrayList<>();
+
+        CompiledPath path = cache.compile("db", "hosts", hits::add);
+        Assertions.assertSame(path, cache.compile("db", "hosts", hits::add));
+        cache.compile("db", "", hits::add);
+
+        Assertions.assertEquals(List.of(false, true, false), hits);
+        Assertions.assertEquals(1, cache.getHitCount());
+        Assertions.assertEquals(2, cache.getMissCount());
+        Assertions.assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void compileErrors() {
+        CompiledPathCache cache = new CompiledPathCache(new PathLexer());
+
+        CompiledPath path = cache.compile("db.hosts[-1]");
+        Assertions.assertTrue(path.hasErrors());
+        Assertions.assertEquals(1, path.getErrors().size());
+        Assertions.assertTrue(path.toResult().hasErrors());
+
+        Assertions.assertSame(path, cache.compile("db.hosts[-1]"));
+    }
+
+    @Test
+    public void compileClearsWhenFull() {
+        CompiledPathCache cache = new CompiledPathCache(new PathLexer(), 2);
+
+        cache.compile("a");
+        cache.compile("b");
+        Assertions.assertEquals(2, cache.size());
+
+        cache.compile("c");
+        Assertions.assertEquals(1, cache.size());
+        Assertions.assertNotNull(cache.getIfPresent("c", ""));
+        Assertions.assertNull(cache.getIfPresent("a", ""));
+
+        cache.clear();
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void compileNoCache() {
+        CompiledPathCache cache = new CompiledPathCache(new PathLexer(), 0);
+
+        CompiledPath path = cache.compile("db.port");
+        CompiledPath path2 = cache.compile("db.port");
+
+        Assertions.assertNotSame(path, path2);
+        Assertions.assertEquals(path.getTokens(), path2.getTokens());
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(2, cache.getMissCount());
+    }
+}
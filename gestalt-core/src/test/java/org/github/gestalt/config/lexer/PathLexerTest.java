@@ -260,6 +260,44 @@ class PathLexerTest {
         Assertions.assertEquals("fox", ((ObjectToken) tokens.get(4)).getName());
     }
 
+    @Test
+    public void testScanAlternateDelimiter() {
+        PathLexer pathLexer = new PathLexer("_");
+
+        GResultOf<List<Token>> result = pathLexer.scan("DB_Hosts[12]_PASSWORD");
+
+        Assertions.assertFalse(result.hasErrors());
+        Assertions.assertTrue(result.hasResults());
+        List<Token> tokens = result.results();
+        Assertions.assertEquals(4, tokens.size());
+        Assertions.assertEquals(new ObjectToken("db"), tokens.get(0));
+        Assertions.assertEquals(new ObjectToken("hosts"), tokens.get(1));
+        Assertions.assertEquals(new ArrayToken(12), tokens.get(2));
+        Assertions.assertEquals(new ObjectToken("password"), tokens.get(3));
+    }
+
+    @Test
+    public void testScanTrailingDelimiter() {
+        PathLexer pathLexer = new PathLexer();
+
+        GResultOf<List<Token>> result = pathLexer.scan("the.quick.");
+
+        Assertions.assertFalse(result.hasErrors());
+        Assertions.assertTrue(result.hasResults());
+        Assertions.assertEquals(List.of(new ObjectToken("the"), new ObjectToken("quick")), result.results());
+    }
+
+    @Test
+    public void testScanUnicode() {
+        PathLexer pathLexer = new PathLexer();
+
+        GResultOf<List<Token>> result = pathLexer.scan("the.Qu\u00cfck[1]");
+
+        Assertions.assertFalse(result.hasErrors());
+        Assertions.assertTrue(result.hasResults());
+        Assertions.assertEquals(List.of(new ObjectToken("the"), new ObjectToken("qu\u00efck"), new ArrayToken(1)), result.results());
+    }
+
     @Test
     public void testScanNull() {
         PathLexer pathLexer = new PathLexer();
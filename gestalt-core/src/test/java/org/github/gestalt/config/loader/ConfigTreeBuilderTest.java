@@ -0,0 +1,92 @@
+package org.github.gestalt.config.loader;
+
+import org.github.gestalt.config.lexer.PathLexer;
+import org.github.gestalt.config.node.ConfigNode;
+import org.github.gestalt.config.utils.GResultOf;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ConfigTreeBuilderTest {
+
+    @Test
+    void buildTree() {
+        ConfigTreeBuilder builder = new ConfigTreeBuilder(new PathLexer());
+        builder.startMap();
+        builder.key("db.Host");
+        builder.value("localhost");
+        builder.key("ports");
+        builder.startArray();
+        builder.value("8080");
+        builder.startMap();
+        builder.key("name");
+        builder.value("admin");
+        builder.end();
+        builder.end();
+        Assertions.assertFalse(builder.isComplete());
+        builder.end();
+        Assertions.assertTrue(builder.isComplete());
+
+        GResultOf<ConfigNode> result = builder.build();
+
+        Assertions.assertFalse(result.hasErrors());
+        ConfigNode node = result.results();
+        Assertions.assertEquals("localhost", node.getKey("db").get().getKey("host").get().getValue().get());
+        Assertions.assertEquals("8080", node.getKey("ports").get().getIndex(0).get().getValue().get());
+        Assertions.assertEquals("admin", node.getKey("ports").get().getIndex(1).get().getKey("name").get().getValue().get());
+    }
+
+    @Test
+    void buildTreeNullValues() {
+        ConfigTreeBuilder builder = new ConfigTreeBuilder(new PathLexer());
+        builder.startMap();
+        builder.key("users");
+        builder.startArray();
+        builder.nullValue();
+        builder.value("steve");
+        builder.end();
+        builder.key("name");
+        builder.nullValue();
+        builder.end();
+
+        GResultOf<ConfigNode> result = builder.build();
+
+        Assertions.assertTrue(result.hasErrors());
+        Assertions.assertEquals(4, result.getErrors().size());
+        Assertions.assertEquals("Unable to find node matching path: users[0]", result.getErrors().get(0).description());
+        Assertions.assertEquals("Unable to find node matching path: name", result.getErrors().get(2).description());
+
+        ConfigNode node = result.results();
+        Assertions.assertEquals(1, node.getKey("users").get().size());
+        Assertions.assertEquals("steve", node.getKey("users").get().getIndex(0).get().getValue().get());
+        Assertions.assertTrue(node.getKey("name").isEmpty());
+    }
+
+    @Test
+    void buildTreeLeafRoot() {
+        ConfigTreeBuilder builder = new ConfigTreeBuilder(new PathLexer());
+        Assertions.assertTrue(builder.isEmpty());
+        builder.value("hello");
+
+        Assertions.assertFalse(builder.isEmpty());
+        Assertions.assertTrue(builder.isComplete());
+        Assertions.assertEquals("hello", builder.build().results().getValue().get());
+        Assertions.assertThrows(IllegalStateException.class, () -> builder.value("world"));
+    }
+
+    @Test
+    void buildTreeEmpty() {
+        ConfigTreeBuilder builder = new ConfigTreeBuilder(new PathLexer());
+
+        Assertions.assertFalse(builder.build().hasResults());
+    }
+
+    @Test
+    void buildTreeMalformed() {
+        ConfigTreeBuilder builder = new ConfigTreeBuilder(new PathLexer());
+        Assertions.assertThrows(IllegalStateException.class, () -> builder.key("name"));
+
+        builder.startMap();
+        Assertions.assertThrows(IllegalStateException.class, () -> builder.value("no key"));
+        Assertions.assertThrows(IllegalStateException.class, builder::build);
+    }
+}
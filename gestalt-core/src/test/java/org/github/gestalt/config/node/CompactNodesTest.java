@@ -0,0 +1,108 @@
+package org.github.gestalt.config.node;
+
+import org.github.gestalt.config.metadata.IsSecretMetadata;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+class CompactNodesTest {
+
+    @Test
+    void compactKeepsTheTree() {
+        Map<String, ConfigNode> db = new LinkedHashMap<>();
+        db.put("user", new LeafNode("admin"));
+        db.put("password", new LeafNode("secret", Map.of(IsSecretMetadata.SECRET, List.of(new IsSecretMetadata(true)))));
+        db.put("hosts", new ArrayNode(List.of(new LeafNode("a"), new LeafNode("b"))));
+
+        Map<String, ConfigNode> root = new LinkedHashMap<>();
+        root.put("db", new MapNode(db));
+        root.put("name", new LeafNode("admin"));
+
+        ConfigNode original = new MapNode(root);
+        ConfigNode compacted = CompactNodes.compact(original);
+
+        Assertions.assertNotSame(original, compacted);
+        Assertions.assertEquals(original, compacted);
+        Assertions.assertEquals(List.of("db", "name"), new ArrayList<>(((MapNode) compacted).getMapNode().keySet()));
+
+        ConfigNode compactedDb = compacted.getKey("db").get();
+        Assertions.assertEquals(List.of("user", "password", "hosts"), new ArrayList<>(((MapNode) compactedDb).getMapNode().keySet()));
+        Assertions.assertEquals("secret", compactedDb.getKey("password").get().getValue().get());
+        Assertions.assertTrue(compactedDb.getKey("password").get().hasMetadata(IsSecretMetadata.SECRET));
+        Assertions.assertTrue(compacted.hasMetadataInSubtree(IsSecretMetadata.SECRET));
+        Assertions.assertEquals("b", compactedDb.getKey("hosts").get().getIndex(1).get().getValue().get());
+        Assertions.assertTrue(compacted.getKey("missing").isEmpty());
+
+        // equal values are only stored once across the tree.
+        Assertions.assertSame(compactedDb.getKey("user").get().getValue().get(), compacted.getKey("name").get().getValue().get());
+    }
+
+    @Test
+    void compactIsUnmodifiable() {
+        ConfigNode compacted = CompactNodes.compact(new MapNode(Map.of("a", new LeafNode("b"))));
+
+        Map<String, ConfigNode> map = ((MapNode) compacted).getMapNode();
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> map.put("c", new LeafNode("d")));
+    }
+
+    @Test
+    void compactLargeMap() {
+        Map<String, ConfigNode> root = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            root.put("key" + i, new LeafNode("value" + i));
+        }
+
+        ConfigNode compacted = CompactNodes.compact(new MapNode(root));
+
+        Assertions.assertEquals(100, compacted.size());
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertEquals("value" + i, compacted.getKey("key" + i).get().getValue().get());
+        }
+        Assertions.assertTrue(compacted.getKey("key100").isEmpty());
+        Assertions.assertEquals(new MapNode(root), compacted);
+    }
+
+    @Test
+    void compactTwiceReturnsSameNode() {
+        ConfigNode compacted = CompactNodes.compact(new MapNode(Map.of("a", new MapNode(Map.of("b", new LeafNode("c"))))));
+
+        Assertions.assertSame(compacted, CompactNodes.compact(compacted));
+    }
+
+    @Test
+    void compactLeavesNullEntries() {
+        Map<String, ConfigNode> root = new HashMap<>();
+        root.put("a", null);
+        MapNode node = new MapNode(root);
+
+        Assertions.assertSame(node, CompactNodes.compact(node));
+        Assertions.assertNull(CompactNodes.compact(null));
+    }
+
+    @Test
+    void compactReusesThePreviousTree() {
+        ConfigNode previous = CompactNodes.compact(new MapNode(Map.of(
+            "db", new MapNode(Map.of("port", new LeafNode("3306"), "hosts", new ArrayNode(List.of(new LeafNode("a"))))),
+            "http", new MapNode(Map.of("timeout", new LeafNode("10"))))));
+
+        // the new tree is rebuilt with plain maps, as if it was merged again after a reload that only changed the timeout.
+        ConfigNode http = new MapNode(Map.of("timeout", new LeafNode("20")));
+        ConfigNode db = new MapNode(Map.of("port", new LeafNode("3306"), "hosts", new ArrayNode(List.of(new LeafNode("a")))));
+        ConfigNode compacted = CompactNodes.compact(new MapNode(Map.of("db", db, "http", http)), previous);
+
+        Assertions.assertNotSame(previous, compacted);
+        Assertions.assertSame(previous.getKey("db").get(), compacted.getKey("db").get());
+        Assertions.assertNotSame(previous.getKey("http").get(), compacted.getKey("http").get());
+        Assertions.assertEquals("20", compacted.getKey("http").get().getKey("timeout").get().getValue().get());
+        Assertions.assertTrue(((MapNode) compacted.getKey("http").get()).getMapNode() instanceof CompactMap);
+
+        // a tree with the same config reuses the previous root.
+        ConfigNode same = new MapNode(Map.of("db", db, "http", new MapNode(Map.of("timeout", new LeafNode("20")))));
+        Assertions.assertSame(compacted, CompactNodes.compact(same, compacted));
+
+        // compact subtrees are kept without visiting them.
+        ConfigNode shared = new MapNode(Map.of("db", compacted.getKey("db").get(), "http", http));
+        Assertions.assertSame(compacted.getKey("db").get(), CompactNodes.compact(shared, null).getKey("db").get());
+    }
+}
@@ -9,6 +9,7 @@ import org.github.gestalt.config.metadata.MetaDataValue;
 import org.github.gestalt.config.processor.config.ConfigNodeProcessor;
 import org.github.gestalt.config.processor.config.ConfigNodeProcessorManager;
 import org.github.gestalt.config.processor.config.RunTimeConfigNodeProcessor;
+import org.github.gestalt.config.reload.ChangedPaths;
 import org.github.gestalt.config.secret.rules.SecretConcealer;
 import org.github.gestalt.config.secret.rules.SecretConcealerManager;
 import org.github.gestalt.config.source.ConfigSource;
@@ -1617,6 +1618,168 @@ class ConfigNodeManagerTest {
         Assertions.assertEquals("Steve", resultsCN.getKey("admin").get().getIndex(1).get().getValue().get());
     }
 
+    @Test
+    public void testReloadNodeChanges() throws GestaltException {
+        Map<String, ConfigNode> dbNode = new HashMap<>();
+        dbNode.put("name", new LeafNode("test"));
+        dbNode.put("port", new LeafNode("3306"));
+
+        Map<String, ConfigNode> root1Node = new HashMap<>();
+        root1Node.put("db", new MapNode(dbNode));
+        root1Node.put("admin", new ArrayNode(List.of(new LeafNode("John"), new LeafNode("Steve"))));
+        ConfigNode root1 = new MapNode(root1Node);
+
+        TestSource source = new TestSource(UUID.randomUUID());
+
+        ConfigNodeManager configNodeManager = new ConfigNodeManager();
+        GResultOf<ConfigNode> results = configNodeManager.addNode(new ConfigNodeContainer(root1, source, Tags.of()));
+        Assertions.assertFalse(results.hasErrors());
+
+        // reload with only the port and the second admin changed
+        Map<String, ConfigNode> dbNode2 = new HashMap<>();
+        dbNode2.put("name", new LeafNode("test"));
+        dbNode2.put("port", new LeafNode("33061"));
+        Map<String, ConfigNode> root2Node = new HashMap<>();
+        root2Node.put("db", new MapNode(dbNode2));
+        root2Node.put("admin", new ArrayNode(List.of(new LeafNode("John"), new LeafNode("Bob"), new LeafNode("Tim"))));
+        ConfigNode root2 = new MapNode(root2Node);
+
+        GResultOf<ChangedPaths> changes = configNodeManager.reloadNodeChanges(new ConfigNodeContainer(root2, source, Tags.of()));
+        Assertions.assertFalse(changes.hasErrors());
+        Assertions.assertTrue(changes.hasResults());
+
+        ChangedPaths changedPaths = changes.results();
+        Assertions.assertFalse(changedPaths.isAll());
+        assertThat(changedPaths.getPaths()).containsExactlyInAnyOrder(
+            List.of(new ObjectToken("db"), new ObjectToken("port")),
+            List.of(new ObjectToken("admin"), new ArrayToken(1)),
+            List.of(new ObjectToken("admin"), new ArrayToken(2)));
+
+        Assertions.assertTrue(changedPaths.isChanged("db"));
+        Assertions.assertTrue(changedPaths.isChanged("db.port"));
+        Assertions.assertFalse(changedPaths.isChanged("db.name"));
+        Assertions.assertFalse(changedPaths.isChanged("admin[0]"));
+
+        // reloading the same values has no changes.
+        changes = configNodeManager.reloadNodeChanges(new ConfigNodeContainer(root2, source, Tags.of()));
+        Assertions.assertTrue(changes.hasResults());
+        Assertions.assertTrue(changes.results().isEmpty());
+    }
+
+    @Test
+    public void testReloadNodeChangesPostProcessed() throws GestaltException {
+        TestSource source = new TestSource(UUID.randomUUID());
+
+        ConfigNodeManager configNodeManager = new ConfigNodeManager(new EqualTagsWithDefaultTagResolutionStrategy(),
+            new ConfigNodeProcessorManager(List.of(new TestSubstitutionConfigNodeProcessor()), List.of(), new PathLexer()),
+            new PathLexer());
+        configNodeManager.addNode(new ConfigNodeContainer(new MapNode(Map.of("name", new LeafNode("test"),
+            "port", new LeafNode("3306"), "url", new LeafNode("${port}"))), source, Tags.of()));
+        configNodeManager.processConfigNodes();
+
+        // the post processed url is compared with the url before it was post processed, so it is only changed if anything changed.
+        GResultOf<ChangedPaths> changes = configNodeManager.reloadNodeChanges(new ConfigNodeContainer(new MapNode(Map.of(
+            "name", new LeafNode("test"), "port", new LeafNode("3306"), "url", new LeafNode("${port}"))), source, Tags.of()));
+        Assertions.assertTrue(changes.hasResults());
+        Assertions.assertTrue(changes.results().isEmpty());
+        configNodeManager.processConfigNodes();
+
+        // the url may depend on the port, so it is changed along with it.
+        changes = configNodeManager.reloadNodeChanges(new ConfigNodeContainer(new MapNode(Map.of(
+            "name", new LeafNode("test"), "port", new LeafNode("3307"), "url", new LeafNode("${port}"))), source, Tags.of()));
+        Assertions.assertTrue(changes.hasResults());
+        assertThat(changes.results().getPaths()).containsExactlyInAnyOrder(
+            List.of(new ObjectToken("port")),
+            List.of(new ObjectToken("url")));
+    }
+
+    @Test
+    public void testReloadCompactsOnlyChangedNodes() throws GestaltException {
+        TestSource source = new TestSource(UUID.randomUUID());
+        TestSource source2 = new TestSource(UUID.randomUUID());
+
+        ConfigNodeManager configNodeManager = new ConfigNodeManager(new EqualTagsWithDefaultTagResolutionStrategy(),
+            new ConfigNodeProcessorManager(List.of(), List.of(), new PathLexer()), new PathLexer(), true);
+        configNodeManager.addNode(new ConfigNodeContainer(new MapNode(Map.of("db", new MapNode(Map.of("port", new LeafNode("3306"))),
+            "http", new MapNode(Map.of("timeout", new LeafNode("10"))))), source, Tags.of()));
+        configNodeManager.addNode(new ConfigNodeContainer(new MapNode(Map.of("db", new MapNode(Map.of("user", new LeafNode("admin"))))),
+            source2, Tags.of()));
+        configNodeManager.processConfigNodes();
+        ConfigNode db = configNodeManager.findNode("db", List.of(new ObjectToken("db")), Tags.of());
+
+        configNodeManager.reloadNode(new ConfigNodeContainer(new MapNode(Map.of("db", new MapNode(Map.of("port", new LeafNode("3306"))),
+            "http", new MapNode(Map.of("timeout", new LeafNode("20"))))), source, Tags.of()));
+        configNodeManager.processConfigNodes();
+
+        // the unchanged db node is kept from the previous root, only the changed http node is rebuilt.
+        Assertions.assertSame(db, configNodeManager.findNode("db", List.of(new ObjectToken("db")), Tags.of()));
+        Assertions.assertEquals("20", configNodeManager.findNode("http.timeout",
+            List.of(new ObjectToken("http"), new ObjectToken("timeout")), Tags.of()).getValue().get());
+    }
+
+    @Test
+    public void testTransactionRestoresNodesOnFailure() throws GestaltException {
+        TestSource source = new TestSource(UUID.randomUUID());
+        TestSource source2 = new TestSource(UUID.randomUUID());
+
+        ConfigNodeManager configNodeManager = new ConfigNodeManager();
+        configNodeManager.addNode(new ConfigNodeContainer(new MapNode(Map.of("name", new LeafNode("test"))), source, Tags.of()));
+        configNodeManager.addNode(new ConfigNodeContainer(new MapNode(Map.of("port", new LeafNode("3306"))), source2, Tags.of()));
+
+        var ex = Assertions.assertThrows(GestaltException.class, () -> configNodeManager.transaction(() -> {
+            configNodeManager.reloadNodeChanges(new ConfigNodeContainer(new MapNode(Map.of("name", new LeafNode("test1"))),
+                source, Tags.of()));
+            Assertions.assertEquals("test1", configNodeManager.findNode("name", List.of(new ObjectToken("name")), Tags.of()).getValue().get());
+            throw new GestaltException("failed reloading source2");
+        }));
+        Assertions.assertEquals("failed reloading source2", ex.getMessage());
+
+        // the change made before the failure is rolled back.
+        Assertions.assertEquals("test", configNodeManager.findNode("name", List.of(new ObjectToken("name")), Tags.of()).getValue().get());
+
+        ChangedPaths changedPaths = configNodeManager.transaction(() -> {
+            ChangedPaths changed = configNodeManager.reloadNodeChanges(new ConfigNodeContainer(
+                new MapNode(Map.of("name", new LeafNode("test1"))), source, Tags.of())).results();
+            return changed.merge(configNodeManager.reloadNodeChanges(new ConfigNodeContainer(
+                new MapNode(Map.of("port", new LeafNode("3307"))), source2, Tags.of())).results());
+        });
+
+        Assertions.assertTrue(changedPaths.isChanged("name"));
+        Assertions.assertTrue(changedPaths.isChanged("port"));
+        Assertions.assertEquals("test1", configNodeManager.findNode("name", List.of(new ObjectToken("name")), Tags.of()).getValue().get());
+        Assertions.assertEquals("3307", configNodeManager.findNode("port", List.of(new ObjectToken("port")), Tags.of()).getValue().get());
+    }
+
+    @Test
+    public void testTransactionIsPublishedAtOnce() throws Exception {
+        TestSource source = new TestSource(UUID.randomUUID());
+
+        ConfigNodeManager configNodeManager = new ConfigNodeManager();
+        configNodeManager.addNode(new ConfigNodeContainer(new MapNode(Map.of("name", new LeafNode("test"))), source, Tags.of()));
+
+        configNodeManager.transaction(() -> {
+            configNodeManager.reloadNodeChanges(new ConfigNodeContainer(new MapNode(Map.of("name", new LeafNode("test1"))),
+                source, Tags.of()));
+
+            // the thread applying the transaction sees its changes, other threads see the config before the transaction.
+            Assertions.assertEquals("test1", configNodeManager.findNode("name", List.of(new ObjectToken("name")), Tags.of()).getValue().get());
+
+            String[] otherThreadValue = new String[1];
+            Thread reader = new Thread(() -> otherThreadValue[0] =
+                configNodeManager.findNode("name", List.of(new ObjectToken("name")), Tags.of()).getValue().get());
+            reader.start();
+            try {
+                reader.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            Assertions.assertEquals("test", otherThreadValue[0]);
+            return null;
+        });
+
+        Assertions.assertEquals("test1", configNodeManager.findNode("name", List.of(new ObjectToken("name")), Tags.of()).getValue().get());
+    }
+
     @Test
     public void testMergeNodesReload() throws GestaltException {
         ConfigNode[] arrayNode = new ConfigNode[2];
@@ -1818,6 +1981,180 @@ class ConfigNodeManagerTest {
         Assertions.assertEquals("June", resultsCN2.getKey("admin").get().getIndex(3).get().getValue().get());
     }
 
+    @Test
+    public void testReloadNodesWithDifferentTags() throws GestaltException {
+        ConfigNodeManager configNodeManager = new ConfigNodeManager();
+
+        // add source 1 with tags, then source 2 without tags.
+        ConfigSource s1 = new TestSource();
+        configNodeManager.addNode(new ConfigNodeContainer(new MapNode(Map.of("name", new LeafNode("toy"))), s1, Tags.of("toy", "ball")));
+
+        ConfigSource s2 = new TestSource();
+        configNodeManager.addNode(new ConfigNodeContainer(new MapNode(Map.of("name", new LeafNode("default"))), s2, Tags.of()));
+
+        // reload source 2, this should only replace source 2.
+        GResultOf<ConfigNode> results =
+            configNodeManager.reloadNode(new ConfigNodeContainer(new MapNode(Map.of("name", new LeafNode("default2"))), s2, Tags.of()));
+        Assertions.assertFalse(results.hasErrors());
+        Assertions.assertEquals("default2", results.results().getKey("name").get().getValue().get());
+
+        // reload source 1, it should still be found.
+        results = configNodeManager.reloadNode(
+            new ConfigNodeContainer(new MapNode(Map.of("name", new LeafNode("toy2"))), s1, Tags.of("toy", "ball")));
+        Assertions.assertFalse(results.hasErrors());
+        Assertions.assertEquals("toy2", results.results().getKey("name").get().getValue().get());
+
+        GResultOf<ConfigNode> toy = configNodeManager.navigateToNode("name", List.of(new ObjectToken("name")), Tags.of("toy", "ball"));
+        Assertions.assertEquals("toy2", toy.results().getValue().get());
+
+        GResultOf<ConfigNode> defaultName = configNodeManager.navigateToNode("name", List.of(new ObjectToken("name")), Tags.of());
+        Assertions.assertEquals("default2", defaultName.results().getValue().get());
+    }
+
+    @Test
+    public void testNavigateWhileReloading() throws Exception {
+        ConfigNodeManager configNodeManager = new ConfigNodeManager();
+        ConfigSource source = new TestSource();
+        configNodeManager.addNode(new ConfigNodeContainer(dbNode("test", "3306"), source, Tags.of()));
+
+        // readers should always see a complete root, either before or after a reload.
+        Thread reloader = new Thread(() -> {
+            try {
+                for (int i = 0; i < 1000; i++) {
+                    ConfigNode root = i % 2 == 0 ? dbNode("test2", "3307") : dbNode("test", "3306");
+                    configNodeManager.reloadNode(new ConfigNodeContainer(root, source, Tags.of()));
+                }
+            } catch (GestaltException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        reloader.start();
+
+        List<Token> tokens = List.of(new ObjectToken("db"));
+        while (reloader.isAlive()) {
+            GResultOf<ConfigNode> result = configNodeManager.navigateToNode("db", tokens, Tags.of());
+            Assertions.assertFalse(result.hasErrors());
+            String name = result.results().getKey("name").get().getValue().get();
+            String port = result.results().getKey("port").get().getValue().get();
+            Assertions.assertEquals(name.equals("test") ? "3306" : "3307", port);
+        }
+        reloader.join();
+    }
+
+    @Test
+    public void testNavigateTagsMergedRoots() throws GestaltException {
+        ConfigNodeManager configNodeManager = new ConfigNodeManager();
+        ConfigSource s1 = new TestSource();
+        configNodeManager.addNode(new ConfigNodeContainer(dbNode("test", "3306"), s1, Tags.of()));
+
+        ConfigSource s2 = new TestSource();
+        ConfigNode prod = new MapNode(Map.of("db", new MapNode(Map.of("name", new LeafNode("prod")))));
+        configNodeManager.addNode(new ConfigNodeContainer(prod, s2, Tags.profile("prod")));
+
+        List<Token> name = List.of(new ObjectToken("db"), new ObjectToken("name"));
+        List<Token> port = List.of(new ObjectToken("db"), new ObjectToken("port"));
+        Assertions.assertEquals("prod", configNodeManager.navigateToNode("db.name", name, Tags.profile("prod")).results().getValue().get());
+        Assertions.assertEquals("3306", configNodeManager.navigateToNode("db.port", port, Tags.profile("prod")).results().getValue().get());
+        Assertions.assertEquals("test", configNodeManager.navigateToNode("db.name", name, Tags.of()).results().getValue().get());
+
+        GResultOf<ConfigNode> missing =
+            configNodeManager.navigateToNode("db.user", List.of(new ObjectToken("db"), new ObjectToken("user")), Tags.profile("prod"));
+        Assertions.assertTrue(missing.hasErrors());
+        Assertions.assertEquals("Unable to find node matching path: db.user, for class: ObjectToken, during navigating to next node",
+            missing.getErrors().get(0).description());
+
+        // reloading a root the tags search updates the merged roots.
+        configNodeManager.reloadNode(new ConfigNodeContainer(dbNode("test", "3307"), s1, Tags.of()));
+        Assertions.assertEquals("prod", configNodeManager.navigateToNode("db.name", name, Tags.profile("prod")).results().getValue().get());
+        Assertions.assertEquals("3307", configNodeManager.navigateToNode("db.port", port, Tags.profile("prod")).results().getValue().get());
+
+        ConfigNode prod2 = new MapNode(Map.of("db", new MapNode(Map.of("name", new LeafNode("prod2")))));
+        configNodeManager.reloadNode(new ConfigNodeContainer(prod2, s2, Tags.profile("prod")));
+        Assertions.assertEquals("prod2", configNodeManager.navigateToNode("db.name", name, Tags.profile("prod")).results().getValue().get());
+        Assertions.assertEquals("test", configNodeManager.navigateToNode("db.name", name, Tags.of()).results().getValue().get());
+    }
+
+    @Test
+    public void testNavigateTagsRootsThatCanNotBeMerged() throws GestaltException {
+        ConfigNodeManager configNodeManager = new ConfigNodeManager();
+        ConfigNode defaultRoot = new MapNode(Map.of("db", new LeafNode("test"), "port", new LeafNode("3306")));
+        configNodeManager.addNode(new ConfigNodeContainer(defaultRoot, new TestSource(), Tags.of()));
+        configNodeManager.addNode(new ConfigNodeContainer(dbNode("prod", "3307"), new TestSource(), Tags.profile("prod")));
+
+        // the db is a leaf in one root and a map in the other, so the roots are searched one at a time.
+        GResultOf<ConfigNode> name =
+            configNodeManager.navigateToNode("db.name", List.of(new ObjectToken("db"), new ObjectToken("name")), Tags.profile("prod"));
+        Assertions.assertFalse(name.hasErrors());
+        Assertions.assertEquals("prod", name.results().getValue().get());
+
+        GResultOf<ConfigNode> port = configNodeManager.navigateToNode("port", List.of(new ObjectToken("port")), Tags.profile("prod"));
+        Assertions.assertFalse(port.hasErrors());
+        Assertions.assertEquals("3306", port.results().getValue().get());
+    }
+
+    @Test
+    public void testMergeSharesUnchangedNodes() throws GestaltException {
+        ConfigNodeManager configNodeManager = new ConfigNodeManager();
+        ConfigNode http = new MapNode(Map.of("pool", new MapNode(Map.of("max", new LeafNode("10")))));
+        ConfigNode root1 = new MapNode(Map.of("db", new MapNode(Map.of("name", new LeafNode("test"))), "http", http));
+        configNodeManager.addNode(new ConfigNodeContainer(root1, new TestSource(), Tags.of()));
+
+        GResultOf<ConfigNode> results = configNodeManager.addNode(new ConfigNodeContainer(dbNode("prod", "3306"), new TestSource(), Tags.of()));
+
+        Assertions.assertFalse(results.hasErrors());
+        MapNode root = (MapNode) results.results();
+        // the subtree only in the first node is reused, while the db node merged from both is a new node.
+        Assertions.assertSame(http, root.getMapNode().get("http"));
+        Assertions.assertEquals("prod", root.getKey("db").get().getKey("name").get().getValue().get());
+        Assertions.assertEquals("3306", root.getKey("db").get().getKey("port").get().getValue().get());
+
+        // merging a node with itself returns the same node.
+        Assertions.assertSame(root, MergeNodes.mergeNodes("", new PathLexer(), root, root).results());
+    }
+
+    @Test
+    public void testReloadMiddleNode() throws GestaltException {
+        ConfigNodeManager configNodeManager = new ConfigNodeManager();
+        ConfigSource s1 = new TestSource();
+        ConfigSource s2 = new TestSource();
+        ConfigSource s3 = new TestSource();
+        ConfigNode http = new MapNode(Map.of("pool", new MapNode(Map.of("max", new LeafNode("10")))));
+        configNodeManager.addNode(new ConfigNodeContainer(new MapNode(Map.of("db", dbNode("test", "3306").getKey("db").get(),
+            "http", http)), s1, Tags.of()));
+        configNodeManager.addNode(new ConfigNodeContainer(dbNode("dev", "3307"), s2, Tags.of()));
+        configNodeManager.addNode(new ConfigNodeContainer(new MapNode(Map.of("db", new MapNode(Map.of("port", new LeafNode("3308"))))),
+            s3, Tags.of()));
+        configNodeManager.processConfigNodes();
+
+        List<Token> name = List.of(new ObjectToken("db"), new ObjectToken("name"));
+        List<Token> port = List.of(new ObjectToken("db"), new ObjectToken("port"));
+        Assertions.assertEquals("dev", configNodeManager.navigateToNode("db.name", name, Tags.of()).results().getValue().get());
+        Assertions.assertEquals("3308", configNodeManager.navigateToNode("db.port", port, Tags.of()).results().getValue().get());
+
+        // reloading the middle node keeps the nodes before it and the overrides of the nodes after it.
+        for (String value : List.of("stage", "prod")) {
+            GResultOf<ConfigNode> results = configNodeManager.reloadNode(new ConfigNodeContainer(dbNode(value, "3309"), s2, Tags.of()));
+
+            Assertions.assertFalse(results.hasErrors());
+            Assertions.assertSame(http, results.results().getKey("http").get());
+            Assertions.assertEquals(value, configNodeManager.navigateToNode("db.name", name, Tags.of()).results().getValue().get());
+            Assertions.assertEquals("3308", configNodeManager.navigateToNode("db.port", port, Tags.of()).results().getValue().get());
+        }
+
+        // a node that can not be merged reports the same errors on each reload.
+        for (int i = 0; i < 2; i++) {
+            GResultOf<ConfigNode> results = configNodeManager.reloadNode(
+                new ConfigNodeContainer(new MapNode(Map.of("db", new LeafNode("prod"))), s2, Tags.of()));
+
+            Assertions.assertTrue(results.hasErrors());
+            Assertions.assertEquals("3308", results.results().getKey("db").get().getKey("port").get().getValue().get());
+        }
+    }
+
+    private static ConfigNode dbNode(String name, String port) {
+        return new MapNode(Map.of("db", new MapNode(Map.of("name", new LeafNode(name), "port", new LeafNode(port)))));
+    }
+
     @Test
     public void testPostProcessor() throws GestaltException {
         ConfigNode[] arrayNode = new ConfigNode[2];
@@ -2247,6 +2584,17 @@ class ConfigNodeManagerTest {
         }
     }
 
+    public static class TestSubstitutionConfigNodeProcessor implements ConfigNodeProcessor {
+
+        @Override
+        public GResultOf<ConfigNode> process(String path, ConfigNode currentNode) {
+            if (currentNode instanceof LeafNode && currentNode.getValue().get().startsWith("$")) {
+                return GResultOf.result(new LeafNode("substituted"));
+            }
+            return GResultOf.result(currentNode);
+        }
+    }
+
     public static class TestRuntimeConfigNodeProcessor implements RunTimeConfigNodeProcessor {
         private final String add;
 
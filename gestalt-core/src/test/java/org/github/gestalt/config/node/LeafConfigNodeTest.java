@@ -64,5 +64,23 @@ class LeafConfigNodeTest {
         Assertions.assertFalse(leaf2.getRolledUpMetadata().containsKey(IsSecretMetadata.SECRET));
         Assertions.assertTrue((boolean) leaf2.getRolledUpMetadata().get(IsNoCacheMetadata.NO_CACHE).get(0).getMetadata());
     }
+
+    @Test
+    void leafDecodedValue() {
+        LeafNode leaf = new LeafNode("100");
+
+        Assertions.assertNull(leaf.getDecodedValue(Integer.class));
+        Assertions.assertEquals(100, leaf.decodeValue(Integer.class, it -> Integer.parseInt(it.getValue().get())));
+        Assertions.assertEquals(100, leaf.getDecodedValue(Integer.class));
+
+        // the value is only decoded once, later calls share it.
+        Assertions.assertEquals(100, leaf.decodeValue(Integer.class, it -> 200));
+
+        // values that can not be decoded are not kept.
+        Assertions.assertNull(leaf.decodeValue(Long.class, it -> null));
+        Assertions.assertNull(leaf.getDecodedValue(Long.class));
+
+        Assertions.assertNull(leaf.duplicate("200").getDecodedValue(Integer.class));
+    }
 }
 
@@ -2,6 +2,7 @@ package org.github.gestalt.config.node;
 
 import org.github.gestalt.config.metadata.IsNoCacheMetadata;
 import org.github.gestalt.config.metadata.IsSecretMetadata;
+import org.github.gestalt.config.metadata.MetaDataValue;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -188,4 +189,46 @@ class MapConfigNodeTest {
         Assertions.assertFalse(mapNode.getRolledUpMetadata().containsKey(IsNoCacheMetadata.NO_CACHE));
         Assertions.assertFalse(mapNode.getRolledUpMetadata().containsKey(IsSecretMetadata.SECRET));
     }
+
+    @Test
+    void mapMetadataInSubtree() {
+        LeafNode leaf = new LeafNode("hello",
+            Map.of(IsNoCacheMetadata.NO_CACHE, List.of(new IsNoCacheMetadata(true))));
+        LeafNode leaf2 = new LeafNode("world",
+            Map.of(IsSecretMetadata.SECRET, List.of(new IsSecretMetadata(true))));
+        LeafNode leaf3 = new LeafNode("plain");
+
+        MapNode inner = new MapNode(Map.of("leaf", leaf, "plain", leaf3));
+        ArrayNode array = new ArrayNode(List.of(leaf2, leaf3));
+        MapNode root = new MapNode(Map.of("inner", inner, "array", array));
+
+        Assertions.assertTrue(root.hasMetadataInSubtree(IsNoCacheMetadata.NO_CACHE));
+        Assertions.assertTrue(root.hasMetadataInSubtree(IsSecretMetadata.SECRET));
+        Assertions.assertTrue(inner.hasMetadataInSubtree(IsNoCacheMetadata.NO_CACHE));
+        Assertions.assertFalse(inner.hasMetadataInSubtree(IsSecretMetadata.SECRET));
+        Assertions.assertFalse(array.hasMetadataInSubtree(IsNoCacheMetadata.NO_CACHE));
+        Assertions.assertTrue(array.hasMetadataInSubtree(IsSecretMetadata.SECRET));
+        Assertions.assertFalse(leaf3.hasMetadataInSubtree(IsSecretMetadata.SECRET));
+        Assertions.assertFalse(new MapNode(Map.of("plain", leaf3)).hasMetadataInSubtree(IsSecretMetadata.SECRET));
+    }
+
+    @Test
+    void mapMetadataRollupIsComputedOnce() {
+        LeafNode leaf = new LeafNode("hello", Map.of(IsNoCacheMetadata.NO_CACHE, List.of(new IsNoCacheMetadata(true))));
+        MapNode mapNode = new MapNode(Map.of("a", new MapNode(Map.of("b", leaf))));
+
+        Map<String, List<MetaDataValue<?>>> rolledUp = mapNode.getRolledUpMetadata();
+        Assertions.assertTrue(rolledUp.containsKey(IsNoCacheMetadata.NO_CACHE));
+        Assertions.assertSame(rolledUp, mapNode.getRolledUpMetadata());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> rolledUp.put(IsSecretMetadata.SECRET, List.of()));
+    }
+
+    @Test
+    void mapMetadataRollupNoMetadataInSubtree() {
+        MapNode mapNode = new MapNode(Map.of("a", new MapNode(Map.of("b", new LeafNode("hello"))),
+            "c", new ArrayNode(List.of(new LeafNode("world")))));
+
+        Assertions.assertTrue(mapNode.getRolledUpMetadata().isEmpty());
+        Assertions.assertSame(Map.of(), mapNode.getRolledUpMetadata());
+    }
 }
@@ -5,15 +5,15 @@ import org.github.gestalt.config.tag.Tag;
 import org.github.gestalt.config.tag.Tags;
 import org.github.gestalt.config.utils.GResultOf;
 
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class TestObservationRecorder implements ObservationRecorder {
     public final double recoderId;
 
-    public Map<String, TestObservationRecord> metrics = new HashMap<>();
+    public Map<String, TestObservationRecord> metrics = new ConcurrentHashMap<>();
 
     public TestObservationRecorder(double recoderId) {
         this.recoderId = recoderId;
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -236,6 +237,27 @@ class MapConfigParserTest {
             .flatMap(configNode -> configNode.getIndex(0)).get().getKey("name").get().getValue().get());
     }
 
+    @Test
+    public void testbuildConfigTreeManyKeys() {
+        MapConfigParser mapConfigParser = new MapConfigParser();
+
+        List<Pair<List<Token>, ConfigValue>> test = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            test.add(new Pair<>(List.of(new ObjectToken("service" + i % 10), new ObjectToken("key" + i)), new ConfigValue("value" + i)));
+            test.add(new Pair<>(List.of(new ObjectToken("hosts"), new ArrayToken(i), new ObjectToken("port")), new ConfigValue("" + i)));
+        }
+
+        GResultOf<ConfigNode> resultsOf = mapConfigParser.parse(new PathLexer(), test, true);
+        assertTrue(resultsOf.hasResults());
+        assertFalse(resultsOf.hasErrors());
+        ConfigNode results = resultsOf.results();
+        assertEquals(11, results.size());
+        assertEquals(1_000, results.getKey("service3").get().size());
+        assertEquals("value1234", results.getKey("service4").get().getKey("key1234").get().getValue().get());
+        assertEquals(10_000, results.getKey("hosts").get().size());
+        assertEquals("9999", results.getKey("hosts").get().getIndex(9999).get().getKey("port").get().getValue().get());
+    }
+
     @Test
     public void testValidateNullTokens() {
         MapConfigParser mapConfigParser = new MapConfigParser();
@@ -0,0 +1,87 @@
+package org.github.gestalt.config.processor.config;
+
+import org.github.gestalt.config.lexer.PathLexer;
+import org.github.gestalt.config.metadata.IsRunTimeStringSubstitutionMetadata;
+import org.github.gestalt.config.node.ArrayNode;
+import org.github.gestalt.config.node.ConfigNode;
+import org.github.gestalt.config.node.LeafNode;
+import org.github.gestalt.config.node.MapNode;
+import org.github.gestalt.config.utils.GResultOf;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ConfigNodeProcessorManagerTest {
+
+    @Test
+    public void runTimeProcessSkipsUntouchedSubtrees() {
+        UpperCaseRunTimeProcessor processor = new UpperCaseRunTimeProcessor();
+        ConfigNodeProcessorManager manager = new ConfigNodeProcessorManager(List.of(), List.of(processor), new PathLexer());
+
+        MapNode db = new MapNode(Map.of("host", new LeafNode("localhost"), "port", new LeafNode("3306")));
+        ArrayNode hosts = new ArrayNode(List.of(new LeafNode("a"), new LeafNode("b")));
+        MapNode root = new MapNode(Map.of("db", db, "hosts", hosts));
+
+        GResultOf<ConfigNode> result = manager.runTimeProcessConfigNodes("", root);
+
+        Assertions.assertFalse(result.hasErrors());
+        Assertions.assertSame(root, result.results());
+        Assertions.assertEquals(0, processor.processed.get());
+    }
+
+    @Test
+    public void runTimeProcessCopiesOnlyChangedPath() {
+        UpperCaseRunTimeProcessor processor = new UpperCaseRunTimeProcessor();
+        ConfigNodeProcessorManager manager = new ConfigNodeProcessorManager(List.of(), List.of(processor), new PathLexer());
+
+        LeafNode runTimeLeaf = new LeafNode("user",
+            Map.of(IsRunTimeStringSubstitutionMetadata.RUN_TIME_STRING_SUBSTITUTION, List.of(new IsRunTimeStringSubstitutionMetadata(true))));
+        MapNode db = new MapNode(Map.of("host", new LeafNode("localhost"), "user", runTimeLeaf));
+        ArrayNode hosts = new ArrayNode(List.of(new LeafNode("a"), new LeafNode("b")));
+        MapNode root = new MapNode(Map.of("db", db, "hosts", hosts));
+
+        GResultOf<ConfigNode> result = manager.runTimeProcessConfigNodes("", root);
+
+        Assertions.assertFalse(result.hasErrors());
+        ConfigNode processedRoot = result.results();
+        Assertions.assertNotSame(root, processedRoot);
+        Assertions.assertNotSame(db, processedRoot.getKey("db").get());
+        Assertions.assertEquals("USER", processedRoot.getKey("db").get().getKey("user").get().getValue().get());
+
+        // the untouched nodes are shared with the original tree.
+        Assertions.assertSame(hosts, processedRoot.getKey("hosts").get());
+        Assertions.assertSame(db.getKey("host").get(), processedRoot.getKey("db").get().getKey("host").get());
+        Assertions.assertEquals(3, processor.processed.get());
+    }
+
+    @Test
+    public void runTimeProcessNull() {
+        ConfigNodeProcessorManager manager = new ConfigNodeProcessorManager(List.of(), List.of(new UpperCaseRunTimeProcessor()),
+            new PathLexer());
+
+        GResultOf<ConfigNode> result = manager.runTimeProcessConfigNodes("", null);
+        Assertions.assertNull(result.results());
+    }
+
+    private static class UpperCaseRunTimeProcessor implements RunTimeConfigNodeProcessor {
+        private final AtomicInteger processed = new AtomicInteger();
+
+        @Override
+        public boolean shouldProcessSubtree(ConfigNode node) {
+            return node.hasMetadataInSubtree(IsRunTimeStringSubstitutionMetadata.RUN_TIME_STRING_SUBSTITUTION);
+        }
+
+        @Override
+        public GResultOf<ConfigNode> process(String path, ConfigNode currentNode) {
+            processed.incrementAndGet();
+            if (currentNode instanceof LeafNode &&
+                currentNode.hasMetadata(IsRunTimeStringSubstitutionMetadata.RUN_TIME_STRING_SUBSTITUTION)) {
+                return GResultOf.result(new LeafNode(currentNode.getValue().get().toUpperCase()));
+            }
+            return GResultOf.result(currentNode);
+        }
+    }
+}
@@ -209,6 +209,15 @@ class TypeCaptureTest {
         Assertions.assertNotEquals(type1, 1);
     }
 
+    @Test
+    void ofClassIsShared() {
+        Assertions.assertSame(TypeCapture.of(Integer.class), TypeCapture.of(Integer.class));
+        Assertions.assertEquals(TypeCapture.of(Integer.class), new TypeCapture<Integer>() {
+        });
+        Assertions.assertEquals(Integer.class, TypeCapture.of(Integer.class).getRawType());
+        Assertions.assertNotEquals(TypeCapture.of(Integer.class), TypeCapture.of(Long.class));
+    }
+
     public static class Holder<T> {
         public T value;
     }
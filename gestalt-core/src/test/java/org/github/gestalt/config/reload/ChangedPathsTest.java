@@ -0,0 +1,73 @@
+package org.github.gestalt.config.reload;
+
+import org.github.gestalt.config.lexer.PathLexer;
+import org.github.gestalt.config.token.ArrayToken;
+import org.github.gestalt.config.token.ObjectToken;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+class ChangedPathsTest {
+
+    @Test
+    public void allAndNone() {
+        Assertions.assertTrue(ChangedPaths.all().isAll());
+        Assertions.assertFalse(ChangedPaths.all().isEmpty());
+        Assertions.assertTrue(ChangedPaths.all().isChanged("db.port"));
+        Assertions.assertNull(ChangedPaths.all().getChangedChildren(List.of(new ObjectToken("db"))));
+
+        Assertions.assertFalse(ChangedPaths.none().isAll());
+        Assertions.assertTrue(ChangedPaths.none().isEmpty());
+        Assertions.assertFalse(ChangedPaths.none().isChanged("db.port"));
+
+        Assertions.assertTrue(ChangedPaths.of(List.of(), new PathLexer()).isEmpty());
+        Assertions.assertTrue(ChangedPaths.of(List.of(List.of()), new PathLexer()).isAll());
+    }
+
+    @Test
+    public void isChanged() {
+        ChangedPaths changedPaths = ChangedPaths.of(List.of(
+            List.of(new ObjectToken("db"), new ObjectToken("hosts"), new ArrayToken(1))), new PathLexer());
+
+        Assertions.assertTrue(changedPaths.isChanged("db"));
+        Assertions.assertTrue(changedPaths.isChanged("db.hosts"));
+        Assertions.assertTrue(changedPaths.isChanged("db.hosts[1]"));
+        Assertions.assertTrue(changedPaths.isChanged("db.hosts[1].password"));
+        Assertions.assertFalse(changedPaths.isChanged("db.hosts[0]"));
+        Assertions.assertFalse(changedPaths.isChanged("db.port"));
+        Assertions.assertFalse(changedPaths.isChanged("http"));
+
+        // paths that can not be parsed are treated as changed.
+        Assertions.assertTrue(changedPaths.isChanged("db.hosts[-1]"));
+    }
+
+    @Test
+    public void getChangedChildren() {
+        ChangedPaths changedPaths = ChangedPaths.of(List.of(
+            List.of(new ObjectToken("db"), new ObjectToken("port")),
+            List.of(new ObjectToken("db"), new ObjectToken("hosts"), new ArrayToken(1))), new PathLexer());
+
+        Assertions.assertEquals(Set.of(new ObjectToken("port"), new ObjectToken("hosts")),
+            changedPaths.getChangedChildren(List.of(new ObjectToken("db"))));
+        Assertions.assertEquals(Set.of(), changedPaths.getChangedChildren(List.of(new ObjectToken("http"))));
+        Assertions.assertNull(changedPaths.getChangedChildren(List.of(new ObjectToken("db"), new ObjectToken("port"))));
+    }
+
+    @Test
+    public void merge() {
+        ChangedPaths db = ChangedPaths.of(List.of(List.of(new ObjectToken("db"))), new PathLexer());
+        ChangedPaths http = ChangedPaths.of(List.of(List.of(new ObjectToken("http"))), new PathLexer());
+
+        ChangedPaths merged = db.merge(http);
+        Assertions.assertEquals(2, merged.getPaths().size());
+        Assertions.assertTrue(merged.isChanged("db.port"));
+        Assertions.assertTrue(merged.isChanged("http.pool"));
+        Assertions.assertFalse(merged.isChanged("admin"));
+
+        Assertions.assertSame(db, db.merge(ChangedPaths.none()));
+        Assertions.assertSame(db, ChangedPaths.none().merge(db));
+        Assertions.assertTrue(db.merge(ChangedPaths.all()).isAll());
+    }
+}
@@ -0,0 +1,125 @@
+package org.github.gestalt.config.reload;
+
+import org.github.gestalt.config.exceptions.GestaltException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class FileWatchServiceTest {
+
+    @Test
+    public void burstOfChangesReloadsOnce() throws IOException, InterruptedException {
+        Path folder = Files.createTempDirectory("gestalt");
+        folder.toFile().deleteOnExit();
+        Path path = folder.resolve("burst.properties");
+        Files.writeString(path, "user=userA");
+
+        AtomicInteger count = new AtomicInteger();
+        FileWatchService watchService = new FileWatchService();
+        try (FileWatchService.Watch watch = watchService.watch(path, Duration.ofMillis(200), count::incrementAndGet)) {
+            Assertions.assertEquals(path.toAbsolutePath(), watch.getPath());
+
+            Files.writeString(path, "user=userB");
+            Files.writeString(path, "user=userC");
+            Files.writeString(path, "user=userD");
+
+            waitForCount(count, 1);
+            Thread.sleep(300);
+
+            Assertions.assertEquals(1, count.get());
+        }
+    }
+
+    @Test
+    public void unchangedContentsDoNotReload() throws IOException, InterruptedException {
+        Path folder = Files.createTempDirectory("gestalt");
+        folder.toFile().deleteOnExit();
+        Path path = folder.resolve("touch.properties");
+        Files.writeString(path, "user=userA");
+
+        AtomicInteger count = new AtomicInteger();
+        FileWatchService watchService = new FileWatchService();
+        try (FileWatchService.Watch watch = watchService.watch(path, Duration.ZERO, count::incrementAndGet)) {
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+            Files.writeString(path, "user=userA");
+
+            Thread.sleep(200);
+            Assertions.assertEquals(0, count.get());
+
+            Files.writeString(path, "user=userB");
+            waitForCount(count, 1);
+            Assertions.assertEquals(1, count.get());
+        }
+    }
+
+    @Test
+    public void failedChangeIsRetried() throws IOException, InterruptedException {
+        Path folder = Files.createTempDirectory("gestalt");
+        folder.toFile().deleteOnExit();
+        Path path = folder.resolve("retry.properties");
+        Files.writeString(path, "user=userA");
+
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicInteger count = new AtomicInteger();
+        FileWatchService watchService = new FileWatchService();
+        try (FileWatchService.Watch watch = watchService.watch(path, Duration.ZERO, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new GestaltException("failed to reload");
+            }
+            count.incrementAndGet();
+        })) {
+            Files.writeString(path, "user=userB");
+            waitForCount(attempts, 1);
+            Assertions.assertEquals(0, count.get());
+
+            // the contents are the same as the failed change, but as it failed they are handled again.
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+            waitForCount(count, 1);
+            Assertions.assertEquals(1, count.get());
+        }
+    }
+
+    @Test
+    public void sharedDirectoryOnlyReloadsChangedFile() throws IOException, InterruptedException {
+        Path folder = Files.createTempDirectory("gestalt");
+        folder.toFile().deleteOnExit();
+        Path first = folder.resolve("first.properties");
+        Path second = folder.resolve("second.properties");
+        Files.writeString(first, "user=userA");
+        Files.writeString(second, "user=userA");
+
+        AtomicInteger firstCount = new AtomicInteger();
+        AtomicInteger secondCount = new AtomicInteger();
+        FileWatchService watchService = new FileWatchService();
+        FileWatchService.Watch firstWatch = watchService.watch(first, Duration.ZERO, firstCount::incrementAndGet);
+        FileWatchService.Watch secondWatch = watchService.watch(second, Duration.ZERO, secondCount::incrementAndGet);
+
+        Files.writeString(second, "user=userB");
+        waitForCount(secondCount, 1);
+
+        Assertions.assertEquals(0, firstCount.get());
+        Assertions.assertTrue(secondCount.get() >= 1);
+
+        secondWatch.close();
+        int previousCount = secondCount.get();
+        Files.writeString(second, "user=userC");
+        Files.writeString(first, "user=userB");
+        waitForCount(firstCount, 1);
+
+        Assertions.assertTrue(firstCount.get() >= 1);
+        Assertions.assertEquals(previousCount, secondCount.get());
+        firstWatch.close();
+    }
+
+    private static void waitForCount(AtomicInteger count, int expected) throws InterruptedException {
+        for (int i = 0; i < 100 && count.get() < expected; i++) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.github.gestalt.config.exceptions.GestaltConfigurationException;
 import org.github.gestalt.config.exceptions.GestaltException;
 import org.github.gestalt.config.source.ConfigSource;
 import org.github.gestalt.config.source.ConfigSourcePackage;
+import org.github.gestalt.config.source.FileConfigSource;
 import org.github.gestalt.config.source.MapConfigSource;
 import org.github.gestalt.config.tag.Tags;
 import org.junit.jupiter.api.Assertions;
@@ -12,10 +13,17 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.LogManager;
 
 class TimedConfigReloadStrategyTest {
@@ -144,6 +152,76 @@ class TimedConfigReloadStrategyTest {
         Thread.sleep(10);
     }
 
+    @Test
+    public void timedConfigReloadStrategySkipsUnchangedSource() throws Exception {
+        Path tempFile = Files.createTempFile("gestalt", "test.properties");
+        tempFile.toFile().deleteOnExit();
+        Files.writeString(tempFile, "db.port=3306");
+
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            ConfigListener listener = new ConfigListener();
+            TimedConfigReloadStrategy timedConfigReloadStrategy =
+                new TimedConfigReloadStrategy(executor, Duration.ofMillis(1), Duration.ZERO);
+            timedConfigReloadStrategy.setSource(
+                new ConfigSourcePackage(new FileConfigSource(tempFile), List.of(timedConfigReloadStrategy), Tags.of()));
+            timedConfigReloadStrategy.registerListener(listener);
+
+            // the file has not changed since the source was set, so it is not reloaded.
+            Thread.sleep(50);
+            Assertions.assertEquals(0, listener.count);
+
+            // replace the file in one step, so the reload does not see it partially written.
+            Path newFile = Files.writeString(Files.createTempFile(tempFile.getParent(), "gestalt", "test.properties"), "db.port=33061");
+            Files.move(newFile, tempFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            for (int i = 0; i < 50 && listener.count == 0; i++) {
+                Thread.sleep(10);
+            }
+            Assertions.assertEquals(1, listener.count);
+
+            Thread.sleep(50);
+            Assertions.assertEquals(1, listener.count);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void timedConfigReloadStrategySlowReloadDoesNotBlockOthers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        TimedConfigReloadStrategy slowStrategy = new TimedConfigReloadStrategy(Duration.ofMillis(1), Duration.ZERO);
+        slowStrategy.setSource(new ConfigSourcePackage(new MapConfigSource(Map.of("db.port", "3306")), List.of(slowStrategy), Tags.of()));
+        ConfigReloadListener slowListener = source -> {
+            slowStarted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        slowStrategy.registerListener(slowListener);
+
+        ConfigListener listener = new ConfigListener();
+        TimedConfigReloadStrategy timedConfigReloadStrategy = new TimedConfigReloadStrategy(Duration.ofMillis(1), Duration.ZERO);
+        timedConfigReloadStrategy.setSource(
+            new ConfigSourcePackage(new MapConfigSource(Map.of("db.port", "3306")), List.of(timedConfigReloadStrategy), Tags.of()));
+        try {
+            Assertions.assertTrue(slowStarted.await(1, TimeUnit.SECONDS));
+            timedConfigReloadStrategy.registerListener(listener);
+
+            // the slow reload is still running, but the other strategy keeps reloading.
+            for (int i = 0; i < 50 && listener.count == 0; i++) {
+                Thread.sleep(10);
+            }
+            Assertions.assertTrue(listener.count >= 1);
+        } finally {
+            timedConfigReloadStrategy.removeListener(listener);
+            slowStrategy.removeListener(slowListener);
+            release.countDown();
+        }
+    }
+
     private static final class ConfigListener implements ConfigReloadListener {
 
         public int count = 0;
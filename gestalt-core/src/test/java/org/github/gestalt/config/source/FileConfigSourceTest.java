@@ -6,8 +6,12 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -147,4 +151,22 @@ class FileConfigSourceTest {
         FileConfigSource fileConfigSource = new FileConfigSource(testFile.toPath(), Tags.of("toy", "ball"));
         Assertions.assertEquals(Tags.of("toy", "ball"), fileConfigSource.getTags());
     }
+
+    @Test
+    void changeToken() throws GestaltException, IOException {
+        Path tempFile = Files.createTempFile("gestalt", "test.properties");
+        tempFile.toFile().deleteOnExit();
+        Files.writeString(tempFile, "db.port=3306");
+        Files.setLastModifiedTime(tempFile, FileTime.from(Instant.parse("2025-01-01T00:00:00Z")));
+        FileConfigSource fileConfigSource = new FileConfigSource(tempFile);
+
+        String token = fileConfigSource.changeToken().get();
+        Assertions.assertEquals(token, fileConfigSource.changeToken().get());
+
+        Files.writeString(tempFile, "db.port=3307");
+        Assertions.assertNotEquals(token, fileConfigSource.changeToken().get());
+
+        Files.delete(tempFile);
+        Assertions.assertThrows(GestaltException.class, fileConfigSource::changeToken);
+    }
 }
@@ -5,6 +5,10 @@ import org.github.gestalt.config.tag.Tags;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class URLConfigSourceTest {
@@ -90,4 +94,18 @@ class URLConfigSourceTest {
         URLConfigSource fileConfigSource = new URLConfigSource(testURL, Tags.of("toy", "ball"));
         Assertions.assertEquals(Tags.of("toy", "ball"), fileConfigSource.getTags());
     }
+
+    @Test
+    void changeTokenFile() throws GestaltException, IOException {
+        Path tempFile = Files.createTempFile("gestalt", "test.properties");
+        tempFile.toFile().deleteOnExit();
+        Files.writeString(tempFile, "db.port=3306");
+        URLConfigSource urlConfigSource = new URLConfigSource(tempFile.toUri().toString());
+
+        String token = urlConfigSource.changeToken().get();
+        Assertions.assertEquals(token, urlConfigSource.changeToken().get());
+
+        Files.writeString(tempFile, "db.port=33061");
+        Assertions.assertNotEquals(token, urlConfigSource.changeToken().get());
+    }
 }
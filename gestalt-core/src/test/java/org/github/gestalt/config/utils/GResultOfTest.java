@@ -0,0 +1,54 @@
+package org.github.gestalt.config.utils;
+
+import org.github.gestalt.config.entity.ValidationError;
+import org.github.gestalt.config.entity.ValidationLevel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class GResultOfTest {
+
+    @Test
+    void resultHasNoErrors() {
+        GResultOf<String> result = GResultOf.result("value");
+
+        Assertions.assertTrue(result.hasResults());
+        Assertions.assertEquals("value", result.results());
+        Assertions.assertFalse(result.hasErrors());
+        Assertions.assertFalse(result.hasErrors(ValidationLevel.MISSING_VALUE));
+        Assertions.assertEquals(0, result.errorCount(ValidationLevel.ERROR));
+        Assertions.assertTrue(result.getErrors().isEmpty());
+        Assertions.assertTrue(result.getErrors(ValidationLevel.ERROR).isEmpty());
+        Assertions.assertTrue(result.getErrorsNotLevel(ValidationLevel.ERROR).isEmpty());
+
+        // results without errors share the same empty list.
+        Assertions.assertSame(result.getErrors(), GResultOf.result(1).getErrors());
+        Assertions.assertSame(result.getErrors(), result.getErrors(ValidationLevel.ERROR));
+        Assertions.assertSame(result.getErrors(), GResultOf.resultOf("value", (List<ValidationError>) null).getErrors());
+    }
+
+    @Test
+    void errorsByLevel() {
+        ValidationError missing = new ValidationError.NoResultsFoundForNode("db.port", "test");
+        ValidationError missingOptional = new ValidationError.OptionalMissingValueDecoding("db.host", "test", null);
+        ValidationError missing2 = new ValidationError.NoResultsFoundForNode("db.name", String.class, "test");
+        GResultOf<String> result = GResultOf.resultOf("value", List.of(missing, missingOptional, missing2));
+
+        Assertions.assertTrue(result.hasErrors());
+        Assertions.assertTrue(result.hasErrors(ValidationLevel.MISSING_VALUE));
+        Assertions.assertTrue(result.hasErrors(ValidationLevel.MISSING_OPTIONAL_VALUE));
+        Assertions.assertFalse(result.hasErrors(ValidationLevel.ERROR));
+
+        Assertions.assertEquals(2, result.errorCount(ValidationLevel.MISSING_VALUE));
+        Assertions.assertEquals(1, result.errorCount(ValidationLevel.MISSING_OPTIONAL_VALUE));
+        Assertions.assertEquals(0, result.errorCount(ValidationLevel.WARN));
+
+        Assertions.assertEquals(List.of(missing, missing2), result.getErrors(ValidationLevel.MISSING_VALUE));
+        Assertions.assertEquals(List.of(missingOptional), result.getErrorsNotLevel(ValidationLevel.MISSING_VALUE));
+        Assertions.assertEquals(List.of(missing, missingOptional, missing2), result.getErrorsNotLevel(ValidationLevel.ERROR));
+        Assertions.assertTrue(result.getErrors(ValidationLevel.ERROR).isEmpty());
+
+        Assertions.assertEquals("Unable to find node matching path: db.name, for class: String, during test", missing2.description());
+    }
+}
@@ -10,6 +10,7 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -85,6 +86,28 @@ public final class GCSConfigSource implements ConfigSource {
         }
     }
 
+    /**
+     * The generation and the ETag of the storage object, so an unchanged object is not downloaded again.
+     *
+     * @return the generation and the ETag of the storage object, or empty if the object does not exist.
+     * @throws GestaltException if unable to get the storage object
+     */
+    @Override
+    public Optional<String> changeToken() throws GestaltException {
+        try {
+            Blob blob = storage.get(BlobId.of(bucketName, objectName));
+            if (blob == null) {
+                return Optional.empty();
+            }
+
+            return Optional.of(blob.getGeneration() + ":" + blob.getEtag());
+
+        } catch (StorageException e) {
+            throw new GestaltException("Exception getting Google Cloud Storage object: " + objectName + ", bucket: " + bucketName +
+                ", with error:" + e.getMessage(), e);
+        }
+    }
+
     @Override
     public boolean hasList() {
         return false;
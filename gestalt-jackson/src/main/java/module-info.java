@@ -0,0 +1,9 @@
+/*
+ * Module info definition for the shared gestalt jackson support
+ */
+module org.github.gestalt.jackson {
+    requires org.github.gestalt.core;
+    requires transitive com.fasterxml.jackson.databind;
+
+    exports org.github.gestalt.config.jackson;
+}
@@ -0,0 +1,17 @@
+plugins {
+    id("gestalt.java-library-conventions")
+    id("gestalt.java-test-conventions")
+    id("gestalt.java-code-quality-conventions")
+    id("gestalt.java-publish-conventions")
+}
+
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of("17"))
+    }
+}
+
+dependencies {
+    implementation(project(":gestalt-core"))
+    api(libs.bundles.jackson3)
+}
@@ -0,0 +1,9 @@
+/*
+ * Module info definition for the shared gestalt jackson 3 support
+ */
+module org.github.gestalt.jackson3 {
+    requires org.github.gestalt.core;
+    requires transitive tools.jackson.databind;
+
+    exports org.github.gestalt.config.jackson3;
+}
@@ -0,0 +1,93 @@
+package org.github.gestalt.config.jackson3;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.ObjectMapper;
+import org.github.gestalt.config.exceptions.GestaltException;
+import org.github.gestalt.config.lexer.SentenceLexer;
+import org.github.gestalt.config.loader.ConfigTreeBuilder;
+import org.github.gestalt.config.node.ConfigNode;
+import org.github.gestalt.config.node.MapNode;
+import org.github.gestalt.config.utils.GResultOf;
+
+import java.io.InputStream;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Builds a config tree with a {@link ConfigTreeBuilder} directly from the tokens of a Jackson parser, without reading a full tree
+ * first. Shared by the Jackson based config loaders, such as json, yaml and toml.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2025.
+ */
+public final class JacksonConfigTreeStreamer {
+    private JacksonConfigTreeStreamer() {
+
+    }
+
+    /**
+     * Build the config tree from the tokens of a parser created by the object mapper.
+     * Only the first document is read, the same as {@link ObjectMapper#readTree(InputStream)}.
+     *
+     * @param objectMapper mapper to create the parser with, for the format of the source.
+     * @param lexer        the lexer to normalize the keys.
+     * @param is           stream of the source
+     * @param sourceName   name of the source, used in the errors.
+     * @param format       name of the format of the source, used in the errors.
+     * @param emptyAsMap   if a source without any document is an empty config, otherwise it is an error.
+     * @return GResultOf the config tree or errors.
+     * @throws GestaltException if no config is found.
+     */
+    public static GResultOf<ConfigNode> streamConfigTree(ObjectMapper objectMapper, SentenceLexer lexer, InputStream is,
+                                                         String sourceName, String format, boolean emptyAsMap)
+        throws GestaltException {
+        ConfigTreeBuilder builder = new ConfigTreeBuilder(lexer);
+        try (JsonParser parser = objectMapper.createParser(is)) {
+            JsonToken token;
+            while (!builder.isComplete() && (token = parser.nextToken()) != null) {
+                switch (token) {
+                    case START_OBJECT:
+                        builder.startMap();
+                        break;
+                    case START_ARRAY:
+                        builder.startArray();
+                        break;
+                    case PROPERTY_NAME:
+                        builder.key(parser.currentName());
+                        break;
+                    case END_OBJECT:
+                    case END_ARRAY:
+                        builder.end();
+                        break;
+                    case VALUE_STRING:
+                    case VALUE_NUMBER_INT:
+                    case VALUE_NUMBER_FLOAT:
+                    case VALUE_TRUE:
+                    case VALUE_FALSE:
+                        builder.value(parser.getString());
+                        break;
+                    case VALUE_EMBEDDED_OBJECT:
+                        Object embedded = parser.getEmbeddedObject();
+                        builder.value(embedded instanceof byte[] ? Base64.getEncoder().encodeToString((byte[]) embedded) :
+                            String.valueOf(embedded));
+                        break;
+                    case VALUE_NULL:
+                        builder.nullValue();
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+
+        if (emptyAsMap && builder.isEmpty()) {
+            return GResultOf.result(new MapNode(Map.of()));
+        }
+
+        GResultOf<ConfigNode> node = builder.build();
+        if (!node.hasResults()) {
+            throw new GestaltException("Exception loading source: " + sourceName + " no " + format + " found");
+        }
+        return node;
+    }
+}
@@ -13,6 +13,7 @@ java {
 
 dependencies {
     implementation(project(":gestalt-core"))
+    implementation(project(":gestalt-jackson3"))
     api(libs.bundles.jackson3)
 }
 
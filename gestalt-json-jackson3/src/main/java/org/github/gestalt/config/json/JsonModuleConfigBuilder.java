@@ -11,6 +11,7 @@ import org.github.gestalt.config.lexer.SentenceLexer;
 public final class JsonModuleConfigBuilder {
     private ObjectMapper objectMapper;
     private SentenceLexer lexer;
+    private boolean streaming;
 
     private JsonModuleConfigBuilder() {
     }
@@ -48,12 +49,24 @@ public final class JsonModuleConfigBuilder {
         return this;
     }
 
+    /**
+     * Set if the Json Module should build the config tree directly from the parser tokens, rather than reading a full tree first.
+     * This lowers the memory used to load large configs. Paths are only built when there is an error to report.
+     *
+     * @param streaming if the config should be loaded by streaming the parser tokens
+     * @return the builder
+     */
+    public JsonModuleConfigBuilder setStreaming(boolean streaming) {
+        this.streaming = streaming;
+        return this;
+    }
+
     /**
      * build the Json ModuleConfig.
      *
      * @return the Json ModuleConfig
      */
     public JsonModuleConfig build() {
-        return new JsonModuleConfig(objectMapper, lexer);
+        return new JsonModuleConfig(objectMapper, lexer, streaming);
     }
 }
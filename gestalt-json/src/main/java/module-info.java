@@ -3,6 +3,7 @@
  */
 module org.github.gestalt.json {
     requires org.github.gestalt.core;
+    requires org.github.gestalt.jackson;
     requires transitive com.fasterxml.jackson.databind;
 
     exports org.github.gestalt.config.json;
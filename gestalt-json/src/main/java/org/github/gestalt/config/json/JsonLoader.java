@@ -6,6 +6,7 @@ import org.github.gestalt.config.entity.ConfigNodeContainer;
 import org.github.gestalt.config.entity.GestaltConfig;
 import org.github.gestalt.config.entity.ValidationError;
 import org.github.gestalt.config.exceptions.GestaltException;
+import org.github.gestalt.config.jackson.JacksonConfigTreeStreamer;
 import org.github.gestalt.config.lexer.PathLexer;
 import org.github.gestalt.config.lexer.SentenceLexer;
 import org.github.gestalt.config.loader.ConfigLoader;
@@ -32,6 +33,7 @@ public final class JsonLoader implements ConfigLoader {
     private final boolean isDefault;
     private ObjectMapper objectMapper;
     private SentenceLexer lexer;
+    private boolean streaming;
 
     /**
      * Default constructor for JsonLoader that creates a new ObjectMapper.
@@ -79,6 +81,10 @@ public final class JsonLoader implements ConfigLoader {
         if (isDefault && moduleConfig != null && moduleConfig.getObjectMapper() != null) {
             objectMapper = moduleConfig.getObjectMapper();
         }
+
+        if (moduleConfig != null) {
+            streaming = moduleConfig.isStreaming();
+        }
     }
 
     @Override
@@ -106,9 +112,15 @@ public final class JsonLoader implements ConfigLoader {
         var source = sourcePackage.getConfigSource();
         if (source.hasStream()) {
             try (InputStream is = source.loadStream()) {
+                if (streaming) {
+                    GResultOf<ConfigNode> node = JacksonConfigTreeStreamer.streamConfigTree(objectMapper, lexer, is, source.name(),
+                        "json", false);
+                    return node.mapWithError(result -> List.of(new ConfigNodeContainer(result, source, sourcePackage.getTags())));
+                }
+
                 JsonNode jsonNode = objectMapper.readTree(is);
                 if (jsonNode == null || jsonNode.isNull()) {
-                    throw new GestaltException("Exception loading source: " + source.name() + " no yaml found");
+                    throw new GestaltException("Exception loading source: " + source.name() + " no json found");
                 }
 
                 GResultOf<ConfigNode> node = buildConfigTree("", jsonNode);
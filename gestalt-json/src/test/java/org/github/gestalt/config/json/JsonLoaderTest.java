@@ -439,6 +439,45 @@ class JsonLoaderTest {
         Assertions.assertEquals(0, result.getKey("cars").get().size());
     }
 
+    @Test
+    void loadSourceStreaming() throws GestaltException {
+
+        StringConfigSource source = new StringConfigSource("{\n" +
+            "  \"user.name\":\"Steve\",\n" +
+            "  \"age\":42,\n" +
+            "  \"cars\": [\n" +
+            "    { \"name\":\"Ford\", \"models\":[ \"Fiesta\", null, \"Mustang\" ] }\n" +
+            "  ]\n" +
+            " } ", "json");
+
+        JsonLoader jsonLoader = new JsonLoader();
+        GestaltConfig config = new GestaltConfig();
+        config.setSentenceLexer(new PathLexer());
+        config.registerModuleConfig(JsonModuleConfigBuilder.builder()
+            .setStreaming(true)
+            .build());
+
+        jsonLoader.applyConfig(config);
+
+        GResultOf<List<ConfigNodeContainer>> resultContainer = jsonLoader.loadSource(new ConfigSourcePackage(source, List.of(), Tags.of()));
+
+        Assertions.assertTrue(resultContainer.hasErrors());
+        Assertions.assertEquals("Unable to find node matching path: cars[0].models[1]", resultContainer.getErrors().get(0).description());
+        Assertions.assertTrue(resultContainer.hasResults());
+        ConfigNode result = resultContainer.results().get(0).getConfigNode();
+
+        Assertions.assertEquals("Steve", result.getKey("user").get().getKey("name").get().getValue().get());
+        Assertions.assertEquals("42", result.getKey("age").get().getValue().get());
+        Assertions.assertEquals("Ford", result.getKey("cars").get().getIndex(0).get().getKey("name")
+            .get().getValue().get());
+        Assertions.assertEquals("Fiesta", result.getKey("cars").get().getIndex(0).get().getKey("models")
+            .get().getIndex(0).get().getValue().get());
+        Assertions.assertEquals("Mustang", result.getKey("cars").get().getIndex(0).get().getKey("models")
+            .get().getIndex(1).get().getValue().get());
+        Assertions.assertFalse(result.getKey("cars").get().getIndex(0).get().getKey("models")
+            .get().getIndex(2).isPresent());
+    }
+
     @Test
     void loadSourceBadInput() throws GestaltException {
 
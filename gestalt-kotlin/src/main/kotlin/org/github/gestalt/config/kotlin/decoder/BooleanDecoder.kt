@@ -31,6 +31,10 @@ class BooleanDecoder : LeafDecoder<Boolean>() {
         }
     }
 
+    override fun isCanDecodeCacheable(): Boolean {
+        return true
+    }
+
     override fun leafDecode(
         path: String?,
         node: ConfigNode,
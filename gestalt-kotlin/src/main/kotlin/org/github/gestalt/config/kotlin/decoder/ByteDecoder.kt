@@ -33,6 +33,10 @@ class ByteDecoder : LeafDecoder<Byte>() {
         }
     }
 
+    override fun isCanDecodeCacheable(): Boolean {
+        return true
+    }
+
     override fun leafDecode(
         path: String?,
         node: ConfigNode,
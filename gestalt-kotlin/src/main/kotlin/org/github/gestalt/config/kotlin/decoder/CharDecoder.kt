@@ -32,6 +32,10 @@ class CharDecoder : LeafDecoder<Char>() {
         }
     }
 
+    override fun isCanDecodeCacheable(): Boolean {
+        return true
+    }
+
     override fun leafDecode(
         path: String?,
         node: ConfigNode,
@@ -52,6 +52,11 @@ class DataClassDecoder : Decoder<Any> {
 
         return false
     }
+
+    override fun isCanDecodeCacheable(): Boolean {
+        return true
+    }
+
     data class ResultsAndValid(val results: Any?, var valid: Boolean)
 
     @Suppress("LongMethod")
@@ -33,6 +33,10 @@ class DoubleDecoder : LeafDecoder<Double>() {
         }
     }
 
+    override fun isCanDecodeCacheable(): Boolean {
+        return true
+    }
+
     override fun leafDecode(
         path: String?,
         node: ConfigNode,
@@ -33,6 +33,10 @@ class FloatDecoder : LeafDecoder<Float>() {
         }
     }
 
+    override fun isCanDecodeCacheable(): Boolean {
+        return true
+    }
+
     override fun leafDecode(
         path: String?,
         node: ConfigNode,
@@ -33,6 +33,10 @@ class IntegerDecoder : LeafDecoder<Int>() {
         }
     }
 
+    override fun isCanDecodeCacheable(): Boolean {
+        return true
+    }
+
     override fun leafDecode(
         path: String?,
         node: ConfigNode,
@@ -34,6 +34,10 @@ class KSealedDecoder : Decoder<Any> {
         return false
     }
 
+    override fun isCanDecodeCacheable(): Boolean {
+        return true
+    }
+
     @Suppress("MagicNumber", "ReturnCount")
     override fun decode(
         path: String,
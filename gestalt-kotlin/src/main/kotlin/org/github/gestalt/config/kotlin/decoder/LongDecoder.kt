@@ -33,6 +33,10 @@ class LongDecoder : LeafDecoder<Long>() {
         }
     }
 
+    override fun isCanDecodeCacheable(): Boolean {
+        return true
+    }
+
     override fun leafDecode(
         path: String?,
         node: ConfigNode,
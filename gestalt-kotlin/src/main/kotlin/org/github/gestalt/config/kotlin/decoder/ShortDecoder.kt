@@ -33,6 +33,10 @@ class ShortDecoder : LeafDecoder<Short>() {
         }
     }
 
+    override fun isCanDecodeCacheable(): Boolean {
+        return true
+    }
+
     override fun leafDecode(
         path: String?,
         node: ConfigNode,
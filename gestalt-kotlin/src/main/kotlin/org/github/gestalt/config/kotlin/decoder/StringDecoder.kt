@@ -31,6 +31,10 @@ class StringDecoder : LeafDecoder<String>() {
         }
     }
 
+    override fun isCanDecodeCacheable(): Boolean {
+        return true
+    }
+
     override fun leafDecode(
         path: String,
         node: ConfigNode,
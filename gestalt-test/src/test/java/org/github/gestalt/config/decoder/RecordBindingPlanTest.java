@@ -0,0 +1,54 @@
+package org.github.gestalt.config.decoder;
+
+import org.github.gestalt.config.reflect.TypeCapture;
+import org.github.gestalt.config.test.classes.Person;
+import org.github.gestalt.config.test.classes.PersonAnnotations;
+import org.github.gestalt.config.test.classes.PersonNullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+class RecordBindingPlanTest {
+
+    @Test
+    void planIsCachedPerRecord() {
+        RecordBindingPlan plan = RecordBindingPlan.of(Person.class);
+
+        Assertions.assertSame(plan, RecordBindingPlan.of(Person.class));
+        Assertions.assertNotSame(plan, RecordBindingPlan.of(PersonAnnotations.class));
+    }
+
+    @Test
+    void components() {
+        RecordBindingPlan plan = RecordBindingPlan.of(Person.class);
+
+        List<String> names = plan.getComponents().stream().map(RecordBindingPlan.ComponentPlan::getName).collect(Collectors.toList());
+        Assertions.assertEquals(List.of("name", "id"), names);
+        Assertions.assertEquals(TypeCapture.of(String.class), plan.getComponents().get(0).getType());
+        Assertions.assertEquals("", plan.getComponents().get(0).getDefaultValue());
+        Assertions.assertFalse(plan.getComponents().get(0).isNullable());
+
+        Person person = (Person) plan.newInstance(new Object[]{"tim", 52});
+        Assertions.assertEquals("tim", person.name());
+        Assertions.assertEquals(52, person.id());
+    }
+
+    @Test
+    void componentAnnotations() {
+        RecordBindingPlan plan = RecordBindingPlan.of(PersonAnnotations.class);
+
+        RecordBindingPlan.ComponentPlan id = plan.getComponents().get(1);
+        Assertions.assertEquals("identity", id.getName());
+        Assertions.assertEquals("1234", id.getDefaultValue());
+    }
+
+    @Test
+    void componentNullable() {
+        RecordBindingPlan plan = RecordBindingPlan.of(PersonNullable.class);
+
+        Assertions.assertFalse(plan.getComponents().get(0).isNullable());
+        Assertions.assertTrue(plan.getComponents().get(1).isNullable());
+    }
+}
@@ -7,6 +7,7 @@ import org.github.gestalt.config.test.classes.Person3;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.lang.invoke.MethodHandle;
 import java.util.Comparator;
 
 class RecordUtilsTest {
@@ -69,4 +70,18 @@ class RecordUtilsTest {
         Assertions.assertEquals("tim", tim.name());
         Assertions.assertEquals(52, tim.id());
     }
+
+    @Test
+    void canonicalConstructor() {
+        RecComponent[] recComponents = RecordUtils.recordComponents(Person.class, Comparator.comparing(RecComponent::index));
+        MethodHandle constructor = RecordUtils.canonicalConstructor(Person.class, recComponents);
+
+        Person tim = (Person) RecordUtils.invokeCanonicalConstructor(Person.class, constructor, new Object[]{"tim", 52});
+        Person bob = (Person) RecordUtils.invokeCanonicalConstructor(Person.class, constructor, new Object[]{"bob", 33});
+
+        Assertions.assertEquals("tim", tim.name());
+        Assertions.assertEquals(52, tim.id());
+        Assertions.assertEquals("bob", bob.name());
+        Assertions.assertEquals(33, bob.id());
+    }
 }
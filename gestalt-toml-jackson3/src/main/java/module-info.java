@@ -3,6 +3,7 @@
  */
 module org.github.gestalt.toml {
     requires org.github.gestalt.core;
+    requires org.github.gestalt.jackson3;
     requires transitive tools.jackson.databind;
     requires transitive tools.jackson.dataformat.toml;
 
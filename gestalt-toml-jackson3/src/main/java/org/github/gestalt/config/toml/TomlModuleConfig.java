@@ -13,6 +13,7 @@ public class TomlModuleConfig implements GestaltModuleConfig {
 
     private final ObjectMapper objectMapper;
     private final SentenceLexer lexer;
+    private final boolean streaming;
 
     /**
      * Gestalt module config for the Toml Module.
@@ -21,8 +22,20 @@ public class TomlModuleConfig implements GestaltModuleConfig {
      * @param lexer        the lexer to normalize paths.
      */
     public TomlModuleConfig(ObjectMapper objectMapper, SentenceLexer lexer) {
+        this(objectMapper, lexer, false);
+    }
+
+    /**
+     * Gestalt module config for the Toml Module.
+     *
+     * @param objectMapper for loading yaml config, it should have a YAMLFactory registered to it.
+     * @param lexer        the lexer to normalize paths.
+     * @param streaming    if the config should be loaded by streaming the parser tokens rather than reading a full tree.
+     */
+    public TomlModuleConfig(ObjectMapper objectMapper, SentenceLexer lexer, boolean streaming) {
         this.objectMapper = objectMapper;
         this.lexer = lexer;
+        this.streaming = streaming;
     }
 
     @Override
@@ -47,4 +60,13 @@ public class TomlModuleConfig implements GestaltModuleConfig {
     public SentenceLexer getLexer() {
         return lexer;
     }
+
+    /**
+     * If the Toml module should build the config tree directly from the parser tokens, rather than reading a full tree first.
+     *
+     * @return if the config should be loaded by streaming the parser tokens
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
 }
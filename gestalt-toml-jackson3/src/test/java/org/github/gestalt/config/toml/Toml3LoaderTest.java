@@ -512,6 +512,43 @@ class Toml3LoaderTest {
         Assertions.assertEquals(0, result.size());
     }
 
+    @Test
+    void loadSourceStreaming() throws GestaltException {
+
+        StringConfigSource source = new StringConfigSource("age = 42\n" +
+            "[user]\n" +
+            "name = \"Steve\"\n" +
+            "[[cars]]\n" +
+            "name = \"Ford\"\n" +
+            "models = [\"Fiesta\", \"Focus\", \"Mustang\"]\n", "toml");
+
+        TomlLoader tomlLoader = new TomlLoader();
+        GestaltConfig config = new GestaltConfig();
+        config.setSentenceLexer(new PathLexer());
+        config.registerModuleConfig(TomlModuleConfigBuilder.builder()
+            .setStreaming(true)
+            .build());
+
+        tomlLoader.applyConfig(config);
+
+        GResultOf<List<ConfigNodeContainer>> resultContainer = tomlLoader.loadSource(new ConfigSourcePackage(source, List.of(), Tags.of()));
+
+        Assertions.assertFalse(resultContainer.hasErrors());
+        Assertions.assertTrue(resultContainer.hasResults());
+        ConfigNode result = resultContainer.results().get(0).getConfigNode();
+
+        Assertions.assertEquals("Steve", result.getKey("user").get().getKey("name").get().getValue().get());
+        Assertions.assertEquals("42", result.getKey("age").get().getValue().get());
+        Assertions.assertEquals("Ford", result.getKey("cars").get().getIndex(0).get().getKey("name")
+            .get().getValue().get());
+        Assertions.assertEquals("Fiesta", result.getKey("cars").get().getIndex(0).get().getKey("models")
+            .get().getIndex(0).get().getValue().get());
+        Assertions.assertEquals("Focus", result.getKey("cars").get().getIndex(0).get().getKey("models")
+            .get().getIndex(1).get().getValue().get());
+        Assertions.assertEquals("Mustang", result.getKey("cars").get().getIndex(0).get().getKey("models")
+            .get().getIndex(2).get().getValue().get());
+    }
+
     @Test
     void loadSourceBadInput() throws GestaltException {
 
@@ -11,6 +11,7 @@ import org.github.gestalt.config.lexer.SentenceLexer;
 public final class TomlModuleConfigBuilder {
     private ObjectMapper objectMapper;
     private SentenceLexer lexer;
+    private boolean streaming;
 
     private TomlModuleConfigBuilder() {
     }
@@ -48,12 +49,24 @@ public final class TomlModuleConfigBuilder {
         return this;
     }
 
+    /**
+     * Set if the Toml Module should build the config tree directly from the parser tokens, rather than reading a full tree first.
+     * This lowers the memory used to load large configs. Paths are only built when there is an error to report.
+     *
+     * @param streaming if the config should be loaded by streaming the parser tokens
+     * @return the builder
+     */
+    public TomlModuleConfigBuilder setStreaming(boolean streaming) {
+        this.streaming = streaming;
+        return this;
+    }
+
     /**
      * build the Toml ModuleConfig.
      *
      * @return the Toml ModuleConfig
      */
     public TomlModuleConfig build() {
-        return new TomlModuleConfig(objectMapper, lexer);
+        return new TomlModuleConfig(objectMapper, lexer, streaming);
     }
 }
@@ -11,6 +11,7 @@ import org.github.gestalt.config.lexer.SentenceLexer;
 public final class YamlModuleConfigBuilder {
     private ObjectMapper objectMapper;
     private SentenceLexer lexer;
+    private boolean streaming;
 
     private YamlModuleConfigBuilder() {
     }
@@ -48,12 +49,24 @@ public final class YamlModuleConfigBuilder {
         return this;
     }
 
+    /**
+     * Set if the Yaml Module should build the config tree directly from the parser tokens, rather than reading a full tree first.
+     * This lowers the memory used to load large configs. Paths are only built when there is an error to report.
+     *
+     * @param streaming if the config should be loaded by streaming the parser tokens
+     * @return the builder
+     */
+    public YamlModuleConfigBuilder setStreaming(boolean streaming) {
+        this.streaming = streaming;
+        return this;
+    }
+
     /**
      * build the Yaml ModuleConfig.
      *
      * @return the Yaml ModuleConfig
      */
     public YamlModuleConfig build() {
-        return new YamlModuleConfig(objectMapper, lexer);
+        return new YamlModuleConfig(objectMapper, lexer, streaming);
     }
 }
@@ -363,6 +363,45 @@ class Yaml3LoaderTest {
         Assertions.assertFalse(result.getKey("cars").isPresent());
     }
 
+    @Test
+    void loadSourceStreaming() throws GestaltException {
+
+        StringConfigSource source = new StringConfigSource("user.name: Steve\n" +
+            "age: 42\n" +
+            "cars:\n" +
+            "  - name: Ford\n" +
+            "    models:\n" +
+            "      - Fiesta\n" +
+            "      - Focus\n" +
+            "      - Mustang\n", "yml");
+
+        YamlLoader yamlLoader = new YamlLoader();
+        GestaltConfig config = new GestaltConfig();
+        config.setSentenceLexer(new PathLexer());
+        config.registerModuleConfig(YamlModuleConfigBuilder.builder()
+            .setStreaming(true)
+            .build());
+
+        yamlLoader.applyConfig(config);
+
+        GResultOf<List<ConfigNodeContainer>> resultContainer = yamlLoader.loadSource(new ConfigSourcePackage(source, List.of(), Tags.of()));
+
+        Assertions.assertFalse(resultContainer.hasErrors());
+        Assertions.assertTrue(resultContainer.hasResults());
+        ConfigNode result = resultContainer.results().get(0).getConfigNode();
+
+        Assertions.assertEquals("Steve", result.getKey("user").get().getKey("name").get().getValue().get());
+        Assertions.assertEquals("42", result.getKey("age").get().getValue().get());
+        Assertions.assertEquals("Ford", result.getKey("cars").get().getIndex(0).get().getKey("name")
+            .get().getValue().get());
+        Assertions.assertEquals("Fiesta", result.getKey("cars").get().getIndex(0).get().getKey("models")
+            .get().getIndex(0).get().getValue().get());
+        Assertions.assertEquals("Focus", result.getKey("cars").get().getIndex(0).get().getKey("models")
+            .get().getIndex(1).get().getValue().get());
+        Assertions.assertEquals("Mustang", result.getKey("cars").get().getIndex(0).get().getKey("models")
+            .get().getIndex(2).get().getValue().get());
+    }
+
     @Test
     void loadSourceBadInput() throws GestaltException {
 
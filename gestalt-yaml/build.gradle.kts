@@ -7,6 +7,7 @@ plugins {
 
 dependencies {
     implementation(project(":gestalt-core"))
+    implementation(project(":gestalt-jackson"))
     api(libs.bundles.jackson2)
     api(libs.jackson.yaml)
 }
@@ -3,6 +3,7 @@
  */
 module org.github.gestalt.yaml {
     requires org.github.gestalt.core;
+    requires org.github.gestalt.jackson;
     requires transitive com.fasterxml.jackson.databind;
     requires transitive com.fasterxml.jackson.dataformat.yaml;
 
@@ -2,6 +2,7 @@ rootProject.name = "gestalt"
 include(
     "gestalt-aws", "gestalt-azure", "gestalt-cdi",
     "gestalt-core", "gestalt-dotenv", "gestalt-hocon",
+    "gestalt-jackson", "gestalt-jackson3",
     "gestalt-json", "gestalt-json-jackson3",
     "gestalt-git", "gestalt-google-cloud", "gestalt-guice",
     "gestalt-kotlin", "gestalt-micrometer", "gestalt-kodein-di",